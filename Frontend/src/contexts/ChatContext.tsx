@@ -274,7 +274,7 @@ export function ChatProvider({ children }: { children: ReactNode }) {
     try {
       setState(prev => ({ ...prev, isLoading: true, error: null }));
 
-      await webSocketService.connect(user.email);
+      await webSocketService.connect(user.email, getAccessTokenCookie());
 
       // 수동으로 토큰을 헤더에 추가
       const token = getAccessTokenCookie();
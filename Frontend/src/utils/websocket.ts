@@ -26,7 +26,7 @@ class WebSocketService {
   private isConnected: boolean = false;
 
   // WebSocket 연결
-  public connect(userEmail: string): Promise<void> {
+  public connect(userEmail: string, accessToken?: string | null): Promise<void> {
     return new Promise((resolve, reject) => {
       try {
         console.log("WebSocket 연결 시도...");
@@ -34,7 +34,9 @@ class WebSocketService {
         this.client = new Client({
           webSocketFactory: () => new SockJS("https://www.devteam10.org/chat"),
           connectHeaders: {
-            "user-email": userEmail
+            "user-email": userEmail,
+            // STOMP CONNECT 시 서버에서 JWT 검증
+            ...(accessToken ? { Authorization: `Bearer ${accessToken}` } : {})
           },
           // debug: process.env.NODE_ENV === "development" ? console.log : undefined,
           reconnectDelay: 0,
@@ -54,6 +54,9 @@ dependencies {
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.5")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.11.5")
 
+    // Argon2 비밀번호 해싱 (Argon2PasswordEncoder 가 사용)
+    implementation("org.bouncycastle:bcprov-jdk18on:1.80")
+
     // Redis 관련 추가
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
 
@@ -68,6 +71,29 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// 부하 테스트 등 오래 걸리는 테스트(@Tag("slow"))는 기본 테스트에서 제외
+tasks.named<Test>("test") {
+    useJUnitPlatform {
+        excludeTags("slow")
+    }
+}
+
+// ./gradlew slowTest -Dloadtest.clients=2000 -Dloadtest.rate=500
+tasks.register<Test>("slowTest") {
+    description = "Runs tests tagged as slow (load tests and benchmarks)."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("slow")
+    }
+    maxHeapSize = "2g"
+    testLogging.showStandardStreams = true
+    System.getProperties()
+        .filterKeys { it.toString().startsWith("loadtest.") }
+        .forEach { (key, value) -> systemProperty(key.toString(), value) }
+}
+
 // 배포시 경로 잡아주기
 tasks.getByName<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
     mainClass.set("com.back.BackApplication") // ◀◀ @SpringBootApplication이 있는 클래스의 전체 경로
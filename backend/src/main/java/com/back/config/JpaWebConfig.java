@@ -0,0 +1,34 @@
+package com.back.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * OSIV(Open EntityManager In View) 설정
+ * - 기본 설정(spring.jpa.open-in-view)과 같이 요청 전체에 EntityManager 를 열어 두되, 로그인 경로는 제외
+ * - OSIV 가 적용되면 처음 사용한 DB 커넥션을 요청이 끝날 때까지 잡고 있음
+ *   → 로그인은 회원 조회 후 비밀번호 해싱 대기열에서 기다리므로, 폭주 시 커넥션 풀이 고갈됨
+ * - 이 빈을 등록하면 스프링 부트의 기본 OSIV 등록은 생략됨
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.jpa", name = "open-in-view", havingValue = "true", matchIfMissing = true)
+public class JpaWebConfig implements WebMvcConfigurer {
+
+    // 조회/저장을 각각 짧은 트랜잭션으로 처리하는 경로
+    private static final String[] EXCLUDED_PATHS = {"/api/auth/login"};
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(EXCLUDED_PATHS);
+    }
+}
@@ -0,0 +1,49 @@
+package com.back.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * multipart 해석 설정
+ * - 일반 업로드는 spring.servlet.multipart 설정대로 컨트롤러 호출 전에 파싱
+ * - 스트리밍 업로드 경로는 multipart 로 해석하지 않음 → 본문이 읽히지 않은 채로 컨트롤러까지 전달
+ */
+@Configuration
+public class MultipartConfig {
+
+    // 본문을 직접 읽는 스트리밍 업로드 경로
+    private static final List<PathPattern> STREAMING_PATHS = List.of(
+            PathPatternParser.defaultInstance.parse("/api/posts/{postId}/files/stream")
+    );
+
+    @Bean(DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public MultipartResolver multipartResolver(MultipartProperties multipartProperties) {
+        StandardServletMultipartResolver resolver = new StandardServletMultipartResolver() {
+            @Override
+            public boolean isMultipart(HttpServletRequest request) {
+                return !isStreamingPath(request) && super.isMultipart(request);
+            }
+        };
+        resolver.setResolveLazily(multipartProperties.isResolveLazily());
+        resolver.setStrictServletCompliance(multipartProperties.isStrictServletCompliance());
+        return resolver;
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private static boolean isStreamingPath(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        return STREAMING_PATHS.stream().anyMatch(pattern -> pattern.matches(pathContainer));
+    }
+}
@@ -1,24 +1,44 @@
 package com.back.config;
 
+import com.back.global.ratelimit.StompRateLimitInterceptor;
+import com.back.global.websocket.ChatOutboundFlowControl;
+import com.back.global.websocket.StompAuthInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.messaging.Message;
-import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.messaging.simp.stomp.StompCommand;
-import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
-import org.springframework.messaging.support.ChannelInterceptor;
-import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
-
-import java.security.Principal;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final ChatOutboundFlowControl chatOutboundFlowControl;
+    private final StompAuthInterceptor stompAuthInterceptor;
+    private final StompRateLimitInterceptor stompRateLimitInterceptor;
+
+    // 세션별 전송 버퍼 한도 (바이트)
+    @Value("${chat.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    // 한 번의 전송에 허용되는 최대 시간 (밀리초)
+    @Value("${chat.websocket.send-time-limit:10000}")
+    private int sendTimeLimit;
+
+    // 수신 메시지 최대 크기 (바이트)
+    @Value("${chat.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    public WebsocketConfig(ChatOutboundFlowControl chatOutboundFlowControl, StompAuthInterceptor stompAuthInterceptor,
+                           StompRateLimitInterceptor stompRateLimitInterceptor) {
+        this.chatOutboundFlowControl = chatOutboundFlowControl;
+        this.stompAuthInterceptor = stompAuthInterceptor;
+        this.stompRateLimitInterceptor = stompRateLimitInterceptor;
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/chat")
@@ -27,6 +47,7 @@ public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
                         "https://frontend-devteam-10.vercel.app/",
                         "https://frontend-devteam-10.vercel.app",
                         "https://www.devteam10.org")
+                .addInterceptors(stompAuthInterceptor) // 핸드셰이크 시 accessToken 쿠키 보관
                 .withSockJS();
     }
 
@@ -37,38 +58,24 @@ public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
         config.setApplicationDestinationPrefixes("/app");
     }
 
+    // 느린 클라이언트로 인해 세션 버퍼가 무한히 커지지 않도록 전송 한도 설정
     @Override
-    public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(new ChannelInterceptor() {
-            @Override
-            public Message<?> preSend(Message<?> message, MessageChannel channel) {
-                StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
-
-                if (StompCommand.CONNECT.equals(accessor.getCommand())) {
-                    // STOMP CONNECT 시 user-email 헤더에서 사용자 정보 추출
-                    String userEmail = accessor.getFirstNativeHeader("user-email");
-                    if (userEmail != null) {
-                        accessor.setUser(new StompPrincipal(userEmail));
-                        System.out.println("WebSocket 사용자 설정: " + userEmail);
-                    }
-                }
-
-                return message;
-            }
-        });
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(chatOutboundFlowControl);
     }
 
-    // 사용자 정의 Principal 클래스
-    public static class StompPrincipal implements Principal {
-        private String name;
-
-        public StompPrincipal(String name) {
-            this.name = name;
-        }
+    // 세션별 아웃바운드 대기열 추적 및 느린 클라이언트 정책 적용
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(chatOutboundFlowControl);
+    }
 
-        @Override
-        public String getName() {
-            return name;
-        }
+    // STOMP CONNECT 시 JWT 검증 후 인증 사용자 정보를 세션에 저장, SEND 는 회원/채팅방별 빈도 제한
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthInterceptor, stompRateLimitInterceptor);
     }
 }
@@ -5,6 +5,7 @@ import com.back.domain.admin.dto.request.AdminUpdatePatentRequest;
 import com.back.domain.admin.dto.response.AdminMemberResponse;
 import com.back.domain.admin.dto.response.AdminPatentResponse;
 import com.back.domain.admin.service.AdminService;
+import com.back.global.ratelimit.RateLimitService;
 import com.back.global.rsData.ResultCode;
 import com.back.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,6 +19,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/admin")
 @PreAuthorize("hasRole('ADMIN')")
@@ -25,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
     private final AdminService adminService;
+    private final RateLimitService rateLimitService;
 
     // 전체 회원 목록 조회 API(탈퇴 포함)
     @Operation(summary = "전체 회원 목록 조회", description = "모든 회원 목록을 페이징하여 조회합니다 (탈퇴 포함)")
@@ -114,4 +118,13 @@ public class AdminController {
                 new RsData<>(ResultCode.SUCCESS, "회원 탈퇴 성공")
         );
     }
-} 
\ No newline at end of file
+
+    // 요청 빈도 제한 현황 조회 API
+    @GetMapping("/rate-limits")
+    @Operation(summary = "요청 빈도 제한 현황 (관리자)", description = "규칙별 허용/거절 누적 횟수를 조회합니다. (노드별 집계)")
+    public ResponseEntity<RsData<Map<String, RateLimitService.RateLimitStats>>> getRateLimitStats() {
+        return ResponseEntity.ok(
+                new RsData<>(ResultCode.SUCCESS, "요청 빈도 제한 현황 조회 성공", rateLimitService.getStats())
+        );
+    }
+}
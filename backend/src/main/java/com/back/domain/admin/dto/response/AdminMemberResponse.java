@@ -10,6 +10,7 @@ public record AdminMemberResponse(
         String name,
         String role,
         String profileUrl,
+        String profileThumbnailUrl,
         String status,
         LocalDateTime createdAt,
         LocalDateTime modifiedAt,
@@ -22,6 +23,7 @@ public record AdminMemberResponse(
                 member.getName(),
                 member.getRole().name(),
                 member.getProfileUrl(),
+                member.getProfileThumbnailUrl(),
                 member.getStatus().name(),
                 member.getCreatedAt(),
                 member.getModifiedAt(),
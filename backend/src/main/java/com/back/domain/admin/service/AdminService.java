@@ -11,6 +11,7 @@ import com.back.domain.post.entity.Post;
 import com.back.domain.post.repository.PostRepository;
 import com.back.global.exception.ServiceException;
 import com.back.global.rsData.ResultCode;
+import com.back.global.security.auth.MemberStatusCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -29,6 +30,7 @@ public class AdminService {
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberStatusCache memberStatusCache;
 
     // 전체 회원 목록 조회(관리자 제외)
     public Page<AdminMemberResponse> getAllMembers(Pageable pageable) {
@@ -74,6 +76,9 @@ public class AdminService {
         member.updateProfileUrl(profileUrl);
 
         memberRepository.save(member);
+
+        // 4. 인증 시 사용하는 회원 상태 캐시 무효화
+        memberStatusCache.evict(memberId);
     }
 
     // 전체 특허 목록 조회
@@ -139,5 +144,8 @@ public class AdminService {
         // 2. 회원 탈퇴 처리
         member.delete();
         memberRepository.save(member);
+
+        // 3. 인증 시 사용하는 회원 상태 캐시 무효화
+        memberStatusCache.evict(memberId);
     }
 }
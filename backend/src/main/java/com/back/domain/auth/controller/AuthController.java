@@ -9,10 +9,13 @@ import com.back.domain.auth.service.AuthService;
 import com.back.domain.member.dto.response.MemberInfoResponse;
 import com.back.domain.member.entity.Member;
 import com.back.domain.member.service.MemberService;
+import com.back.global.rq.Rq;
 import com.back.global.rsData.ResultCode;
 import com.back.global.rsData.RsData;
 import com.back.global.security.auth.MemberDetails;
+import com.back.global.security.jwt.JwtFilter;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +33,7 @@ public class AuthController {
 
     private final MemberService memberService;
     private final AuthService authService;
+    private final Rq rq;
     
     @Value("${jwt.access-token-validity}")
     private long accessTokenValidity;
@@ -88,8 +92,13 @@ public class AuthController {
                     .body(new RsData<>(ResultCode.UNAUTHORIZED, "로그인된 사용자가 없습니다."));
         }
 
-        MemberDetails memberDetails = (MemberDetails) authentication.getPrincipal();
-        Member member = memberDetails.getMember();
+        // 프로필 이미지 등 토큰에 없는 정보가 필요하므로 엔티티 조회
+        Member member = rq.getMember();
+        if (member == null) {
+            return ResponseEntity
+                    .status(HttpStatus.UNAUTHORIZED)
+                    .body(new RsData<>(ResultCode.UNAUTHORIZED, "로그인된 사용자가 없습니다."));
+        }
         MemberInfoResponse response = MemberInfoResponse.fromEntity(member);
 
         return ResponseEntity.ok(new RsData<>(ResultCode.SUCCESS, "사용자 정보 조회 성공", response));
@@ -97,9 +106,11 @@ public class AuthController {
 
     // 로그아웃 API
     @PostMapping("/logout")
-    @Operation(summary = "로그아웃", description = "현재 로그인된 사용자의 refresh 토큰을 삭제합니다.")
+    @Operation(summary = "로그아웃", description = "현재 기기의 refresh 토큰을 폐기합니다. (refresh 토큰 쿠키가 없으면 모든 기기에서 로그아웃)")
     public ResponseEntity<RsData<Void>> logout(
             Authentication authentication,
+            @CookieValue(value = "refreshToken", required = false) String refreshToken,
+            HttpServletRequest request,
             HttpServletResponse response) {
         if (authentication == null || !(authentication.getPrincipal() instanceof MemberDetails)) {
             return ResponseEntity
@@ -108,8 +119,7 @@ public class AuthController {
         }
 
         MemberDetails memberDetails = (MemberDetails) authentication.getPrincipal();
-        Member member = memberDetails.getMember();
-        authService.logout(member);
+        authService.logout(memberDetails.getId(), JwtFilter.resolveToken(request), refreshToken);
 
         // AccessToken 쿠키 삭제
         ResponseCookie accessTokenCookie = createCookie("accessToken", "", 0, false, false);
@@ -4,6 +4,8 @@ import com.back.domain.auth.dto.request.MemberLoginRequest;
 import com.back.domain.auth.dto.request.TokenReissueRequest;
 import com.back.domain.auth.dto.response.MemberLoginResponse;
 import com.back.domain.auth.dto.response.TokenReissueResponse;
+import com.back.domain.auth.token.RefreshTokenRotation;
+import com.back.domain.auth.token.RefreshTokenStore;
 import com.back.domain.member.dto.response.MemberInfoResponse;
 import com.back.domain.member.entity.Member;
 import com.back.domain.member.repository.MemberRepository;
@@ -11,9 +13,9 @@ import com.back.global.exception.ServiceException;
 import com.back.global.rsData.ResultCode;
 import com.back.global.security.auth.MemberDetails;
 import com.back.global.security.jwt.JwtTokenProvider;
+import com.back.global.security.jwt.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -21,6 +23,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -29,9 +33,12 @@ public class AuthService {
     private final MemberRepository memberRepository;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshTokenStore refreshTokenStore;
 
     // 로그인
-    @Transactional
+    // 트랜잭션 없이 실행 → 비밀번호 해싱 대기열에서 기다리는 동안 DB 커넥션을 잡지 않음
+    // (회원 조회, 재해싱 저장, 아래 회원 조회는 각각 짧은 트랜잭션으로 처리)
     public MemberLoginResponse login(MemberLoginRequest request) {
         try {
             // 1. 인증 시도
@@ -40,23 +47,18 @@ public class AuthService {
 
             Authentication authentication = authenticationManager.authenticate(authToken);
 
-            // 2. 인증 성공시 사용자 정보 로드 (authentication에서 직접 꺼내기)
+            // 2. 인증 성공시 사용자 정보 로드
             MemberDetails memberDetails = (MemberDetails) authentication.getPrincipal();
-            Member member = memberDetails.getMember();
+            Member member = memberRepository.findById(memberDetails.getId())
+                    .orElseThrow(() -> new ServiceException(ResultCode.MEMBER_NOT_FOUND.code(), "사용자를 찾을 수 없습니다."));
 
             // 3. JWT 생성
             String accessToken = jwtTokenProvider.generateAccessToken(member);
             String refreshToken = jwtTokenProvider.generateRefreshToken(member);
 
-            // 4. 리프레시 토큰 저장
-            member.updateRefreshToken(refreshToken);
-            try {
-                memberRepository.save(member);
-            } catch (DataIntegrityViolationException e) {
-                // 리프레시 토큰 저장 실패 시 재시도 또는 예외 처리
-                log.error("리프레시 토큰 저장 실패", e);
-                throw new ServiceException(ResultCode.SERVER_ERROR.code(), "토큰 저장에 실패했습니다.");
-            }
+            // 4. 리프레시 토큰 저장 (로그인마다 새 기기 세션 생성, 회원 테이블은 수정하지 않음)
+            String deviceId = UUID.randomUUID().toString();
+            refreshTokenStore.save(refreshToken, member.getId(), deviceId, jwtTokenProvider.getRefreshTokenValidity());
 
             // 5. DTO 응답 반환
             return new MemberLoginResponse(accessToken, refreshToken, MemberInfoResponse.fromEntity(member));
@@ -65,48 +67,52 @@ public class AuthService {
         }
     }
 
-    // 로그아웃
-    @Transactional
-    public void logout(Member member) {
-        member.removeRefreshToken();
-        memberRepository.save(member);
+    // 로그아웃 (사용 중이던 액세스 토큰도 만료 시각까지 폐기)
+    // 리프레시 토큰이 있으면 해당 기기 세션만, 없으면 회원의 모든 기기 세션을 폐기
+    public void logout(Long memberId, String accessToken, String refreshToken) {
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenStore.revoke(refreshToken);
+        } else {
+            refreshTokenStore.revokeAll(memberId);
+        }
+
+        verifiedTokenCache.revoke(accessToken);
     }
 
     // Access Token 재발급
-    @Transactional
+    @Transactional(readOnly = true)
     public TokenReissueResponse reissueAccessToken(TokenReissueRequest request) {
         String refreshToken = request.refreshToken();
 
-        // 1. 토큰 유효성 확인
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // 1~2. 토큰 검증과 이메일 추출 (한 번만 파싱)
+        String email;
+        try {
+            email = jwtTokenProvider.getClaims(refreshToken).getSubject();
+        } catch (RuntimeException e) {
             throw new ServiceException(ResultCode.INVALID_TOKEN.code(), "유효하지 않은 리프레시 토큰입니다.");
         }
 
-        // 2. 이메일 추출
-        String email = jwtTokenProvider.getEmailFromToken(refreshToken);
-
         // 3. 사용자 조회
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new ServiceException(ResultCode.MEMBER_NOT_FOUND.code(), "사용자를 찾을 수 없습니다."));
 
-        // 4. 저장된 리프레시 토큰과 일치하는지 확인
-        if (!refreshToken.equals(member.getRefreshToken())) {
-            throw new ServiceException(ResultCode.INVALID_TOKEN.code(), "토큰이 서버와 일치하지 않습니다.");
-        }
-
-        // 5. 새로운 토큰 생성
+        // 4. 새로운 토큰 생성
         String newAccessToken = jwtTokenProvider.generateAccessToken(member);
         String newRefreshToken = jwtTokenProvider.generateRefreshToken(member);
 
-        // 6. 리프레시 토큰도 갱신
-        member.updateRefreshToken(newRefreshToken);
-        try {
-            memberRepository.save(member);
-        } catch (DataIntegrityViolationException e) {
-            log.error("리프레시 토큰 갱신 실패", e);
-            throw new ServiceException(ResultCode.SERVER_ERROR.code(), "토큰 갱신에 실패했습니다.");
+        // 5. 저장된 리프레시 토큰을 새 토큰으로 교체
+        RefreshTokenRotation rotation = refreshTokenStore.rotate(
+                refreshToken, newRefreshToken, jwtTokenProvider.getRefreshTokenValidity());
+
+        if (rotation.result() == RefreshTokenRotation.Result.REUSED) {
+            // 이미 교체된 토큰이 다시 사용됨 → 탈취 가능성이 있으므로 해당 기기 세션은 이미 폐기됨
+            log.warn("리프레시 토큰 재사용 감지 - memberId: {}, deviceId: {}", rotation.memberId(), rotation.deviceId());
+            throw new ServiceException(ResultCode.INVALID_TOKEN.code(), "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+        if (rotation.result() != RefreshTokenRotation.Result.ROTATED || !member.getId().equals(rotation.memberId())) {
+            throw new ServiceException(ResultCode.INVALID_TOKEN.code(), "토큰이 서버와 일치하지 않습니다.");
         }
 
         return new TokenReissueResponse(newAccessToken, newRefreshToken);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,97 @@
+package com.back.domain.auth.token;
+
+import com.back.global.security.jwt.TokenHashes;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 메모리 기반 리프레시 토큰 저장소 (테스트 프로필용)
+ * - Redis 구현과 같은 규칙(기기 세션, 교체, 재사용 감지)을 단일 JVM 에서 동기화로 처리
+ */
+@Component
+@Profile("test")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, TokenEntry> tokens = new HashMap<>();        // 토큰 해시 -> 토큰 정보
+    private final Map<String, String> currentTokens = new HashMap<>();     // 회원:기기 -> 현재 토큰 해시
+    private final Map<Long, Set<String>> devices = new HashMap<>();        // 회원 -> 기기 목록
+
+    @Override
+    public synchronized void save(String refreshToken, Long memberId, String deviceId, Duration ttl) {
+        String hash = TokenHashes.sha256(refreshToken);
+        tokens.put(hash, new TokenEntry(memberId, deviceId, false, expiresAt(ttl)));
+        currentTokens.put(deviceKey(memberId, deviceId), hash);
+        devices.computeIfAbsent(memberId, id -> new HashSet<>()).add(deviceId);
+    }
+
+    @Override
+    public synchronized RefreshTokenRotation rotate(String oldRefreshToken, String newRefreshToken, Duration ttl) {
+        String oldHash = TokenHashes.sha256(oldRefreshToken);
+        TokenEntry entry = tokens.get(oldHash);
+        if (entry == null || entry.expiresAt() <= System.currentTimeMillis()) {
+            tokens.remove(oldHash);
+            return RefreshTokenRotation.notFound();
+        }
+
+        if (entry.used()) {
+            revokeDevice(entry.memberId(), entry.deviceId());
+            return new RefreshTokenRotation(RefreshTokenRotation.Result.REUSED, entry.memberId(), entry.deviceId());
+        }
+
+        tokens.put(oldHash, new TokenEntry(entry.memberId(), entry.deviceId(), true, entry.expiresAt()));
+        save(newRefreshToken, entry.memberId(), entry.deviceId(), ttl);
+        return new RefreshTokenRotation(RefreshTokenRotation.Result.ROTATED, entry.memberId(), entry.deviceId());
+    }
+
+    @Override
+    public synchronized void revoke(String refreshToken) {
+        TokenEntry entry = tokens.get(TokenHashes.sha256(refreshToken));
+        if (entry != null) {
+            revokeDevice(entry.memberId(), entry.deviceId());
+        }
+    }
+
+    @Override
+    public synchronized void revokeAll(Long memberId) {
+        Set<String> memberDevices = devices.remove(memberId);
+        if (memberDevices == null) {
+            return;
+        }
+        for (String deviceId : memberDevices) {
+            String hash = currentTokens.remove(deviceKey(memberId, deviceId));
+            if (hash != null) {
+                tokens.remove(hash);
+            }
+        }
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private void revokeDevice(Long memberId, String deviceId) {
+        String hash = currentTokens.remove(deviceKey(memberId, deviceId));
+        if (hash != null) {
+            tokens.remove(hash);
+        }
+        Set<String> memberDevices = devices.get(memberId);
+        if (memberDevices != null) {
+            memberDevices.remove(deviceId);
+        }
+    }
+
+    private static String deviceKey(Long memberId, String deviceId) {
+        return memberId + ":" + deviceId;
+    }
+
+    private static long expiresAt(Duration ttl) {
+        return System.currentTimeMillis() + ttl.toMillis();
+    }
+
+    private record TokenEntry(Long memberId, String deviceId, boolean used, long expiresAt) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.back.domain.auth.token;
+
+import com.back.global.security.jwt.TokenHashes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 기반 리프레시 토큰 저장소
+ * - refresh:token:{해시}            HASH (m: 회원 id, d: 기기 id, s: active | used), TTL = 토큰 유효기간
+ * - refresh:device:{회원 id}:{기기 id} 현재 사용 중인 토큰 해시 (로그아웃 시 O(1) 폐기)
+ * - refresh:member:{회원 id}         기기 id 목록 (전체 로그아웃용)
+ * - 교체/폐기는 Lua 스크립트로 원자적으로 처리 (단일 Redis 노드 기준, 키를 스크립트 안에서 조합)
+ */
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String TOKEN_PREFIX = "refresh:token:";
+    private static final String DEVICE_PREFIX = "refresh:device:";
+    private static final String MEMBER_PREFIX = "refresh:member:";
+
+    // KEYS[1] = 토큰 키 / ARGV = TTL(ms), 토큰 해시, 회원 id, 기기 id, 기기 키 prefix, 회원 키 prefix
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'm', ARGV[3], 'd', ARGV[4], 's', 'active')
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            redis.call('SET', ARGV[5] .. ARGV[3] .. ':' .. ARGV[4], ARGV[2], 'PX', ARGV[1])
+            redis.call('SADD', ARGV[6] .. ARGV[3], ARGV[4])
+            redis.call('PEXPIRE', ARGV[6] .. ARGV[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = 기존 토큰 키, KEYS[2] = 새 토큰 키 / ARGV = TTL(ms), 새 토큰 해시, 토큰 키 prefix, 기기 키 prefix, 회원 키 prefix
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local data = redis.call('HMGET', KEYS[1], 'm', 'd', 's')
+            if not data[1] then
+                return {'NOT_FOUND'}
+            end
+            local deviceKey = ARGV[4] .. data[1] .. ':' .. data[2]
+            if data[3] ~= 'active' then
+                local current = redis.call('GET', deviceKey)
+                if current then
+                    redis.call('DEL', ARGV[3] .. current)
+                end
+                redis.call('DEL', deviceKey)
+                redis.call('SREM', ARGV[5] .. data[1], data[2])
+                return {'REUSED', data[1], data[2]}
+            end
+            redis.call('HSET', KEYS[1], 's', 'used')
+            redis.call('HSET', KEYS[2], 'm', data[1], 'd', data[2], 's', 'active')
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            redis.call('SET', deviceKey, ARGV[2], 'PX', ARGV[1])
+            redis.call('SADD', ARGV[5] .. data[1], data[2])
+            redis.call('PEXPIRE', ARGV[5] .. data[1], ARGV[1])
+            return {'ROTATED', data[1], data[2]}
+            """, List.class);
+
+    // KEYS[1] = 토큰 키 / ARGV = 토큰 키 prefix, 기기 키 prefix, 회원 키 prefix
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            local data = redis.call('HMGET', KEYS[1], 'm', 'd')
+            if not data[1] then
+                return 0
+            end
+            local deviceKey = ARGV[2] .. data[1] .. ':' .. data[2]
+            local current = redis.call('GET', deviceKey)
+            if current then
+                redis.call('DEL', ARGV[1] .. current)
+            end
+            redis.call('DEL', deviceKey, KEYS[1])
+            redis.call('SREM', ARGV[3] .. data[1], data[2])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = 회원 키 / ARGV = 토큰 키 prefix, 기기 키 prefix, 회원 id
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local devices = redis.call('SMEMBERS', KEYS[1])
+            for _, device in ipairs(devices) do
+                local deviceKey = ARGV[2] .. ARGV[3] .. ':' .. device
+                local current = redis.call('GET', deviceKey)
+                if current then
+                    redis.call('DEL', ARGV[1] .. current)
+                end
+                redis.call('DEL', deviceKey)
+            end
+            redis.call('DEL', KEYS[1])
+            return #devices
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void save(String refreshToken, Long memberId, String deviceId, Duration ttl) {
+        String hash = TokenHashes.sha256(refreshToken);
+        redisTemplate.execute(SAVE_SCRIPT, List.of(TOKEN_PREFIX + hash),
+                String.valueOf(ttl.toMillis()), hash, String.valueOf(memberId), deviceId, DEVICE_PREFIX, MEMBER_PREFIX);
+    }
+
+    @Override
+    public RefreshTokenRotation rotate(String oldRefreshToken, String newRefreshToken, Duration ttl) {
+        String newHash = TokenHashes.sha256(newRefreshToken);
+        List<?> result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(TOKEN_PREFIX + TokenHashes.sha256(oldRefreshToken), TOKEN_PREFIX + newHash),
+                String.valueOf(ttl.toMillis()), newHash, TOKEN_PREFIX, DEVICE_PREFIX, MEMBER_PREFIX);
+
+        if (result == null || result.isEmpty() || "NOT_FOUND".equals(result.get(0))) {
+            return RefreshTokenRotation.notFound();
+        }
+        return new RefreshTokenRotation(
+                RefreshTokenRotation.Result.valueOf((String) result.get(0)),
+                Long.valueOf((String) result.get(1)),
+                (String) result.get(2)
+        );
+    }
+
+    @Override
+    public void revoke(String refreshToken) {
+        redisTemplate.execute(REVOKE_SCRIPT, List.of(TOKEN_PREFIX + TokenHashes.sha256(refreshToken)),
+                TOKEN_PREFIX, DEVICE_PREFIX, MEMBER_PREFIX);
+    }
+
+    @Override
+    public void revokeAll(Long memberId) {
+        redisTemplate.execute(REVOKE_ALL_SCRIPT, List.of(MEMBER_PREFIX + memberId),
+                TOKEN_PREFIX, DEVICE_PREFIX, String.valueOf(memberId));
+    }
+}
@@ -0,0 +1,18 @@
+package com.back.domain.auth.token;
+
+// 리프레시 토큰 교체 결과
+public record RefreshTokenRotation(
+        Result result,
+        Long memberId,
+        String deviceId
+) {
+    public enum Result {
+        ROTATED,    // 정상 교체
+        REUSED,     // 이미 교체된 토큰 재사용 감지 (기기 세션 폐기됨)
+        NOT_FOUND   // 저장되지 않았거나 폐기/만료된 토큰
+    }
+
+    public static RefreshTokenRotation notFound() {
+        return new RefreshTokenRotation(Result.NOT_FOUND, null, null);
+    }
+}
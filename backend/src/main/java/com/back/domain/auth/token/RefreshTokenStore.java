@@ -0,0 +1,24 @@
+package com.back.domain.auth.token;
+
+import java.time.Duration;
+
+/**
+ * 리프레시 토큰 저장소
+ * - 토큰 원문 대신 해시를 키로 회원 id / 기기(세션) id 를 보관
+ * - 로그인마다 새 기기 세션이 생기므로 여러 기기에서 동시에 로그인 가능
+ * - 재발급 시 토큰을 교체(rotation)하고, 이미 교체된 토큰이 다시 사용되면 해당 기기 세션 전체를 폐기
+ */
+public interface RefreshTokenStore {
+
+    // 새 기기 세션의 리프레시 토큰 저장
+    void save(String refreshToken, Long memberId, String deviceId, Duration ttl);
+
+    // 기존 토큰을 새 토큰으로 교체 (원자적으로 처리)
+    RefreshTokenRotation rotate(String oldRefreshToken, String newRefreshToken, Duration ttl);
+
+    // 토큰이 속한 기기 세션 폐기 (로그아웃)
+    void revoke(String refreshToken);
+
+    // 회원의 모든 기기 세션 폐기
+    void revokeAll(Long memberId);
+}
@@ -0,0 +1,24 @@
+package com.back.domain.chat.archive.dto;
+
+import com.back.domain.chat.chat.entity.Message;
+
+import java.time.LocalDateTime;
+
+// 아카이브 세그먼트에 저장되는 메시지 한 건
+public record ArchivedMessage(
+        Long id,
+        Long senderId,
+        String senderName,
+        String content,
+        LocalDateTime createdAt
+) {
+    public static ArchivedMessage from(Message message) {
+        return new ArchivedMessage(
+                message.getId(),
+                message.getSender().getId(),
+                message.getSender().getName(),
+                message.getContent(),
+                message.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.back.domain.chat.archive.entity;
+
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 오래된 채팅 메시지를 채팅방별 압축 세그먼트로 보관하는 아카이브 테이블
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "message_archive", indexes = @Index(name = "idx_message_archive_room", columnList = "chat_room_id, first_message_id"))
+public class MessageArchive extends BaseEntity {
+
+    // 채팅방 ID (채팅방 삭제 시 일괄 삭제되므로 FK 없이 보관)
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    // 세그먼트에 포함된 메시지 ID 범위
+    @Column(name = "first_message_id", nullable = false)
+    private Long firstMessageId;
+
+    @Column(nullable = false)
+    private Long lastMessageId;
+
+    @Column(nullable = false)
+    private int messageCount;
+
+    @Column(nullable = false)
+    private LocalDateTime firstMessageAt;
+
+    @Column(nullable = false)
+    private LocalDateTime lastMessageAt;
+
+    // GZIP 압축된 메시지 목록(JSON)
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(nullable = false)
+    private byte[] payload;
+}
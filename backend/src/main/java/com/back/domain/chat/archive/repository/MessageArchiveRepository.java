@@ -0,0 +1,29 @@
+package com.back.domain.chat.archive.repository;
+
+import com.back.domain.chat.archive.entity.MessageArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MessageArchiveRepository extends JpaRepository<MessageArchive, Long> {
+
+    // 채팅방의 아카이브 세그먼트를 시간순으로 조회
+    List<MessageArchive> findByChatRoomIdOrderByFirstMessageIdAsc(Long chatRoomId);
+
+    // 기준 메시지 ID 이전에 시작하는 세그먼트 중 가장 최근 세그먼트 조회 (기록 페이지 조회용)
+    Optional<MessageArchive> findFirstByChatRoomIdAndFirstMessageIdLessThanOrderByFirstMessageIdDesc(Long chatRoomId, Long beforeId);
+
+    // 채팅방의 가장 최근 아카이브 세그먼트 조회
+    Optional<MessageArchive> findFirstByChatRoomIdOrderByFirstMessageIdDesc(Long chatRoomId);
+
+    // 채팅방의 아카이브 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM MessageArchive a WHERE a.chatRoomId = :chatRoomId")
+    int deleteByChatRoomIdInBulk(@Param("chatRoomId") Long chatRoomId);
+}
@@ -0,0 +1,44 @@
+package com.back.domain.chat.archive.service;
+
+import com.back.domain.chat.archive.dto.ArchivedMessage;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 아카이브 세그먼트 직렬화 (JSON + GZIP)
+@Component
+@RequiredArgsConstructor
+public class MessageArchiveCodec {
+
+    private static final TypeReference<List<ArchivedMessage>> MESSAGE_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    public byte[] encode(List<ArchivedMessage> messages) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(out, messages);
+        } catch (IOException e) {
+            throw new IllegalStateException("채팅 아카이브 압축 실패", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public List<ArchivedMessage> decode(byte[] payload) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(in, MESSAGE_LIST);
+        } catch (IOException e) {
+            throw new IllegalStateException("채팅 아카이브 해제 실패", e);
+        }
+    }
+}
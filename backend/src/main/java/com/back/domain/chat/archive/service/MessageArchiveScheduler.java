@@ -0,0 +1,67 @@
+package com.back.domain.chat.archive.service;
+
+import com.back.domain.chat.chat.repository.MessageRepository;
+import com.back.domain.post.entity.Post;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 오래된 채팅 메시지를 주기적으로 아카이브 테이블로 옮기는 작업
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageArchiveScheduler {
+
+    private final MessageRepository messageRepository;
+    private final MessageArchiveService messageArchiveService;
+
+    @Value("${chat.archive.enabled:true}")
+    private boolean enabled;
+
+    // 일반 채팅방 메시지 보관 기간 (일)
+    @Value("${chat.archive.retention-days:90}")
+    private int retentionDays;
+
+    // 판매 완료 게시글 채팅방 메시지 보관 기간 (일)
+    @Value("${chat.archive.sold-out-retention-days:7}")
+    private int soldOutRetentionDays;
+
+    @Scheduled(cron = "${chat.archive.cron:0 0 4 * * *}")
+    public void archiveOldMessages() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        log.info("===== 채팅 메시지 아카이브 시작 =====");
+
+        int soldOutArchived = archiveRooms(
+                messageRepository.findChatRoomIdsByPostStatusWithMessagesBefore(
+                        Post.Status.SOLD_OUT, now.minusDays(soldOutRetentionDays)),
+                now.minusDays(soldOutRetentionDays));
+
+        int oldArchived = archiveRooms(
+                messageRepository.findChatRoomIdsWithMessagesBefore(now.minusDays(retentionDays)),
+                now.minusDays(retentionDays));
+
+        log.info("===== 채팅 메시지 아카이브 완료 (판매완료: {}건, 기간만료: {}건) =====", soldOutArchived, oldArchived);
+    }
+
+    private int archiveRooms(List<Long> chatRoomIds, LocalDateTime cutoff) {
+        int total = 0;
+        for (Long chatRoomId : chatRoomIds) {
+            try {
+                // 채팅방 단위로 트랜잭션을 분리해 실패가 다른 방에 영향을 주지 않도록 함
+                total += messageArchiveService.archiveRoom(chatRoomId, cutoff);
+            } catch (Exception e) {
+                log.error("채팅방 {} 아카이브 실패", chatRoomId, e);
+            }
+        }
+        return total;
+    }
+}
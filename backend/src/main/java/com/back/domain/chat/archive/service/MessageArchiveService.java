@@ -0,0 +1,145 @@
+package com.back.domain.chat.archive.service;
+
+import com.back.domain.chat.archive.dto.ArchivedMessage;
+import com.back.domain.chat.archive.entity.MessageArchive;
+import com.back.domain.chat.archive.repository.MessageArchiveRepository;
+import com.back.domain.chat.chat.entity.Message;
+import com.back.domain.chat.chat.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageArchiveService {
+
+    private final MessageRepository messageRepository;
+    private final MessageArchiveRepository messageArchiveRepository;
+    private final MessageArchiveCodec messageArchiveCodec;
+    private final TransactionTemplate transactionTemplate;
+
+    // 세그먼트 하나에 담을 최대 메시지 수
+    @Value("${chat.archive.segment-size:1000}")
+    private int segmentSize;
+
+    // 채팅방 하나의 기준 시각 이전 메시지를 세그먼트 단위로 아카이브로 이동
+    // 세그먼트마다 따로 커밋해 트랜잭션/락을 짧게 유지 (중간에 실패해도 앞 세그먼트는 남고 다음 실행에서 이어서 처리)
+    public int archiveRoom(Long chatRoomId, LocalDateTime cutoff) {
+        int archived = 0;
+        long afterId = 0L;
+
+        while (true) {
+            long segmentAfterId = afterId;
+            ArchivedSegment segment = transactionTemplate.execute(status -> archiveSegment(chatRoomId, cutoff, segmentAfterId));
+            if (segment == null) {
+                break;
+            }
+
+            archived += segment.messageCount();
+            afterId = segment.lastMessageId();
+
+            if (segment.messageCount() < segmentSize) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("채팅방 {} 메시지 {}건 아카이브 완료", chatRoomId, archived);
+        }
+        return archived;
+    }
+
+    // 채팅방의 아카이브된 메시지 중 beforeId 이전(없으면 가장 최근) 메시지를 최대 limit 건 시간순으로 조회
+    // 요청 구간과 겹치는 세그먼트만 최근 것부터 하나씩 풀어 봄 (채팅방 전체 아카이브를 읽지 않음)
+    @Transactional(readOnly = true)
+    public List<ArchivedMessage> findArchivedMessages(Long chatRoomId, Long beforeId, int limit) {
+        Deque<List<ArchivedMessage>> pages = new ArrayDeque<>();
+        long cursor = (beforeId != null) ? beforeId : Long.MAX_VALUE;
+        int collected = 0;
+
+        while (collected < limit) {
+            Optional<MessageArchive> segment = messageArchiveRepository
+                    .findFirstByChatRoomIdAndFirstMessageIdLessThanOrderByFirstMessageIdDesc(chatRoomId, cursor);
+            if (segment.isEmpty()) {
+                break;
+            }
+
+            long bound = cursor;
+            List<ArchivedMessage> items = messageArchiveCodec.decode(segment.get().getPayload()).stream()
+                    .filter(item -> item.id() < bound)
+                    .toList();
+            // 세그먼트 안에서도 기준 이전의 가장 최근 메시지만 남김
+            List<ArchivedMessage> page = items.subList(Math.max(0, items.size() - (limit - collected)), items.size());
+            pages.addFirst(page);
+            collected += page.size();
+            cursor = segment.get().getFirstMessageId();
+        }
+
+        List<ArchivedMessage> result = new ArrayList<>(collected);
+        pages.forEach(result::addAll);
+        return result;
+    }
+
+    // 채팅방의 가장 최근 아카이브 메시지 조회
+    @Transactional(readOnly = true)
+    public Optional<ArchivedMessage> findLatestArchivedMessage(Long chatRoomId) {
+        return messageArchiveRepository.findFirstByChatRoomIdOrderByFirstMessageIdDesc(chatRoomId)
+                .map(segment -> messageArchiveCodec.decode(segment.getPayload()))
+                .filter(items -> !items.isEmpty())
+                .map(items -> items.get(items.size() - 1));
+    }
+
+    // 채팅방 삭제 시 아카이브 일괄 삭제
+    @Transactional
+    public int deleteArchives(Long chatRoomId) {
+        return messageArchiveRepository.deleteByChatRoomIdInBulk(chatRoomId);
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    // afterId 이후 메시지 한 세그먼트를 아카이브에 저장하고 원본 삭제 (옮길 메시지가 없으면 null)
+    private ArchivedSegment archiveSegment(Long chatRoomId, LocalDateTime cutoff, long afterId) {
+        List<Message> messages = messageRepository.findArchivableMessages(
+                chatRoomId, cutoff, afterId, PageRequest.of(0, segmentSize));
+        if (messages.isEmpty()) {
+            return null;
+        }
+
+        List<ArchivedMessage> items = messages.stream()
+                .map(ArchivedMessage::from)
+                .toList();
+        ArchivedMessage first = items.get(0);
+        ArchivedMessage last = items.get(items.size() - 1);
+
+        messageArchiveRepository.save(
+                MessageArchive.builder()
+                        .chatRoomId(chatRoomId)
+                        .firstMessageId(first.id())
+                        .lastMessageId(last.id())
+                        .messageCount(items.size())
+                        .firstMessageAt(first.createdAt())
+                        .lastMessageAt(last.createdAt())
+                        .payload(messageArchiveCodec.encode(items))
+                        .build()
+        );
+
+        // 엔티티 단위 삭제 대신 범위 조건으로 한 번에 삭제
+        messageRepository.deleteArchivedMessages(chatRoomId, cutoff, last.id());
+        return new ArchivedSegment(last.id(), items.size());
+    }
+
+    private record ArchivedSegment(long lastMessageId, int messageCount) {
+    }
+}
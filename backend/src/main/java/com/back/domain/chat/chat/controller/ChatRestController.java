@@ -17,10 +17,13 @@ import java.util.List;
 public class ChatRestController {
     private final ChatService chatService;
 
-    @Operation(summary = "채팅 메시지 조회")
+    @Operation(summary = "채팅 메시지 조회", description = "beforeId 이전 메시지 중 가장 최근 size 건을 시간순으로 조회 (beforeId 가 없으면 가장 최근 메시지부터)")
     @GetMapping("/rooms/{chatRoomId}/messages")
-    public RsData<List<MessageDto>> getChatRoomMessages(@PathVariable Long chatRoomId, Principal principal) {
-        List<MessageDto> messageDtos = chatService.getChatRoomMessages(chatRoomId, principal);
+    public RsData<List<MessageDto>> getChatRoomMessages(@PathVariable Long chatRoomId,
+                                                        @RequestParam(required = false) Long beforeId,
+                                                        @RequestParam(required = false) Integer size,
+                                                        Principal principal) {
+        List<MessageDto> messageDtos = chatService.getChatRoomMessages(chatRoomId, principal, beforeId, size);
 
         return new RsData<>("200", "채팅방 메시지 조회 성공", messageDtos);
     }
@@ -4,9 +4,12 @@ import com.back.domain.chat.chat.dto.MessageDto;
 import com.back.domain.chat.chat.entity.Message;
 import com.back.domain.chat.chat.service.ChatService;
 import com.back.domain.chat.redis.service.RedisMessageService;
+import com.back.global.websocket.StompAuthInterceptor;
+import com.back.global.websocket.StompPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
@@ -20,7 +23,17 @@ public class ChatWebSocketController {
     private final RedisMessageService redisMessageService; // Redis 서비스 추가
 
     @MessageMapping("/sendMessage")
-    public void sendMessage(MessageDto chatMessage) {
+    public void sendMessage(MessageDto chatMessage, SimpMessageHeaderAccessor headerAccessor) {
+        // CONNECT 시 JWT로 검증된 사용자 정보 사용 (payload의 senderId/senderName은 신뢰하지 않음)
+        StompPrincipal sender = StompAuthInterceptor.getPrincipal(headerAccessor);
+        if (sender == null) {
+            log.warn("인증되지 않은 WebSocket 메시지 수신 - chatRoomId: {}", chatMessage.getChatRoomId());
+            return;
+        }
+        chatMessage.setSenderId(sender.memberId());
+        chatMessage.setSenderName(sender.name());
+        chatMessage.setSenderEmail(sender.email());
+
         log.info("=== WebSocket 메시지 수신 ===");
         log.info("sender: {}", chatMessage.getSenderName());
         log.info("senderEmail: {}", chatMessage.getSenderEmail());
@@ -30,11 +43,7 @@ public class ChatWebSocketController {
         log.info("=================");
 
         try {
-            // 1. 메시지 저장 (기존과 동일)
-            Message savedMessage = chatService.saveMessage(chatMessage);
-            log.info("메시지 저장 완료: {}", savedMessage.getId());
-
-            // 2. 권한 체크: 발신자가 해당 채팅방 참여자인지 확인
+            // 1. 권한 체크: 발신자가 해당 채팅방 참여자인지 확인
             boolean isParticipant = chatService.isParticipant(chatMessage.getChatRoomId(), chatMessage.getSenderId());
             if (!isParticipant) {
                 log.warn("권한 없음: 사용자 {}는 채팅방 {}의 참여자가 아닙니다",
@@ -45,6 +54,10 @@ public class ChatWebSocketController {
                 return;
             }
 
+            // 2. 메시지 저장 (참여자 검증 이후)
+            Message savedMessage = chatService.saveMessage(chatMessage);
+            log.info("메시지 저장 완료: {}", savedMessage.getId());
+
             // 3. Redis pub/sub을 통해 메시지 발행 (새로운 방식!)
             log.info("=== Redis pub/sub으로 메시지 발행 시작 ===");
             redisMessageService.publishMessage(chatMessage);
@@ -13,6 +13,7 @@ import java.util.Objects;
 @Setter
 @NoArgsConstructor
 public class MessageDto {
+    private Long id;        // 메시지 ID (기록 조회 시 이전 페이지 요청 기준, 실시간 메시지는 없음)
     private Long senderId;
     private Long chatRoomId;
 
@@ -2,6 +2,9 @@ package com.back.domain.chat.chat.repository;
 
 import com.back.domain.chat.chat.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +21,9 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
     // 특정 사용자가 만든 채팅방 목록 조회 (Principal용)
     List<ChatRoom> findByMemberIdOrderByCreatedAtDesc(Long memberId);
+
+    // 채팅방 일괄 삭제 (메시지/참여자를 먼저 일괄 삭제한 뒤 호출해야 함)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ChatRoom c WHERE c.id = :chatRoomId")
+    int deleteByIdInBulk(@Param("chatRoomId") Long chatRoomId);
 }
@@ -1,9 +1,15 @@
 package com.back.domain.chat.chat.repository;
 
 import com.back.domain.chat.chat.entity.Message;
+import com.back.domain.post.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -11,6 +17,44 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
 
     List<Message> findByChatRoomId(Long chatRoomId);
     
+    // 기준 메시지 ID 이전 메시지를 최근 순으로 조회 (발신자 함께 로딩, 기록 페이지 조회용)
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender " +
+            "WHERE m.chatRoom.id = :chatRoomId AND m.id < :beforeId ORDER BY m.id DESC")
+    List<Message> findRecentMessagesBefore(@Param("chatRoomId") Long chatRoomId,
+                                           @Param("beforeId") Long beforeId,
+                                           Pageable pageable);
+
     // 채팅방의 마지막 메시지 조회 (생성일시 기준 내림차순 첫번째)
     Message findFirstByChatRoomIdOrderByCreatedAtDesc(Long chatRoomId);
+
+    // 채팅방의 모든 메시지 일괄 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Message m WHERE m.chatRoom.id = :chatRoomId")
+    int deleteByChatRoomIdInBulk(@Param("chatRoomId") Long chatRoomId);
+
+    // =================== 아카이브 관련 ===================
+
+    // 기준 시각 이전 메시지가 남아있는 채팅방 ID 목록
+    @Query("SELECT DISTINCT m.chatRoom.id FROM Message m WHERE m.createdAt < :cutoff")
+    List<Long> findChatRoomIdsWithMessagesBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // 특정 판매 상태 게시글의 채팅방 중 기준 시각 이전 메시지가 남아있는 채팅방 ID 목록
+    @Query("SELECT DISTINCT m.chatRoom.id FROM Message m WHERE m.chatRoom.post.status = :status AND m.createdAt < :cutoff")
+    List<Long> findChatRoomIdsByPostStatusWithMessagesBefore(@Param("status") Post.Status status,
+                                                             @Param("cutoff") LocalDateTime cutoff);
+
+    // 아카이브 대상 메시지를 ID 순으로 조회 (발신자 함께 로딩)
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender " +
+            "WHERE m.chatRoom.id = :chatRoomId AND m.createdAt < :cutoff AND m.id > :afterId ORDER BY m.id ASC")
+    List<Message> findArchivableMessages(@Param("chatRoomId") Long chatRoomId,
+                                         @Param("cutoff") LocalDateTime cutoff,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+
+    // 아카이브로 옮긴 메시지 일괄 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Message m WHERE m.chatRoom.id = :chatRoomId AND m.createdAt < :cutoff AND m.id <= :lastId")
+    int deleteArchivedMessages(@Param("chatRoomId") Long chatRoomId,
+                               @Param("cutoff") LocalDateTime cutoff,
+                               @Param("lastId") Long lastId);
 }
@@ -2,6 +2,9 @@ package com.back.domain.chat.chat.repository;
 
 import com.back.domain.chat.chat.entity.RoomParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,4 +24,9 @@ public interface RoomParticipantRepository extends JpaRepository<RoomParticipant
     
     // 활성/비활성 무관하게 채팅방의 모든 참여자 조회
     List<RoomParticipant> findByChatRoomId(Long chatRoomId);
+
+    // 채팅방의 모든 참여자 일괄 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RoomParticipant p WHERE p.chatRoom.id = :chatRoomId")
+    int deleteByChatRoomIdInBulk(@Param("chatRoomId") Long chatRoomId);
 }
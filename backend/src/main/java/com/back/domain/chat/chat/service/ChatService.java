@@ -1,5 +1,7 @@
 package com.back.domain.chat.chat.service;
 
+import com.back.domain.chat.archive.dto.ArchivedMessage;
+import com.back.domain.chat.archive.service.MessageArchiveService;
 import com.back.domain.chat.chat.dto.ChatRoomDto;
 import com.back.domain.chat.chat.dto.MessageDto;
 import com.back.domain.chat.chat.entity.ChatRoom;
@@ -14,14 +16,19 @@ import com.back.domain.member.repository.MemberRepository;
 import com.back.domain.post.entity.Post;
 import com.back.domain.post.repository.PostRepository;
 import com.back.global.exception.ServiceException;
+import com.back.global.security.auth.MemberDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.Principal;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Slf4j
@@ -35,14 +42,20 @@ public class ChatService {
     private final PostRepository postRepository;
     private final RoomParticipantRepository roomParticipantRepository;
     private final RedisMessageService redisMessageService; // Redis 서비스 추가
+    private final MessageArchiveService messageArchiveService;
 
+    // 채팅 기록 한 번에 조회하는 메시지 수 (기본 / 최대)
+    @Value("${chat.history.page-size:50}")
+    private int historyPageSize;
+
+    @Value("${chat.history.max-page-size:200}")
+    private int historyMaxPageSize;
+
+    // 발신자/채팅방 존재는 호출 전 참여자 검증(isParticipant)으로 확인되므로 조회 없이 참조만 사용
     @Transactional
     public Message saveMessage(MessageDto chatMessage) {
-        Member sender = memberRepository.findById(chatMessage.getSenderId())
-                .orElseThrow(() -> new ServiceException("404-3", "존재하지 않는 사용자입니다."));
-
-        ChatRoom chatRoom = chatRoomRepository.findById(chatMessage.getChatRoomId())
-                .orElseThrow(() -> new ServiceException("404-4", "존재하지 않는 채팅방입니다."));
+        Member sender = memberRepository.getReferenceById(chatMessage.getSenderId());
+        ChatRoom chatRoom = chatRoomRepository.getReferenceById(chatMessage.getChatRoomId());
 
         Message message = new Message(chatMessage , sender);
         message.setChatRoom(chatRoom);
@@ -53,11 +66,11 @@ public class ChatService {
     public boolean isParticipant(Long chatRoomId, Long memberId) {
         return roomParticipantRepository.existsByChatRoomIdAndMemberIdAndIsActiveTrue(chatRoomId, memberId);
     }
-    @Transactional
-    public List<MessageDto> getChatRoomMessages(Long chatRoomId, Principal principal) {
-        Member member = memberRepository.findByEmail(principal.getName())
-                .orElseThrow(() -> new ServiceException("404-3", "존재하지 않는 사용자입니다."));
-        Long requesterId = member.getId();
+    // 채팅 기록 페이지 조회 (beforeId 이전 메시지 중 가장 최근 size 건을 시간순으로, beforeId 가 없으면 가장 최근 메시지부터)
+    // 남아 있는 메시지로 모자라면 그 이전 구간을 아카이브에서 이어서 채움
+    @Transactional(readOnly = true)
+    public List<MessageDto> getChatRoomMessages(Long chatRoomId, Principal principal, Long beforeId, Integer size) {
+        Long requesterId = resolveMemberId(principal);
 
         // 채팅방 존재 확인
         if( !chatRoomRepository.existsById(chatRoomId)) {
@@ -69,20 +82,39 @@ public class ChatService {
             throw new ServiceException("403-1", "채팅방 참여자만 메시지를 조회할 수 있습니다.");
         }
 
+        int limit = (size == null) ? historyPageSize : Math.min(Math.max(size, 1), historyMaxPageSize);
+        long cursor = (beforeId != null) ? beforeId : Long.MAX_VALUE;
+
+        // 메시지 조회 (최근 순 → 시간순으로 뒤집음)
+        List<Message> messages = new ArrayList<>(
+                messageRepository.findRecentMessagesBefore(chatRoomId, cursor, PageRequest.of(0, limit)));
+        Collections.reverse(messages);
+
+        // 아카이브된 과거 메시지 먼저 (이미 시간순)
+        List<MessageDto> result = new ArrayList<>(limit);
+        if (messages.size() < limit) {
+            long archiveCursor = messages.isEmpty() ? cursor : messages.get(0).getId();
+            for (ArchivedMessage archived : messageArchiveService.findArchivedMessages(chatRoomId, archiveCursor, limit - messages.size())) {
+                MessageDto dto = new MessageDto(archived.senderName(),
+                        archived.content(),
+                        archived.senderId(),
+                        chatRoomId);
+                dto.setId(archived.id());
+                result.add(dto);
+            }
+        }
 
-        // 메시지 조회 (시간순 정렬)
-        List<Message> messages = messageRepository.findByChatRoomId(chatRoomId);
-
-        messages.sort(Comparator.comparing(Message::getCreatedAt));
         // Entity -> DTO 변환
-        return messages.stream()
-                .map(message -> {
-                    return new MessageDto(message.getSender().getName(),
-                            message.getContent(),
-                            message.getSender().getId(),
-                            message.getChatRoom().getId());
-                })
-                .toList();
+        for (Message message : messages) {
+            MessageDto dto = new MessageDto(message.getSender().getName(),
+                    message.getContent(),
+                    message.getSender().getId(),
+                    chatRoomId);
+            dto.setId(message.getId());
+            result.add(dto);
+        }
+
+        return result;
     }
     @Transactional
     public Long createChatRoom(Long postId, String userEmail) {
@@ -174,14 +206,13 @@ public class ChatService {
             throw new ServiceException("400-1", "로그인 하셔야 합니다.");
         }
 
-        // 이메일로 Member 엔티티 조회 (JWT의 principal.getName()은 이메일을 반환)
-        Member member = memberRepository.findByEmail(principal.getName())
-                .orElseThrow(() -> new ServiceException("404-3", "존재하지 않는 사용자입니다."));
+        // 인증 정보에 담긴 회원 ID 사용 (없을 때만 이메일로 조회)
+        Long memberId = resolveMemberId(principal);
 
 
         // 개선
         List<RoomParticipant> participations = roomParticipantRepository
-                .findByMemberIdAndIsActiveTrueOrderByCreatedAtDesc(member.getId());
+                .findByMemberIdAndIsActiveTrueOrderByCreatedAtDesc(memberId);
 
 
         // RoomParticipant에서 ChatRoom 추출 및 DTO 변환
@@ -191,7 +222,11 @@ public class ChatService {
 
                     // 마지막 메시지 조회
                     Message lastMessage = messageRepository.findFirstByChatRoomIdOrderByCreatedAtDesc(chatRoom.getId());
-                    String lastContent = (lastMessage != null) ? lastMessage.getContent() : "대화를 시작해보세요.";
+                    String lastContent = (lastMessage != null)
+                            ? lastMessage.getContent()
+                            : messageArchiveService.findLatestArchivedMessage(chatRoom.getId())
+                                    .map(ArchivedMessage::content)
+                                    .orElse("대화를 시작해보세요.");
 
                     return new ChatRoomDto(
                             chatRoom.getId(),
@@ -205,15 +240,14 @@ public class ChatService {
 
     @Transactional
     public void leaveChatRoom(Long chatRoomId, Principal principal) {
-        Member member = memberRepository.findByEmail(principal.getName())
-                .orElseThrow(() -> new ServiceException("404-3", "존재하지 않는 사용자입니다."));
+        Long memberId = resolveMemberId(principal);
 
         RoomParticipant participant = roomParticipantRepository
-                .findByChatRoomIdAndMemberIdAndIsActiveTrue(chatRoomId, member.getId())
+                .findByChatRoomIdAndMemberIdAndIsActiveTrue(chatRoomId, memberId)
                 .orElseThrow(() -> new ServiceException("404-5", "채팅방 참여자가 아닙니다."));
 
-        // 나가기 전에 다른 참여자들에게 알림 메시지 전송
-        sendLeaveNotificationToOtherParticipants(chatRoomId, member);
+        // 나가기 전에 다른 참여자들에게 알림 메시지 전송 (알림에 이름이 필요하므로 이 경로에서만 회원 정보를 읽음)
+        sendLeaveNotificationToOtherParticipants(chatRoomId, participant.getMember());
 
         participant.setActive(false);
         participant.setLeftAt(LocalDateTime.now());
@@ -221,13 +255,41 @@ public class ChatService {
 
         boolean hasActiveParticipants = roomParticipantRepository.existsByChatRoomIdAndIsActiveTrue(chatRoomId);
 
-        int activeCount = roomParticipantRepository.findByChatRoomIdAndIsActiveTrue(chatRoomId).size();
-
         if(!hasActiveParticipants) {
-            ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                    .orElseThrow(() -> new ServiceException("404-4", "존재하지 않는 채팅방입니다."));
-            chatRoomRepository.delete(chatRoom);
+            deleteChatRoomInBulk(chatRoomId);
+        }
+    }
+
+    /**
+     * 채팅방과 하위 데이터(메시지, 참여자, 아카이브)를 집합 단위 DELETE로 삭제
+     * JPA cascade는 모든 메시지를 영속성 컨텍스트에 올린 뒤 한 건씩 지우므로 사용하지 않음
+     */
+    private void deleteChatRoomInBulk(Long chatRoomId) {
+        int deletedMessages = messageRepository.deleteByChatRoomIdInBulk(chatRoomId);
+        int deletedArchives = messageArchiveService.deleteArchives(chatRoomId);
+        int deletedParticipants = roomParticipantRepository.deleteByChatRoomIdInBulk(chatRoomId);
+
+        if (chatRoomRepository.deleteByIdInBulk(chatRoomId) == 0) {
+            throw new ServiceException("404-4", "존재하지 않는 채팅방입니다.");
         }
+
+        log.debug("채팅방 {} 삭제 완료 (메시지: {}, 아카이브 세그먼트: {}, 참여자: {})",
+                chatRoomId, deletedMessages, deletedArchives, deletedParticipants);
+    }
+
+    /**
+     * 인증 정보에서 회원 ID 추출
+     * 인증 주체(MemberDetails)에 담긴 ID 를 그대로 사용하므로 회원을 조회하지 않음 (그 외 인증 주체일 때만 이메일로 조회)
+     * 회원 엔티티가 연관관계에만 필요하면 getReferenceById, 필드를 읽을 때만 조회
+     */
+    private Long resolveMemberId(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof MemberDetails memberDetails) {
+            return memberDetails.getId();
+        }
+        return memberRepository.findByEmail(principal.getName())
+                .map(Member::getId)
+                .orElseThrow(() -> new ServiceException("404-3", "존재하지 않는 사용자입니다."));
     }
 
     /**
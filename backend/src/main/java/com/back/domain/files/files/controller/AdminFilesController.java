@@ -1,7 +1,9 @@
 package com.back.domain.files.files.controller;
 
 import com.back.domain.files.files.dto.FileUploadResponseDto;
+import com.back.domain.files.files.dto.OrphanFileGcReportDto;
 import com.back.domain.files.files.service.FilesService;
+import com.back.domain.files.files.service.OrphanFileGcService;
 import com.back.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminFilesController {
 
     private final FilesService filesService;
+    private final OrphanFileGcService orphanFileGcService;
 
     // 관리자용 파일 조회 API
     @GetMapping
@@ -44,4 +47,20 @@ public class AdminFilesController {
     public RsData<Void> deleteFile(@PathVariable Long fileId) {
         return filesService.adminDeleteFile(fileId);
     }
+
+    // 관리자용 고아 파일 정리 실행 API
+    @PostMapping("/gc")
+    @Operation(summary = "고아 파일 정리", description = "DB 에서 참조하지 않는 저장소 파일을 정리하고 결과를 반환합니다")
+    public RsData<OrphanFileGcReportDto> collectOrphanFiles() {
+        return new RsData<>("200", "고아 파일 정리 완료", orphanFileGcService.collect());
+    }
+
+    // 관리자용 마지막 고아 파일 정리 결과 조회 API
+    @GetMapping("/gc")
+    @Operation(summary = "고아 파일 정리 결과 조회", description = "이 서버에서 마지막으로 실행한 고아 파일 정리 결과를 조회합니다")
+    public RsData<OrphanFileGcReportDto> getOrphanFileGcReport() {
+        return orphanFileGcService.getLastReport()
+                .map(report -> new RsData<>("200", "고아 파일 정리 결과 조회 성공", report))
+                .orElseGet(() -> new RsData<>("200", "아직 실행한 고아 파일 정리가 없습니다.", null));
+    }
 }
@@ -0,0 +1,85 @@
+package com.back.domain.files.files.controller;
+
+import com.back.domain.files.files.dto.ChunkedUploadCompleteRequestDto;
+import com.back.domain.files.files.dto.ChunkedUploadInitRequestDto;
+import com.back.domain.files.files.dto.ChunkedUploadResponseDto;
+import com.back.domain.files.files.dto.FileUploadResponseDto;
+import com.back.domain.files.files.service.ChunkedUploadService;
+import com.back.global.rsData.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/posts/{postId}/files/chunked-uploads")
+@Tag(name = "파일 관리(회원)", description = "게시글에 첨부된 파일 관리 API")
+public class ChunkedUploadController {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    // 분할 업로드 시작 (조각 크기와 개수 안내)
+    @Operation(summary = "분할 업로드 시작", description = "큰 파일을 조각으로 나눠 올리는 업로드를 시작합니다")
+    @PostMapping
+    public RsData<ChunkedUploadResponseDto> init(
+            @PathVariable @Positive long postId,
+            @Valid @RequestBody ChunkedUploadInitRequestDto request
+    ) {
+        return chunkedUploadService.init(postId, request);
+    }
+
+    // 분할 업로드 상태 조회 (이어 올릴 때 받은 조각 확인)
+    @Operation(summary = "분할 업로드 상태 조회", description = "서버가 받은 조각 번호를 조회합니다")
+    @GetMapping("/{uploadId}")
+    public RsData<ChunkedUploadResponseDto> getStatus(
+            @PathVariable @Positive long postId,
+            @PathVariable String uploadId
+    ) {
+        return chunkedUploadService.getStatus(postId, uploadId);
+    }
+
+    // 조각 전송 (본문은 조각 바이트 그대로)
+    @Operation(summary = "조각 전송", description = "조각 하나를 전송합니다 (Upload-Offset: 조각 시작 위치, Upload-Checksum: 조각 SHA-256)")
+    @PutMapping("/{uploadId}/chunks/{index}")
+    public RsData<ChunkedUploadResponseDto> uploadChunk(
+            @PathVariable @Positive long postId,
+            @PathVariable String uploadId,
+            @PathVariable @PositiveOrZero int index,
+            @Parameter(description = "조각 시작 위치 (바이트)")
+            @RequestHeader(value = "Upload-Offset", required = false) Long offset,
+            @Parameter(description = "조각 SHA-256 (16진수 소문자)", required = true)
+            @RequestHeader(value = "Upload-Checksum", required = false) String checksum,
+            HttpServletRequest request
+    ) throws IOException {
+        return chunkedUploadService.uploadChunk(postId, uploadId, index, offset, checksum, request.getInputStream());
+    }
+
+    // 분할 업로드 완료 (조각을 합쳐 첨부파일로 등록)
+    @Operation(summary = "분할 업로드 완료", description = "받은 조각을 하나의 파일로 합쳐 게시글에 등록합니다 (전체 SHA-256 을 보내면 함께 확인)")
+    @PostMapping("/{uploadId}/complete")
+    public RsData<FileUploadResponseDto> complete(
+            @PathVariable @Positive long postId,
+            @PathVariable String uploadId,
+            @Valid @RequestBody(required = false) ChunkedUploadCompleteRequestDto request
+    ) {
+        return chunkedUploadService.complete(postId, uploadId, request);
+    }
+
+    // 분할 업로드 취소 (받은 조각 삭제)
+    @Operation(summary = "분할 업로드 취소", description = "진행 중인 분할 업로드를 취소합니다")
+    @DeleteMapping("/{uploadId}")
+    public RsData<Void> cancel(
+            @PathVariable @Positive long postId,
+            @PathVariable String uploadId
+    ) {
+        return chunkedUploadService.cancel(postId, uploadId);
+    }
+}
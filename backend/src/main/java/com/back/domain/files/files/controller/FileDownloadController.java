@@ -1,12 +1,9 @@
 package com.back.domain.files.files.controller;
 
-import com.back.domain.files.files.service.FileStorageService;
+import com.back.domain.files.files.service.FileDownloadService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -18,30 +15,17 @@ import java.io.IOException;
 @RequestMapping("/files")
 public class FileDownloadController {
 
-    private final FileStorageService fileStorageService;
+    private final FileDownloadService fileDownloadService;
 
-    // 파일 다운로드 API
+    // 파일 다운로드 API (Range, ETag, 조건부 요청 지원, 로컬 저장소 파일은 공개 경로라 서명 없이 제공)
     @GetMapping("/**")
-    public ResponseEntity<Resource> downloadFile(HttpServletRequest request) {
+    public void downloadFile(HttpServletRequest request, HttpServletResponse response) throws IOException {
         String fileUrl = request.getRequestURI();
         // 경로 순회 공격 방지
         if (fileUrl.contains("..") || fileUrl.contains("./") || fileUrl.contains("\\")) {
             throw new IllegalArgumentException("Invalid file URL: " + fileUrl);
         }
 
-        Resource resource = fileStorageService.loadFileAsResource(fileUrl);
-
-        String contentType = null;
-        try {
-            contentType = request.getServletContext().getMimeType(resource.getFile().getAbsolutePath());
-        } catch (IOException ex) {
-            // fallback to the default content type if type could not be determined
-            contentType = "application/octet-stream";
-        }
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                .body(resource);
+        fileDownloadService.download(fileUrl, request, response);
     }
 }
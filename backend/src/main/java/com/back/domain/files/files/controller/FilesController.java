@@ -1,11 +1,20 @@
 package com.back.domain.files.files.controller;
 
+import com.back.domain.files.files.dto.FileAttachByHashRequestDto;
+import com.back.domain.files.files.dto.FileDownloadUrlResponseDto;
+import com.back.domain.files.files.dto.FileUploadJobResponseDto;
 import com.back.domain.files.files.dto.FileUploadResponseDto;
+import com.back.domain.files.files.dto.SignedUploadCompleteRequestDto;
+import com.back.domain.files.files.dto.SignedUploadRequestDto;
+import com.back.domain.files.files.dto.SignedUploadResponseDto;
+import com.back.domain.files.files.service.FileStreamUploadService;
 import com.back.domain.files.files.service.FilesService;
 import com.back.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -13,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,19 +31,78 @@ import java.util.List;
 public class FilesController {
 
     private final FilesService filesService;
+    private final FileStreamUploadService fileStreamUploadService;
 
-    @Operation(summary = "파일 업로드", description = "게시글에 파일을 업로드 합니다")
+    @Operation(summary = "파일 업로드", description = "게시글에 파일을 업로드 합니다 (업로드 작업으로 접수되며 작업 조회로 완료 여부를 확인합니다)")
     @PostMapping(value = "/{postId}/files", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    // uploadFiles 메서드의 반환 타입을 RsData<String>으로 변경
-    public RsData<String> uploadFiles(
+    public RsData<FileUploadJobResponseDto> uploadFiles(
             @PathVariable @Positive long postId,
             @Parameter(description = "업로드할 파일들", required = false)
             @RequestPart(value = "files", required = false) MultipartFile[] files
     ) {
-        // 서비스 호출 결과(즉각적인 응답)를 그대로 반환
         return filesService.uploadFiles(postId, files);
     }
 
+    // 스트리밍 업로드 (본문을 읽는 즉시 저장하고, 저장이 끝나면 등록된 파일 목록 반환)
+    @Operation(summary = "파일 스트리밍 업로드", description = "multipart 본문을 버퍼링하지 않고 파트를 읽는 즉시 저장합니다 (파일 형식은 내용으로 판별)")
+    @PostMapping(value = "/{postId}/files/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public RsData<List<FileUploadResponseDto>> uploadFilesStreaming(
+            @PathVariable @Positive long postId,
+            HttpServletRequest request
+    ) {
+        return fileStreamUploadService.upload(postId, request);
+    }
+
+    // 업로드 작업 상태 조회 (PENDING / STORED / FAILED)
+    @Operation(summary = "업로드 작업 조회", description = "파일 업로드 작업의 진행 상태를 조회합니다")
+    @GetMapping("/{postId}/files/upload-jobs/{jobId}")
+    public RsData<FileUploadJobResponseDto> getUploadJob(
+            @PathVariable @Positive long postId,
+            @PathVariable @Positive long jobId
+    ) {
+        return filesService.getUploadJob(postId, jobId);
+    }
+
+    // 이미 저장된 내용으로 첨부 (클라이언트가 계산한 SHA-256 이 일치하면 업로드 생략)
+    @Operation(summary = "해시로 파일 첨부", description = "이미 저장된 파일과 내용(SHA-256)이 같으면 업로드 없이 첨부합니다")
+    @PostMapping("/{postId}/files/by-hash")
+    public RsData<FileUploadResponseDto> attachByHash(
+            @PathVariable @Positive long postId,
+            @Valid @RequestBody FileAttachByHashRequestDto request
+    ) {
+        return filesService.attachByHash(postId, request);
+    }
+
+    // 서명 URL 업로드 발급 (클라이언트가 스토리지로 직접 업로드)
+    @Operation(summary = "업로드 URL 발급", description = "스토리지에 직접 업로드할 수 있는 서명 URL을 발급합니다")
+    @PostMapping("/{postId}/files/signed-uploads")
+    public RsData<List<SignedUploadResponseDto>> createSignedUploads(
+            @PathVariable @Positive long postId,
+            @Valid @RequestBody SignedUploadRequestDto request
+    ) {
+        return filesService.createSignedUploads(postId, request);
+    }
+
+    // 서명 URL 업로드 완료 (업로드된 파일 메타데이터 기록)
+    @Operation(summary = "업로드 완료", description = "서명 URL로 업로드를 마친 파일을 게시글에 등록합니다")
+    @PostMapping("/{postId}/files/signed-uploads/complete")
+    public RsData<List<FileUploadResponseDto>> completeSignedUploads(
+            @PathVariable @Positive long postId,
+            @Valid @RequestBody SignedUploadCompleteRequestDto request
+    ) {
+        return filesService.completeSignedUploads(postId, request);
+    }
+
+    // 서명 다운로드 URL 발급
+    @Operation(summary = "다운로드 URL 발급", description = "스토리지에서 직접 다운로드할 수 있는 서명 URL을 발급합니다")
+    @GetMapping("/{postId}/files/{fileId}/download-url")
+    public RsData<FileDownloadUrlResponseDto> createDownloadUrl(
+            @PathVariable @Positive long postId,
+            @PathVariable @Positive long fileId
+    ) {
+        return filesService.createDownloadUrl(postId, fileId);
+    }
+
     // 파일 조회
     @Operation(summary = "파일 조회", description = "게시글의 파일을 조회합니다")
     @GetMapping("/{postId}/files")
@@ -41,6 +110,16 @@ public class FilesController {
         return filesService.getFilesByPostId(postId);
     }
 
+    // 여러 게시글의 파일 일괄 조회 (게시글 목록 화면에서 한 번에 조회)
+    @Operation(summary = "파일 일괄 조회", description = "여러 게시글의 파일 목록을 한 번에 조회합니다 (게시글 ID별 목록)")
+    @GetMapping("/files/batch")
+    public RsData<Map<Long, List<FileUploadResponseDto>>> getFilesByPostIds(
+            @Parameter(description = "조회할 게시글 ID 목록", required = true)
+            @RequestParam List<@Positive Long> postIds
+    ) {
+        return filesService.getFilesByPostIds(postIds);
+    }
+
     // 파일 삭제
     @Operation(summary = "파일 삭제", description = "회원은 본인이 업로드한 파일을 삭제할 수 있습니다")
     @DeleteMapping("/{postId}/files/{fileId}")
@@ -0,0 +1,46 @@
+package com.back.domain.files.files.controller;
+
+import com.back.domain.files.files.service.LocalFileStorageService;
+import com.back.domain.files.files.service.LocalUrlSigner;
+import com.back.global.exception.ServiceException;
+import com.back.global.rsData.ResultCode;
+import com.back.global.rsData.RsData;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+// 로컬 저장소의 서명 URL 업로드 수신 (GCS 서명 PUT URL 과 같은 방식, dev 환경 전용)
+@RestController
+@RequiredArgsConstructor
+@Profile("dev")
+@RequestMapping("/files")
+public class LocalSignedUploadController {
+
+    private final LocalFileStorageService localFileStorageService;
+    private final LocalUrlSigner urlSigner;
+
+    @PutMapping("/**")
+    public RsData<Void> upload(HttpServletRequest request) throws IOException {
+        String fileUrl = request.getRequestURI();
+        // 경로 순회 공격 방지
+        if (fileUrl.contains("..") || fileUrl.contains("./") || fileUrl.contains("\\")) {
+            throw new IllegalArgumentException("Invalid file URL: " + fileUrl);
+        }
+
+        boolean valid = urlSigner.verify("PUT", fileUrl,
+                request.getParameter(LocalUrlSigner.EXPIRES_PARAM),
+                request.getContentType(),
+                request.getParameter(LocalUrlSigner.SIGNATURE_PARAM));
+        if (!valid) {
+            throw new ServiceException(ResultCode.FORBIDDEN.code(), "유효하지 않거나 만료된 업로드 URL입니다.");
+        }
+
+        localFileStorageService.storeSignedUpload(fileUrl, request.getInputStream());
+        return new RsData<>("200", "파일 업로드 성공", null);
+    }
+}
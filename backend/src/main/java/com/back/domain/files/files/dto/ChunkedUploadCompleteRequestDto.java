@@ -0,0 +1,10 @@
+package com.back.domain.files.files.dto;
+
+import jakarta.validation.constraints.Pattern;
+
+// 분할 업로드 완료 요청 DTO (전체 파일 해시를 보내면 합친 결과와 비교)
+public record ChunkedUploadCompleteRequestDto(
+        @Pattern(regexp = "^[0-9a-f]{64}$", message = "파일 해시는 SHA-256 16진수 소문자 64자여야 합니다.")
+        String sha256
+) {
+}
@@ -0,0 +1,15 @@
+package com.back.domain.files.files.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+// 분할 업로드 시작 요청 DTO
+public record ChunkedUploadInitRequestDto(
+        @NotBlank(message = "파일명은 필수입니다.")
+        String fileName,
+        @NotBlank(message = "파일 형식은 필수입니다.")
+        String contentType,
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        long fileSize
+) {
+}
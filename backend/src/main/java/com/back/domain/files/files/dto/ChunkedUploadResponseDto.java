@@ -0,0 +1,31 @@
+package com.back.domain.files.files.dto;
+
+import com.back.domain.files.files.entity.ChunkedUpload;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 분할 업로드 상태 응답 DTO (이어서 올릴 때 receivedChunks 에 없는 조각만 전송)
+public record ChunkedUploadResponseDto(
+        String uploadId,
+        Long postId,
+        String fileName,
+        long fileSize,
+        int chunkSize,
+        int totalChunks,
+        List<Integer> receivedChunks,
+        LocalDateTime expiresAt
+) {
+    public static ChunkedUploadResponseDto of(ChunkedUpload upload, List<Integer> receivedChunks, LocalDateTime expiresAt) {
+        return new ChunkedUploadResponseDto(
+                upload.getUploadId(),
+                upload.getPostId(),
+                upload.getFileName(),
+                upload.getFileSize(),
+                upload.getChunkSize(),
+                upload.getTotalChunks(),
+                receivedChunks,
+                expiresAt
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.back.domain.files.files.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+// 이미 저장된 내용(SHA-256)으로 파일 첨부 요청 DTO (바이트 업로드 없이 등록)
+public record FileAttachByHashRequestDto(
+        @NotBlank(message = "파일 해시는 필수입니다.")
+        @Pattern(regexp = "^[0-9a-f]{64}$", message = "파일 해시는 SHA-256 16진수 소문자 64자여야 합니다.")
+        String sha256,
+        @NotBlank(message = "파일명은 필수입니다.")
+        String fileName
+) {
+}
@@ -0,0 +1,11 @@
+package com.back.domain.files.files.dto;
+
+import java.time.Instant;
+
+// 서명 다운로드 URL 응답 DTO
+public record FileDownloadUrlResponseDto(
+        Long fileId,
+        String downloadUrl,
+        Instant expiresAt
+) {
+}
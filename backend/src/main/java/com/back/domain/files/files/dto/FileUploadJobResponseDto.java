@@ -0,0 +1,33 @@
+package com.back.domain.files.files.dto;
+
+import com.back.domain.files.files.entity.FileUploadJob;
+import com.back.domain.files.files.entity.FileUploadJobStatus;
+
+import java.time.LocalDateTime;
+
+// 파일 업로드 작업 상태 응답 DTO
+public record FileUploadJobResponseDto(
+        Long jobId,
+        Long postId,
+        FileUploadJobStatus status,
+        int totalCount,
+        int storedCount,
+        int failedCount,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt
+) {
+    public static FileUploadJobResponseDto from(FileUploadJob job) {
+        return new FileUploadJobResponseDto(
+                job.getId(),
+                job.getPostId(),
+                job.getStatus(),
+                job.getTotalCount(),
+                job.getStoredCount(),
+                job.getFailedCount(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getModifiedAt()
+        );
+    }
+}
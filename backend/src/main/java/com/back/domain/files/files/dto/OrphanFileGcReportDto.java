@@ -0,0 +1,18 @@
+package com.back.domain.files.files.dto;
+
+import java.time.LocalDateTime;
+
+// 고아 파일 정리 결과 DTO
+public record OrphanFileGcReportDto(
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        boolean dryRun,
+        int reconciledBlobs,      // 참조 수를 보정하거나 삭제한 내용 주소 파일 행 수
+        long scanned,             // 저장소에서 확인한 파일 수
+        long skippedRecent,       // 유예 기간 안이라 건너뛴 파일 수
+        long orphans,             // 어디에서도 참조하지 않는 파일 수
+        long deleted,
+        long failed,
+        long reclaimedBytes       // 삭제로 확보한 용량 (dryRun 이면 확보할 수 있는 용량)
+) {
+}
@@ -0,0 +1,21 @@
+package com.back.domain.files.files.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+// 서명 URL 업로드 완료 요청 DTO (클라이언트가 직접 업로드를 끝낸 파일 목록)
+public record SignedUploadCompleteRequestDto(
+        @NotEmpty(message = "완료할 파일 정보는 필수입니다.")
+        List<@Valid UploadedFile> files
+) {
+    public record UploadedFile(
+            @NotBlank(message = "파일 URL은 필수입니다.")
+            String fileUrl,
+            @NotBlank(message = "파일명은 필수입니다.")
+            String fileName
+    ) {
+    }
+}
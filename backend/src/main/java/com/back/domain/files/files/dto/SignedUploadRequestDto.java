@@ -0,0 +1,24 @@
+package com.back.domain.files.files.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+
+// 서명 URL 업로드 발급 요청 DTO
+public record SignedUploadRequestDto(
+        @NotEmpty(message = "업로드할 파일 정보는 필수입니다.")
+        List<@Valid FileInfo> files
+) {
+    public record FileInfo(
+            @NotBlank(message = "파일명은 필수입니다.")
+            String fileName,
+            @NotBlank(message = "파일 형식은 필수입니다.")
+            String contentType,
+            @Positive(message = "파일 크기는 0보다 커야 합니다.")
+            long fileSize
+    ) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.back.domain.files.files.dto;
+
+import com.back.domain.files.files.service.SignedUpload;
+
+import java.time.Instant;
+import java.util.Map;
+
+// 서명 URL 업로드 발급 응답 DTO
+public record SignedUploadResponseDto(
+        String fileName,
+        String fileUrl,               // 업로드 완료 후 완료 요청에 그대로 전달
+        String uploadUrl,
+        String method,
+        Map<String, String> headers,  // 업로드 요청에 반드시 포함해야 하는 헤더
+        Instant expiresAt
+) {
+    public static SignedUploadResponseDto of(String fileName, SignedUpload signedUpload) {
+        return new SignedUploadResponseDto(
+                fileName,
+                signedUpload.fileUrl(),
+                signedUpload.uploadUrl(),
+                signedUpload.method(),
+                signedUpload.headers(),
+                signedUpload.expiresAt()
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package com.back.domain.files.files.entity;
+
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 분할 업로드 세션 (조각은 서버 로컬 스테이징 영역에 저장되고, 완료 시 하나의 파일로 합쳐 등록)
+// 게시글 삭제를 막지 않도록 연관관계 대신 게시글 ID 만 보관
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chunked_upload")
+public class ChunkedUpload extends BaseEntity {
+
+    // 클라이언트에 노출하는 업로드 ID (순번 ID 추측 방지)
+    @Column(nullable = false, unique = true, length = 36)
+    private String uploadId;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    // 클라이언트가 선언한 형식 (완료 시 내용으로 다시 판별)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long fileSize;
+
+    @Column(nullable = false)
+    private int chunkSize;
+
+    @Builder
+    public ChunkedUpload(String uploadId, Long postId, Long memberId, String fileName, String contentType, long fileSize, int chunkSize) {
+        this.uploadId = uploadId;
+        this.postId = postId;
+        this.memberId = memberId;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+        this.chunkSize = chunkSize;
+    }
+
+    public int getTotalChunks() {
+        return (int) ((fileSize + chunkSize - 1) / chunkSize);
+    }
+
+    // 조각 시작 위치
+    public long offsetOf(int index) {
+        return (long) index * chunkSize;
+    }
+
+    // 조각 크기 (마지막 조각만 짧을 수 있음)
+    public long lengthOf(int index) {
+        return Math.min(chunkSize, fileSize - offsetOf(index));
+    }
+}
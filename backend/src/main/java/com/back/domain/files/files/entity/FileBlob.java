@@ -0,0 +1,56 @@
+package com.back.domain.files.files.entity;
+
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 내용 주소 저장 파일 (SHA-256 이 같은 업로드는 물리 파일 하나를 공유하고, 참조하는 첨부파일 수를 센다)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_blob", indexes = @Index(name = "idx_file_blob_file_url", columnList = "fileUrl"))
+public class FileBlob extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private String fileUrl;
+
+    @Column(nullable = false)
+    private String fileType;
+
+    @Column(nullable = false)
+    private long fileSize;
+
+    // 이 파일을 참조하는 첨부파일(Files) 수
+    @Column(nullable = false)
+    private int refCount;
+
+    @Builder
+    public FileBlob(String sha256, String fileUrl, String fileType, long fileSize) {
+        this.sha256 = sha256;
+        this.fileUrl = fileUrl;
+        this.fileType = fileType;
+        this.fileSize = fileSize;
+        this.refCount = 1;
+    }
+
+    public void retain() {
+        this.refCount++;
+    }
+
+    // 남은 참조 수 반환 (0 이면 물리 파일 삭제 대상)
+    public int release() {
+        this.refCount = Math.max(0, this.refCount - 1);
+        return this.refCount;
+    }
+
+    // 실제 첨부파일 수로 참조 수 보정 (고아 파일 정리)
+    public void resetRefCount(int refCount) {
+        this.refCount = refCount;
+    }
+}
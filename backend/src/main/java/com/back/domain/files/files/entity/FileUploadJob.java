@@ -0,0 +1,74 @@
+package com.back.domain.files.files.entity;
+
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 게시글 파일 업로드 작업 (요청 시 접수되고, 백그라운드에서 저장이 끝나면 상태가 바뀜)
+// 게시글 삭제를 막지 않도록 연관관계 대신 게시글 ID 만 보관
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_upload_job")
+public class FileUploadJob extends BaseEntity {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FileUploadJobStatus status;
+
+    // 접수된 파일 수
+    @Column(nullable = false)
+    private int totalCount;
+
+    @Column(nullable = false)
+    private int storedCount;
+
+    @Column(nullable = false)
+    private int failedCount;
+
+    // 실패한 파일과 사유
+    @Column(length = MAX_ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+
+    // 처리 중인 서버가 마지막으로 살아 있음을 기록한 시각 (오래 갱신되지 않으면 중단된 작업으로 판단)
+    private LocalDateTime heartbeatAt;
+
+    @Builder
+    public FileUploadJob(Long postId, int totalCount) {
+        this.postId = postId;
+        this.totalCount = totalCount;
+        this.status = FileUploadJobStatus.PENDING;
+        this.heartbeatAt = LocalDateTime.now();
+    }
+
+    public boolean isPending() {
+        return status == FileUploadJobStatus.PENDING;
+    }
+
+    // 모든 파일 저장 완료
+    public void markStored(int storedCount) {
+        this.status = FileUploadJobStatus.STORED;
+        this.storedCount = storedCount;
+        this.failedCount = 0;
+    }
+
+    // 저장 실패 (성공한 파일은 그대로 등록됨)
+    public void markFailed(int storedCount, int failedCount, String errorMessage) {
+        this.status = FileUploadJobStatus.FAILED;
+        this.storedCount = storedCount;
+        this.failedCount = failedCount;
+        this.errorMessage = (errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH)
+                ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+                : errorMessage;
+    }
+}
@@ -0,0 +1,7 @@
+package com.back.domain.files.files.entity;
+
+public enum FileUploadJobStatus {
+    PENDING, // 업로드 대기/처리 중
+    STORED,  // 모든 파일 저장 완료
+    FAILED   // 일부 또는 전체 파일 저장 실패
+}
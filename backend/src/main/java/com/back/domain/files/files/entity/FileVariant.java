@@ -0,0 +1,34 @@
+package com.back.domain.files.files.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 이미지 첨부파일의 리사이즈 사본 (원본과 같은 폴더에 {원본이름}_w{너비}.jpg 로 저장)
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class FileVariant {
+
+    // 목록 카드(약 200px, 고해상도 화면 2배)에 사용하는 너비
+    public static final int LIST_CARD_WIDTH = 480;
+
+    @Column(nullable = false)
+    private int width;
+
+    @Column(nullable = false)
+    private int height;
+
+    @Column(nullable = false)
+    private String fileUrl;
+
+    @Column(nullable = false)
+    private String fileType;
+
+    @Column(nullable = false)
+    private long fileSize;
+}
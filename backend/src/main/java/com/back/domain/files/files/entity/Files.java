@@ -4,13 +4,17 @@ import com.back.domain.post.entity.Post;
 import com.back.global.jpa.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "files")
+@Table(name = "files", indexes = @Index(name = "idx_files_file_url", columnList = "fileUrl"))
 public class Files extends BaseEntity {
 
     // 연관 게시글 참조
@@ -33,4 +37,26 @@ public class Files extends BaseEntity {
     // 정렬 순서
     @Column(nullable = false)
     private int sortOrder;
+
+    // 이미지 리사이즈 사본 (너비 오름차순, 이미지가 아니거나 원본이 작으면 비어 있음)
+    // 목록 카드 이미지(getVariantUrl)를 구할 때 파일마다 쿼리가 나가지 않도록 IN 조회로 한 번에 로딩
+    @ElementCollection
+    @BatchSize(size = 100)
+    @CollectionTable(name = "file_variants", joinColumns = @JoinColumn(name = "file_id"),
+            indexes = @Index(name = "idx_file_variants_file_url", columnList = "fileUrl"))
+    @OrderBy("width ASC")
+    @Builder.Default
+    private List<FileVariant> variants = new ArrayList<>();
+
+    // 요청 너비 이상인 가장 작은 사본의 URL (없으면 가장 큰 사본, 사본이 없으면 원본)
+    public String getVariantUrl(int minWidth) {
+        if (variants.isEmpty()) {
+            return fileUrl;
+        }
+        return variants.stream()
+                .filter(variant -> variant.getWidth() >= minWidth)
+                .findFirst()
+                .orElse(variants.get(variants.size() - 1))
+                .getFileUrl();
+    }
 }
@@ -0,0 +1,51 @@
+package com.back.domain.files.files.entity;
+
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 커밋 이후 삭제할 물리 파일 (삭제하는 DB 변경과 같은 트랜잭션에 저장되는 아웃박스, 백그라운드 작업이 일괄 삭제하고 실패하면 재시도)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "pending_file_deletion", indexes = {
+        @Index(name = "idx_pending_file_deletion_next_attempt_at", columnList = "nextAttemptAt"),
+        @Index(name = "idx_pending_file_deletion_file_url", columnList = "fileUrl"),
+        @Index(name = "idx_pending_file_deletion_sha256", columnList = "sha256")
+})
+public class PendingFileDeletion extends BaseEntity {
+
+    @Column(nullable = false)
+    private String fileUrl;
+
+    // 내용 주소 파일(과 그 사본)이면 원본 내용 해시 (같은 내용이 다시 업로드되면 이 값으로 예약 취소)
+    @Column(length = 64)
+    private String sha256;
+
+    // 실패한 삭제 시도 수
+    @Column(nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에 처리 (처리 중이거나 재시도 대기 중이면 미래 시각)
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    public PendingFileDeletion(String fileUrl) {
+        this(fileUrl, null);
+    }
+
+    public PendingFileDeletion(String fileUrl, String sha256) {
+        this.fileUrl = fileUrl;
+        this.sha256 = sha256;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
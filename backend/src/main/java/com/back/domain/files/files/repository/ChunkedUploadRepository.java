@@ -0,0 +1,28 @@
+package com.back.domain.files.files.repository;
+
+import com.back.domain.files.files.entity.ChunkedUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChunkedUploadRepository extends JpaRepository<ChunkedUpload, Long> {
+    Optional<ChunkedUpload> findByUploadId(String uploadId);
+
+    // 회원의 진행 중인(만료되지 않은) 업로드 세션 수
+    long countByMemberIdAndCreatedAtAfter(Long memberId, LocalDateTime createdAt);
+
+    // 만료된 업로드 세션 (정리 대상)
+    List<ChunkedUpload> findByCreatedAtBefore(LocalDateTime createdAt);
+
+    // 완료 등록 시 업로드 세션 선점 (삭제된 행이 1건인 요청만 등록, 다른 서버가 먼저 완료/만료시켰으면 0)
+    @Modifying
+    @Query("delete from ChunkedUpload u where u.id = :id")
+    int claimById(@Param("id") Long id);
+}
@@ -0,0 +1,45 @@
+package com.back.domain.files.files.repository;
+
+import com.back.domain.files.files.entity.FileBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, Long> {
+
+    // 참조 수 변경은 행 잠금 후 수행 (마지막 참조 삭제와 같은 내용 업로드가 겹쳐도 물리 파일이 사라지지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from FileBlob b where b.sha256 = :sha256")
+    Optional<FileBlob> findBySha256ForUpdate(@Param("sha256") String sha256);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from FileBlob b where b.fileUrl = :fileUrl")
+    Optional<FileBlob> findByFileUrlForUpdate(@Param("fileUrl") String fileUrl);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from FileBlob b where b.id in :ids")
+    List<FileBlob> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 참조 수가 실제 첨부파일 수와 다르고 cutoff 이후 변경이 없는 행 (id 순, 게시글 삭제로 첨부파일이 cascade 삭제된 경우)
+    @Query("""
+            select b.id from FileBlob b
+            where b.id > :afterId and b.modifiedAt < :cutoff
+              and b.refCount <> (select count(f) from Files f where f.fileUrl = b.fileUrl)
+            order by b.id
+            """)
+    List<Long> findMismatchedRefCountIds(@Param("afterId") Long afterId, @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 주어진 URL 중 내용 주소 파일로 등록된 URL (고아 파일 정리)
+    @Query("select b.fileUrl from FileBlob b where b.fileUrl in :fileUrls")
+    List<String> findReferencedFileUrls(@Param("fileUrls") Collection<String> fileUrls);
+}
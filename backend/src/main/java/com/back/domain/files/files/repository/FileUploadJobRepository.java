@@ -0,0 +1,27 @@
+package com.back.domain.files.files.repository;
+
+import com.back.domain.files.files.entity.FileUploadJob;
+import com.back.domain.files.files.entity.FileUploadJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FileUploadJobRepository extends JpaRepository<FileUploadJob, Long> {
+
+    // 생존 시각이 cutoff 보다 오래된 작업 (생존 시각 컬럼이 생기기 전 작업은 생성 시각 기준)
+    @Query("SELECT j FROM FileUploadJob j WHERE j.status = :status AND COALESCE(j.heartbeatAt, j.createdAt) < :cutoff")
+    List<FileUploadJob> findStale(@Param("status") FileUploadJobStatus status, @Param("cutoff") LocalDateTime cutoff);
+
+    // 처리 중인 작업의 생존 시각 갱신
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE FileUploadJob j SET j.heartbeatAt = :heartbeatAt WHERE j.id IN :ids AND j.status = :status")
+    int updateHeartbeat(@Param("ids") Collection<Long> ids, @Param("status") FileUploadJobStatus status,
+                        @Param("heartbeatAt") LocalDateTime heartbeatAt);
+}
@@ -2,13 +2,38 @@ package com.back.domain.files.files.repository;
 
 import com.back.domain.files.files.entity.Files;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FilesRepository extends JpaRepository<Files, Long> {
     List<Files> findByPostIdOrderBySortOrderAsc(Long postId);
+
+    // 여러 게시글의 파일을 한 번에 조회 (게시글 목록 화면)
+    List<Files> findByPostIdInOrderBySortOrderAsc(Collection<Long> postIds);
     Optional<Files> findById(Long fileId);
+
+    boolean existsByFileUrl(String fileUrl);
+
+    long countByFileUrl(String fileUrl);
+
+    // 주어진 URL 중 첨부파일 원본으로 참조되는 URL (고아 파일 정리)
+    @Query("select distinct f.fileUrl from Files f where f.fileUrl in :fileUrls")
+    List<String> findReferencedFileUrls(@Param("fileUrls") Collection<String> fileUrls);
+
+    // 주어진 URL 중 리사이즈 사본으로 참조되는 URL (고아 파일 정리)
+    @Query("select distinct v.fileUrl from Files f join f.variants v where v.fileUrl in :fileUrls")
+    List<String> findReferencedVariantUrls(@Param("fileUrls") Collection<String> fileUrls);
+
+    // 같은 내용 파일을 먼저 등록한 첨부파일 (리사이즈 사본 재사용)
+    Optional<Files> findFirstByFileUrlOrderByIdAsc(String fileUrl);
+
+    // 게시글의 마지막 정렬 순서 (파일이 없으면 0)
+    @Query("select coalesce(max(f.sortOrder), 0) from Files f where f.post.id = :postId")
+    int findMaxSortOrderByPostId(@Param("postId") Long postId);
 }
@@ -0,0 +1,43 @@
+package com.back.domain.files.files.repository;
+
+import com.back.domain.files.files.entity.PendingFileDeletion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PendingFileDeletionRepository extends JpaRepository<PendingFileDeletion, Long> {
+
+    // 처리할 시각이 된 삭제 예약 (먼저 예약된 순)
+    @Query("select d from PendingFileDeletion d where d.nextAttemptAt <= :now order by d.id")
+    List<PendingFileDeletion> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 처리 중인 예약을 다른 서버가 다시 가져가지 않도록 다음 처리 시각을 미룸
+    @Modifying
+    @Query("update PendingFileDeletion d set d.nextAttemptAt = :leaseUntil where d.id in :ids")
+    int postpone(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 물리 파일을 삭제하는 동안 잠가 둠 (같은 파일을 다시 저장하는 요청의 취소가 삭제 이후로 밀림)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select d from PendingFileDeletion d where d.id in :ids order by d.id")
+    List<PendingFileDeletion> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 같은 내용이 다시 업로드되어 삭제 예약 취소 (원본과 사본)
+    @Modifying
+    @Query("delete from PendingFileDeletion d where d.sha256 = :sha256")
+    int deleteBySha256(@Param("sha256") String sha256);
+
+    // 같은 URL 을 다시 참조하게 되어 삭제 예약 취소
+    @Modifying
+    @Query("delete from PendingFileDeletion d where d.fileUrl in :fileUrls")
+    int deleteByFileUrlIn(@Param("fileUrls") Collection<String> fileUrls);
+}
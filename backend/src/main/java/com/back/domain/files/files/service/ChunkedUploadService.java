@@ -0,0 +1,317 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.dto.ChunkedUploadCompleteRequestDto;
+import com.back.domain.files.files.dto.ChunkedUploadInitRequestDto;
+import com.back.domain.files.files.dto.ChunkedUploadResponseDto;
+import com.back.domain.files.files.dto.FileUploadResponseDto;
+import com.back.domain.files.files.entity.ChunkedUpload;
+import com.back.domain.files.files.entity.FileVariant;
+import com.back.domain.files.files.entity.Files;
+import com.back.domain.files.files.repository.ChunkedUploadRepository;
+import com.back.domain.files.files.repository.FilesRepository;
+import com.back.domain.post.entity.Post;
+import com.back.domain.post.repository.PostRepository;
+import com.back.global.exception.ServiceException;
+import com.back.global.rq.Rq;
+import com.back.global.rsData.ResultCode;
+import com.back.global.rsData.RsData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * 이어 올리기가 가능한 분할 업로드 (특허 명세서 PDF 처럼 큰 파일용)
+ * - 시작: 업로드 세션을 만들고 조각 크기/개수를 알려줌 (회원당 진행 중인 세션 수 제한 → 조각 스테이징 디스크 점유 제한)
+ * - 조각 전송: 조각 번호와 시작 위치(Upload-Offset), 조각 SHA-256(Upload-Checksum)을 확인한 뒤 저장
+ *   조각 하나의 요청은 짧게 끝나므로 큰 파일도 요청 스레드를 오래 잡지 않고, 실패한 조각만 다시 보내면 됨
+ * - 완료: 조각을 하나로 합치고 내용으로 형식을 판별한 뒤 내용 주소 저장소에 저장하고 첨부파일로 등록
+ * - 만료: 일정 시간 안에 완료되지 않은 업로드는 조각과 함께 삭제
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("^[0-9a-f]{64}$");
+    // 오류 메시지에 보여줄 누락 조각 번호 최대 개수
+    private static final int MAX_REPORTED_MISSING_CHUNKS = 20;
+
+    private final ChunkedUploadRepository chunkedUploadRepository;
+    private final FilesRepository filesRepository;
+    private final PostRepository postRepository;
+    private final ChunkedUploadStaging staging;
+    private final FileBlobService fileBlobService;
+    private final ImageVariantService imageVariantService;
+    private final PostFilesCache postFilesCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Rq rq;
+
+    // 이 서버에서 완료 처리 중인 업로드 (같은 업로드의 조각을 동시에 합치지 않도록)
+    // - 여러 서버 간 중복 등록은 등록 트랜잭션의 세션 선점(claimById)으로 막음
+    private final Set<String> completing = ConcurrentHashMap.newKeySet();
+
+    // 분할 업로드로 올릴 수 있는 최대 파일 크기 (일반 업로드 제한보다 큼)
+    @Value("${file.upload.chunked.max-size:209715200}")
+    private long maxFileSize;
+
+    @Value("${file.upload.chunked.chunk-size:5242880}")
+    private int chunkSize;
+
+    // 시작 후 이 시간 안에 완료하지 않으면 만료
+    @Value("${file.upload.chunked.expire-hours:24}")
+    private long expireHours;
+
+    // 회원 한 명이 동시에 진행할 수 있는 분할 업로드 수
+    @Value("${file.upload.chunked.max-active-per-member:5}")
+    private int maxActivePerMember;
+
+    public ChunkedUploadService(
+            ChunkedUploadRepository chunkedUploadRepository,
+            FilesRepository filesRepository,
+            PostRepository postRepository,
+            ChunkedUploadStaging staging,
+            FileBlobService fileBlobService,
+            ImageVariantService imageVariantService,
+            PostFilesCache postFilesCache,
+            TransactionTemplate transactionTemplate,
+            Rq rq
+    ) {
+        this.chunkedUploadRepository = chunkedUploadRepository;
+        this.filesRepository = filesRepository;
+        this.postRepository = postRepository;
+        this.staging = staging;
+        this.fileBlobService = fileBlobService;
+        this.imageVariantService = imageVariantService;
+        this.postFilesCache = postFilesCache;
+        this.transactionTemplate = transactionTemplate;
+        this.rq = rq;
+    }
+
+    // 분할 업로드 시작 서비스
+    public RsData<ChunkedUploadResponseDto> init(Long postId, ChunkedUploadInitRequestDto request) {
+        if (request.fileSize() > maxFileSize) {
+            throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 " + (maxFileSize / (1024 * 1024)) + "MB까지 업로드 가능합니다.");
+        }
+
+        ChunkedUpload upload = transactionTemplate.execute(status -> {
+            checkPostOwner(postId);
+            checkActiveUploadLimit(rq.getMemberId());
+            return chunkedUploadRepository.save(
+                    ChunkedUpload.builder()
+                            .uploadId(UUID.randomUUID().toString())
+                            .postId(postId)
+                            .memberId(rq.getMemberId())
+                            .fileName(request.fileName())
+                            .contentType(request.contentType())
+                            .fileSize(request.fileSize())
+                            .chunkSize(chunkSize)
+                            .build()
+            );
+        });
+
+        return new RsData<>("200", "분할 업로드 시작", toResponse(upload, List.of()));
+    }
+
+    // 분할 업로드 상태 조회 서비스 (이어 올릴 때 받은 조각 확인)
+    public RsData<ChunkedUploadResponseDto> getStatus(Long postId, String uploadId) {
+        ChunkedUpload upload = findOwnedUpload(postId, uploadId);
+        return new RsData<>("200", "분할 업로드 상태 조회 성공", toResponse(upload, staging.receivedChunks(uploadId)));
+    }
+
+    // 조각 전송 서비스 (같은 조각을 다시 보내면 덮어씀)
+    public RsData<ChunkedUploadResponseDto> uploadChunk(Long postId, String uploadId, int index, Long offset, String checksum, InputStream body) {
+        ChunkedUpload upload = findOwnedUpload(postId, uploadId);
+
+        if (index < 0 || index >= upload.getTotalChunks()) {
+            throw new IllegalArgumentException("조각 번호가 올바르지 않습니다. 0 ~ " + (upload.getTotalChunks() - 1) + " 사이여야 합니다: " + index);
+        }
+        if (offset != null && offset != upload.offsetOf(index)) {
+            throw new IllegalArgumentException("조각 시작 위치가 올바르지 않습니다. " + index + "번 조각은 " + upload.offsetOf(index) + "부터입니다.");
+        }
+        if (checksum == null || !SHA256_HEX.matcher(checksum).matches()) {
+            throw new IllegalArgumentException("조각 체크섬(SHA-256 16진수 소문자 64자)은 필수입니다.");
+        }
+
+        try {
+            staging.writeChunk(uploadId, index, upload.lengthOf(index), checksum, body);
+        } catch (IOException e) {
+            throw new RuntimeException("분할 업로드 조각 저장 실패: " + e.getMessage(), e);
+        }
+
+        return new RsData<>("200", "조각 저장 성공", toResponse(upload, staging.receivedChunks(uploadId)));
+    }
+
+    // 분할 업로드 완료 서비스 (조각을 합쳐 저장하고 첨부파일로 등록)
+    public RsData<FileUploadResponseDto> complete(Long postId, String uploadId, ChunkedUploadCompleteRequestDto request) {
+        ChunkedUpload upload = findOwnedUpload(postId, uploadId);
+        if (!completing.add(uploadId)) {
+            throw new IllegalArgumentException("이미 완료 처리 중인 업로드입니다: " + uploadId);
+        }
+
+        try {
+            checkAllChunksReceived(upload);
+
+            ChunkedUploadStaging.AssembledFile assembled = staging.assemble(uploadId, upload.getTotalChunks());
+            if (assembled.size() != upload.getFileSize()) {
+                throw new IllegalStateException("합친 파일 크기가 시작 시 알려준 크기와 다릅니다: " + assembled.size());
+            }
+            if (request != null && request.sha256() != null && !request.sha256().equals(assembled.sha256())) {
+                throw new IllegalArgumentException("파일 해시가 일치하지 않습니다. 조각을 다시 보내 주세요.");
+            }
+
+            // 선언된 형식 대신 내용으로 판별 (허용되지 않으면 저장 시 거절)
+            String contentType = FileContentSniffer.detect(assembled.path(), upload.getContentType());
+            FileBlobService.BlobReference blob = fileBlobService.store(
+                    assembled.path(), assembled.sha256(), upload.getFileName(), contentType, assembled.size(), maxFileSize);
+
+            List<FileVariant> variants = blob.reused() ? fileBlobService.findVariants(blob.fileUrl()).orElse(null) : null;
+            if (variants == null) {
+                variants = imageVariantService.createVariants(assembled.path(), contentType, blob.fileUrl());
+            }
+
+            Files saved;
+            try {
+                List<FileVariant> storedVariants = variants;
+                saved = transactionTemplate.execute(status -> register(upload, blob, contentType, storedVariants));
+            } catch (RuntimeException e) {
+                releaseQuietly(blob.fileUrl(), variants);
+                throw e;
+            }
+
+            staging.discard(uploadId);
+            return new RsData<>("200", "파일 업로드 성공", FileUploadResponseDto.from(saved));
+        } catch (IOException e) {
+            throw new RuntimeException("분할 업로드 파일 합치기 실패: " + e.getMessage(), e);
+        } finally {
+            completing.remove(uploadId);
+        }
+    }
+
+    // 분할 업로드 취소 서비스
+    public RsData<Void> cancel(Long postId, String uploadId) {
+        ChunkedUpload upload = findOwnedUpload(postId, uploadId);
+        chunkedUploadRepository.delete(upload);
+        staging.discard(uploadId);
+        return new RsData<>("200", "분할 업로드 취소", null);
+    }
+
+    // 만료된 업로드와 세션 없이 남은 조각 삭제
+    @Scheduled(initialDelayString = "${file.upload.chunked.sweep-interval-ms:3600000}", fixedDelayString = "${file.upload.chunked.sweep-interval-ms:3600000}")
+    public void expireUploads() {
+        Duration expireAfter = Duration.ofHours(expireHours);
+        List<ChunkedUpload> expired = chunkedUploadRepository.findByCreatedAtBefore(LocalDateTime.now().minus(expireAfter));
+        for (ChunkedUpload upload : expired) {
+            if (completing.contains(upload.getUploadId())) {
+                continue;
+            }
+            chunkedUploadRepository.delete(upload);
+            staging.discard(upload.getUploadId());
+        }
+        if (!expired.isEmpty()) {
+            log.info("만료된 분할 업로드 {}건을 삭제했습니다.", expired.size());
+        }
+        staging.discardOlderThan(expireAfter);
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private void checkPostOwner(Long postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다: " + postId));
+
+        Long currentMemberId = rq.getMemberId();
+        if (currentMemberId == null || !currentMemberId.equals(post.getMember().getId())) {
+            throw new IllegalArgumentException("게시글 작성자만 파일을 업로드할 수 있습니다.");
+        }
+    }
+
+    // 만료되지 않은 업로드가 한도에 이르면 새 업로드 거절 (완료/취소하거나 만료되면 다시 시작 가능)
+    private void checkActiveUploadLimit(Long memberId) {
+        LocalDateTime activeSince = LocalDateTime.now().minusHours(expireHours);
+        if (chunkedUploadRepository.countByMemberIdAndCreatedAtAfter(memberId, activeSince) >= maxActivePerMember) {
+            throw new ServiceException(ResultCode.TOO_MANY_REQUESTS.code(),
+                    "진행 중인 분할 업로드가 너무 많습니다. 최대 " + maxActivePerMember + "개까지 동시에 업로드할 수 있습니다.");
+        }
+    }
+
+    // 시작한 회원의 해당 게시글 업로드인지, 만료되지 않았는지 확인
+    private ChunkedUpload findOwnedUpload(Long postId, String uploadId) {
+        ChunkedUpload upload = chunkedUploadRepository.findByUploadId(uploadId)
+                .orElseThrow(() -> new IllegalArgumentException("분할 업로드가 존재하지 않습니다: " + uploadId));
+
+        Long currentMemberId = rq.getMemberId();
+        if (!upload.getPostId().equals(postId) || currentMemberId == null || !currentMemberId.equals(upload.getMemberId())) {
+            throw new IllegalArgumentException("해당 분할 업로드에 접근할 권한이 없습니다: " + uploadId);
+        }
+        if (expiresAt(upload).isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("만료된 분할 업로드입니다. 다시 시작해 주세요: " + uploadId);
+        }
+        return upload;
+    }
+
+    private void checkAllChunksReceived(ChunkedUpload upload) {
+        Set<Integer> received = Set.copyOf(staging.receivedChunks(upload.getUploadId()));
+        List<Integer> missing = IntStream.range(0, upload.getTotalChunks())
+                .filter(index -> !received.contains(index))
+                .limit(MAX_REPORTED_MISSING_CHUNKS)
+                .boxed()
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("아직 받지 못한 조각이 있습니다: " + missing);
+        }
+    }
+
+    // 업로드 세션을 선점(삭제)하고 첨부파일로 등록
+    // - 선점에 실패하면 예외로 롤백되고, 호출한 쪽에서 저장한 파일 참조를 해제함
+    private Files register(ChunkedUpload upload, FileBlobService.BlobReference blob, String contentType, List<FileVariant> variants) {
+        if (chunkedUploadRepository.claimById(upload.getId()) != 1) {
+            throw new IllegalArgumentException("이미 완료되었거나 만료된 업로드입니다: " + upload.getUploadId());
+        }
+
+        Post post = postRepository.findById(upload.getPostId())
+                .orElseThrow(() -> new IllegalStateException("업로드 중 게시글이 삭제되었습니다: " + upload.getPostId()));
+
+        Files saved = filesRepository.save(
+                Files.builder()
+                        .post(post)
+                        .fileName(upload.getFileName())
+                        .fileType(contentType)
+                        .fileSize(blob.size())
+                        .fileUrl(blob.fileUrl())
+                        .sortOrder(filesRepository.findMaxSortOrderByPostId(post.getId()) + 1)
+                        .variants(new ArrayList<>(variants))
+                        .build()
+        );
+        postFilesCache.evict(post.getId());
+        return saved;
+    }
+
+    private void releaseQuietly(String fileUrl, List<FileVariant> variants) {
+        try {
+            fileBlobService.release(fileUrl, variants);
+        } catch (RuntimeException e) {
+            log.error("물리 파일 삭제 중 오류 발생: " + fileUrl, e);
+        }
+    }
+
+    private LocalDateTime expiresAt(ChunkedUpload upload) {
+        return upload.getCreatedAt().plusHours(expireHours);
+    }
+
+    private ChunkedUploadResponseDto toResponse(ChunkedUpload upload, List<Integer> receivedChunks) {
+        return ChunkedUploadResponseDto.of(upload, receivedChunks, expiresAt(upload));
+    }
+}
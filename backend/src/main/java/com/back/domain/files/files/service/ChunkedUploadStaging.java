@@ -0,0 +1,181 @@
+package com.back.domain.files.files.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 분할 업로드 조각 저장 영역 (로컬 디스크)
+ * - 업로드마다 디렉터리를 두고 조각을 {index}.chunk 로 저장 (조각별 SHA-256 을 확인한 뒤 원자적 이동)
+ * - 같은 조각을 다시 보내면 덮어쓰므로 재시도해도 안전
+ * - 완료 시 FileChannel 로 조각을 순서대로 이어 붙이면서 전체 SHA-256 을 계산
+ * 조각이 서버 로컬 디스크에 있으므로 여러 서버에서는 같은 업로드를 같은 서버로 보내거나 공유 볼륨을 사용해야 함
+ */
+@Slf4j
+@Component
+public class ChunkedUploadStaging {
+
+    private static final Pattern CHUNK_NAME = Pattern.compile("^(\\d+)\\.chunk$");
+    private static final String ASSEMBLED_NAME = "assembled.part";
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private final Path stagingRoot;
+
+    public ChunkedUploadStaging(@Value("${file.upload.chunked.staging-dir:${java.io.tmpdir}/upload-chunks}") String stagingDir) {
+        this.stagingRoot = Paths.get(stagingDir).toAbsolutePath().normalize();
+    }
+
+    // 합친 파일 정보
+    public record AssembledFile(Path path, long size, String sha256) {
+    }
+
+    // 조각 하나 저장 (크기와 체크섬이 맞을 때만 반영)
+    public void writeChunk(String uploadId, int index, long expectedLength, String expectedSha256, InputStream in) throws IOException {
+        Path uploadDir = Files.createDirectories(uploadDir(uploadId));
+        Path tempFile = uploadDir.resolve(index + ".chunk." + UUID.randomUUID() + ".tmp");
+        try {
+            MessageDigest digest = FileChecksums.newSha256();
+            long length = 0;
+            try (OutputStream out = Files.newOutputStream(tempFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    length += read;
+                    if (length > expectedLength) {
+                        throw new IllegalArgumentException("조각 크기가 올바르지 않습니다. " + index + "번 조각은 " + expectedLength + "바이트여야 합니다.");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            if (length != expectedLength) {
+                throw new IllegalArgumentException("조각 크기가 올바르지 않습니다. " + index + "번 조각은 " + expectedLength + "바이트여야 합니다.");
+            }
+            if (!FileChecksums.toHex(digest).equals(expectedSha256)) {
+                throw new IllegalArgumentException("조각 체크섬이 일치하지 않습니다. " + index + "번 조각을 다시 보내 주세요.");
+            }
+
+            Files.move(tempFile, chunkPath(uploadDir, index), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // 받은 조각 번호 (오름차순)
+    public List<Integer> receivedChunks(String uploadId) {
+        Path uploadDir = uploadDir(uploadId);
+        if (!Files.isDirectory(uploadDir)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(uploadDir)) {
+            return files.map(file -> CHUNK_NAME.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Integer.parseInt(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new RuntimeException("분할 업로드 조각 조회 실패: " + e.getMessage(), e);
+        }
+    }
+
+    // 조각을 순서대로 이어 붙여 하나의 파일로 만듦 (조각 파일은 discard 할 때 삭제)
+    public AssembledFile assemble(String uploadId, int totalChunks) throws IOException {
+        Path uploadDir = uploadDir(uploadId);
+        Path target = uploadDir.resolve(ASSEMBLED_NAME);
+        Files.deleteIfExists(target); // 이전 완료 시도가 남긴 파일
+
+        MessageDigest digest = FileChecksums.newSha256();
+        long size = 0;
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            for (int index = 0; index < totalChunks; index++) {
+                try (FileChannel in = FileChannel.open(chunkPath(uploadDir, index), StandardOpenOption.READ)) {
+                    while (in.read(buffer) != -1) {
+                        buffer.flip();
+                        digest.update(buffer.duplicate());
+                        while (buffer.hasRemaining()) {
+                            size += out.write(buffer);
+                        }
+                        buffer.clear();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+
+        return new AssembledFile(target, size, FileChecksums.toHex(digest));
+    }
+
+    // 업로드 디렉터리 삭제 (완료, 취소, 만료)
+    public void discard(String uploadId) {
+        discard(uploadDir(uploadId));
+    }
+
+    // 세션 정보 없이 남은 오래된 업로드 디렉터리 삭제
+    public void discardOlderThan(Duration age) {
+        if (!Files.isDirectory(stagingRoot)) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(age);
+        try (Stream<Path> uploadDirs = Files.list(stagingRoot)) {
+            uploadDirs.filter(dir -> isOlderThan(dir, cutoff)).forEach(this::discard);
+        } catch (IOException e) {
+            log.warn("분할 업로드 스테이징 영역 정리 실패: {}", stagingRoot, e);
+        }
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private Path uploadDir(String uploadId) {
+        Path uploadDir = stagingRoot.resolve(uploadId).normalize();
+        if (!uploadDir.getParent().equals(stagingRoot)) {
+            throw new IllegalArgumentException("잘못된 업로드 ID 입니다: " + uploadId);
+        }
+        return uploadDir;
+    }
+
+    private Path chunkPath(Path uploadDir, int index) {
+        return uploadDir.resolve(index + ".chunk");
+    }
+
+    private boolean isOlderThan(Path dir, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(dir).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void discard(Path uploadDir) {
+        try {
+            FileSystemUtils.deleteRecursively(uploadDir);
+        } catch (IOException e) {
+            log.warn("분할 업로드 조각 삭제 실패: {}", uploadDir, e);
+        }
+    }
+}
@@ -1,26 +1,45 @@
 package com.back.domain.files.files.service;
 
+import com.google.cloud.ReadChannel;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
+import java.net.URL;
 import java.net.URLDecoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @Profile("prod") // 프로덕션 환경에서만 이 서비스가 활성화되도록 설정
 public class CloudFileStorageService implements FileStorageService {
+    // 목록 조회 한 페이지 크기
+    private static final long LIST_PAGE_SIZE = 1000;
+    // 내용 해시 이름 객체의 캐시 정책 (다운로드 응답과 같음)
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
     // 클라우드 스토리지 버킷 이름 설정 (application.yml에서 주입)
     @Value("${GCP_BUCKET_NAME}")
     private String bucketName;
@@ -36,35 +55,6 @@ public class CloudFileStorageService implements FileStorageService {
     @Value(("${file.upload.max-size:10485760}"))
     private long maxFileSize; // 최대 파일 크기 (기본값: 10MB)
 
-    @Override
-    public String storeFile(MultipartFile file, String subFolder) {
-        if (file.getSize() > maxFileSize) {
-            throw new RuntimeException("파일 크기가 너무 큽니다. 최대 " + (maxFileSize / (1024 * 1024)) + "MB까지 업로드 가능합니다.");
-        }
-
-        String contentType = file.getContentType();
-        if (contentType == null || !isAllowedFileType(contentType)) {
-            throw new RuntimeException("허용되지 않는 파일 형식입니다.");
-        }
-
-        String originalFileName = file.getOriginalFilename();
-        String fileExtension = getExtension(originalFileName);
-        // subFolder (예: "profile/{memberId}")와 UUID를 조합하여 고유한 객체 이름 생성
-        String fileNameInStorage = subFolder + "/" + UUID.randomUUID().toString() + fileExtension;
-
-        BlobId blobId = BlobId.of(bucketName, fileNameInStorage);
-        BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-                .setContentType(file.getContentType())
-                .build();
-
-        try {
-            gcsStorage.createFrom(blobInfo, file.getInputStream());
-            return String.format("https://storage.googleapis.com/%s/%s", bucketName, fileNameInStorage);
-        } catch (IOException e) {
-            throw new RuntimeException("클라우드 스토리지 파일 저장 중 오류가 발생했습니다.", e);
-        }
-    }
-
     @Override
     public void deletePhysicalFile(String fileUrl) {
         if (fileUrl == null || fileUrl.isEmpty()) {
@@ -91,6 +81,47 @@ public class CloudFileStorageService implements FileStorageService {
         }
     }
 
+    // 일괄 요청 하나로 삭제 (false 는 없는 객체이거나 삭제 실패이므로 남아 있는지 다시 확인)
+    @Override
+    public List<String> deletePhysicalFiles(List<String> fileUrls) {
+        String gcsUrlPrefix = String.format("https://storage.googleapis.com/%s/", bucketName);
+        List<String> targetUrls = new ArrayList<>();
+        List<BlobId> blobIds = new ArrayList<>();
+        for (String fileUrl : fileUrls) {
+            if (fileUrl == null || !fileUrl.startsWith(gcsUrlPrefix)) {
+                continue; // 이 버킷의 객체가 아님 (deletePhysicalFile 과 동일하게 무시)
+            }
+            targetUrls.add(fileUrl);
+            blobIds.add(BlobId.of(bucketName, URLDecoder.decode(fileUrl.substring(gcsUrlPrefix.length()), StandardCharsets.UTF_8)));
+        }
+        if (blobIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Boolean> deleted;
+        try {
+            deleted = gcsStorage.delete(blobIds);
+        } catch (StorageException e) {
+            log.warn("클라우드 스토리지 일괄 삭제 실패: {}개", blobIds.size(), e);
+            return targetUrls;
+        }
+
+        List<String> failedUrls = new ArrayList<>();
+        for (int i = 0; i < blobIds.size(); i++) {
+            if (Boolean.TRUE.equals(deleted.get(i))) {
+                continue;
+            }
+            try {
+                if (gcsStorage.get(blobIds.get(i)) != null) {
+                    failedUrls.add(targetUrls.get(i));
+                }
+            } catch (StorageException e) {
+                failedUrls.add(targetUrls.get(i));
+            }
+        }
+        return failedUrls;
+    }
+
     @Override
     public Resource loadFileAsResource(String fileUrl) {
         try {
@@ -100,6 +131,195 @@ public class CloudFileStorageService implements FileStorageService {
         }
     }
 
+    @Override
+    public StoredFile loadStoredFile(String fileUrl) {
+        String gcsUrlPrefix = String.format("https://storage.googleapis.com/%s/", bucketName);
+        if (fileUrl == null || !fileUrl.startsWith(gcsUrlPrefix)) {
+            throw new RuntimeException("파일을 찾을 수 없거나 읽을 수 없습니다: " + fileUrl);
+        }
+
+        String objectName = URLDecoder.decode(fileUrl.substring(gcsUrlPrefix.length()), StandardCharsets.UTF_8);
+        Blob blob = gcsStorage.get(BlobId.of(bucketName, objectName));
+        if (blob == null) {
+            throw new RuntimeException("파일을 찾을 수 없거나 읽을 수 없습니다: " + fileUrl);
+        }
+        return new GcsStoredFile(blob);
+    }
+
+    @Override
+    public String storeBlob(Path source, String sha256, String extension, String contentType) {
+        String objectName = "blobs/" + sha256.substring(0, 2) + "/" + sha256 + extension;
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, objectName))
+                .setContentType(contentType)
+                .build();
+
+        try {
+            // 같은 이름이 이미 있으면 내용도 같으므로 다시 업로드하지 않음
+            gcsStorage.createFrom(blobInfo, source, Storage.BlobWriteOption.doesNotExist());
+        } catch (StorageException e) {
+            if (e.getCode() != 412) {
+                throw new RuntimeException("클라우드 스토리지 파일 저장 중 오류가 발생했습니다.", e);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("클라우드 스토리지 파일 저장 중 오류가 발생했습니다.", e);
+        }
+        return String.format("https://storage.googleapis.com/%s/%s", bucketName, objectName);
+    }
+
+    @Override
+    public String storeVariant(String sourceFileUrl, String variantName, String contentType, byte[] content) {
+        String gcsUrlPrefix = String.format("https://storage.googleapis.com/%s/", bucketName);
+        if (sourceFileUrl == null || !sourceFileUrl.startsWith(gcsUrlPrefix)) {
+            throw new RuntimeException("파일을 찾을 수 없거나 읽을 수 없습니다: " + sourceFileUrl);
+        }
+
+        String sourceObjectName = URLDecoder.decode(sourceFileUrl.substring(gcsUrlPrefix.length()), StandardCharsets.UTF_8);
+        int slashIndex = sourceObjectName.lastIndexOf('/');
+        String sourceFileName = sourceObjectName.substring(slashIndex + 1);
+        int dotIndex = sourceFileName.lastIndexOf('.');
+        String baseName = (dotIndex != -1) ? sourceFileName.substring(0, dotIndex) : sourceFileName;
+        String variantObjectName = sourceObjectName.substring(0, slashIndex + 1) + baseName + "_" + variantName;
+
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, variantObjectName))
+                .setContentType(contentType)
+                .build();
+        gcsStorage.create(blobInfo, content);
+        return gcsUrlPrefix + variantObjectName;
+    }
+
+    @Override
+    public String storeImmutable(String subFolder, String fileName, String contentType, byte[] content) {
+        String objectName = subFolder + "/" + fileName;
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, objectName))
+                .setContentType(contentType)
+                .setCacheControl(IMMUTABLE_CACHE_CONTROL) // 스토리지/CDN 에서 바로 받아가므로 객체 메타데이터로 지정
+                .build();
+
+        try {
+            // 같은 이름이 이미 있으면 내용도 같으므로 다시 업로드하지 않음
+            gcsStorage.create(blobInfo, content, Storage.BlobTargetOption.doesNotExist());
+        } catch (StorageException e) {
+            if (e.getCode() != 412) {
+                throw new RuntimeException("클라우드 스토리지 파일 저장 중 오류가 발생했습니다.", e);
+            }
+        }
+        return String.format("https://storage.googleapis.com/%s/%s", bucketName, objectName);
+    }
+
+    // 버킷 목록을 페이지 단위로 받아오며 전달 (GCS 목록은 이름 순)
+    @Override
+    public void forEachStoredObject(Consumer<StoredObject> visitor) {
+        String gcsUrlPrefix = String.format("https://storage.googleapis.com/%s/", bucketName);
+        // 같은 버킷의 다른 용도 객체는 목록에 올리지 않음 (접두사는 이름 순으로 정렬되어 있음)
+        for (String prefix : STORED_PREFIXES) {
+            for (Blob blob : gcsStorage.list(bucketName, Storage.BlobListOption.prefix(prefix), Storage.BlobListOption.pageSize(LIST_PAGE_SIZE)).iterateAll()) {
+                if (blob.getName().endsWith("/")) {
+                    continue; // 콘솔에서 만든 폴더 표시 객체
+                }
+                Instant lastModified = (blob.getUpdateTimeOffsetDateTime() != null) ? blob.getUpdateTimeOffsetDateTime().toInstant() : null;
+                long size = (blob.getSize() != null) ? blob.getSize() : 0L;
+                visitor.accept(new StoredObject(gcsUrlPrefix + blob.getName(), size, lastModified));
+            }
+        }
+    }
+
+    // V4 서명 PUT URL 발급 (클라이언트가 GCS 로 직접 업로드, Content-Type 과 크기 범위도 서명에 포함되어 변경 불가)
+    @Override
+    public SignedUpload createSignedUpload(String subFolder, String originalFileName, String contentType, Duration ttl) {
+        if (contentType == null || !isAllowedFileType(contentType)) {
+            throw new RuntimeException("허용되지 않는 파일 형식입니다.");
+        }
+
+        String fileNameInStorage = subFolder + "/" + UUID.randomUUID() + getExtension(originalFileName);
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, fileNameInStorage))
+                .setContentType(contentType)
+                .build();
+        // 업로드 크기 상한도 서명에 포함 (GCS 가 범위를 벗어난 본문을 거절)
+        Map<String, String> headers = Map.of(
+                "Content-Type", contentType,
+                "x-goog-content-length-range", "0," + maxFileSize
+        );
+
+        URL uploadUrl = gcsStorage.signUrl(blobInfo, ttl.toSeconds(), TimeUnit.SECONDS,
+                Storage.SignUrlOption.httpMethod(HttpMethod.PUT),
+                Storage.SignUrlOption.withExtHeaders(headers),
+                Storage.SignUrlOption.withV4Signature());
+
+        return new SignedUpload(
+                String.format("https://storage.googleapis.com/%s/%s", bucketName, fileNameInStorage),
+                uploadUrl.toString(),
+                "PUT",
+                headers,
+                Instant.now().plus(ttl)
+        );
+    }
+
+    // V4 서명 GET URL 발급 (클라이언트가 GCS 에서 직접 다운로드)
+    @Override
+    public String createSignedDownloadUrl(String fileUrl, Duration ttl) {
+        String gcsUrlPrefix = String.format("https://storage.googleapis.com/%s/", bucketName);
+        if (fileUrl == null || !fileUrl.startsWith(gcsUrlPrefix)) {
+            throw new RuntimeException("파일을 찾을 수 없거나 읽을 수 없습니다: " + fileUrl);
+        }
+
+        String objectName = URLDecoder.decode(fileUrl.substring(gcsUrlPrefix.length()), StandardCharsets.UTF_8);
+        URL downloadUrl = gcsStorage.signUrl(BlobInfo.newBuilder(BlobId.of(bucketName, objectName)).build(),
+                ttl.toSeconds(), TimeUnit.SECONDS,
+                Storage.SignUrlOption.httpMethod(HttpMethod.GET),
+                Storage.SignUrlOption.withV4Signature());
+        return downloadUrl.toString();
+    }
+
+    // GCS 객체 (md5 를 ETag 로 사용하고, Range 요청은 ReadChannel.seek 로 필요한 구간만 읽음)
+    private record GcsStoredFile(Blob blob) implements StoredFile {
+
+        @Override
+        public String fileName() {
+            String name = blob.getName();
+            return name.substring(name.lastIndexOf('/') + 1);
+        }
+
+        @Override
+        public long size() {
+            return blob.getSize();
+        }
+
+        @Override
+        public Instant lastModified() {
+            return (blob.getUpdateTimeOffsetDateTime() != null) ? blob.getUpdateTimeOffsetDateTime().toInstant() : null;
+        }
+
+        @Override
+        public String checksum() {
+            // 합성 객체는 md5 가 없으므로 crc32c 사용
+            return (blob.getMd5() != null) ? blob.getMd5() : blob.getCrc32c();
+        }
+
+        @Override
+        public String contentType() {
+            return blob.getContentType();
+        }
+
+        @Override
+        public Path localPath() {
+            return null;
+        }
+
+        @Override
+        public void transferTo(long position, long count, OutputStream out) throws IOException {
+            try (ReadChannel reader = blob.reader()) {
+                reader.seek(position);
+                reader.limit(position + count);
+                ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+                while (reader.read(buffer) > 0) {
+                    buffer.flip();
+                    out.write(buffer.array(), 0, buffer.limit());
+                    buffer.clear();
+                }
+            }
+        }
+    }
+
     private String getExtension(String fileName) {
         if (fileName == null || fileName.isEmpty()) {
             return "";
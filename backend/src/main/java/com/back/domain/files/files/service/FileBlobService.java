@@ -0,0 +1,220 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.entity.FileBlob;
+import com.back.domain.files.files.entity.FileVariant;
+import com.back.domain.files.files.repository.FileBlobRepository;
+import com.back.domain.files.files.repository.FilesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 주소(SHA-256) 파일 저장
+ * - 업로드를 임시 파일로 옮기면서 해시를 계산하고, 물리 파일은 해시 이름으로 한 번만 저장
+ * - 같은 내용은 기존 파일을 참조(refCount 증가)하고, 마지막 참조가 삭제될 때만 물리 파일과 사본을 삭제
+ * - 내용 주소 도입 전 파일이나 서명 URL 업로드처럼 FileBlob 이 없는 파일은 기존처럼 바로 삭제
+ * - 물리 파일 삭제는 FileDeletionService 에 예약하고 커밋 이후 백그라운드에서 처리 (롤백되면 삭제하지 않음)
+ * - 삭제 대기 중인 내용이 다시 업로드되면 예약을 취소한 뒤 파일을 다시 저장
+ */
+@Slf4j
+@Service
+public class FileBlobService {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("^[0-9a-f]{64}$");
+    private static final Pattern EXTENSION = Pattern.compile("^\\.[a-z0-9]{1,10}$");
+
+    private final FileBlobRepository fileBlobRepository;
+    private final FilesRepository filesRepository;
+    private final FileStorageService fileStorageService;
+    private final FileDeletionService fileDeletionService;
+    // 호출 측 트랜잭션과 분리 (같은 내용 동시 등록 충돌 시 재시도)
+    private final TransactionTemplate requiresNew;
+
+    @Value("${file.upload.max-size:10485760}")
+    private long maxFileSize;
+
+    public FileBlobService(
+            FileBlobRepository fileBlobRepository,
+            FilesRepository filesRepository,
+            FileStorageService fileStorageService,
+            FileDeletionService fileDeletionService,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.fileBlobRepository = fileBlobRepository;
+        this.filesRepository = filesRepository;
+        this.fileStorageService = fileStorageService;
+        this.fileDeletionService = fileDeletionService;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 저장된(또는 재사용한) 파일 정보
+    public record BlobReference(String fileUrl, String contentType, long size, boolean reused) {
+    }
+
+    // MultipartFile 을 임시 파일로 옮기면서 해시를 계산한 뒤 저장
+    public BlobReference store(MultipartFile file) {
+        validate(file.getContentType(), file.getSize(), maxFileSize);
+
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("blob-", ".tmp");
+            MessageDigest digest = FileChecksums.newSha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            // 선언된 Content-Type 대신 내용(매직 바이트)으로 판별한 형식으로 저장
+            String contentType = FileContentSniffer.detect(tempFile, file.getContentType());
+            return store(tempFile, FileChecksums.toHex(digest), file.getOriginalFilename(), contentType, Files.size(tempFile));
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 파일 임시 저장 실패: " + e.getMessage(), e);
+        } finally {
+            deleteTempFile(tempFile);
+        }
+    }
+
+    // 해시를 이미 계산한 로컬 파일 저장 (같은 내용이 있으면 참조만 증가)
+    public BlobReference store(Path source, String sha256, String originalFileName, String contentType, long size) {
+        return store(source, sha256, originalFileName, contentType, size, maxFileSize);
+    }
+
+    // 크기 제한을 따로 지정해 저장 (분할 업로드처럼 일반 업로드보다 큰 파일을 허용하는 경우)
+    public BlobReference store(Path source, String sha256, String originalFileName, String contentType, long size, long maxSize) {
+        validate(contentType, size, maxSize);
+        if (!SHA256_HEX.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("잘못된 파일 해시입니다: " + sha256);
+        }
+
+        String extension = extensionOf(originalFileName);
+        try {
+            return requiresNew.execute(status -> acquire(source, sha256, extension, contentType, size));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용이 동시에 처음 업로드되어 다른 요청이 먼저 등록함 → 그 파일을 참조
+            return requiresNew.execute(status -> acquire(source, sha256, extension, contentType, size));
+        }
+    }
+
+    // 이미 저장된 내용이면 참조를 하나 늘리고 반환 (바이트 업로드 없이 첨부)
+    @Transactional
+    public Optional<BlobReference> retainExisting(String sha256) {
+        return fileBlobRepository.findBySha256ForUpdate(sha256)
+                .map(blob -> {
+                    blob.retain();
+                    return new BlobReference(blob.getFileUrl(), blob.getFileType(), blob.getFileSize(), true);
+                });
+    }
+
+    // 같은 파일을 먼저 등록한 첨부파일의 리사이즈 사본 (없으면 empty)
+    // 사본 생성 이전에 올라와 사본이 없는 이미지도 empty → 호출 측에서 사본을 다시 만듦
+    @Transactional(readOnly = true)
+    public Optional<List<FileVariant>> findVariants(String fileUrl) {
+        return filesRepository.findFirstByFileUrlOrderByIdAsc(fileUrl)
+                .filter(file -> !file.getVariants().isEmpty() || !ImageVariantService.isResizable(file.getFileType()))
+                .map(file -> file.getVariants().stream()
+                        .map(variant -> new FileVariant(variant.getWidth(), variant.getHeight(),
+                                variant.getFileUrl(), variant.getFileType(), variant.getFileSize()))
+                        .toList());
+    }
+
+    // 첨부파일 하나의 참조 해제 (마지막 참조면 물리 파일과 사본 삭제 예약)
+    @Transactional
+    public void release(String fileUrl, List<FileVariant> variants) {
+        Optional<FileBlob> blob = fileBlobRepository.findByFileUrlForUpdate(fileUrl);
+        if (blob.isPresent()) {
+            if (blob.get().release() > 0) {
+                return; // 다른 첨부파일이 아직 참조 중
+            }
+            fileBlobRepository.delete(blob.get());
+        }
+
+        List<String> fileUrls = new ArrayList<>();
+        fileUrls.add(fileUrl);
+        variants.forEach(variant -> fileUrls.add(variant.getFileUrl()));
+        // 내용 주소 파일이면 해시를 함께 남겨 같은 내용이 다시 업로드될 때 취소할 수 있게 함
+        fileDeletionService.enqueue(fileUrls, blob.map(FileBlob::getSha256).orElse(null));
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private BlobReference acquire(Path source, String sha256, String extension, String contentType, long size) {
+        Optional<FileBlob> existing = fileBlobRepository.findBySha256ForUpdate(sha256);
+        if (existing.isPresent()) {
+            existing.get().retain();
+            return new BlobReference(existing.get().getFileUrl(), existing.get().getFileType(), existing.get().getFileSize(), true);
+        }
+
+        // 마지막 참조가 해제되어 같은 내용의 파일과 사본이 삭제 대기 중이면 취소
+        // (이미 삭제 중이면 끝날 때까지 기다린 뒤 아래에서 다시 저장하므로 새 행이 지워진 파일을 가리키지 않음)
+        fileDeletionService.cancelContent(sha256);
+
+        // 같은 이름으로 다시 써도 내용이 같으므로 저장 후 등록 (등록 충돌 시 호출 측에서 재시도)
+        String fileUrl = fileStorageService.storeBlob(source, sha256, extension, contentType);
+        fileBlobRepository.saveAndFlush(
+                FileBlob.builder()
+                        .sha256(sha256)
+                        .fileUrl(fileUrl)
+                        .fileType(contentType)
+                        .fileSize(size)
+                        .build()
+        );
+        return new BlobReference(fileUrl, contentType, size, false);
+    }
+
+    private void validate(String contentType, long size, long maxSize) {
+        if (size > maxSize) {
+            throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 " + (maxSize / (1024 * 1024)) + "MB까지 업로드 가능합니다.");
+        }
+        if (contentType == null || !isAllowedFileType(contentType)) {
+            throw new IllegalArgumentException("허용되지 않는 파일 형식입니다.");
+        }
+    }
+
+    private boolean isAllowedFileType(String contentType) {
+        return contentType.startsWith("image/") ||
+                contentType.equals("application/pdf") ||
+                contentType.startsWith("text/");
+    }
+
+    // 저장 경로에 쓰이므로 영문/숫자 확장자만 허용
+    private String extensionOf(String fileName) {
+        if (fileName == null) {
+            return "";
+        }
+        int dotIndex = fileName.lastIndexOf('.');
+        if (dotIndex == -1) {
+            return "";
+        }
+        String extension = fileName.substring(dotIndex).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(extension).matches() ? extension : "";
+    }
+
+    private void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", tempFile, e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.back.domain.files.files.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 파일 앞부분(매직 바이트)으로 실제 형식 판별
+ * - 클라이언트가 보낸 Content-Type 은 신뢰하지 않고, 허용 형식(이미지/PDF/텍스트)인지 내용으로 확인
+ * - SVG 처럼 스크립트를 담을 수 있는 형식은 매직 바이트가 없으므로 허용되지 않음
+ */
+public final class FileContentSniffer {
+
+    // 판별에 사용하는 앞부분 길이 (텍스트 판별 표본 포함)
+    public static final int SAMPLE_LENGTH = 512;
+
+    private FileContentSniffer() {
+    }
+
+    // 허용 형식이면 실제 Content-Type, 아니면 null
+    public static String detect(byte[] head, int length, String declaredType) {
+        if (startsWith(head, length, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (startsWith(head, length, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+        if (startsWith(head, length, 'G', 'I', 'F', '8', '7', 'a') || startsWith(head, length, 'G', 'I', 'F', '8', '9', 'a')) {
+            return "image/gif";
+        }
+        if (length >= 12 && startsWith(head, length, 'R', 'I', 'F', 'F')
+                && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+            return "image/webp";
+        }
+        if (length >= 14 && startsWith(head, length, 'B', 'M')) {
+            return "image/bmp";
+        }
+        if (startsWith(head, length, '%', 'P', 'D', 'F', '-')) {
+            return "application/pdf";
+        }
+
+        // 텍스트는 매직 바이트가 없으므로 텍스트로 선언되었고 바이너리가 아닐 때만 허용 (HTML 등은 일반 텍스트로 저장)
+        if (declaredType != null && declaredType.startsWith("text/") && isText(head, length)) {
+            return "text/plain";
+        }
+        return null;
+    }
+
+    // 저장된 파일의 앞부분으로 판별
+    public static String detect(Path path, String declaredType) throws IOException {
+        byte[] head = new byte[SAMPLE_LENGTH];
+        int length;
+        try (InputStream in = Files.newInputStream(path)) {
+            length = in.readNBytes(head, 0, head.length);
+        }
+        return detect(head, length, declaredType);
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private static boolean startsWith(byte[] head, int length, int... signature) {
+        if (length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((head[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // NUL 이나 줄바꿈/탭 외 제어 문자가 있으면 바이너리로 간주
+    private static boolean isText(byte[] head, int length) {
+        for (int i = 0; i < length; i++) {
+            int b = head[i] & 0xFF;
+            if (b < 0x20 && b != '\n' && b != '\r' && b != '\t' && b != 0x0C && b != 0x1B) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,229 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.entity.PendingFileDeletion;
+import com.back.domain.files.files.repository.PendingFileDeletionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 물리 파일 삭제 (커밋 이후 백그라운드 처리)
+ * - 삭제할 URL 을 호출 측 트랜잭션에 아웃박스 행으로 함께 저장 → 롤백되면 파일도 남고, 요청은 DB 변경만 하고 응답
+ * - 커밋 이벤트(AFTER_COMMIT)를 받으면 전용 스레드가 예약을 묶음으로 가져와 한 번에 삭제 (GCS 는 일괄 삭제 요청 하나)
+ * - 실패한 파일은 지수 백오프로 재시도하고, 서버 재시작 등으로 남은 예약은 주기적으로 다시 확인
+ * - 재시도를 모두 실패하면 예약을 버림 (남은 파일은 고아 파일 정리가 처리)
+ * - 같은 파일을 다시 참조하게 되면 예약 취소(cancel). 삭제하는 동안에는 예약 행을 잠가 두므로 취소는 삭제가 끝난 뒤에 진행되고,
+ *   취소한 쪽이 그 뒤에 파일을 다시 저장함. 삭제 직전에도 DB 참조를 다시 확인해 참조 중인 파일은 삭제하지 않음
+ */
+@Slf4j
+@Service
+public class FileDeletionService implements DisposableBean {
+
+    private final PendingFileDeletionRepository pendingFileDeletionRepository;
+    private final FileStorageService fileStorageService;
+    private final FileReferenceChecker fileReferenceChecker;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ExecutorService worker;
+    // 다음 처리가 이미 예약되어 있는지 (커밋마다 작업을 쌓지 않도록)
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    // 한 번에 삭제하는 파일 수 (GCS 일괄 요청 한 번의 최대 개수 100)
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    // 처리 중인 예약을 다른 서버가 가져가지 않도록 미루는 시간
+    private final Duration lease;
+
+    public FileDeletionService(
+            PendingFileDeletionRepository pendingFileDeletionRepository,
+            FileStorageService fileStorageService,
+            FileReferenceChecker fileReferenceChecker,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${file.delete.batch-size:100}") int batchSize,
+            @Value("${file.delete.max-attempts:10}") int maxAttempts,
+            @Value("${file.delete.retry-backoff-ms:1000}") long retryBackoffMillis,
+            @Value("${file.delete.lease-seconds:300}") long leaseSeconds
+    ) {
+        this.pendingFileDeletionRepository = pendingFileDeletionRepository;
+        this.fileStorageService = fileStorageService;
+        this.fileReferenceChecker = fileReferenceChecker;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "file-delete");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSize = Math.max(1, Math.min(batchSize, 100));
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    // 삭제 예약이 커밋되었음을 알리는 이벤트
+    public record DeletionRequested(int count) {
+    }
+
+    // 삭제 예약 (호출 측 트랜잭션에 함께 저장되고, 커밋된 뒤에만 삭제)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Collection<String> fileUrls) {
+        enqueue(fileUrls, null);
+    }
+
+    // 내용 주소 파일과 그 사본의 삭제 예약 (같은 내용이 다시 업로드되면 cancelContent 로 취소)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Collection<String> fileUrls, String sha256) {
+        List<PendingFileDeletion> deletions = fileUrls.stream()
+                .filter(Objects::nonNull)
+                .filter(fileUrl -> !fileUrl.isBlank())
+                .distinct()
+                .map(fileUrl -> new PendingFileDeletion(fileUrl, sha256))
+                .toList();
+        if (deletions.isEmpty()) {
+            return;
+        }
+
+        pendingFileDeletionRepository.saveAll(deletions);
+        eventPublisher.publishEvent(new DeletionRequested(deletions.size()));
+    }
+
+    // 다시 참조하게 된 URL 의 삭제 예약 취소 후 취소한 예약 수 반환
+    // (삭제 중이면 끝날 때까지 대기 → 취소한 예약이 있으면 호출 측은 이후에 파일을 다시 저장해야 함)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int cancel(Collection<String> fileUrls) {
+        if (fileUrls.isEmpty()) {
+            return 0;
+        }
+        return pendingFileDeletionRepository.deleteByFileUrlIn(fileUrls);
+    }
+
+    // 같은 내용이 다시 업로드되어 원본과 사본의 삭제 예약 취소 (파일 저장 전에 호출, 삭제 중이면 끝날 때까지 대기)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void cancelContent(String sha256) {
+        pendingFileDeletionRepository.deleteBySha256(sha256);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDeletionRequested(DeletionRequested event) {
+        wakeUp();
+    }
+
+    // 재시도 시각이 된 예약과 서버 재시작 등으로 남은 예약 처리
+    @Scheduled(initialDelayString = "${file.delete.poll-interval-ms:60000}", fixedDelayString = "${file.delete.poll-interval-ms:60000}")
+    public void pollPending() {
+        wakeUp();
+    }
+
+    @Override
+    public void destroy() {
+        worker.shutdownNow();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private void wakeUp() {
+        if (!drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            worker.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            drainScheduled.set(false); // 종료 중 (남은 예약은 다음 기동 후 처리)
+        }
+    }
+
+    // 처리할 예약이 남아 있는 동안 묶음 단위로 삭제
+    private void drain() {
+        // 처리 도중 들어온 예약은 다음 drain 에서 처리되도록 먼저 해제
+        drainScheduled.set(false);
+        try {
+            while (deleteBatch() == batchSize) {
+                // 묶음이 가득 찼으면 더 남아 있을 수 있음
+            }
+        } catch (RuntimeException e) {
+            log.error("물리 파일 삭제 처리 실패", e);
+        }
+    }
+
+    private int deleteBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingFileDeletion> due = transactionTemplate.execute(status -> {
+            List<PendingFileDeletion> rows = pendingFileDeletionRepository.findDue(now, PageRequest.of(0, batchSize));
+            if (!rows.isEmpty()) {
+                pendingFileDeletionRepository.postpone(rows.stream().map(PendingFileDeletion::getId).toList(), now.plus(lease));
+            }
+            return rows;
+        });
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        // 삭제하는 동안 예약 행을 잠가 둠 (다시 참조하려는 요청의 취소는 삭제가 끝난 뒤 진행되어 파일을 다시 저장)
+        List<Long> ids = due.stream().map(PendingFileDeletion::getId).toList();
+        Set<String> failedUrls = new HashSet<>();
+        int deletedCount = transactionTemplate.execute(status -> {
+            List<PendingFileDeletion> locked = pendingFileDeletionRepository.findAllByIdForUpdate(ids);
+            if (locked.isEmpty()) {
+                return 0; // 모두 취소됨
+            }
+
+            // 예약 이후 같은 파일을 다시 참조하게 된 경우는 삭제하지 않고 예약만 정리
+            List<String> lockedUrls = locked.stream().map(PendingFileDeletion::getFileUrl).distinct().toList();
+            Set<String> referenced = fileReferenceChecker.findReferenced(lockedUrls);
+            List<String> fileUrls = lockedUrls.stream().filter(fileUrl -> !referenced.contains(fileUrl)).toList();
+            if (!fileUrls.isEmpty()) {
+                failedUrls.addAll(fileStorageService.deletePhysicalFiles(fileUrls));
+            }
+
+            List<Long> finishedIds = new ArrayList<>();
+            for (PendingFileDeletion deletion : locked) {
+                if (!failedUrls.contains(deletion.getFileUrl())) {
+                    finishedIds.add(deletion.getId());
+                } else if (deletion.getAttempts() + 1 >= maxAttempts) {
+                    log.error("물리 파일 삭제 {}회 실패로 재시도 중단 (고아 파일 정리에서 처리): {}", maxAttempts, deletion.getFileUrl());
+                    finishedIds.add(deletion.getId());
+                } else {
+                    deletion.retryAt(LocalDateTime.now().plus(backoff(deletion.getAttempts())));
+                }
+            }
+            pendingFileDeletionRepository.deleteAllByIdInBatch(finishedIds);
+            return fileUrls.size();
+        });
+
+        if (!failedUrls.isEmpty()) {
+            log.warn("물리 파일 {}개 중 {}개 삭제 실패, 재시도 예정", deletedCount, failedUrls.size());
+        }
+        return due.size();
+    }
+
+    // 재시도 간격 (시도할 때마다 두 배, 최대 1시간)
+    private Duration backoff(int attempts) {
+        long millis = retryBackoffMillis << Math.min(attempts, 20);
+        return Duration.ofMillis(Math.min(millis, Duration.ofHours(1).toMillis()));
+    }
+}
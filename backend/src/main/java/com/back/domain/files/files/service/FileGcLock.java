@@ -0,0 +1,16 @@
+package com.back.domain.files.files.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 고아 파일 정리 실행 잠금 (여러 서버 중 한 곳에서만 실행)
+ */
+public interface FileGcLock {
+
+    // 잠금 획득 후 해제에 쓸 토큰 반환 (다른 서버가 실행 중이면 empty, ttl 이 지나면 자동 해제)
+    Optional<String> tryAcquire(Duration ttl);
+
+    // 획득한 토큰과 같을 때만 해제 (ttl 이 지나 다른 서버가 가져간 잠금은 건드리지 않음)
+    void release(String token);
+}
@@ -0,0 +1,38 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.repository.FileBlobRepository;
+import com.back.domain.files.files.repository.FilesRepository;
+import com.back.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 저장소 파일 URL 이 DB 에서 아직 참조되는지 확인 (고아 파일 정리, 삭제 예약 처리에서 공통 사용)
+ * - 참조 대상: 첨부파일 원본, 리사이즈 사본, 내용 주소 파일, 회원 프로필 이미지(작은 이미지 포함)
+ */
+@Component
+@RequiredArgsConstructor
+public class FileReferenceChecker {
+
+    private final FilesRepository filesRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final MemberRepository memberRepository;
+
+    // 주어진 URL 중 참조되는 URL
+    public Set<String> findReferenced(Collection<String> fileUrls) {
+        Set<String> referenced = new HashSet<>();
+        if (fileUrls.isEmpty()) {
+            return referenced;
+        }
+        referenced.addAll(filesRepository.findReferencedFileUrls(fileUrls));
+        referenced.addAll(filesRepository.findReferencedVariantUrls(fileUrls));
+        referenced.addAll(fileBlobRepository.findReferencedFileUrls(fileUrls));
+        referenced.addAll(memberRepository.findReferencedProfileUrls(fileUrls));
+        referenced.addAll(memberRepository.findReferencedProfileThumbnailUrls(fileUrls));
+        return referenced;
+    }
+}
@@ -1,10 +1,51 @@
 package com.back.domain.files.files.service;
 
 import org.springframework.core.io.Resource;
-import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface FileStorageService {
-    String storeFile(MultipartFile file, String subFolder);
     void deletePhysicalFile(String fileUrl);
+
+    // 여러 파일을 한 번에 삭제하고 삭제하지 못한 URL 반환 (이미 없는 파일은 삭제된 것으로 봄)
+    default List<String> deletePhysicalFiles(List<String> fileUrls) {
+        List<String> failedUrls = new ArrayList<>();
+        for (String fileUrl : fileUrls) {
+            try {
+                deletePhysicalFile(fileUrl);
+            } catch (RuntimeException e) {
+                failedUrls.add(fileUrl);
+            }
+        }
+        return failedUrls;
+    }
     Resource loadFileAsResource(String fileUrl);
-}
\ No newline at end of file
+
+    // 다운로드용 파일 정보 (Range / ETag / 조건부 요청 처리)
+    StoredFile loadStoredFile(String fileUrl);
+
+    // 내용 해시 이름(blobs/{해시 앞자리 디렉터리}/{해시}{확장자})으로 저장 후 URL 반환, 이미 있으면 다시 쓰지 않음
+    String storeBlob(Path source, String sha256, String extension, String contentType);
+
+    // 원본과 같은 폴더에 파생 파일 저장 ({원본 이름(확장자 제외)}_{variantName}) 후 URL 반환
+    String storeVariant(String sourceFileUrl, String variantName, String contentType, byte[] content);
+
+    // 지정한 이름({subFolder}/{fileName})으로 저장 후 URL 반환 (내용 해시 이름처럼 내용이 바뀌지 않는 파일용, 이미 있으면 다시 쓰지 않음)
+    String storeImmutable(String subFolder, String fileName, String contentType, byte[] content);
+
+    // 앱이 파일을 저장하는 최상위 경로 (첨부파일 post_{id}/, 내용 주소 파일 blobs/, 프로필 이미지 profile/)
+    List<String> STORED_PREFIXES = List.of("blobs/", "post_", "profile/");
+
+    // 앱이 저장한 파일(STORED_PREFIXES 아래)을 이름 순으로 하나씩 전달 (목록 전체를 메모리에 올리지 않음, 고아 파일 정리용)
+    void forEachStoredObject(Consumer<StoredObject> visitor);
+
+    // 클라이언트가 스토리지로 직접 업로드할 서명 URL 발급 (앱 서버를 거치지 않음)
+    SignedUpload createSignedUpload(String subFolder, String originalFileName, String contentType, Duration ttl);
+
+    // 클라이언트가 스토리지에서 직접 내려받을 서명 URL 발급
+    String createSignedDownloadUrl(String fileUrl, Duration ttl);
+}
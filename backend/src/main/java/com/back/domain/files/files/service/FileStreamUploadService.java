@@ -0,0 +1,221 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.dto.FileUploadResponseDto;
+import com.back.domain.files.files.entity.FileVariant;
+import com.back.domain.files.files.entity.Files;
+import com.back.domain.files.files.repository.FilesRepository;
+import com.back.domain.post.entity.Post;
+import com.back.domain.post.repository.PostRepository;
+import com.back.global.rq.Rq;
+import com.back.global.rsData.RsData;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tomcat.util.http.fileupload.FileItemIterator;
+import org.apache.tomcat.util.http.fileupload.FileItemStream;
+import org.apache.tomcat.util.http.fileupload.FileUploadException;
+import org.apache.tomcat.util.http.fileupload.servlet.ServletFileUpload;
+import org.apache.tomcat.util.http.fileupload.servlet.ServletRequestContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 파일 업로드
+ * - multipart 본문을 파트 단위로 읽으면서 바로 스테이징 파일로 기록 (컨테이너가 요청 전체를 임시 파일로 버퍼링하지 않음)
+ * - 파트 앞부분의 매직 바이트로 형식을 판별하고, 크기 제한은 읽는 도중에 확인
+ * - 스테이징 파일은 내용 주소 저장소로 옮기고(로컬은 같은 파일 시스템이면 하드 링크) 모든 파트가 끝나면 한 번에 등록
+ * - 본문을 읽는 동안 DB 커넥션을 잡지 않도록 권한 확인과 등록만 짧은 트랜잭션으로 처리
+ *
+ * 컨트롤러까지 본문이 읽히지 않은 채로 와야 하므로 이 경로는 MultipartConfig 에서 multipart 해석 대상에서 제외하고,
+ * 이 경로 앞의 필터에서 request.getParameter 를 호출하면 안 됨 (컨테이너가 multipart 를 먼저 파싱함)
+ */
+@Slf4j
+@Service
+public class FileStreamUploadService {
+
+    private static final String FILES_FIELD = "files";
+
+    private final FilesRepository filesRepository;
+    private final PostRepository postRepository;
+    private final FileBlobService fileBlobService;
+    private final FileUploadStaging staging;
+    private final ImageVariantService imageVariantService;
+    private final PostFilesCache postFilesCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Rq rq;
+
+    @Value("${file.upload.max-size:10485760}")
+    private long maxFileSize;
+
+    // 요청 하나의 최대 크기 / 파트 수
+    @Value("${file.upload.stream.max-request-size:104857600}")
+    private long maxRequestSize;
+
+    @Value("${file.upload.stream.max-parts:50}")
+    private long maxParts;
+
+    public FileStreamUploadService(
+            FilesRepository filesRepository,
+            PostRepository postRepository,
+            FileBlobService fileBlobService,
+            FileUploadStaging staging,
+            ImageVariantService imageVariantService,
+            PostFilesCache postFilesCache,
+            TransactionTemplate transactionTemplate,
+            Rq rq
+    ) {
+        this.filesRepository = filesRepository;
+        this.postRepository = postRepository;
+        this.fileBlobService = fileBlobService;
+        this.staging = staging;
+        this.imageVariantService = imageVariantService;
+        this.postFilesCache = postFilesCache;
+        this.transactionTemplate = transactionTemplate;
+        this.rq = rq;
+    }
+
+    // 스트리밍 업로드 서비스 (모든 파트를 저장한 뒤 등록된 파일 목록 반환)
+    public RsData<List<FileUploadResponseDto>> upload(Long postId, HttpServletRequest request) {
+        checkPostOwner(postId);
+        if (!ServletFileUpload.isMultipartContent(request)) {
+            throw new IllegalArgumentException("multipart/form-data 요청만 업로드할 수 있습니다.");
+        }
+
+        List<StoredPart> storedParts = new ArrayList<>();
+        Path batchDir = null;
+        try {
+            batchDir = staging.createBatchDir();
+            FileItemIterator parts = newUpload().getItemIterator(new ServletRequestContext(request));
+            int partCount = 0;
+            while (parts.hasNext()) {
+                FileItemStream part = parts.next();
+                // 파트 수 제한은 한 번에 파싱할 때만 적용되므로 스트리밍으로 읽을 때는 직접 셈
+                if (++partCount > maxParts) {
+                    throw new IllegalArgumentException("파트 수가 너무 많습니다. 최대 " + maxParts + "개까지 보낼 수 있습니다.");
+                }
+                String fileName = fileNameOf(part);
+                // 다른 필드나 파일명이 없는 파트는 읽지 않고 건너뜀 (다음 파트로 넘어갈 때 버려짐)
+                if (part.isFormField() || !FILES_FIELD.equals(part.getFieldName()) || fileName == null) {
+                    continue;
+                }
+
+                StagedFile file;
+                try (InputStream in = part.openStream()) {
+                    file = staging.spool(batchDir, storedParts.size(), fileName, part.getContentType(), in, maxFileSize);
+                }
+                storedParts.add(store(file));
+            }
+
+            List<Files> saved = transactionTemplate.execute(status -> register(postId, storedParts));
+            return new RsData<>(
+                    "200",
+                    "파일 업로드 성공",
+                    saved.stream().map(FileUploadResponseDto::from).toList()
+            );
+        } catch (FileUploadException e) {
+            releaseQuietly(storedParts);
+            throw new IllegalArgumentException("업로드 요청을 처리할 수 없습니다: " + e.getMessage(), e);
+        } catch (IOException e) {
+            releaseQuietly(storedParts);
+            // 요청 크기/파트 수 초과는 읽는 도중 IOException 으로 감싸져 전달됨
+            if (e.getCause() instanceof FileUploadException cause) {
+                throw new IllegalArgumentException("업로드 요청을 처리할 수 없습니다: " + cause.getMessage(), e);
+            }
+            throw new RuntimeException("업로드 파일 저장 실패: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            releaseQuietly(storedParts);
+            throw e;
+        } finally {
+            if (batchDir != null) {
+                staging.discard(batchDir);
+            }
+        }
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private void checkPostOwner(Long postId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = postRepository.findById(postId)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다: " + postId));
+
+            Long currentMemberId = rq.getMemberId();
+            if (currentMemberId == null || !currentMemberId.equals(post.getMember().getId())) {
+                throw new IllegalArgumentException("게시글 작성자만 파일을 업로드할 수 있습니다.");
+            }
+        });
+    }
+
+    private ServletFileUpload newUpload() {
+        ServletFileUpload upload = new ServletFileUpload();
+        upload.setSizeMax(maxRequestSize);
+        upload.setHeaderEncoding(StandardCharsets.UTF_8.name()); // 한글 파일명
+        return upload;
+    }
+
+    // 경로가 포함된 파일명(구형 브라우저)은 마지막 이름만 사용, 없으면 null
+    private String fileNameOf(FileItemStream part) {
+        String name = part.getName();
+        if (name == null) {
+            return null;
+        }
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1).trim();
+        return name.isEmpty() ? null : name;
+    }
+
+    // 내용 주소로 저장하고, 처음 저장된 이미지면 스테이징 사본으로 리사이즈
+    private StoredPart store(StagedFile file) {
+        FileBlobService.BlobReference blob = fileBlobService.store(file.path(), file.sha256(), file.originalFilename(), file.contentType(), file.size());
+
+        List<FileVariant> variants = blob.reused() ? fileBlobService.findVariants(blob.fileUrl()).orElse(null) : null;
+        if (variants == null) {
+            variants = imageVariantService.createVariants(file.path(), file.contentType(), blob.fileUrl());
+        }
+        return new StoredPart(file, blob.fileUrl(), variants);
+    }
+
+    private List<Files> register(Long postId, List<StoredPart> storedParts) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalStateException("업로드 중 게시글이 삭제되었습니다: " + postId));
+
+        int sortOrder = filesRepository.findMaxSortOrderByPostId(postId) + 1;
+        List<Files> files = new ArrayList<>();
+        for (StoredPart part : storedParts) {
+            files.add(
+                    Files.builder()
+                            .post(post)
+                            .fileName(part.file().originalFilename())
+                            .fileType(part.file().contentType())
+                            .fileSize(part.file().size())
+                            .fileUrl(part.fileUrl())
+                            .sortOrder(sortOrder++)
+                            .variants(new ArrayList<>(part.variants()))
+                            .build()
+            );
+        }
+        List<Files> saved = filesRepository.saveAll(files);
+        postFilesCache.evict(postId);
+        return saved;
+    }
+
+    // 등록하지 못한 파일의 참조 해제
+    private void releaseQuietly(List<StoredPart> storedParts) {
+        for (StoredPart part : storedParts) {
+            try {
+                fileBlobService.release(part.fileUrl(), part.variants());
+            } catch (RuntimeException e) {
+                log.error("물리 파일 삭제 중 오류 발생: " + part.fileUrl(), e);
+            }
+        }
+    }
+
+    private record StoredPart(StagedFile file, String fileUrl, List<FileVariant> variants) {
+    }
+}
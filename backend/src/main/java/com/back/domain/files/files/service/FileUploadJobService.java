@@ -0,0 +1,455 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.entity.FileUploadJob;
+import com.back.domain.files.files.entity.FileUploadJobStatus;
+import com.back.domain.files.files.entity.FileVariant;
+import com.back.domain.files.files.entity.Files;
+import com.back.domain.files.files.repository.FileUploadJobRepository;
+import com.back.domain.files.files.repository.FilesRepository;
+import com.back.domain.post.entity.Post;
+import com.back.domain.post.repository.PostRepository;
+import com.back.global.exception.ServiceException;
+import com.back.global.rsData.ResultCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 파일 업로드 작업 처리
+ * - 요청 스레드: 파트를 스테이징 영역에 옮기고 PENDING 작업을 저장한 뒤 즉시 응답
+ * - 커밋 이후: 고정 크기 스레드 풀에서 파일들을 병렬로 내용 주소 저장 (실패 시 재시도, 작업당 동시 저장 수 제한), 이미지는 리사이즈 사본도 생성
+ * - 모든 파일이 끝나면 요청 순서대로 Files 를 saveAll 로 한 번에 저장하고 작업 상태를 STORED / FAILED 로 변경 (실패 사유는 모아서 기록)
+ * - 작업이 중단되면(서버 종료 등) 이미 저장한 파일의 참조를 해제하고 실패 처리
+ * - 처리 중인 작업은 주기적으로 생존 시각을 갱신하고, 생존 시각이 오래된 작업만 다른 서버가 중단된 것으로 판단해 실패 처리
+ * - 실패 처리된 작업은 늦게 끝나도 상태를 덮어쓰지 않고 저장한 파일의 참조를 해제
+ * - 처리 대기 중인 파일 수가 상한을 넘으면 새 작업을 429 로 거절 (대기열 무한 증가 방지)
+ */
+@Slf4j
+@Service
+public class FileUploadJobService implements DisposableBean {
+
+    private final FileUploadJobRepository fileUploadJobRepository;
+    private final FilesRepository filesRepository;
+    private final PostRepository postRepository;
+    private final FileBlobService fileBlobService;
+    private final FileUploadStaging staging;
+    private final ImageVariantService imageVariantService;
+    private final PostFilesCache postFilesCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore pendingFiles;
+    // 작업 하나가 동시에 저장하는 최대 파일 수
+    private final int maxConcurrencyPerJob;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    // 생존 시각이 이 시간 넘게 갱신되지 않은 PENDING 작업은 중단된 것으로 판단 (정리 주기보다 길어야 함)
+    private final Duration staleAfter;
+    // 이 서버에서 처리 중인 작업 id
+    private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+
+    public FileUploadJobService(
+            FileUploadJobRepository fileUploadJobRepository,
+            FilesRepository filesRepository,
+            PostRepository postRepository,
+            FileBlobService fileBlobService,
+            FileUploadStaging staging,
+            ImageVariantService imageVariantService,
+            PostFilesCache postFilesCache,
+            TransactionTemplate transactionTemplate,
+            @Value("${file.upload.job.threads:4}") int threads,
+            @Value("${file.upload.job.max-pending-files:200}") int maxPendingFiles,
+            @Value("${file.upload.job.max-concurrency-per-job:2}") int maxConcurrencyPerJob,
+            @Value("${file.upload.job.max-attempts:3}") int maxAttempts,
+            @Value("${file.upload.job.retry-backoff-ms:200}") long retryBackoffMillis,
+            @Value("${file.upload.job.stale-after-minutes:30}") long staleAfterMinutes
+    ) {
+        this.fileUploadJobRepository = fileUploadJobRepository;
+        this.filesRepository = filesRepository;
+        this.postRepository = postRepository;
+        this.fileBlobService = fileBlobService;
+        this.staging = staging;
+        this.imageVariantService = imageVariantService;
+        this.postFilesCache = postFilesCache;
+        this.transactionTemplate = transactionTemplate;
+
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), // 대기 파일 수는 pendingFiles 로 제한
+                new UploadThreadFactory()
+        );
+        this.pendingFiles = new Semaphore(Math.max(1, maxPendingFiles));
+        this.maxConcurrencyPerJob = Math.max(1, maxConcurrencyPerJob);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.staleAfter = Duration.ofMinutes(staleAfterMinutes);
+    }
+
+    // 업로드 작업 접수 (호출 측 트랜잭션이 커밋된 뒤 처리 시작)
+    public FileUploadJob submit(Post post, MultipartFile[] files) {
+        int partCount = (files != null) ? files.length : 0;
+        if (partCount > 0 && !pendingFiles.tryAcquire(partCount)) {
+            log.warn("파일 업로드 대기열 포화로 요청 거절 - postId: {}, files: {}", post.getId(), partCount);
+            throw new ServiceException(ResultCode.TOO_MANY_REQUESTS.code(), ResultCode.TOO_MANY_REQUESTS.message());
+        }
+
+        List<StagedFile> stagedFiles;
+        try {
+            stagedFiles = staging.stage(files);
+        } catch (RuntimeException e) {
+            pendingFiles.release(partCount);
+            throw e;
+        }
+        // 빈 파트는 스테이징에서 제외되므로 실제 처리할 파일 수만 남김
+        pendingFiles.release(partCount - stagedFiles.size());
+
+        FileUploadJob job = FileUploadJob.builder()
+                .postId(post.getId())
+                .totalCount(stagedFiles.size())
+                .build();
+        if (stagedFiles.isEmpty()) {
+            job.markStored(0);
+            return fileUploadJobRepository.save(job);
+        }
+        fileUploadJobRepository.save(job);
+
+        Long jobId = job.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 작업 저장이 커밋되기 전에 워커가 작업을 조회하지 않도록 커밋 이후에 시작
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        dispatch(jobId, stagedFiles);
+                    } else {
+                        staging.discard(stagedFiles);
+                        pendingFiles.release(stagedFiles.size());
+                    }
+                }
+            });
+        } else {
+            dispatch(jobId, stagedFiles);
+        }
+        return job;
+    }
+
+    // 서버 재시작 등으로 처리가 끊긴 작업은 실패 처리하고 남은 스테이징 파일 정리
+    // 여러 서버가 같은 DB 를 쓰므로 기동 시 일괄 처리하지 않고, 각 서버가 자기 작업의 생존 시각을 갱신한 뒤 오래된 작업만 처리
+    @Scheduled(initialDelayString = "${file.upload.job.sweep-interval-ms:600000}", fixedDelayString = "${file.upload.job.sweep-interval-ms:600000}")
+    public void expireStaleJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(staleAfter);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!activeJobs.isEmpty()) {
+                fileUploadJobRepository.updateHeartbeat(Set.copyOf(activeJobs), FileUploadJobStatus.PENDING, now);
+            }
+            List<FileUploadJob> staleJobs = fileUploadJobRepository.findStale(FileUploadJobStatus.PENDING, cutoff).stream()
+                    .filter(job -> !activeJobs.contains(job.getId()))
+                    .toList();
+            staleJobs.forEach(job -> job.markFailed(0, job.getTotalCount(), "업로드 처리가 중단되었습니다. 다시 업로드해 주세요."));
+            if (!staleJobs.isEmpty()) {
+                log.warn("중단된 파일 업로드 작업 {}건을 실패 처리했습니다.", staleJobs.size());
+            }
+        });
+        staging.discardOlderThan(staleAfter);
+    }
+
+    // ================= 지표 조회 =================
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private void dispatch(Long jobId, List<StagedFile> stagedFiles) {
+        activeJobs.add(jobId);
+        new UploadBatch(jobId, stagedFiles).start();
+    }
+
+    // 파일 하나를 저장 (일시적인 스토리지 오류에 대비해 재시도)
+    private StoreResult storeWithRetry(StagedFile file) {
+        RuntimeException lastError = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            FileBlobService.BlobReference blob;
+            try {
+                blob = fileBlobService.store(file.path(), file.sha256(), file.originalFilename(), file.contentType(), file.size());
+            } catch (IllegalArgumentException e) {
+                // 크기/형식 검증 실패는 재시도해도 같음
+                return StoreResult.failed(file, e.getMessage());
+            } catch (RuntimeException e) {
+                lastError = e;
+                log.warn("파일 저장 실패 ({}/{}) - {}", attempt, maxAttempts, file.originalFilename(), e);
+                if (attempt < maxAttempts && !sleepBeforeRetry(attempt)) {
+                    break;
+                }
+                continue;
+            }
+
+            // 이미 있던 내용이면 먼저 등록된 사본을 재사용하고, 없으면 스테이징 사본으로 리사이즈 (스토리지에서 다시 읽지 않음)
+            List<FileVariant> variants = blob.reused() ? fileBlobService.findVariants(blob.fileUrl()).orElse(null) : null;
+            if (variants == null) {
+                variants = imageVariantService.createVariants(file.path(), file.contentType(), blob.fileUrl());
+            }
+            return StoreResult.stored(file, blob.fileUrl(), variants);
+        }
+        return StoreResult.failed(file, lastError != null ? lastError.getMessage() : "알 수 없는 오류");
+    }
+
+    private boolean sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMillis * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 저장된 파일을 한 번에 등록하고 작업 상태 변경 (results 는 요청 내 순서)
+    private void complete(Long jobId, List<StoreResult> results) {
+        List<StoreResult> stored = results.stream()
+                .filter(StoreResult::isStored)
+                .toList();
+        List<StoreResult> failed = results.stream()
+                .filter(result -> !result.isStored())
+                .toList();
+
+        try {
+            Boolean registered = transactionTemplate.execute(status -> {
+                FileUploadJob job = fileUploadJobRepository.findById(jobId)
+                        .orElseThrow(() -> new IllegalStateException("업로드 작업이 존재하지 않습니다: " + jobId));
+                if (!job.isPending()) {
+                    return false; // 중단된 작업으로 판단되어 이미 실패 처리됨
+                }
+                Post post = postRepository.findById(job.getPostId())
+                        .orElseThrow(() -> new IllegalStateException("업로드 중 게시글이 삭제되었습니다: " + job.getPostId()));
+
+                int sortOrder = filesRepository.findMaxSortOrderByPostId(post.getId()) + 1;
+                List<Files> files = new ArrayList<>();
+                for (StoreResult result : stored) {
+                    files.add(
+                            Files.builder()
+                                    .post(post)
+                                    .fileName(result.file().originalFilename())
+                                    .fileType(result.file().contentType())
+                                    .fileSize(result.file().size())
+                                    .fileUrl(result.fileUrl())
+                                    .sortOrder(sortOrder++)
+                                    .variants(new ArrayList<>(result.variants()))
+                                    .build()
+                    );
+                }
+                filesRepository.saveAll(files);
+                postFilesCache.evict(post.getId());
+
+                if (failed.isEmpty()) {
+                    job.markStored(stored.size());
+                } else {
+                    job.markFailed(stored.size(), failed.size(), describe(failed, results.size()));
+                }
+                return true;
+            });
+            if (!Boolean.TRUE.equals(registered)) {
+                stored.forEach(result -> releaseQuietly(result.fileUrl(), result.variants()));
+                log.warn("이미 실패 처리된 파일 업로드 작업 - jobId: {}, 저장한 파일 {}개 참조 해제", jobId, stored.size());
+                return;
+            }
+            log.info("파일 업로드 작업 완료 - jobId: {}, stored: {}, failed: {}", jobId, stored.size(), failed.size());
+        } catch (RuntimeException e) {
+            // 메타데이터를 남기지 못했으므로 저장된 파일도 정리
+            stored.forEach(result -> releaseQuietly(result.fileUrl(), result.variants()));
+            markFailed(jobId, results.size(), e.getMessage());
+            throw e;
+        }
+    }
+
+    // 중단된 작업은 일부만 등록하지 않고, 이미 저장한 파일의 참조를 해제한 뒤 실패 처리
+    private void abort(Long jobId, List<StoreResult> results, String reason) {
+        results.stream()
+                .filter(StoreResult::isStored)
+                .forEach(result -> releaseQuietly(result.fileUrl(), result.variants()));
+        markFailed(jobId, results.size(), reason);
+        log.warn("파일 업로드 작업 중단 - jobId: {}, reason: {}", jobId, reason);
+    }
+
+    private void markFailed(Long jobId, int totalCount, String message) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    fileUploadJobRepository.findById(jobId)
+                            .filter(FileUploadJob::isPending)
+                            .ifPresent(job -> job.markFailed(0, totalCount, message)));
+        } catch (RuntimeException e) {
+            log.error("파일 업로드 작업 실패 상태 기록 실패 - jobId: {}", jobId, e);
+        }
+    }
+
+    private void releaseQuietly(String fileUrl, List<FileVariant> variants) {
+        try {
+            fileBlobService.release(fileUrl, variants);
+        } catch (RuntimeException e) {
+            log.error("물리 파일 삭제 중 오류 발생: " + fileUrl, e);
+        }
+    }
+
+    // 실패한 파일을 요청 내 순서대로 모아 한 번에 보고
+    private String describe(List<StoreResult> failed, int totalCount) {
+        StringBuilder message = new StringBuilder()
+                .append("파일 ").append(totalCount).append("개 중 ").append(failed.size()).append("개 저장 실패");
+        for (StoreResult result : failed) {
+            message.append('\n')
+                    .append(result.file().index() + 1).append(". ")
+                    .append(result.file().originalFilename()).append(": ").append(result.error());
+        }
+        return message.toString();
+    }
+
+    private record StoreResult(StagedFile file, String fileUrl, List<FileVariant> variants, String error) {
+        static StoreResult stored(StagedFile file, String fileUrl, List<FileVariant> variants) {
+            return new StoreResult(file, fileUrl, variants, null);
+        }
+
+        static StoreResult failed(StagedFile file, String error) {
+            return new StoreResult(file, null, List.of(), error);
+        }
+
+        boolean isStored() {
+            return fileUrl != null;
+        }
+    }
+
+    /**
+     * 작업 하나의 파일 저장 진행 상태
+     * - 동시에 저장하는 파일 수를 작업마다 maxConcurrencyPerJob 개로 제한 (파일이 많은 작업이 스레드 풀을 독차지하지 않도록)
+     * - 파일 하나가 끝나면 다음 파일을 풀 대기열 끝에 넣어 다른 작업과 번갈아 처리
+     * - 결과는 요청 내 순서(index) 자리에 기록하므로 완료 순서와 관계없이 sortOrder 가 결정적
+     * - 마지막 파일을 처리한 스레드가 결과를 기록 (대기하는 스레드 없음)
+     */
+    private class UploadBatch {
+        private final Long jobId;
+        private final List<StagedFile> stagedFiles;
+        private final Queue<StagedFile> remaining;
+        private final StoreResult[] results;
+        private final AtomicInteger unfinished;
+        // null 이 아니면 중단됨 (남은 파일은 저장하지 않음)
+        private volatile String abortReason;
+
+        UploadBatch(Long jobId, List<StagedFile> stagedFiles) {
+            this.jobId = jobId;
+            this.stagedFiles = stagedFiles;
+            this.remaining = new ConcurrentLinkedQueue<>(stagedFiles);
+            this.results = new StoreResult[stagedFiles.size()];
+            this.unfinished = new AtomicInteger(stagedFiles.size());
+        }
+
+        void start() {
+            int lanes = Math.min(maxConcurrencyPerJob, stagedFiles.size());
+            for (int i = 0; i < lanes; i++) {
+                scheduleNext();
+            }
+        }
+
+        private void scheduleNext() {
+            StagedFile file = remaining.poll();
+            if (file == null) {
+                return;
+            }
+
+            if (abortReason == null) {
+                try {
+                    executor.execute(() -> run(file));
+                    return;
+                } catch (RejectedExecutionException e) {
+                    abortReason = "서버가 종료 중이어서 업로드가 중단되었습니다. 다시 업로드해 주세요.";
+                }
+            }
+
+            // 중단되면 남은 파일은 저장하지 않고 실패로 기록
+            record(file, StoreResult.failed(file, abortReason));
+            StagedFile skipped;
+            while ((skipped = remaining.poll()) != null) {
+                record(skipped, StoreResult.failed(skipped, abortReason));
+            }
+        }
+
+        private void run(StagedFile file) {
+            StoreResult result;
+            try {
+                result = (abortReason != null) ? StoreResult.failed(file, abortReason) : storeWithRetry(file);
+            } catch (RuntimeException e) {
+                log.error("파일 저장 중 오류 발생 - jobId: {}, file: {}", jobId, file.originalFilename(), e);
+                result = StoreResult.failed(file, e.getMessage());
+            }
+            record(file, result);
+            scheduleNext();
+        }
+
+        private void record(StagedFile file, StoreResult result) {
+            results[file.index()] = result;
+            if (unfinished.decrementAndGet() == 0) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            List<StoreResult> ordered = List.of(results);
+            try {
+                if (abortReason != null) {
+                    abort(jobId, ordered, abortReason);
+                } else {
+                    complete(jobId, ordered);
+                }
+            } catch (RuntimeException e) {
+                log.error("파일 업로드 작업 결과 기록 실패 - jobId: {}", jobId, e);
+            } finally {
+                activeJobs.remove(jobId);
+                staging.discard(stagedFiles);
+                pendingFiles.release(stagedFiles.size());
+            }
+        }
+    }
+
+    private static class UploadThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "file-upload-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
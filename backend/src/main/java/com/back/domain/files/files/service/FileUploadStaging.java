@@ -0,0 +1,194 @@
+package com.back.domain.files.files.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 스테이징 영역
+ * - 요청 스레드에서 multipart 파트를 로컬 디스크로 옮겨 두고(SHA-256 계산, 매직 바이트로 형식 판별), 업로드 작업이 끝나면 삭제
+ * - 작업마다 별도 디렉터리를 사용하고, 사용 중인 디렉터리는 오래되어도 정리하지 않음
+ */
+@Slf4j
+@Component
+public class FileUploadStaging {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path stagingRoot;
+    // 만든 뒤 아직 삭제하지 않은 배치 디렉터리 (작업/요청이 사용 중)
+    private final Set<Path> activeBatchDirs = ConcurrentHashMap.newKeySet();
+
+    public FileUploadStaging(@Value("${file.upload.staging-dir:${java.io.tmpdir}/upload-staging}") String stagingDir) {
+        this.stagingRoot = Paths.get(stagingDir).toAbsolutePath().normalize();
+    }
+
+    // 비어 있거나 파일명이 없는 파트는 제외하고 스테이징
+    public List<StagedFile> stage(MultipartFile[] files) {
+        List<StagedFile> stagedFiles = new ArrayList<>();
+        if (files == null) {
+            return stagedFiles;
+        }
+
+        Path batchDir = stagingRoot.resolve(UUID.randomUUID().toString());
+        activeBatchDirs.add(batchDir);
+        try {
+            Files.createDirectories(batchDir);
+            for (MultipartFile file : files) {
+                if (file.isEmpty()) {
+                    continue;
+                }
+
+                String fileName = file.getOriginalFilename();
+                if (fileName == null || fileName.trim().isEmpty()) {
+                    continue;
+                }
+
+                int index = stagedFiles.size();
+                Path target = batchDir.resolve(index + ".part");
+                // 컨테이너 임시 파일과 같은 파일 시스템이면 이동만 하고, 해시/형식 판별은 한 번 읽어서 처리
+                file.transferTo(target.toFile());
+                stagedFiles.add(inspect(index, target, fileName, file.getContentType()));
+            }
+        } catch (IOException e) {
+            discard(batchDir);
+            throw new RuntimeException("업로드 파일 임시 저장 실패: " + e.getMessage(), e);
+        }
+
+        if (stagedFiles.isEmpty()) {
+            discard(batchDir);
+        }
+        return stagedFiles;
+    }
+
+    // 새 배치 디렉터리 (스트리밍 업로드처럼 파트를 하나씩 받는 경우)
+    public Path createBatchDir() throws IOException {
+        Path batchDir = stagingRoot.resolve(UUID.randomUUID().toString());
+        activeBatchDirs.add(batchDir);
+        try {
+            return Files.createDirectories(batchDir);
+        } catch (IOException e) {
+            activeBatchDirs.remove(batchDir);
+            throw e;
+        }
+    }
+
+    /**
+     * 요청 본문에서 읽는 파트를 그대로 스테이징 파일로 기록
+     * - 앞부분을 먼저 읽어 형식을 판별하고, 허용되지 않으면 나머지를 쓰지 않고 거절
+     * - 쓰는 동안 크기 제한과 SHA-256 계산을 함께 처리
+     */
+    public StagedFile spool(Path batchDir, int index, String fileName, String declaredType, InputStream in, long maxSize) throws IOException {
+        byte[] head = new byte[FileContentSniffer.SAMPLE_LENGTH];
+        int headLength = in.readNBytes(head, 0, head.length);
+        if (headLength == 0) {
+            throw new IllegalArgumentException("빈 파일은 업로드할 수 없습니다: " + fileName);
+        }
+        String contentType = FileContentSniffer.detect(head, headLength, declaredType);
+        if (contentType == null) {
+            throw new IllegalArgumentException("허용되지 않는 파일 형식입니다: " + fileName);
+        }
+
+        Path target = batchDir.resolve(index + ".part");
+        MessageDigest digest = FileChecksums.newSha256();
+        long size = 0;
+        try (OutputStream out = Files.newOutputStream(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            byte[] buffer = head;
+            int read = headLength;
+            while (read != -1) {
+                size += read;
+                if (size > maxSize) {
+                    throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 " + (maxSize / (1024 * 1024)) + "MB까지 업로드 가능합니다: " + fileName);
+                }
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+
+                if (buffer == head) {
+                    buffer = new byte[BUFFER_SIZE];
+                }
+                read = in.read(buffer);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+
+        return new StagedFile(index, target, fileName, contentType, size, FileChecksums.toHex(digest));
+    }
+
+    // 작업이 끝난 스테이징 파일 삭제
+    public void discard(List<StagedFile> stagedFiles) {
+        if (stagedFiles.isEmpty()) {
+            return;
+        }
+        discard(stagedFiles.get(0).path().getParent());
+    }
+
+    // 서버 재시작 등으로 남은 오래된 스테이징 파일 삭제 (이 서버에서 사용 중인 디렉터리는 제외)
+    public void discardOlderThan(Duration age) {
+        if (!Files.isDirectory(stagingRoot)) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(age);
+        try (Stream<Path> batchDirs = Files.list(stagingRoot)) {
+            batchDirs.filter(dir -> !activeBatchDirs.contains(dir) && isOlderThan(dir, cutoff)).forEach(this::discard);
+        } catch (IOException e) {
+            log.warn("업로드 스테이징 영역 정리 실패: {}", stagingRoot, e);
+        }
+    }
+
+    // 배치 디렉터리 삭제
+    public void discard(Path batchDir) {
+        try {
+            FileSystemUtils.deleteRecursively(batchDir);
+        } catch (IOException e) {
+            log.warn("업로드 스테이징 파일 삭제 실패: {}", batchDir, e);
+        } finally {
+            activeBatchDirs.remove(batchDir);
+        }
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    // 스테이징한 파일을 한 번 읽으면서 SHA-256 계산과 형식 판별 (허용되지 않는 형식이면 contentType 이 null)
+    private StagedFile inspect(int index, Path path, String fileName, String declaredType) throws IOException {
+        MessageDigest digest = FileChecksums.newSha256();
+        byte[] head = new byte[FileContentSniffer.SAMPLE_LENGTH];
+        int headLength;
+        try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+            headLength = in.readNBytes(head, 0, head.length);
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        String contentType = FileContentSniffer.detect(head, headLength, declaredType);
+        return new StagedFile(index, path, fileName, contentType, Files.size(path), FileChecksums.toHex(digest));
+    }
+
+    private boolean isOlderThan(Path dir, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(dir).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -1,24 +1,48 @@
 // FilesService.java
 package com.back.domain.files.files.service;
 
+import com.back.domain.files.files.dto.FileAttachByHashRequestDto;
+import com.back.domain.files.files.dto.FileDownloadUrlResponseDto;
+import com.back.domain.files.files.dto.FileUploadJobResponseDto;
 import com.back.domain.files.files.dto.FileUploadResponseDto;
+import com.back.domain.files.files.dto.SignedUploadCompleteRequestDto;
+import com.back.domain.files.files.dto.SignedUploadRequestDto;
+import com.back.domain.files.files.dto.SignedUploadResponseDto;
+import com.back.domain.files.files.entity.FileUploadJob;
+import com.back.domain.files.files.entity.FileVariant;
 import com.back.domain.files.files.entity.Files;
+import com.back.domain.files.files.repository.FileUploadJobRepository;
 import com.back.domain.files.files.repository.FilesRepository;
 import com.back.domain.post.entity.Post;
 import com.back.domain.post.repository.PostRepository;
+import com.back.global.exception.ServiceException;
 import com.back.global.rq.Rq;
+import com.back.global.rsData.ResultCode;
 import com.back.global.rsData.RsData;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async; // 새롭게 추가된 import
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -29,81 +53,148 @@ public class FilesService {
     private final FilesRepository filesRepository;
     private final FileStorageService fileStorageService;
     private final PostRepository postRepository;
+    private final FileUploadJobRepository fileUploadJobRepository;
+    private final FileUploadJobService fileUploadJobService;
+    private final FileBlobService fileBlobService;
+    private final PostFilesCache postFilesCache;
+    private final FileDeletionService fileDeletionService;
+    private final TransactionTemplate transactionTemplate;
     private final Rq rq;
 
-    // 파일 업로드 서비스 (동기 호출)
-    public RsData<String> uploadFiles(Long postId, MultipartFile[] files) { // 반환 타입을 RsData<String>으로 변경
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다: " + postId));
+    // 서명 URL 로 업로드된 객체 이름 (로컬 저장소의 하위 디렉터리 + UUID + 확장자)
+    private static final Pattern SIGNED_OBJECT_NAME = Pattern.compile(
+            "^([0-9a-f]{2}/){0,4}[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(\\.[A-Za-z0-9]+)?$");
 
-        if (rq.getMember() == null || !rq.getMember().getId().equals(post.getMember().getId())) {
-            throw new IllegalArgumentException("게시글 작성자만 파일을 업로드할 수 있습니다.");
-        }
+    @Value("${file.upload.max-size:10485760}")
+    private long maxFileSize;
+
+    // 파일 목록 일괄 조회 시 한 번에 요청할 수 있는 게시글 수
+    @Value("${file.list.batch-max-posts:50}")
+    private int batchMaxPosts;
+
+    // 서명 URL 유효 시간 (초)
+    @Value("${file.signed-url.ttl-seconds:600}")
+    private long signedUrlTtlSeconds;
 
-        // 비동기 파일 업로드 메서드 호출
-        uploadFilesAsync(post, files);
+    // 파일 업로드 서비스 (파일을 스테이징한 뒤 업로드 작업으로 접수하고 즉시 응답)
+    public RsData<FileUploadJobResponseDto> uploadFiles(Long postId, MultipartFile[] files) {
+        Post post = findPostOwnedByCurrentMember(postId);
+
+        FileUploadJob job = fileUploadJobService.submit(post, files);
 
-        // 파일 처리 시작을 알리는 즉각적인 응답
         return new RsData<>(
                 "200",
-                "파일 업로드가 시작되었습니다. 완료 시 별도의 알림은 전송되지 않습니다.",
-                "Upload initiated"
+                "파일 업로드가 접수되었습니다. 업로드 작업 조회로 진행 상태를 확인할 수 있습니다.",
+                FileUploadJobResponseDto.from(job)
+        );
+    }
+
+    // 업로드 작업 상태 조회 서비스
+    @Transactional(readOnly = true)
+    public RsData<FileUploadJobResponseDto> getUploadJob(Long postId, Long jobId) {
+        findPostOwnedByCurrentMember(postId);
+
+        FileUploadJob job = fileUploadJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("업로드 작업이 존재하지 않습니다: " + jobId));
+        if (!job.getPostId().equals(postId)) {
+            throw new IllegalArgumentException("해당 게시글의 업로드 작업이 아닙니다: " + jobId);
+        }
+
+        return new RsData<>("200", "업로드 작업 조회 성공", FileUploadJobResponseDto.from(job));
+    }
+
+    // 이미 저장된 내용(SHA-256)으로 첨부 서비스 (바이트 업로드 없이 즉시 등록)
+    public RsData<FileUploadResponseDto> attachByHash(Long postId, FileAttachByHashRequestDto request) {
+        Post post = findPostOwnedByCurrentMember(postId);
+
+        FileBlobService.BlobReference blob = fileBlobService.retainExisting(request.sha256())
+                .orElseThrow(() -> new IllegalArgumentException("등록되지 않은 파일 내용입니다. 파일을 업로드해 주세요."));
+        List<FileVariant> variants = fileBlobService.findVariants(blob.fileUrl()).orElseGet(List::of);
+
+        Files saved = filesRepository.save(
+                Files.builder()
+                        .post(post)
+                        .fileName(request.fileName())
+                        .fileType(blob.contentType())
+                        .fileSize(blob.size())
+                        .fileUrl(blob.fileUrl())
+                        .sortOrder(filesRepository.findMaxSortOrderByPostId(postId) + 1)
+                        .variants(new ArrayList<>(variants))
+                        .build()
         );
+        postFilesCache.evict(postId);
+
+        return new RsData<>("200", "파일 등록 성공", FileUploadResponseDto.from(saved));
     }
 
-    @Async // 비동기적으로 실행되도록 설정
-    @Transactional
-    public void uploadFilesAsync(Post post, MultipartFile[] files) {
-        List<FileUploadResponseDto> responseList = new ArrayList<>();
-        int sortOrder = 1;
-
-        if (files != null) {
-            for (MultipartFile file : files) {
-                if (file.isEmpty()) {
-                    continue;
-                }
-
-                String fileName = file.getOriginalFilename();
-                if (fileName == null || fileName.trim().isEmpty()) {
-                    continue;
-                }
-
-                String fileType = file.getContentType();
-                long fileSize = file.getSize();
-
-                String fileUrl = null;
-                try {
-                    // 파일을 스토리지에 저장하고 URL을 받아옴
-                    fileUrl = fileStorageService.storeFile(file, "post_" + post.getId());
-                } catch (RuntimeException e) {
-                    log.error("파일 저장 실패, 건너뜀: " + fileName, e);
-                    continue;
-                }
-
-                // 파일 메타데이터를 데이터베이스에 저장
-                filesRepository.save(
-                        Files.builder()
-                                .post(post)
-                                .fileName(fileName)
-                                .fileType(fileType)
-                                .fileSize(fileSize)
-                                .fileUrl(fileUrl)
-                                .sortOrder(sortOrder++)
-                                .build()
-                );
+    // 서명 URL 업로드 발급 서비스 (클라이언트가 스토리지로 직접 업로드, 앱 서버는 바이트를 중계하지 않음)
+    public RsData<List<SignedUploadResponseDto>> createSignedUploads(Long postId, SignedUploadRequestDto request) {
+        Post post = findPostOwnedByCurrentMember(postId);
+        Duration ttl = Duration.ofSeconds(signedUrlTtlSeconds);
+
+        List<SignedUploadResponseDto> result = new ArrayList<>();
+        for (SignedUploadRequestDto.FileInfo fileInfo : request.files()) {
+            if (fileInfo.fileSize() > maxFileSize) {
+                throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 " + (maxFileSize / (1024 * 1024)) + "MB까지 업로드 가능합니다: " + fileInfo.fileName());
             }
+
+            SignedUpload signedUpload = fileStorageService.createSignedUpload(
+                    "post_" + post.getId(), fileInfo.fileName(), fileInfo.contentType(), ttl);
+            result.add(SignedUploadResponseDto.of(fileInfo.fileName(), signedUpload));
         }
-        log.info("게시글 ID {}에 대한 파일 업로드가 비동기적으로 완료되었습니다.", post.getId());
+
+        return new RsData<>("200", "업로드 URL 발급 성공", result);
     }
 
+    // 서명 URL 업로드 완료 서비스 (스토리지에 실제로 올라간 객체만 메타데이터로 기록)
+    // 스토리지 조회/내용 확인은 트랜잭션 밖에서 하고, 등록만 짧은 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RsData<List<FileUploadResponseDto>> completeSignedUploads(Long postId, SignedUploadCompleteRequestDto request) {
+        findPostOwnedByCurrentMember(postId);
 
-    // 게시글 ID로 파일 조회 서비스
-    public RsData<List<FileUploadResponseDto>> getFilesByPostId(Long postId) {
-        List<Files> files = filesRepository.findByPostIdOrderBySortOrderAsc(postId);
+        for (SignedUploadCompleteRequestDto.UploadedFile uploaded : request.files()) {
+            String fileUrl = uploaded.fileUrl();
+            if (!isSignedUploadUrlOf(postId, fileUrl)) {
+                throw new IllegalArgumentException("해당 게시글에 발급된 업로드 URL이 아닙니다: " + fileUrl);
+            }
+            if (filesRepository.existsByFileUrl(fileUrl)) {
+                throw new IllegalArgumentException("이미 등록된 파일입니다: " + fileUrl);
+            }
+        }
 
-        List<FileUploadResponseDto> result = files.stream()
-                .map(FileUploadResponseDto::from)
-                .toList();
+        // 클라이언트가 보낸 값 대신 스토리지에 기록된 크기와 실제 내용(매직 바이트)으로 판별한 형식을 사용
+        List<VerifiedUpload> verifiedUploads = new ArrayList<>();
+        for (SignedUploadCompleteRequestDto.UploadedFile uploaded : request.files()) {
+            verifiedUploads.add(verifySignedUpload(uploaded));
+        }
+
+        List<FileUploadResponseDto> result = transactionTemplate.execute(status -> registerSignedUploads(postId, verifiedUploads));
+        postFilesCache.evict(postId);
+
+        return new RsData<>("200", "파일 업로드 완료", result);
+    }
+
+    // 서명 다운로드 URL 발급 서비스 (클라이언트가 스토리지에서 직접 다운로드)
+    @Transactional(readOnly = true)
+    public RsData<FileDownloadUrlResponseDto> createDownloadUrl(Long postId, Long fileId) {
+        Files file = filesRepository.findById(fileId)
+                .orElseThrow(() -> new IllegalArgumentException("파일이 존재하지 않습니다: " + fileId));
+
+        if (!file.getPost().getId().equals(postId)) {
+            throw new IllegalArgumentException("해당 게시글에 속하지 않는 파일입니다: " + fileId);
+        }
+
+        Duration ttl = Duration.ofSeconds(signedUrlTtlSeconds);
+        String downloadUrl = fileStorageService.createSignedDownloadUrl(file.getFileUrl(), ttl);
+
+        return new RsData<>("200", "다운로드 URL 발급 성공",
+                new FileDownloadUrlResponseDto(fileId, downloadUrl, Instant.now().plus(ttl)));
+    }
+
+    // 게시글 ID로 파일 조회 서비스 (게시글별 파일 목록 캐시 사용)
+    @Transactional(readOnly = true)
+    public RsData<List<FileUploadResponseDto>> getFilesByPostId(Long postId) {
+        List<FileUploadResponseDto> result = postFilesCache.get(postId);
 
         return new RsData<>(
                 "200",
@@ -112,6 +203,20 @@ public class FilesService {
         );
     }
 
+    // 여러 게시글의 파일 일괄 조회 서비스 (캐시에 없는 게시글만 IN 쿼리 한 번으로 조회)
+    @Transactional(readOnly = true)
+    public RsData<Map<Long, List<FileUploadResponseDto>>> getFilesByPostIds(List<Long> postIds) {
+        Set<Long> distinctPostIds = new LinkedHashSet<>(postIds);
+        if (distinctPostIds.isEmpty()) {
+            throw new IllegalArgumentException("조회할 게시글 ID를 입력해 주세요.");
+        }
+        if (distinctPostIds.size() > batchMaxPosts) {
+            throw new IllegalArgumentException("한 번에 최대 " + batchMaxPosts + "개 게시글의 파일만 조회할 수 있습니다.");
+        }
+
+        return new RsData<>("200", "파일 목록 조회 성공", postFilesCache.getAll(distinctPostIds));
+    }
+
     // 파일 개별 삭제 서비스
     public RsData<Void> deleteFile(Long postId, Long fileId) {
 
@@ -131,9 +236,10 @@ public class FilesService {
             throw new IllegalArgumentException("해당 파일을 삭제할 권한이 없습니다. 현재 사용자 ID: " + currentMemberId);
         }
 
-        deletePhysicalFileSafely(file.getFileUrl());
+        releaseFileSafely(file);
 
         filesRepository.deleteById(fileId);
+        postFilesCache.evict(postId);
         return new RsData("200", "파일 삭제 성공", null);
     }
 
@@ -169,20 +275,126 @@ public class FilesService {
         Files file = filesRepository.findById(fileId)
                 .orElseThrow(() -> new IllegalArgumentException("파일이 존재하지 않습니다. " + fileId));
 
-        deletePhysicalFileSafely(file.getFileUrl());
+        releaseFileSafely(file);
 
         filesRepository.deleteById(fileId);
+        postFilesCache.evict(file.getPost().getId());
         return new RsData<>("200", "파일 삭제 성공 (관리자)", null);
     }
 
 
     // ==============헬퍼 메서드 영역 ==============
-    private void deletePhysicalFileSafely(String fileUrl) {
+    private Post findPostOwnedByCurrentMember(Long postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다: " + postId));
+
+        Long currentMemberId = rq.getMemberId();
+        if (currentMemberId == null || !currentMemberId.equals(post.getMember().getId())) {
+            throw new IllegalArgumentException("게시글 작성자만 파일을 업로드할 수 있습니다.");
+        }
+        return post;
+    }
+
+    // 완료 요청의 URL 이 이 게시글 폴더에 발급된 객체인지 확인 (다른 게시글/회원 파일 등록 방지)
+    private boolean isSignedUploadUrlOf(Long postId, String fileUrl) {
+        String folder = "/post_" + postId + "/";
+        int folderIndex = fileUrl.lastIndexOf(folder);
+        if (folderIndex < 0 || fileUrl.contains("..")) {
+            return false;
+        }
+        return SIGNED_OBJECT_NAME.matcher(fileUrl.substring(folderIndex + folder.length())).matches();
+    }
+
+    // 같은 내용을 참조하는 다른 첨부파일이 없을 때만 물리 파일과 사본 삭제 예약 (커밋 이후 백그라운드에서 삭제)
+    private void releaseFileSafely(Files file) {
         try {
-            fileStorageService.deletePhysicalFile(fileUrl);
+            fileBlobService.release(file.getFileUrl(), file.getVariants());
         } catch (Exception e) {
-            log.error("물리 파일 삭제 중 오류 발생: " + fileUrl, e);
+            log.error("파일 참조 해제 중 오류 발생: " + file.getFileUrl(), e);
             throw new RuntimeException("파일 삭제 중 오류가 발생했습니다. 다시 시도해주세요.");
         }
     }
+
+    // 내용 확인을 마친 서명 URL 업로드
+    private record VerifiedUpload(String fileUrl, String fileName, String fileType, long fileSize) {
+    }
+
+    // 스토리지에 올라간 객체의 크기와 형식 확인 (허용되지 않으면 삭제 예약 후 거절)
+    private VerifiedUpload verifySignedUpload(SignedUploadCompleteRequestDto.UploadedFile uploaded) {
+        String fileUrl = uploaded.fileUrl();
+        StoredFile storedFile;
+        try {
+            storedFile = fileStorageService.loadStoredFile(fileUrl);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("업로드가 완료되지 않은 파일입니다: " + fileUrl);
+        }
+        if (storedFile.size() > maxFileSize) {
+            rejectSignedUpload(fileUrl);
+            throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 " + (maxFileSize / (1024 * 1024)) + "MB까지 업로드 가능합니다: " + uploaded.fileName());
+        }
+
+        // 다운로드 시 응답할 형식(저장소에 기록된 Content-Type, 없으면 파일명으로 추정)과 실제 내용이 같아야 함
+        // (text/html 처럼 허용 목록 밖의 형식으로 응답되는 파일 등록 방지)
+        String servedType = (storedFile.contentType() != null)
+                ? storedFile.contentType()
+                : MediaTypeFactory.getMediaType(storedFile.fileName()).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+        String fileType = sniffContentType(storedFile, servedType);
+        if (fileType == null || !isSameMediaType(servedType, fileType)) {
+            rejectSignedUpload(fileUrl);
+            throw new IllegalArgumentException("허용되지 않는 파일 형식입니다: " + uploaded.fileName());
+        }
+
+        return new VerifiedUpload(fileUrl, uploaded.fileName(), fileType, storedFile.size());
+    }
+
+    // 앞부분만 읽어 판별 (GCS 는 해당 구간만 요청)
+    private String sniffContentType(StoredFile storedFile, String declaredType) {
+        ByteArrayOutputStream head = new ByteArrayOutputStream(FileContentSniffer.SAMPLE_LENGTH);
+        try {
+            storedFile.transferTo(0, Math.min(storedFile.size(), FileContentSniffer.SAMPLE_LENGTH), head);
+        } catch (IOException e) {
+            throw new ServiceException(ResultCode.FILE_UPLOAD_FAIL.code(), "업로드된 파일을 확인하지 못했습니다.");
+        }
+        return FileContentSniffer.detect(head.toByteArray(), head.size(), declaredType);
+    }
+
+    private boolean isSameMediaType(String servedType, String fileType) {
+        try {
+            return MediaType.parseMediaType(servedType).equalsTypeAndSubtype(MediaType.parseMediaType(fileType));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    // 거절한 업로드 객체 삭제 예약 (커밋 이후 백그라운드에서 삭제)
+    private void rejectSignedUpload(String fileUrl) {
+        transactionTemplate.executeWithoutResult(status -> fileDeletionService.enqueue(List.of(fileUrl)));
+    }
+
+    private List<FileUploadResponseDto> registerSignedUploads(Long postId, List<VerifiedUpload> verifiedUploads) {
+        Post post = postRepository.getReferenceById(postId);
+        int sortOrder = filesRepository.findMaxSortOrderByPostId(postId) + 1;
+
+        List<Files> uploadedFiles = new ArrayList<>();
+        for (VerifiedUpload upload : verifiedUploads) {
+            // 확인하는 동안 같은 완료 요청이 먼저 등록했을 수 있음
+            if (filesRepository.existsByFileUrl(upload.fileUrl())) {
+                throw new IllegalArgumentException("이미 등록된 파일입니다: " + upload.fileUrl());
+            }
+            uploadedFiles.add(
+                    Files.builder()
+                            .post(post)
+                            .fileName(upload.fileName())
+                            .fileType(upload.fileType())
+                            .fileSize(upload.fileSize())
+                            .fileUrl(upload.fileUrl())
+                            .sortOrder(sortOrder++)
+                            .build()
+            );
+        }
+
+        return filesRepository.saveAll(uploadedFiles).stream()
+                .map(FileUploadResponseDto::from)
+                .toList();
+    }
 }
\ No newline at end of file
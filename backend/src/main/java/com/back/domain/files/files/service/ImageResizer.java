@@ -0,0 +1,191 @@
+package com.back.domain.files.files.service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 이미지 리사이즈 유틸 (JDK ImageIO / Java2D 만 사용)
+ * - 원본보다 작은 너비만 생성 (확대하지 않음), 비율 유지
+ * - 큰 원본은 서브샘플링으로 필요한 해상도만 디코딩하고, 큰 사본부터 만들어 다음 사본의 입력으로 재사용
+ * - 한 번에 절반씩 줄여 계단 현상을 줄이고, 결과는 JPEG 로 인코딩 (투명 영역은 흰색 배경)
+ * - 프로필 이미지는 가운데를 정사각형으로 잘라 그 영역만 디코딩
+ */
+public final class ImageResizer {
+
+    private ImageResizer() {
+    }
+
+    public record ResizedImage(int width, int height, byte[] content) {
+    }
+
+    // ImageIO 가 읽을 수 없는 형식이면 빈 목록, 픽셀 수가 maxPixels 를 넘으면 예외
+    public static List<ResizedImage> resize(Path source, List<Integer> widths, long maxPixels, float jpegQuality) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return List.of();
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return List.of();
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                // 디코딩 전에 크기 확인 (작은 파일로 거대한 이미지를 만드는 압축 폭탄 방지)
+                if ((long) sourceWidth * sourceHeight > maxPixels) {
+                    throw new IOException("이미지 해상도가 너무 큽니다: " + sourceWidth + "x" + sourceHeight);
+                }
+
+                List<Integer> targetWidths = widths.stream()
+                        .filter(width -> width > 0 && width < sourceWidth)
+                        .distinct()
+                        .sorted(Comparator.reverseOrder())
+                        .toList();
+                if (targetWidths.isEmpty()) {
+                    return List.of();
+                }
+
+                // 가장 큰 사본의 2배 이상 해상도만 남도록 서브샘플링
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, sourceWidth / (targetWidths.get(0) * 2));
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                BufferedImage current = toRgb(reader.read(0, param));
+
+                List<ResizedImage> result = new ArrayList<>();
+                for (int width : targetWidths) {
+                    int height = Math.max(1, (int) Math.round((double) sourceHeight * width / sourceWidth));
+                    current = scaleDown(current, width, height);
+                    result.add(new ResizedImage(width, height, encodeJpeg(current, jpegQuality)));
+                }
+                Collections.reverse(result);
+                return result;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 가운데 정사각형으로 잘라 각 한 변 길이로 축소 (원본보다 큰 크기는 원본 크기로 맞춤, 읽을 수 없는 형식이면 빈 목록)
+    public static List<ResizedImage> cropSquare(Path source, List<Integer> sizes, long maxPixels, float jpegQuality) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return List.of();
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return List.of();
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxPixels) {
+                    throw new IOException("이미지 해상도가 너무 큽니다: " + sourceWidth + "x" + sourceHeight);
+                }
+
+                int side = Math.min(sourceWidth, sourceHeight);
+                List<Integer> targetSizes = sizes.stream()
+                        .filter(size -> size > 0)
+                        .map(size -> Math.min(size, side))
+                        .distinct()
+                        .sorted(Comparator.reverseOrder())
+                        .toList();
+                if (targetSizes.isEmpty()) {
+                    return List.of();
+                }
+
+                // 잘라낼 영역만, 가장 큰 결과의 2배 이상 해상도로 디코딩
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceRegion(new Rectangle((sourceWidth - side) / 2, (sourceHeight - side) / 2, side, side));
+                int subsampling = Math.max(1, side / (targetSizes.get(0) * 2));
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                BufferedImage current = toRgb(reader.read(0, param));
+
+                List<ResizedImage> result = new ArrayList<>();
+                for (int size : targetSizes) {
+                    current = scaleDown(current, size, size);
+                    result.add(new ResizedImage(size, size, encodeJpeg(current, jpegQuality)));
+                }
+                Collections.reverse(result);
+                return result;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private static BufferedImage scaleDown(BufferedImage image, int width, int height) {
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= width && current.getHeight() / 2 >= height) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return (current.getWidth() == width && current.getHeight() == height) ? current : draw(current, width, height);
+    }
+
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        return draw(image, image.getWidth(), image.getHeight());
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,159 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.entity.FileVariant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 첨부파일의 리사이즈 사본 생성
+ * - 디코딩/리사이즈(CPU 집약 작업)는 고정 크기 스레드 풀에서만 실행
+ * - 사본 생성은 부가 기능이므로 대기열 포화, 시간 초과, 읽을 수 없는 이미지는 사본 없이 진행 (목록은 원본 사용)
+ * - WebP 인코더는 JDK 에 없으므로 사본은 JPEG 로 저장
+ * - 프로필 이미지의 정사각형 축소본도 같은 풀에서 생성
+ */
+@Slf4j
+@Service
+public class ImageVariantService implements DisposableBean {
+
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+    // ImageIO 기본 리더가 지원하는 형식
+    private static final Set<String> SUPPORTED_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/bmp");
+
+    private final FileStorageService fileStorageService;
+    private final ThreadPoolExecutor executor;
+    private final List<Integer> widths;
+    private final long maxPixels;
+    private final float jpegQuality;
+    private final long timeoutMillis;
+
+    public ImageVariantService(
+            FileStorageService fileStorageService,
+            @Value("${file.image.variant-widths:240,480,960}") List<Integer> widths,
+            @Value("${file.image.threads:0}") int threads,
+            @Value("${file.image.max-queue-depth:32}") int maxQueueDepth,
+            @Value("${file.image.timeout-ms:30000}") long timeoutMillis,
+            @Value("${file.image.max-pixels:50000000}") long maxPixels,
+            @Value("${file.image.jpeg-quality:0.82}") float jpegQuality
+    ) {
+        this.fileStorageService = fileStorageService;
+        // 0 이하이면 CPU 코어 수만큼 사용
+        int poolSize = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxQueueDepth)),
+                new ImageThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.widths = List.copyOf(widths);
+        this.maxPixels = maxPixels;
+        this.jpegQuality = jpegQuality;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // 리사이즈할 수 있는 이미지 형식인지
+    public static boolean isResizable(String contentType) {
+        return contentType != null && SUPPORTED_TYPES.contains(contentType);
+    }
+
+    // 원본(로컬 사본)으로 사본을 만들어 원본 옆에 저장하고 기록할 사본 목록 반환
+    public List<FileVariant> createVariants(Path source, String contentType, String sourceFileUrl) {
+        if (!isResizable(contentType)) {
+            return List.of();
+        }
+
+        List<ImageResizer.ResizedImage> resizedImages = resize(source, sourceFileUrl);
+
+        List<FileVariant> variants = new ArrayList<>();
+        for (ImageResizer.ResizedImage image : resizedImages) {
+            try {
+                String variantUrl = fileStorageService.storeVariant(
+                        sourceFileUrl, "w" + image.width() + ".jpg", VARIANT_CONTENT_TYPE, image.content());
+                variants.add(new FileVariant(image.width(), image.height(), variantUrl, VARIANT_CONTENT_TYPE, image.content().length));
+            } catch (RuntimeException e) {
+                log.warn("이미지 사본 저장 실패, 건너뜀 - {} (w{})", sourceFileUrl, image.width(), e);
+            }
+        }
+        return variants;
+    }
+
+    // 정사각형으로 잘라 줄인 이미지 (프로필 이미지용, 사본 생성과 같은 스레드 풀 사용), 처리할 수 없으면 빈 목록
+    public List<ImageResizer.ResizedImage> createSquareImages(Path source, String contentType, List<Integer> sizes) {
+        if (!isResizable(contentType)) {
+            return List.of();
+        }
+        return runOnPool(() -> ImageResizer.cropSquare(source, sizes, maxPixels, jpegQuality), source.toString());
+    }
+
+    // ================= 지표 조회 =================
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private List<ImageResizer.ResizedImage> resize(Path source, String sourceFileUrl) {
+        return runOnPool(() -> ImageResizer.resize(source, widths, maxPixels, jpegQuality), sourceFileUrl);
+    }
+
+    private List<ImageResizer.ResizedImage> runOnPool(Callable<List<ImageResizer.ResizedImage>> task, String sourceName) {
+        Future<List<ImageResizer.ResizedImage>> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 처리 대기열 포화로 건너뜀 - {}", sourceName);
+            return List.of();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("이미지 처리 시간 초과 - {}", sourceName);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("이미지 처리 실패 - {}", sourceName, e.getCause());
+        }
+        return List.of();
+    }
+
+    private static class ImageThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
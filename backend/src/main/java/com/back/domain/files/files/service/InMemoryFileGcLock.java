@@ -0,0 +1,36 @@
+package com.back.domain.files.files.service;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 메모리 기반 고아 파일 정리 잠금 (테스트 프로필용, 단일 JVM)
+ */
+@Component
+@Profile("test")
+public class InMemoryFileGcLock implements FileGcLock {
+
+    private String token;
+    private long expiresAt;
+
+    @Override
+    public synchronized Optional<String> tryAcquire(Duration ttl) {
+        if (token != null && expiresAt > System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+        token = UUID.randomUUID().toString();
+        expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        return Optional.of(token);
+    }
+
+    @Override
+    public synchronized void release(String token) {
+        if (token.equals(this.token)) {
+            this.token = null;
+        }
+    }
+}
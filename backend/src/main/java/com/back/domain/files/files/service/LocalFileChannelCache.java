@@ -0,0 +1,179 @@
+package com.back.domain.files.files.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로컬 파일 읽기 채널 LRU 캐시
+ * - 자주 읽는 파일은 FileChannel 을 열어 둔 채 재사용 (요청마다 open/close 하지 않음, 위치 지정 읽기라 여러 스레드가 공유 가능)
+ * - 작은 파일은 한 번 메모리 매핑해 두고 필요한 구간만 잘라서 전송 (read 시스템 콜 없이 페이지 캐시에서 바로 복사)
+ * - 사용 중(lease)인 채널은 밀려나도 반납될 때 닫음
+ * - 파일이 삭제/교체되면 invalidate 해야 하고, 크기가 달라진 경우에도 다시 엶
+ */
+public class LocalFileChannelCache {
+
+    private final int maxSize;
+    // 이 크기 이하 파일만 메모리 매핑 (0 이면 사용 안 함)
+    private final long mmapMaxSize;
+
+    // 접근 순서 LinkedHashMap (this 로 동기화)
+    private final LinkedHashMap<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    public LocalFileChannelCache(int maxSize, long mmapMaxSize) {
+        this.maxSize = Math.max(1, maxSize);
+        this.mmapMaxSize = Math.max(0, mmapMaxSize);
+    }
+
+    // 파일 채널 빌려오기 (반드시 close 로 반납)
+    public Lease acquire(Path path, long expectedSize) throws IOException {
+        synchronized (this) {
+            Entry entry = entries.get(path);
+            if (entry != null && entry.size == expectedSize) {
+                entry.refs++;
+                return new Lease(entry);
+            }
+            if (entry != null) {
+                evict(path); // 크기가 바뀐 파일 (교체됨)
+            }
+        }
+
+        // 여는 동안 다른 요청을 막지 않도록 잠금 밖에서 열기
+        Entry opened = open(path);
+        synchronized (this) {
+            Entry existing = entries.get(path);
+            if (existing != null && existing.size == opened.size) {
+                // 다른 요청이 먼저 열어 둠
+                existing.refs++;
+                opened.closeQuietly();
+                return new Lease(existing);
+            }
+            if (existing != null) {
+                evict(path);
+            }
+
+            opened.refs++;
+            entries.put(path, opened);
+            evictOverflow();
+            return new Lease(opened);
+        }
+    }
+
+    // 파일 삭제/교체 시 호출
+    public synchronized void invalidate(Path path) {
+        evict(path);
+    }
+
+    public synchronized void closeAll() {
+        for (Path path : entries.keySet().toArray(Path[]::new)) {
+            evict(path);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private Entry open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            MappedByteBuffer mapped = (size > 0 && size <= mmapMaxSize)
+                    ? channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                    : null;
+            return new Entry(channel, size, mapped);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void evict(Path path) {
+        Entry entry = entries.remove(path);
+        if (entry != null) {
+            entry.evicted = true;
+            if (entry.refs == 0) {
+                entry.closeQuietly();
+            }
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Path, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            Entry entry = eldest.next().getValue();
+            eldest.remove();
+            entry.evicted = true;
+            if (entry.refs == 0) {
+                entry.closeQuietly();
+            }
+        }
+    }
+
+    private synchronized void release(Entry entry) {
+        entry.refs--;
+        if (entry.evicted && entry.refs == 0) {
+            entry.closeQuietly();
+        }
+    }
+
+    private static class Entry {
+        private final FileChannel channel;
+        private final long size;
+        private final MappedByteBuffer mapped;
+        // 아래 두 필드는 캐시(this) 잠금 안에서만 변경
+        private int refs;
+        private boolean evicted;
+
+        private Entry(FileChannel channel, long size, MappedByteBuffer mapped) {
+            this.channel = channel;
+            this.size = size;
+            this.mapped = mapped;
+        }
+
+        private void closeQuietly() {
+            try {
+                channel.close(); // 매핑은 채널과 관계없이 GC 될 때 해제됨
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    // 빌려온 채널 (여러 스레드가 같은 채널을 쓰므로 위치를 바꾸는 read(ByteBuffer) 대신 위치 지정 메서드만 사용)
+    public class Lease implements AutoCloseable {
+        private final Entry entry;
+        private boolean closed;
+
+        private Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        public FileChannel channel() {
+            return entry.channel;
+        }
+
+        // 메모리 매핑한 내용의 position 부터 count 바이트 (매핑하지 않은 파일이면 null)
+        public ByteBuffer mapped(long position, long count) {
+            if (entry.mapped == null) {
+                return null;
+            }
+            return entry.mapped.slice(Math.toIntExact(position), Math.toIntExact(count));
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(entry);
+            }
+        }
+    }
+}
@@ -1,57 +1,107 @@
 package com.back.domain.files.files.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
+/**
+ * 로컬 디스크 저장소
+ * - 파일 이름(UUID/해시) 앞자리로 하위 디렉터리를 나눠 저장 (post_1/3f/2b/{UUID}.pdf), 한 디렉터리에 파일이 몰리지 않도록 함
+ * - 모든 쓰기는 같은 디렉터리의 임시 파일에 쓴 뒤 원자적으로 이름 변경, fsync 정책에 따라 파일/디렉터리 동기화
+ * - 읽기는 열린 FileChannel LRU 를 재사용하고, 작은 파일은 메모리 매핑한 내용을 전송
+ * 나누기 전 경로로 저장된 파일도 URL 그대로 읽고 지울 수 있음
+ */
 @Slf4j
 @Service
 @Profile("dev")
-public class LocalFileStorageService implements FileStorageService {
+public class LocalFileStorageService implements FileStorageService, DisposableBean {
+
+    // 내용 주소 저장 파일 이름 ({SHA-256}{확장자})
+    private static final Pattern CONTENT_ADDRESSED_NAME = Pattern.compile("^([0-9a-f]{64})(\\.[a-z0-9]+)?$");
 
     @Value("${file.upload-dir}")
     private String uploadDir;
 
+    // 서명 URL 생성/검증 (GCS 서명 URL 과 같은 흐름을 로컬에서 제공)
+    private final LocalUrlSigner urlSigner;
+
     @Value(("${file.upload.max-size:10485760}"))
     private long maxFileSize;
 
-    @Override
-    public String storeFile(MultipartFile file, String subFolder) {
-        if (file.getSize() > maxFileSize) {
-            throw new RuntimeException("파일 크기가 너무 큽니다. 최대 " + (maxFileSize / (1024 * 1024)) + "MB까지 업로드 가능합니다.");
-        }
+    // ETag 용 체크섬 캐시 최대 개수
+    @Value("${file.download.checksum-cache-size:10000}")
+    private int checksumCacheSize;
 
-        String contentType = file.getContentType();
-        if (contentType == null || !isAllowedFileType(contentType)) {
-            throw new RuntimeException("허용되지 않는 파일 형식입니다.");
+    // 저장 시 계산한 체크섬 (크기/수정 시각이 바뀌면 다시 계산, 가득 차면 가장 오래 쓰지 않은 항목부터 제거)
+    private final Map<Path, CachedChecksum> checksums = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, CachedChecksum> eldest) {
+            return size() > checksumCacheSize;
         }
+    });
 
-        try {
-            Path uploadPath = Paths.get(uploadDir, subFolder).toAbsolutePath().normalize();
-            Files.createDirectories(uploadPath);
+    // 하위 디렉터리 깊이 (한 단계에 이름 앞 2자리, 0 이면 나누지 않음)
+    private final int shardDepth;
+    private final FsyncPolicy fsyncPolicy;
+    private final LocalFileChannelCache channelCache;
 
-            String originalFilename = file.getOriginalFilename();
-            String fileExtension = getExtension(originalFilename);
-            String uniqueFileName = UUID.randomUUID().toString() + fileExtension; // 고유한 파일명 생성
-            Path targetLocation = uploadPath.resolve(uniqueFileName);
+    public LocalFileStorageService(
+            LocalUrlSigner urlSigner,
+            @Value("${file.local.shard-depth:2}") int shardDepth,
+            @Value("${file.local.fsync:none}") String fsyncPolicy,
+            @Value("${file.local.open-channel-cache-size:64}") int openChannelCacheSize,
+            @Value("${file.local.mmap-max-size:1048576}") long mmapMaxSize
+    ) {
+        this.urlSigner = urlSigner;
+        this.shardDepth = Math.max(0, Math.min(shardDepth, 4));
+        this.fsyncPolicy = FsyncPolicy.from(fsyncPolicy);
+        this.channelCache = new LocalFileChannelCache(openChannelCacheSize, mmapMaxSize);
+    }
 
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+    // 쓰기 후 디스크 동기화 수준
+    public enum FsyncPolicy {
+        NONE,       // OS 에 맡김 (가장 빠름, 전원 장애 시 최근 파일이 비어 있을 수 있음)
+        FILE,       // 이름 변경 전에 파일 내용 fsync
+        DIRECTORY;  // 파일 내용 + 이름 변경 후 디렉터리 fsync (새 파일 항목까지 영속화)
 
-            return "/files/" + subFolder + "/" + uniqueFileName; // 로컬 접근 URL 반환
-        } catch (IOException e) {
-            throw new RuntimeException("로컬 파일 시스템에 파일 저장 실패: " + e.getMessage(), e);
+        static FsyncPolicy from(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
         }
     }
 
@@ -62,10 +112,11 @@ public class LocalFileStorageService implements FileStorageService {
         }
 
         try {
-            String relativePath = fileUrl.substring("/files/".length());
-            Path filePath = Paths.get(uploadDir, relativePath).toAbsolutePath().normalize();
+            Path filePath = resolvePath(fileUrl);
             if (Files.exists(filePath)) {
                 Files.delete(filePath);
+                checksums.remove(filePath);
+                channelCache.invalidate(filePath);
             } else {
                 throw new RuntimeException("로컬 파일 시스템에서 파일을 찾을 수 없어 삭제 실패: " + fileUrl);
             }
@@ -74,11 +125,27 @@ public class LocalFileStorageService implements FileStorageService {
         }
     }
 
+    @Override
+    public List<String> deletePhysicalFiles(List<String> fileUrls) {
+        List<String> failedUrls = new ArrayList<>();
+        for (String fileUrl : fileUrls) {
+            try {
+                Path filePath = resolvePath(fileUrl);
+                Files.deleteIfExists(filePath);
+                checksums.remove(filePath);
+                channelCache.invalidate(filePath);
+            } catch (IOException | RuntimeException e) {
+                log.warn("로컬 파일 삭제 실패: {}", fileUrl, e);
+                failedUrls.add(fileUrl);
+            }
+        }
+        return failedUrls;
+    }
+
     @Override
     public Resource loadFileAsResource(String fileUrl) {
         try {
-            String relativePath = fileUrl.substring("/files/".length());
-            Path filePath = Paths.get(uploadDir, relativePath).toAbsolutePath().normalize();
+            Path filePath = resolvePath(fileUrl);
             Resource resource = new UrlResource(filePath.toUri());
             if (resource.exists() && resource.isReadable()) {
                 return resource;
@@ -90,6 +157,326 @@ public class LocalFileStorageService implements FileStorageService {
         }
     }
 
+    @Override
+    public StoredFile loadStoredFile(String fileUrl) {
+        Path filePath = resolvePath(fileUrl);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                throw new RuntimeException("파일을 찾을 수 없거나 읽을 수 없습니다: " + fileUrl);
+            }
+            Instant lastModified = attributes.lastModifiedTime().toInstant();
+            String checksum = checksumOf(filePath, attributes.size(), lastModified);
+            return new LocalStoredFile(filePath, attributes.size(), lastModified, checksum, channelCache);
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 찾을 수 없거나 읽을 수 없습니다: " + fileUrl, e);
+        }
+    }
+
+    @Override
+    public String storeBlob(Path source, String sha256, String extension, String contentType) {
+        String relativePath = "blobs/" + shardPrefix(sha256) + sha256 + extension;
+        Path targetLocation = resolvePath("/files/" + relativePath);
+
+        try {
+            if (!Files.exists(targetLocation)) {
+                Files.createDirectories(targetLocation.getParent());
+                // 스테이징 파일과 같은 파일 시스템이면 하드 링크로 복사 없이 등록 (원본은 리사이즈 등에 계속 사용)
+                if (fsyncPolicy != FsyncPolicy.NONE) {
+                    forceFile(source); // 링크는 같은 내용을 가리키므로 원본을 동기화
+                }
+                if (linkBlob(source, targetLocation)) {
+                    if (fsyncPolicy == FsyncPolicy.DIRECTORY) {
+                        forceDirectory(targetLocation.getParent());
+                    }
+                } else {
+                    writeAtomically(targetLocation, ".blob-", true, out -> Files.copy(source, out));
+                }
+            } else {
+                // 고아 파일 정리가 참조가 끊긴 파일로 보고 지우지 않도록 수정 시각 갱신 (유예 기간 안으로)
+                Files.setLastModifiedTime(targetLocation, FileTime.from(Instant.now()));
+            }
+            rememberChecksum(targetLocation, sha256);
+        } catch (IOException e) {
+            throw new RuntimeException("로컬 파일 시스템에 파일 저장 실패: " + e.getMessage(), e);
+        }
+
+        return "/files/" + relativePath;
+    }
+
+    @Override
+    public String storeVariant(String sourceFileUrl, String variantName, String contentType, byte[] content) {
+        Path sourcePath = resolvePath(sourceFileUrl);
+        String variantFileName = variantFileName(sourcePath.getFileName().toString(), variantName);
+        Path targetLocation = sourcePath.resolveSibling(variantFileName);
+
+        try {
+            // 임시 파일에 쓴 뒤 이동하여 다운로드 중인 요청이 덜 쓰인 파일을 보지 않도록 함
+            writeAtomically(targetLocation, ".variant-", true, out -> out.write(content));
+            channelCache.invalidate(targetLocation);
+
+            MessageDigest digest = FileChecksums.newSha256();
+            digest.update(content);
+            rememberChecksum(targetLocation, FileChecksums.toHex(digest));
+        } catch (IOException e) {
+            throw new RuntimeException("로컬 파일 시스템에 파일 저장 실패: " + e.getMessage(), e);
+        }
+
+        return sourceFileUrl.substring(0, sourceFileUrl.lastIndexOf('/') + 1) + variantFileName;
+    }
+
+    @Override
+    public String storeImmutable(String subFolder, String fileName, String contentType, byte[] content) {
+        String fileUrl = "/files/" + subFolder + "/" + fileName;
+        Path targetLocation = resolvePath(fileUrl);
+
+        try {
+            if (!Files.exists(targetLocation)) {
+                // 같은 이름은 내용도 같으므로 동시에 써도 어느 쪽이 남든 같음
+                writeAtomically(targetLocation, ".immutable-", true, out -> out.write(content));
+            } else {
+                // 고아 파일 정리가 참조가 끊긴 파일로 보고 지우지 않도록 수정 시각 갱신 (유예 기간 안으로)
+                Files.setLastModifiedTime(targetLocation, FileTime.from(Instant.now()));
+            }
+
+            MessageDigest digest = FileChecksums.newSha256();
+            digest.update(content);
+            rememberChecksum(targetLocation, FileChecksums.toHex(digest));
+        } catch (IOException e) {
+            throw new RuntimeException("로컬 파일 시스템에 파일 저장 실패: " + e.getMessage(), e);
+        }
+
+        return fileUrl;
+    }
+
+    @Override
+    public void forEachStoredObject(Consumer<StoredObject> visitor) {
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+
+        try {
+            visitSorted(root, root, visitor);
+        } catch (IOException e) {
+            throw new RuntimeException("로컬 파일 목록 조회 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public SignedUpload createSignedUpload(String subFolder, String originalFileName, String contentType, Duration ttl) {
+        if (contentType == null || !isAllowedFileType(contentType)) {
+            throw new RuntimeException("허용되지 않는 파일 형식입니다.");
+        }
+
+        String uniqueName = UUID.randomUUID().toString();
+        String fileUrl = "/files/" + subFolder + "/" + shardPrefix(uniqueName) + uniqueName + getExtension(originalFileName);
+        Instant expiresAt = Instant.now().plus(ttl);
+        String uploadUrl = urlSigner.sign("PUT", fileUrl, expiresAt, contentType);
+        return new SignedUpload(fileUrl, uploadUrl, "PUT", Map.of("Content-Type", contentType), expiresAt);
+    }
+
+    // 로컬 저장소 파일은 /files/** 공개 경로로 제공하므로 서명 없이 그대로 반환 (GCS 공개 URL 과 같은 의미)
+    @Override
+    public String createSignedDownloadUrl(String fileUrl, Duration ttl) {
+        return fileUrl;
+    }
+
+    // 서명 URL 로 들어온 업로드 본문 저장 (서명 검증은 호출 측에서 완료)
+    // 최대 크기를 넘으면 스트리밍 도중 중단하고, 임시 파일에 다 쓴 뒤 원자적으로 이동
+    public void storeSignedUpload(String fileUrl, InputStream body) {
+        Path targetLocation = resolvePath(fileUrl);
+        if (Files.exists(targetLocation)) {
+            throw new RuntimeException("이미 업로드된 파일입니다: " + fileUrl);
+        }
+
+        try {
+            MessageDigest digest = FileChecksums.newSha256();
+            writeAtomically(targetLocation, ".upload-", false, out -> {
+                try (InputStream in = new DigestInputStream(body, digest)) {
+                    byte[] buffer = new byte[64 * 1024];
+                    long total = 0;
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        total += read;
+                        if (total > maxFileSize) {
+                            throw new RuntimeException("파일 크기가 너무 큽니다. 최대 " + (maxFileSize / (1024 * 1024)) + "MB까지 업로드 가능합니다.");
+                        }
+                        out.write(buffer, 0, read);
+                    }
+                }
+            });
+            rememberChecksum(targetLocation, FileChecksums.toHex(digest));
+        } catch (IOException e) {
+            throw new RuntimeException("로컬 파일 시스템에 파일 저장 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        channelCache.closeAll();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    // 이름(UUID/해시) 앞자리로 하위 디렉터리 경로 생성 (깊이 2: "3f/2b/")
+    private String shardPrefix(String name) {
+        String hex = name.replace("-", "");
+        StringBuilder prefix = new StringBuilder();
+        for (int level = 0; level < shardDepth; level++) {
+            prefix.append(hex, level * 2, level * 2 + 2).append('/');
+        }
+        return prefix.toString();
+    }
+
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    // 같은 디렉터리의 임시 파일에 쓴 뒤 원자적으로 이름 변경 (읽는 요청이 덜 쓰인 파일을 보지 않음)
+    private void writeAtomically(Path target, String tempPrefix, boolean replaceExisting, ContentWriter writer) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tempFile = Files.createTempFile(target.getParent(), tempPrefix, ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                 OutputStream out = Channels.newOutputStream(channel)) {
+                writer.write(out);
+                out.flush();
+                if (fsyncPolicy != FsyncPolicy.NONE) {
+                    channel.force(true);
+                }
+            }
+
+            if (replaceExisting) {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            tempFile = null;
+
+            if (fsyncPolicy == FsyncPolicy.DIRECTORY) {
+                forceDirectory(target.getParent());
+            }
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    log.warn("임시 파일 삭제 실패: {}", tempFile, e);
+                }
+            }
+        }
+    }
+
+    private void forceFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    // 디렉터리 fsync (Windows 등 디렉터리를 열 수 없는 환경에서는 건너뜀)
+    private void forceDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("디렉터리 동기화 불가: {} ({})", dir, e.getMessage());
+        }
+    }
+
+    // 하드 링크 생성 (다른 파일 시스템이거나 지원하지 않으면 false → 복사)
+    private boolean linkBlob(Path source, Path targetLocation) {
+        try {
+            Files.createLink(targetLocation, source);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return true; // 같은 내용을 다른 요청이 먼저 저장함
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            log.debug("하드 링크 생성 불가, 복사로 저장: {} -> {} ({})", source, targetLocation, e.getMessage());
+            return false;
+        }
+    }
+
+    // 디렉터리마다 이름 순으로 정렬해 깊이 우선 순회 (한 번에 한 디렉터리 목록만 메모리에 올림)
+    private void visitSorted(Path root, Path dir, Consumer<StoredObject> visitor) throws IOException {
+        List<Path> entries;
+        try (Stream<Path> children = Files.list(dir)) {
+            entries = children.sorted().toList();
+        } catch (NoSuchFileException e) {
+            return; // 순회 중 삭제된 디렉터리
+        }
+
+        for (Path entry : entries) {
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (IOException e) {
+                continue; // 순회 중 삭제된 파일
+            }
+
+            if (dir.equals(root) && !isStoredPrefix(entry.getFileName() + (attributes.isDirectory() ? "/" : ""))) {
+                continue; // 업로드 임시 디렉터리 등 앱이 저장한 파일이 아닌 경로
+            }
+
+            if (attributes.isDirectory()) {
+                visitSorted(root, entry, visitor);
+            } else if (attributes.isRegularFile()) {
+                String fileUrl = "/files/" + root.relativize(entry).toString().replace('\\', '/');
+                visitor.accept(new StoredObject(fileUrl, attributes.size(), attributes.lastModifiedTime().toInstant()));
+            }
+        }
+    }
+
+    private boolean isStoredPrefix(String name) {
+        return STORED_PREFIXES.stream().anyMatch(name::startsWith);
+    }
+
+    private Path resolvePath(String fileUrl) {
+        String relativePath = fileUrl.substring("/files/".length());
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path filePath = root.resolve(relativePath).normalize();
+        if (!filePath.startsWith(root)) {
+            throw new RuntimeException("잘못된 파일 경로입니다: " + fileUrl);
+        }
+        return filePath;
+    }
+
+    private String checksumOf(Path filePath, long size, Instant lastModified) throws IOException {
+        // 내용 주소 파일은 이름이 곧 SHA-256
+        Matcher contentAddressed = CONTENT_ADDRESSED_NAME.matcher(filePath.getFileName().toString());
+        if (contentAddressed.matches()) {
+            return contentAddressed.group(1);
+        }
+
+        CachedChecksum cached = checksums.get(filePath);
+        if (cached != null && cached.size() == size && cached.lastModified().equals(lastModified)) {
+            return cached.checksum();
+        }
+
+        // 서버 재시작 등으로 캐시에 없으면 한 번 계산해서 보관
+        String checksum = FileChecksums.sha256Hex(filePath);
+        checksums.put(filePath, new CachedChecksum(size, lastModified, checksum));
+        return checksum;
+    }
+
+    private void rememberChecksum(Path filePath, String checksum) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            checksums.put(filePath, new CachedChecksum(attributes.size(), attributes.lastModifiedTime().toInstant(), checksum));
+        } catch (IOException e) {
+            log.debug("체크섬 캐시 저장 실패: {}", filePath, e);
+        }
+    }
+
+    private record CachedChecksum(long size, Instant lastModified, String checksum) {
+    }
+
+    private String variantFileName(String sourceFileName, String variantName) {
+        int dotIndex = sourceFileName.lastIndexOf('.');
+        String baseName = (dotIndex != -1) ? sourceFileName.substring(0, dotIndex) : sourceFileName;
+        return baseName + "_" + variantName;
+    }
+
     private String getExtension(String fileName) {
         if (fileName == null || fileName.isEmpty()) {
             return "";
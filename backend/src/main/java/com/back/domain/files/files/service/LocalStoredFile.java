@@ -0,0 +1,63 @@
+package com.back.domain.files.files.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+// 로컬 디스크 파일 (작은 파일은 메모리 매핑한 구간, 그 외에는 FileChannel.transferTo 로 필요한 구간만 전송)
+public record LocalStoredFile(
+        Path localPath,
+        long size,
+        Instant lastModified,
+        String checksum,
+        LocalFileChannelCache channels    // 없으면 요청마다 채널을 열고 닫음
+) implements StoredFile {
+
+    public LocalStoredFile(Path localPath, long size, Instant lastModified, String checksum) {
+        this(localPath, size, lastModified, checksum, null);
+    }
+
+    @Override
+    public String fileName() {
+        return localPath.getFileName().toString();
+    }
+
+    @Override
+    public void transferTo(long position, long count, OutputStream out) throws IOException {
+        WritableByteChannel target = Channels.newChannel(out);
+        if (channels == null) {
+            try (FileChannel channel = FileChannel.open(localPath, StandardOpenOption.READ)) {
+                transfer(channel, position, count, target);
+            }
+            return;
+        }
+
+        try (LocalFileChannelCache.Lease lease = channels.acquire(localPath, size)) {
+            ByteBuffer mapped = lease.mapped(position, count);
+            if (mapped != null) {
+                while (mapped.hasRemaining()) {
+                    target.write(mapped);
+                }
+                return;
+            }
+            transfer(lease.channel(), position, count, target);
+        }
+    }
+
+    private static void transfer(FileChannel channel, long position, long count, WritableByteChannel target) throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            long written = channel.transferTo(position + transferred, count - transferred, target);
+            if (written <= 0) {
+                break;
+            }
+            transferred += written;
+        }
+    }
+}
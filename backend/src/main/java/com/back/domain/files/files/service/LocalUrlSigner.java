@@ -0,0 +1,84 @@
+package com.back.domain.files.files.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 로컬 저장소용 HMAC 서명 URL (GCS V4 서명 URL 과 같은 흐름을 오프라인에서 사용)
+ * - 서명 대상: HTTP 메서드, 경로, 만료 시각(epoch 초), Content-Type
+ * - URL 형식: {경로}?expires={epoch 초}&signature={HMAC-SHA256 base64url}
+ * - 서명 키는 JWT 키와 따로 둠 (file.signed-url.secret, 32바이트 이상)
+ */
+@Component
+@Profile("dev")
+public class LocalUrlSigner {
+
+    public static final String EXPIRES_PARAM = "expires";
+    public static final String SIGNATURE_PARAM = "signature";
+
+    private final byte[] secret;
+    private final Clock clock;
+
+    public LocalUrlSigner(@Value("${file.signed-url.secret}") String secret) {
+        this(secret, Clock.systemUTC());
+    }
+
+    LocalUrlSigner(String secret, Clock clock) {
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < 32) {
+            throw new IllegalStateException("file.signed-url.secret 은 32바이트 이상이어야 합니다.");
+        }
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        this.clock = clock;
+    }
+
+    public String sign(String method, String path, Instant expiresAt, String contentType) {
+        long expires = expiresAt.getEpochSecond();
+        String signature = signature(method, path, expires, contentType);
+        return path + "?" + EXPIRES_PARAM + "=" + expires
+                + "&" + SIGNATURE_PARAM + "=" + URLEncoder.encode(signature, StandardCharsets.UTF_8);
+    }
+
+    public boolean verify(String method, String path, String expires, String contentType, String signature) {
+        if (expires == null || signature == null) {
+            return false;
+        }
+
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(expires);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (clock.instant().getEpochSecond() > expiresAt) {
+            return false;
+        }
+
+        byte[] expected = signature(method, path, expiresAt, contentType).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private String signature(String method, String path, long expires, String contentType) {
+        String payload = method + "\n" + path + "\n" + expires + "\n" + (contentType != null ? contentType : "");
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            byte[] digest = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("URL 서명 생성 실패", e);
+        }
+    }
+}
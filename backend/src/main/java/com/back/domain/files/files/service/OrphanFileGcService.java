@@ -0,0 +1,269 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.dto.OrphanFileGcReportDto;
+import com.back.domain.files.files.entity.FileBlob;
+import com.back.domain.files.files.repository.FileBlobRepository;
+import com.back.domain.files.files.repository.FilesRepository;
+import com.back.global.exception.ServiceException;
+import com.back.global.rsData.ResultCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 고아 파일 정리 (DB 어디에서도 참조하지 않는 저장소 파일 삭제)
+ * - 게시글 삭제 시 첨부파일 행은 cascade 로 지워지지만 내용 주소 파일의 참조 수는 줄지 않으므로, 먼저 참조 수를 실제 첨부파일 수로 보정
+ * - 저장소 목록을 이름 순으로 받아 일정 개수씩 묶고, 묶음마다 IN 조회로 참조 여부를 확인 (목록 전체나 참조 URL 전체를 메모리에 올리지 않음)
+ * - 참조 대상: 첨부파일 원본, 리사이즈 사본, 내용 주소 파일, 회원 프로필 이미지
+ * - 유예 기간보다 최근 파일은 건너뜀 (등록 전인 서명 URL 업로드나 저장 중인 파일 보호)
+ * - 삭제는 고정 크기 스레드 풀에서 병렬로 처리하고, 확보한 용량을 결과로 남김
+ * - 저장소 목록은 앱이 저장한 경로(FileStorageService.STORED_PREFIXES)만 확인
+ * - 여러 서버 중 잠금(FileGcLock)을 얻은 한 곳에서만 실행, 기본은 꺼짐 (file.gc.enabled)
+ */
+@Slf4j
+@Service
+public class OrphanFileGcService implements DisposableBean {
+
+    private final FileStorageService fileStorageService;
+    private final FilesRepository filesRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final FileReferenceChecker fileReferenceChecker;
+    private final FileGcLock fileGcLock;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService deleteExecutor;
+    // 한 번에 참조 여부를 확인하는 파일 수 (IN 조회 크기)
+    private final int batchSize;
+    // 이 시간보다 최근에 저장/변경된 파일과 행은 정리하지 않음
+    private final Duration grace;
+    // 삭제하지 않고 결과만 계산
+    private final boolean dryRun;
+    // 잠금 유지 시간 (실행 중 서버가 죽어도 이 시간이 지나면 다른 서버가 실행 가능)
+    private final Duration lockTtl;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile OrphanFileGcReportDto lastReport;
+
+    @Value("${file.gc.enabled:false}")
+    private boolean enabled;
+
+    public OrphanFileGcService(
+            FileStorageService fileStorageService,
+            FilesRepository filesRepository,
+            FileBlobRepository fileBlobRepository,
+            FileReferenceChecker fileReferenceChecker,
+            FileGcLock fileGcLock,
+            TransactionTemplate transactionTemplate,
+            @Value("${file.gc.delete-threads:4}") int deleteThreads,
+            @Value("${file.gc.batch-size:500}") int batchSize,
+            @Value("${file.gc.grace-hours:24}") long graceHours,
+            @Value("${file.gc.dry-run:false}") boolean dryRun,
+            @Value("${file.gc.lock-ttl-minutes:180}") long lockTtlMinutes
+    ) {
+        this.fileStorageService = fileStorageService;
+        this.filesRepository = filesRepository;
+        this.fileBlobRepository = fileBlobRepository;
+        this.fileReferenceChecker = fileReferenceChecker;
+        this.fileGcLock = fileGcLock;
+        this.transactionTemplate = transactionTemplate;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.deleteExecutor = Executors.newFixedThreadPool(Math.max(1, deleteThreads), runnable -> {
+            Thread thread = new Thread(runnable, "file-gc-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSize = Math.max(1, batchSize);
+        this.grace = Duration.ofHours(graceHours);
+        this.dryRun = dryRun;
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+    }
+
+    @Scheduled(cron = "${file.gc.cron:0 30 4 * * *}")
+    public void collectScheduled() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            collect();
+        } catch (ServiceException e) {
+            log.info("고아 파일 정리 건너뜀: {}", e.getMsg());
+        } catch (Exception e) {
+            log.error("고아 파일 정리 실패", e);
+        }
+    }
+
+    // 고아 파일 정리 실행 (이 서버나 다른 서버에서 이미 실행 중이면 409-1)
+    public OrphanFileGcReportDto collect() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ServiceException(ResultCode.FILE_GC_RUNNING.code(), ResultCode.FILE_GC_RUNNING.message());
+        }
+
+        Optional<String> lockToken = Optional.empty();
+        try {
+            lockToken = fileGcLock.tryAcquire(lockTtl);
+            if (lockToken.isEmpty()) {
+                throw new ServiceException(ResultCode.FILE_GC_RUNNING.code(), "다른 서버에서 고아 파일 정리가 실행 중입니다.");
+            }
+
+            LocalDateTime startedAt = LocalDateTime.now();
+            log.info("===== 고아 파일 정리 시작 (dryRun: {}) =====", dryRun);
+
+            int reconciledBlobs = dryRun ? 0 : reconcileBlobRefCounts(startedAt.minus(grace));
+
+            Tally tally = new Tally(Instant.now().minus(grace));
+            List<StoredObject> batch = new ArrayList<>(batchSize);
+            fileStorageService.forEachStoredObject(object -> {
+                batch.add(object);
+                if (batch.size() >= batchSize) {
+                    sweep(batch, tally);
+                    batch.clear();
+                }
+            });
+            sweep(batch, tally);
+
+            OrphanFileGcReportDto report = new OrphanFileGcReportDto(
+                    startedAt, LocalDateTime.now(), dryRun, reconciledBlobs,
+                    tally.scanned, tally.skippedRecent, tally.orphans, tally.deleted, tally.failed, tally.reclaimedBytes
+            );
+            lastReport = report;
+            log.info("===== 고아 파일 정리 완료 (확인: {}개, 고아: {}개, 삭제: {}개, 실패: {}개, 확보: {}바이트) =====",
+                    report.scanned(), report.orphans(), report.deleted(), report.failed(), report.reclaimedBytes());
+            return report;
+        } finally {
+            lockToken.ifPresent(fileGcLock::release);
+            running.set(false);
+        }
+    }
+
+    // 마지막 정리 결과 (서버 시작 후 실행한 적이 없으면 empty)
+    public Optional<OrphanFileGcReportDto> getLastReport() {
+        return Optional.ofNullable(lastReport);
+    }
+
+    @Override
+    public void destroy() {
+        deleteExecutor.shutdownNow();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    // 참조 수가 어긋난 내용 주소 파일 행 보정 (첨부파일이 없으면 행 삭제 → 물리 파일은 이어지는 목록 확인에서 고아로 정리)
+    // 참조를 늘린 뒤 첨부파일을 등록하기 전인 행은 방금 변경되었으므로 cutoff 조건으로 제외
+    private int reconcileBlobRefCounts(LocalDateTime cutoff) {
+        int reconciled = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = fileBlobRepository.findMismatchedRefCountIds(afterId, cutoff, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return reconciled;
+            }
+
+            reconciled += transactionTemplate.execute(status -> {
+                int count = 0;
+                for (FileBlob blob : fileBlobRepository.findAllByIdForUpdate(ids)) {
+                    if (!blob.getModifiedAt().isBefore(cutoff)) {
+                        continue; // 잠금을 기다리는 동안 다른 업로드가 참조함
+                    }
+                    int actual = (int) filesRepository.countByFileUrl(blob.getFileUrl());
+                    if (actual == 0) {
+                        fileBlobRepository.delete(blob);
+                    } else {
+                        blob.resetRefCount(actual);
+                    }
+                    count++;
+                }
+                return count;
+            });
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    // 묶음 하나에서 유예 기간이 지난 파일 중 참조되지 않는 파일을 찾아 병렬 삭제
+    private void sweep(List<StoredObject> batch, Tally tally) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<StoredObject> candidates = new ArrayList<>(batch.size());
+        for (StoredObject object : batch) {
+            tally.scanned++;
+            if (object.lastModified() == null || !object.lastModified().isBefore(tally.cutoff)) {
+                tally.skippedRecent++;
+            } else {
+                candidates.add(object);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> referenced = fileReferenceChecker.findReferenced(candidates.stream().map(StoredObject::fileUrl).toList());
+        List<StoredObject> orphans = candidates.stream()
+                .filter(object -> !referenced.contains(object.fileUrl()))
+                .toList();
+        tally.orphans += orphans.size();
+
+        if (dryRun) {
+            orphans.forEach(orphan -> tally.reclaimedBytes += orphan.size());
+            return;
+        }
+
+        List<Callable<StoredObject>> deletions = orphans.stream()
+                .<Callable<StoredObject>>map(orphan -> () -> {
+                    fileStorageService.deletePhysicalFile(orphan.fileUrl());
+                    return orphan;
+                })
+                .toList();
+        try {
+            List<Future<StoredObject>> results = deleteExecutor.invokeAll(deletions);
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    tally.reclaimedBytes += results.get(i).get().size();
+                    tally.deleted++;
+                } catch (ExecutionException e) {
+                    tally.failed++;
+                    log.warn("고아 파일 삭제 실패: {}", orphans.get(i).fileUrl(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("고아 파일 정리가 중단되었습니다.", e);
+        }
+    }
+
+    // 실행 한 번의 집계 (목록 순회 스레드에서만 변경)
+    private static class Tally {
+        private final Instant cutoff;
+        private long scanned;
+        private long skippedRecent;
+        private long orphans;
+        private long deleted;
+        private long failed;
+        private long reclaimedBytes;
+
+        private Tally(Instant cutoff) {
+            this.cutoff = cutoff;
+        }
+    }
+}
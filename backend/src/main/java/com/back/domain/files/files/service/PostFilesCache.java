@@ -0,0 +1,125 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.dto.FileUploadResponseDto;
+import com.back.domain.files.files.entity.Files;
+import com.back.domain.files.files.repository.FilesRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글별 첨부파일 목록 캐시
+ * - 목록 화면이 게시글마다 파일 목록을 조회하지 않도록 캐시하고, 없는 게시글만 IN 쿼리 한 번으로 채움
+ * - 파일 등록/삭제, 게시글 삭제 시 evict 로 즉시 무효화하고, 다른 노드의 변경은 TTL 이 지나면 반영
+ * - 조회 도중 무효화가 일어나면 읽은 목록을 캐시하지 않음 (무효화 이전 목록이 다시 캐시되지 않도록)
+ */
+@Component
+public class PostFilesCache {
+
+    private final FilesRepository filesRepository;
+    private final long ttlMillis;
+    private final int maxSize;
+
+    private final Map<Long, CachedFiles> cache = new ConcurrentHashMap<>();
+    // evict 할 때마다 증가 (조회를 시작한 뒤 무효화가 있었는지 확인)
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostFilesCache(
+            FilesRepository filesRepository,
+            @Value("${file.list-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${file.list-cache.max-size:10000}") int maxSize
+    ) {
+        this.filesRepository = filesRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxSize = maxSize;
+    }
+
+    // 게시글 하나의 파일 목록 (정렬 순서대로)
+    public List<FileUploadResponseDto> get(Long postId) {
+        return getAll(List.of(postId)).get(postId);
+    }
+
+    // 여러 게시글의 파일 목록 (요청 순서대로, 파일이 없는 게시글은 빈 목록)
+    public Map<Long, List<FileUploadResponseDto>> getAll(Collection<Long> postIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, List<FileUploadResponseDto>> result = new LinkedHashMap<>();
+        List<Long> missingPostIds = new ArrayList<>();
+        for (Long postId : postIds) {
+            CachedFiles cached = cache.get(postId);
+            if (cached != null && cached.expiresAt() > now) {
+                result.put(postId, cached.files());
+            } else {
+                result.put(postId, null); // 요청 순서 유지용 자리
+                missingPostIds.add(postId);
+            }
+        }
+        if (missingPostIds.isEmpty()) {
+            return result;
+        }
+
+        long loadedGeneration = generation.get();
+        Map<Long, List<FileUploadResponseDto>> loaded = load(missingPostIds);
+        boolean cacheable = loadedGeneration == generation.get();
+        if (cacheable && cache.size() + loaded.size() > maxSize) {
+            evictExpired(now);
+        }
+
+        for (Map.Entry<Long, List<FileUploadResponseDto>> entry : loaded.entrySet()) {
+            result.put(entry.getKey(), entry.getValue());
+            if (cacheable) {
+                cache.put(entry.getKey(), new CachedFiles(entry.getValue(), now + ttlMillis));
+            }
+        }
+        return result;
+    }
+
+    // 게시글 파일 목록 캐시 무효화 (트랜잭션 중이면 커밋 후 한 번 더 무효화해 이전 목록이 다시 캐시되지 않도록 함)
+    public void evict(Long postId) {
+        generation.incrementAndGet();
+        cache.remove(postId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                    cache.remove(postId);
+                }
+            });
+        }
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private Map<Long, List<FileUploadResponseDto>> load(List<Long> postIds) {
+        Map<Long, List<FileUploadResponseDto>> loaded = new HashMap<>();
+        for (Long postId : postIds) {
+            loaded.put(postId, new ArrayList<>());
+        }
+        for (Files file : filesRepository.findByPostIdInOrderBySortOrderAsc(postIds)) {
+            loaded.get(file.getPost().getId()).add(FileUploadResponseDto.from(file));
+        }
+        loaded.replaceAll((postId, files) -> List.copyOf(files));
+        return loaded;
+    }
+
+    private void evictExpired(long now) {
+        cache.values().removeIf(cached -> cached.expiresAt() <= now);
+        // 만료 항목을 정리해도 가득 차 있으면 전체 비움 (다음 요청부터 다시 채워짐)
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+    }
+
+    private record CachedFiles(List<FileUploadResponseDto> files, long expiresAt) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.back.domain.files.files.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 기반 고아 파일 정리 잠금
+ * - SET NX PX 로 획득, 토큰이 같을 때만 Lua 스크립트로 삭제
+ */
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class RedisFileGcLock implements FileGcLock {
+
+    private static final String LOCK_KEY = "file:gc:lock";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Optional<String> tryAcquire(Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    @Override
+    public void release(String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+    }
+}
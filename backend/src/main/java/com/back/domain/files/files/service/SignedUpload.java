@@ -0,0 +1,14 @@
+package com.back.domain.files.files.service;
+
+import java.time.Instant;
+import java.util.Map;
+
+// 클라이언트가 스토리지로 직접 업로드할 때 사용할 서명 URL 정보
+public record SignedUpload(
+        String fileUrl,               // 업로드 완료 후 파일 URL (완료 콜백에 그대로 전달)
+        String uploadUrl,             // 서명된 업로드 URL
+        String method,                // 업로드 HTTP 메서드 (PUT)
+        Map<String, String> headers,  // 업로드 요청에 반드시 포함할 헤더 (서명 대상)
+        Instant expiresAt
+) {
+}
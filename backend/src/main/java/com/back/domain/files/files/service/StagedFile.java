@@ -0,0 +1,18 @@
+package com.back.domain.files.files.service;
+
+import java.nio.file.Path;
+
+/**
+ * 스테이징 영역에 옮겨 둔 업로드 파일
+ * - 요청이 끝나면 서블릿 컨테이너가 MultipartFile 임시 파일을 지우므로, 백그라운드 작업은 이 사본을 사용
+ * - 스테이징하면서 계산한 해시로 FileBlobService 에 바로 저장
+ */
+public record StagedFile(
+        int index,                // 요청 내 순서 (sortOrder 결정에 사용)
+        Path path,
+        String originalFilename,
+        String contentType,
+        long size,
+        String sha256             // 스테이징하면서 계산한 내용 해시
+) {
+}
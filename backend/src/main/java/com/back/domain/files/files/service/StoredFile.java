@@ -0,0 +1,35 @@
+package com.back.domain.files.files.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * 다운로드 응답에 필요한 저장 파일 정보
+ * - 크기/수정 시각/체크섬으로 ETag, Last-Modified, Range 응답을 만들고 본문은 필요한 구간만 전송
+ */
+public interface StoredFile {
+
+    // 저장된 파일명 (MIME 타입 추정, Content-Disposition 용)
+    String fileName();
+
+    long size();
+
+    // 알 수 없으면 null
+    Instant lastModified();
+
+    // 파일 내용의 해시 (강한 ETag 로 사용, 알 수 없으면 null)
+    String checksum();
+
+    // 저장소에 기록된 Content-Type (없으면 null, 파일명으로 추정)
+    default String contentType() {
+        return null;
+    }
+
+    // 로컬 디스크 파일이면 경로 (Tomcat sendfile 용), 아니면 null
+    Path localPath();
+
+    // position 부터 count 바이트를 out 으로 전송
+    void transferTo(long position, long count, OutputStream out) throws IOException;
+}
@@ -0,0 +1,11 @@
+package com.back.domain.files.files.service;
+
+import java.time.Instant;
+
+// 저장소 목록의 파일 하나 (고아 파일 정리에서 DB 참조와 비교)
+public record StoredObject(
+        String fileUrl,
+        long size,
+        Instant lastModified     // 알 수 없으면 null
+) {
+}
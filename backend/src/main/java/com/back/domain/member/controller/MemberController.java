@@ -28,7 +28,7 @@ public class MemberController {
     @DeleteMapping("/me")
     @Operation(summary = "회원 탈퇴", description = "현재 로그인한 사용자의 상태를 DELETED로 변경합니다.")
     public ResponseEntity<RsData<String>> deleteCurrentMember(@AuthenticationPrincipal MemberDetails memberDetails) {
-        memberService.deleteAccount(memberDetails.getMember());
+        memberService.deleteAccount(memberDetails.getId());
         return ResponseEntity.ok(
                 new RsData<>(ResultCode.SUCCESS, "회원 탈퇴 성공")
         );
@@ -38,7 +38,7 @@ public class MemberController {
     @GetMapping("/me")
     @Operation(summary = "마이페이지 조회", description = "현재 로그인한 사용자의 상세 정보를 반환합니다.")
     public ResponseEntity<RsData<MemberMyPageResponse>> getMyPageInfo(@AuthenticationPrincipal MemberDetails memberDetails) {
-        MemberMyPageResponse response = memberService.findMyPage(memberDetails.getMember());
+        MemberMyPageResponse response = memberService.findMyPage(memberDetails.getId());
         return ResponseEntity.ok(
                 new RsData<>(ResultCode.SUCCESS, "마이페이지 조회 성공", response)
         );
@@ -51,7 +51,7 @@ public class MemberController {
             @AuthenticationPrincipal MemberDetails memberDetails,
             @RequestBody MemberUpdateRequest request
     ) {
-        memberService.updateMemberInfo(memberDetails.getMember(), request);
+        memberService.updateMemberInfo(memberDetails.getId(), request);
         return ResponseEntity.ok(
                 new RsData<>(ResultCode.SUCCESS, "회원 정보 수정 성공")
         );
@@ -75,7 +75,7 @@ public class MemberController {
             @PathVariable Long memberId,
             @RequestParam("file") MultipartFile file) {
         // 본인의 프로필만 수정 가능하도록 검증 (보안 강화)
-        if (!memberDetails.getMember().getId().equals(memberId)) {
+        if (!memberDetails.getId().equals(memberId)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(new RsData<>(ResultCode.FORBIDDEN, "본인의 프로필 이미지만 수정할 수 있습니다."));
         }
@@ -109,7 +109,7 @@ public class MemberController {
             @AuthenticationPrincipal MemberDetails memberDetails,
             @PathVariable Long memberId) {
         // 본인의 프로필만 삭제 가능하도록 검증 (보안 강화)
-        if (!memberDetails.getMember().getId().equals(memberId)) {
+        if (!memberDetails.getId().equals(memberId)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(new RsData<>(ResultCode.FORBIDDEN, "본인의 프로필 이미지만 삭제할 수 있습니다."));
         }
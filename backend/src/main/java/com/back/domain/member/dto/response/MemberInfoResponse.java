@@ -7,7 +7,8 @@ public record MemberInfoResponse(
         String email,
         String name,
         String role,
-        String profileUrl
+        String profileUrl,
+        String profileThumbnailUrl
 ) {
     public static MemberInfoResponse fromEntity(Member member) {
         return new MemberInfoResponse(
@@ -15,7 +16,8 @@ public record MemberInfoResponse(
                 member.getEmail(),
                 member.getName(),
                 member.getRole().name(),
-                member.getProfileUrl()
+                member.getProfileUrl(),
+                member.getProfileThumbnailUrl()
         );
     }
 }
\ No newline at end of file
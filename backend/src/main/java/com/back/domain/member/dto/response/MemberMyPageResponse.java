@@ -10,6 +10,7 @@ public record MemberMyPageResponse(
         String name,
         String role,
         String profileUrl,
+        String profileThumbnailUrl,
         String status,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
@@ -21,6 +22,7 @@ public record MemberMyPageResponse(
                 member.getName(),
                 member.getRole().name(),
                 member.getProfileUrl(),
+                member.getProfileThumbnailUrl(),
                 member.getStatus().name(),
                 member.getCreatedAt(),
                 member.getModifiedAt()
@@ -4,12 +4,14 @@ import com.back.domain.member.entity.Member;
 
 public record OtherMemberInfoResponse(
         String name,
-        String profileUrl
+        String profileUrl,
+        String profileThumbnailUrl
 ) {
     public static OtherMemberInfoResponse fromEntity(Member member) {
         return new OtherMemberInfoResponse(
                 member.getName(),
-                member.getProfileUrl()
+                member.getProfileUrl(),
+                member.getProfileThumbnailUrl()
         );
     }
 }
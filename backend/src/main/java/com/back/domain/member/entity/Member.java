@@ -11,6 +11,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Getter
 @Entity
@@ -29,8 +30,9 @@ public class Member extends BaseEntity {
     @Column(nullable = true)
     private String profileUrl;
 
-    @Column(unique = true)
-    private String refreshToken;
+    // 작게 보여 줄 때 쓰는 프로필 이미지 (프로필 이미지 업로드로 만든 경우에만 존재)
+    @Column(nullable = true)
+    private String profileThumbnailUrl;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -53,20 +55,6 @@ public class Member extends BaseEntity {
         this.status = (status != null) ? status : Status.ACTIVE;   // 기본 상태는 ACTIVE
     }
 
-    // 리프레시 토큰을 삭제(무효화)함
-    public void removeRefreshToken() {
-        this.refreshToken = null;
-    }
-
-    // 리프레시 토큰을 설정함
-    public void updateRefreshToken(String refreshToken) {
-        // 유효성 검사: 리프레시 토큰이 null 또는 빈 문자열이 아닌지 확인
-        if (refreshToken == null || refreshToken.trim().isEmpty()) {
-            throw new IllegalArgumentException("리프레시 토큰은 null 또는 빈 문자열일 수 없습니다.");
-        }
-        this.refreshToken = refreshToken;
-    }
-
     // 회원 탈퇴 (상태 변경)
     public void delete() {
         // 1. 이미 탈퇴한 회원인지 확인
@@ -92,7 +80,16 @@ public class Member extends BaseEntity {
     }
 
     public void updateProfileUrl(String newProfileUrl) {
+        // 다른 이미지로 바뀌면 기존 작은 이미지는 더 이상 맞지 않음
+        if (!Objects.equals(this.profileUrl, newProfileUrl)) {
+            this.profileThumbnailUrl = null;
+        }
+        this.profileUrl = newProfileUrl;
+    }
+
+    public void updateProfileImage(String newProfileUrl, String newProfileThumbnailUrl) {
         this.profileUrl = newProfileUrl;
+        this.profileThumbnailUrl = newProfileThumbnailUrl;
     }
 
     public void changeStatus(Status newStatus) {
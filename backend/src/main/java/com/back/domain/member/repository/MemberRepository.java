@@ -2,10 +2,15 @@ package com.back.domain.member.repository;
 
 import com.back.domain.member.entity.Member;
 import com.back.domain.member.entity.Role;
+import com.back.domain.member.entity.Status;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -15,4 +20,15 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByEmail(String email);
     boolean existsByNameAndEmail(String name, String email);
     Page<Member> findAllByRoleNot(Role role, Pageable pageable);
+
+    // 인증 시 회원 상태만 조회 (엔티티 전체를 로딩하지 않음)
+    @Query("SELECT m.status FROM Member m WHERE m.id = :id")
+    Optional<Status> findStatusById(@Param("id") Long id);
+
+    // 주어진 URL 중 프로필 이미지로 참조되는 URL (고아 파일 정리)
+    @Query("SELECT m.profileUrl FROM Member m WHERE m.profileUrl IN :fileUrls")
+    List<String> findReferencedProfileUrls(@Param("fileUrls") Collection<String> fileUrls);
+
+    @Query("SELECT m.profileThumbnailUrl FROM Member m WHERE m.profileThumbnailUrl IN :fileUrls")
+    List<String> findReferencedProfileThumbnailUrls(@Param("fileUrls") Collection<String> fileUrls);
 }
@@ -2,22 +2,30 @@ package com.back.domain.member.service;
 
 
 import com.back.domain.auth.dto.request.MemberSignupRequest;
-import com.back.domain.files.files.service.FileStorageService;
+import com.back.domain.files.files.service.FileDeletionService;
 import com.back.domain.member.dto.request.MemberUpdateRequest;
 import com.back.domain.member.dto.request.FindPasswordRequest;
 import com.back.domain.member.dto.response.MemberMyPageResponse;
 import com.back.domain.member.dto.response.OtherMemberInfoResponse;
 import com.back.domain.member.entity.Member;
 import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.member.service.ProfileImageService.ProfileImage;
+import com.back.domain.member.service.ProfileImageService.ResizedProfileImage;
 import com.back.global.exception.ServiceException;
 import com.back.global.rsData.ResultCode;
+import com.back.global.security.auth.MemberStatusCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -25,7 +33,10 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
-    private final FileStorageService fileStorageService;
+    private final ProfileImageService profileImageService;
+    private final FileDeletionService fileDeletionService;
+    private final MemberStatusCache memberStatusCache;
+    private final TransactionTemplate transactionTemplate;
 
 
     // 회원 가입
@@ -48,20 +59,23 @@ public class MemberService {
 
     // 회원 탈퇴 (상태 변경)
     @Transactional
-    public void deleteAccount(Member member) {
-        // 1. 반드시 영속 상태로 다시 가져오기
-        Member foundMember = memberRepository.findById(member.getId())
+    public void deleteAccount(Long memberId) {
+        // 1. 회원 조회
+        Member foundMember = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ServiceException(ResultCode.MEMBER_NOT_FOUND.code(), "회원 정보가 존재하지 않습니다."));
 
         // 2. 회원 탈퇴 처리
         foundMember.delete();
         memberRepository.save(foundMember);
+
+        // 3. 인증 시 사용하는 회원 상태 캐시 무효화
+        memberStatusCache.evict(foundMember.getId());
     }
 
     // 회원 마이페이지 조회
-    public MemberMyPageResponse findMyPage(Member member) {
-        // 1. 반드시 영속 상태로 다시 가져오기
-        Member foundMember = memberRepository.findById(member.getId())
+    public MemberMyPageResponse findMyPage(Long memberId) {
+        // 1. 회원 조회
+        Member foundMember = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ServiceException(ResultCode.MEMBER_NOT_FOUND.code(), "회원 정보가 존재하지 않습니다."));
 
         // 2. 마이페이지 정보 반환
@@ -70,9 +84,9 @@ public class MemberService {
 
     // 회원 정보 수정
     @Transactional
-    public void updateMemberInfo(Member member, MemberUpdateRequest request) {
-        // 1. 반드시 영속 상태로 다시 가져오기
-        Member foundMember = memberRepository.findById(member.getId())
+    public void updateMemberInfo(Long memberId, MemberUpdateRequest request) {
+        // 1. 회원 조회
+        Member foundMember = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ServiceException(ResultCode.MEMBER_NOT_FOUND.code(), "회원 정보가 존재하지 않습니다."));
 
         // 2. 이름 변경
@@ -109,7 +123,7 @@ public class MemberService {
 
 
     // 프로필 이미지 등록 및 업데이트
-    @Transactional
+    // 이미지 처리(리사이즈/저장)는 트랜잭션 밖에서 하고, 회원 정보 변경과 이전 이미지 삭제 예약만 트랜잭션으로 묶음
     public String uploadProfileImage(Long memberId, MultipartFile file) {
         // file이 null이거나 비어있는 경우 예외 처리
         if (file == null || file.isEmpty()) {
@@ -119,26 +133,46 @@ public class MemberService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ServiceException(ResultCode.MEMBER_NOT_FOUND.code(), "회원을 찾을 수 없습니다."));
 
-        // 기존 프로필 이미지가 있다면 삭제
-        String oldProfileUrl = member.getProfileUrl();
-        if (oldProfileUrl != null && !oldProfileUrl.isEmpty()) {
-            try {
-                // 이전 프로필 이미지 삭제 시, 전체 URL을 넘겨야 함 (FileStorageService의 deletePhysicalFile 구현에 따라)
-                fileStorageService.deletePhysicalFile(oldProfileUrl);
-            } catch (Exception e) {
-                log.warn("기존 프로필 이미지 삭제 실패: {}", oldProfileUrl, e);
-            }
-        }
-
+        ResizedProfileImage resized;
+        ProfileImage uploaded;
         try {
-            // MemberService에서 파일을 저장할 때, 'profile/{memberId}'를 하위 폴더로 지정
-            String newProfileUrl = fileStorageService.storeFile(file, "profile/" + memberId); // 수정된 부분
-            member.updateProfileUrl(newProfileUrl);
-            memberRepository.save(member);
-            return newProfileUrl;
+            Optional<ResizedProfileImage> result = profileImageService.resize(memberId, file,
+                    new ProfileImage(member.getProfileUrl(), member.getProfileThumbnailUrl()));
+            if (result.isEmpty()) {
+                return member.getProfileUrl(); // 지금 쓰는 이미지와 같음
+            }
+            resized = result.get();
+            uploaded = profileImageService.store(resized);
+        } catch (ServiceException e) {
+            throw e;
         } catch (Exception e) {
+            log.warn("프로필 이미지 저장 실패: memberId={}", memberId, e);
             throw new ServiceException(ResultCode.FILE_UPLOAD_FAIL.code(), "프로필 이미지 업로드에 실패했습니다.");
         }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 이전에 쓰던 이미지로 되돌린 경우 같은 이름의 파일이 삭제 대기 중일 수 있으므로 예약 취소
+            // 취소한 예약이 있을 때만 다시 저장 (삭제 중이었으면 끝날 때까지 기다린 뒤 저장 → 새 URL 이 지워진 파일을 가리키지 않음)
+            if (fileDeletionService.cancel(List.of(uploaded.profileUrl(), uploaded.thumbnailUrl())) > 0) {
+                profileImageService.store(resized);
+            }
+
+            // 이미지 처리 중 다른 요청으로 바뀌었을 수 있으므로 다시 조회한 값 기준으로 이전 이미지 판단
+            Member target = memberRepository.findById(memberId)
+                    .orElseThrow(() -> new ServiceException(ResultCode.MEMBER_NOT_FOUND.code(), "회원을 찾을 수 없습니다."));
+            List<String> oldUrls = profileImageUrls(target).stream()
+                    .filter(url -> !url.equals(uploaded.profileUrl()) && !url.equals(uploaded.thumbnailUrl()))
+                    .toList();
+
+            target.updateProfileImage(uploaded.profileUrl(), uploaded.thumbnailUrl());
+            memberRepository.save(target);
+
+            // 이전 이미지는 커밋 이후 백그라운드에서 삭제 (롤백되면 삭제하지 않음)
+            if (!oldUrls.isEmpty()) {
+                fileDeletionService.enqueue(oldUrls);
+            }
+        });
+        return uploaded.profileUrl();
     }
 
     // 프로필 이미지 삭제
@@ -151,13 +185,12 @@ public class MemberService {
             throw new ServiceException(ResultCode.BAD_REQUEST.code(), "삭제할 프로필 이미지가 없습니다.");
         }
 
-        try{
-            fileStorageService.deletePhysicalFile(member.getProfileUrl()); // FileStorageService를 사용하여 파일 삭제
-            member.updateProfileUrl(null); // Member 엔티티의 profileUrl null로 설정
-            memberRepository.save(member); // 변경사항 저장
-        } catch (Exception e) {
-            throw new ServiceException(ResultCode.FILE_DELETE_FAIL.code(), "프로필 이미지 삭제 실패.");
-        }
+        List<String> fileUrls = profileImageUrls(member);
+        member.updateProfileImage(null, null); // 프로필 / 작은 이미지 URL null로 설정
+        memberRepository.save(member); // 변경사항 저장
+
+        // 물리 파일은 커밋 이후 백그라운드에서 삭제
+        fileDeletionService.enqueue(fileUrls);
     }
 
     // 특정 회원의 프로필 이미지 URL 조회 (별도 메서드로도 제공 가능)
@@ -198,5 +231,14 @@ public class MemberService {
         member.updatePassword(passwordEncoder.encode(request.newPassword()));
         memberRepository.save(member);
     }
-    
-}
\ No newline at end of file
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    // 회원이 참조하는 프로필 이미지 파일 URL (작은 이미지 포함)
+    private List<String> profileImageUrls(Member member) {
+        return Stream.of(member.getProfileUrl(), member.getProfileThumbnailUrl())
+                .filter(url -> url != null && !url.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,126 @@
+package com.back.domain.member.service;
+
+import com.back.domain.files.files.service.FileChecksums;
+import com.back.domain.files.files.service.FileContentSniffer;
+import com.back.domain.files.files.service.FileStorageService;
+import com.back.domain.files.files.service.ImageResizer;
+import com.back.domain.files.files.service.ImageVariantService;
+import com.back.global.exception.ServiceException;
+import com.back.global.rsData.ResultCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 프로필 이미지 처리
+ * - 원본은 저장하지 않고 가운데를 정사각형으로 잘라 두 가지 크기(프로필 / 작은 이미지)의 JPEG 로 저장
+ * - 파일 이름은 원본 내용 해시 + 크기({해시}_s{크기}.jpg) → 내용이 바뀌지 않으므로 브라우저/CDN 에서 immutable 캐시
+ * - 지금 쓰는 이미지를 다시 올리면 리사이즈/저장 없이 기존 URL 을 그대로 사용
+ * - 리사이즈는 DB 트랜잭션 밖에서 호출 (디코딩/리사이즈 동안 커넥션을 잡지 않음)
+ * - 저장은 여러 번 호출해도 같은 결과 (삭제 예약을 취소한 뒤 파일이 남아 있도록 다시 저장하는 데 사용)
+ */
+@Slf4j
+@Service
+public class ProfileImageService {
+
+    private static final String CONTENT_TYPE = "image/jpeg";
+
+    private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
+    private final int size;
+    private final int thumbnailSize;
+
+    public ProfileImageService(
+            FileStorageService fileStorageService,
+            ImageVariantService imageVariantService,
+            @Value("${file.profile-image.size:512}") int size,
+            @Value("${file.profile-image.thumbnail-size:128}") int thumbnailSize
+    ) {
+        this.fileStorageService = fileStorageService;
+        this.imageVariantService = imageVariantService;
+        this.size = size;
+        this.thumbnailSize = thumbnailSize;
+    }
+
+    // 프로필 이미지 URL 과 작은 이미지 URL
+    public record ProfileImage(String profileUrl, String thumbnailUrl) {
+    }
+
+    // 저장할 정사각형 이미지 (작은 크기부터, 원본이 작으면 하나)
+    public record ResizedProfileImage(Long memberId, String sha256, List<ImageResizer.ResizedImage> images) {
+    }
+
+    // 업로드한 이미지를 정사각형으로 잘라 줄임 (current 와 같은 이미지면 empty)
+    public Optional<ResizedProfileImage> resize(Long memberId, MultipartFile file, ProfileImage current) {
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("profile-", ".tmp");
+            MessageDigest digest = FileChecksums.newSha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String sha256 = FileChecksums.toHex(digest);
+            if (isSameImage(current, sha256)) {
+                return Optional.empty();
+            }
+
+            // 선언된 Content-Type 대신 내용(매직 바이트)으로 판별
+            String contentType = FileContentSniffer.detect(tempFile, file.getContentType());
+            List<ImageResizer.ResizedImage> images = imageVariantService.createSquareImages(tempFile, contentType, List.of(thumbnailSize, size));
+            if (images.isEmpty()) {
+                throw new ServiceException(ResultCode.BAD_REQUEST.code(), "처리할 수 없는 이미지입니다. (JPEG, PNG, GIF, BMP 만 가능)");
+            }
+            return Optional.of(new ResizedProfileImage(memberId, sha256, images));
+        } catch (IOException e) {
+            throw new ServiceException(ResultCode.FILE_UPLOAD_FAIL.code(), "프로필 이미지 업로드에 실패했습니다.");
+        } finally {
+            deleteTempFile(tempFile);
+        }
+    }
+
+    // 줄인 이미지를 내용 해시 이름으로 저장 (이미 있으면 다시 쓰지 않음)
+    public ProfileImage store(ResizedProfileImage image) {
+        // 원본이 작으면 두 크기가 같아져 하나만 만들어짐
+        String subFolder = "profile/" + image.memberId();
+        List<ImageResizer.ResizedImage> images = image.images();
+        String thumbnailUrl = storeImage(subFolder, image.sha256(), images.get(0));
+        String profileUrl = (images.size() > 1) ? storeImage(subFolder, image.sha256(), images.get(images.size() - 1)) : thumbnailUrl;
+        return new ProfileImage(profileUrl, thumbnailUrl);
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private boolean isSameImage(ProfileImage current, String sha256) {
+        if (current == null || current.profileUrl() == null || current.thumbnailUrl() == null) {
+            return false;
+        }
+        String fileName = current.profileUrl().substring(current.profileUrl().lastIndexOf('/') + 1);
+        return fileName.startsWith(sha256 + "_s");
+    }
+
+    private String storeImage(String subFolder, String sha256, ImageResizer.ResizedImage image) {
+        return fileStorageService.storeImmutable(subFolder, sha256 + "_s" + image.width() + ".jpg", CONTENT_TYPE, image.content());
+    }
+
+    private void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", tempFile, e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.back.domain.post.dto;
 
+import com.back.domain.files.files.entity.FileVariant;
 import com.back.domain.post.entity.Post;
 import java.time.LocalDateTime;
 
@@ -21,8 +22,8 @@ public record PostListDTO(
                 post.getCategory().name(), // 영문 Enum 값으로 변경
                 post.getFavoriteCnt(),
                 post.getCreatedAt(),
-                // postFiles 리스트가 비어있지 않으면 첫 번째 파일의 URL을, 비어있으면 null을 할당
-                !post.getPostFiles().isEmpty() ? post.getPostFiles().get(0).getFileUrl() : null
+                // 첫 번째 파일의 목록 카드용 사본 URL (사본이 없으면 원본), 파일이 없으면 null
+                !post.getPostFiles().isEmpty() ? post.getPostFiles().get(0).getVariantUrl(FileVariant.LIST_CARD_WIDTH) : null
         );
     }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -59,8 +60,11 @@ public class Post extends BaseEntity {
     @OneToOne(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private Trade trade;
 
-    // 게시글 1 ↔ 첨부파일 N
+    // 게시글 1 ↔ 첨부파일 N (정렬 순서대로, 첫 번째 파일이 목록 대표 이미지)
+    // 목록 조회 시 게시글마다 쿼리가 나가지 않도록 여러 게시글의 첨부파일을 IN 조회로 한 번에 로딩
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sortOrder ASC")
+    @BatchSize(size = 100)
     private List<Files> postFiles = new ArrayList<>();
 
     // 게시글 1 ↔ 찜 N
@@ -1,5 +1,6 @@
 package com.back.domain.post.service;
 
+import com.back.domain.files.files.service.PostFilesCache;
 import com.back.domain.member.entity.Member;
 import com.back.domain.post.dto.FavoriteResponseDTO;
 import com.back.domain.post.dto.PostDetailDTO;
@@ -25,6 +26,7 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final FavoritePostRepository favoritePostRepository;
+    private final PostFilesCache postFilesCache;
     private final Rq rq;
 
     //게시글 생성
@@ -84,6 +86,7 @@ public class PostService {
         }
 
         postRepository.delete(post);
+        postFilesCache.evict(postId); // 첨부파일도 함께 삭제됨
         return new RsData<>(ResultCode.SUCCESS, "게시글 삭제 완료", null);
     }
 
@@ -122,7 +125,7 @@ public class PostService {
         Member member = getCurrentMemberOrThrow();
         Post post = getPostForUpdateOrThrow(postId);
 
-        if (post.getMember().equals(member)) {
+        if (post.getMember().getId().equals(member.getId())) {
             return new FavoriteResponseDTO(post.getId(), false, post.getFavoriteCnt(), "자신의 게시글은 찜할 수 없습니다.");
         }
 
@@ -176,9 +179,9 @@ public class PostService {
 
     //------------------------------------------------------------------
 
-    //현재 로그인 유저 확인
+    //현재 로그인 유저 확인 (연관관계 설정과 조회 조건에만 쓰이므로 DB 조회 없는 참조 반환)
     private Member getCurrentMemberOrThrow() {
-        Member member = rq.getMember();
+        Member member = rq.getMemberReference();
         if (member == null) {
             throw new ServiceException("401", "로그인이 필요합니다.");
         }
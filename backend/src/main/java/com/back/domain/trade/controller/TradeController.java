@@ -34,7 +34,7 @@ public class TradeController {
     @PostMapping
     @Operation(summary = "거래 생성")
     public RsData<TradeDto> createTrade(@RequestBody @Valid TradeCreateReqBody reqBody) {
-        Trade trade = tradeService.createTrade(reqBody.postId(), this.rq.getMember().getId());
+        Trade trade = tradeService.createTrade(reqBody.postId(), this.rq.getMemberId());
         return new RsData<>(
                 "201-1",
                 "%s번 거래가 생성되었습니다.".formatted(trade.getId()),
@@ -45,7 +45,7 @@ public class TradeController {
     @GetMapping("")
     @Operation(summary = "본인 모든 거래 조회")
     public RsData<TradePageResponse<TradeDto>> getMyTrades(Pageable pageable) {
-        Member member = rq.getMember();
+        Member member = rq.getMemberReference();
         Page<TradeDto> trades = tradeService.getMyTrades(member, pageable);
         return new RsData<>(
                 "200-1",
@@ -57,6 +57,6 @@ public class TradeController {
     @GetMapping("/{id}")
     @Operation(summary = "거래 상세 조회")
     public RsData<TradeDetailDto> getTradeDetail(@PathVariable @Positive Long id) {
-        return new RsData<>("200-1", "거래 상세 조회 성공", tradeService.getTradeDetail(id, rq.getMember()));
+        return new RsData<>("200-1", "거래 상세 조회 성공", tradeService.getTradeDetail(id, rq.getMemberReference()));
     }
 }
@@ -2,7 +2,7 @@ package com.back.global.init;
 
 import com.back.domain.files.files.entity.Files;
 import com.back.domain.files.files.repository.FilesRepository;
-import com.back.domain.files.files.service.FileStorageService;
+import com.back.domain.files.files.service.FileBlobService;
 import com.back.domain.member.entity.Member;
 import com.back.domain.member.entity.Role;
 import com.back.domain.member.repository.MemberRepository;
@@ -39,7 +39,7 @@ public class PostDataInitializer {
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
     private final PasswordEncoder passwordEncoder;
-    private final FileStorageService fileStorageService;
+    private final FileBlobService fileBlobService;
     private final FilesRepository filesRepository;
 
     // MultipartFile을 대체하는 내부 클래스
@@ -185,7 +185,8 @@ public class PostDataInitializer {
         for (int i = 0; i < imageCount; i++) {
             MultipartFile file = images.get(i);
             try {
-                String fileUrl = fileStorageService.storeFile(file, "post_" + post.getId());
+                // 같은 샘플 이미지는 내용 주소로 한 번만 저장되고 참조만 늘어남
+                String fileUrl = fileBlobService.store(file).fileUrl();
                 Files fileEntity = Files.builder()
                         .post(post)
                         .fileName(file.getOriginalFilename())
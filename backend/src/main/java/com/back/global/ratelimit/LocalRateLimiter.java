@@ -0,0 +1,65 @@
+package com.back.global.ratelimit;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 노드별 메모리 토큰 버킷
+ * - 버킷 상태는 TAT(나노초) 하나뿐이라 AtomicLong CAS 로 락 없이 갱신
+ * - 버킷 수가 한도에 도달하면 가득 충전된(TAT 가 지난) 버킷부터 제거, 그래도 가득 차면 전체 초기화
+ */
+@Component
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int maxBuckets;
+    private final LongSupplier clock;
+
+    public LocalRateLimiter(RateLimitProperties properties) {
+        this(properties.maxBuckets(), System::nanoTime);
+    }
+
+    LocalRateLimiter(int maxBuckets, LongSupplier clock) {
+        this.maxBuckets = maxBuckets;
+        this.clock = clock;
+    }
+
+    @Override
+    public long tryAcquire(RateLimitRule rule, String bucketKey) {
+        long now = clock.getAsLong();
+        if (buckets.size() >= maxBuckets) {
+            evictIdle(now);
+        }
+
+        AtomicLong tat = buckets.computeIfAbsent(bucketKey, key -> new AtomicLong(now));
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + rule.getEmissionIntervalNanos();
+            long waitNanos = next - now - rule.getBurstToleranceNanos();
+            if (waitNanos > 0) {
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private void evictIdle(long now) {
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+        if (buckets.size() >= maxBuckets) {
+            buckets.clear();
+        }
+    }
+}
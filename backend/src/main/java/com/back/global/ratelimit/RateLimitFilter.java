@@ -0,0 +1,72 @@
+package com.back.global.ratelimit;
+
+import com.back.global.ratelimit.RateLimitProperties.Channel;
+import com.back.global.rsData.ResultCode;
+import com.back.global.rsData.RsData;
+import com.back.global.security.auth.MemberDetails;
+import com.back.global.security.route.PublicRoutes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// HTTP 요청 빈도 제한 필터 (JwtFilter 다음에 실행되어 회원 id 기준 제한도 가능)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitService rateLimitService;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitService rateLimitService, ObjectMapper objectMapper) {
+        this.rateLimitService = rateLimitService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        String path = PublicRoutes.pathOf(request);
+        List<RateLimitRule> rules = rateLimitService.findRules(Channel.HTTP, request.getMethod(), path);
+
+        for (RateLimitRule rule : rules) {
+            long waitMillis = rateLimitService.tryAcquire(rule, resolveKey(rule, request));
+            if (waitMillis > 0) {
+                reject(response, waitMillis);
+                return;
+            }
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private String resolveKey(RateLimitRule rule, HttpServletRequest request) {
+        if (rule.getKeyType() == RateLimitProperties.KeyType.MEMBER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof MemberDetails memberDetails) {
+                return "member:" + memberDetails.getId();
+            }
+        }
+        // 프록시 뒤에서는 server.forward-headers-strategy: native 로 신뢰하는 프록시가 넘긴 X-Forwarded-For 의 클라이언트 IP 가 들어옴
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitMillis) throws IOException {
+        response.setStatus(ResultCode.TOO_MANY_REQUESTS.status());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (waitMillis + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), new RsData<Void>(ResultCode.TOO_MANY_REQUESTS));
+    }
+}
@@ -0,0 +1,49 @@
+package com.back.global.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 요청 빈도 제한 설정 (rate-limit.*)
+ * - rules 의 키가 규칙 이름이 되며, 경로(HTTP) 또는 STOMP 목적지별로 버킷 크기와 충전 속도를 지정
+ */
+@ConfigurationProperties("rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("LOCAL") Mode mode,
+        @DefaultValue("100000") int maxBuckets,
+        Map<String, Rule> rules
+) {
+
+    public enum Mode {
+        LOCAL,  // 노드별 메모리 버킷
+        REDIS   // 모든 노드가 Redis 버킷 공유
+    }
+
+    public enum Channel {
+        HTTP,   // 서블릿 요청 경로
+        STOMP   // STOMP SEND 목적지
+    }
+
+    public enum KeyType {
+        IP,     // 클라이언트 IP
+        MEMBER, // 로그인 회원 id (비로그인 시 IP)
+        ROOM    // 채팅방 id (STOMP 전용)
+    }
+
+    public record Rule(
+            @DefaultValue("HTTP") Channel channel,
+            String pattern,
+            String method,
+            @DefaultValue("IP") KeyType key,
+            int capacity,
+            double refillPerSecond
+    ) {
+    }
+
+    public Map<String, Rule> rules() {
+        return (rules != null) ? rules : Map.of();
+    }
+}
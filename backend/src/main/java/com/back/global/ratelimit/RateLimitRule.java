@@ -0,0 +1,68 @@
+package com.back.global.ratelimit;
+
+import com.back.global.ratelimit.RateLimitProperties.Channel;
+import com.back.global.ratelimit.RateLimitProperties.KeyType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 경로 패턴을 미리 컴파일한 빈도 제한 규칙
+ * - 토큰 버킷은 GCRA 방식으로 표현: 요청 1건마다 이론적 도착 시각(TAT)을 emissionInterval 만큼 미룸
+ * - TAT 가 현재 시각보다 burstTolerance 이상 앞서면 버킷이 빈 것으로 보고 거절
+ */
+public class RateLimitRule {
+
+    private final String name;
+    private final Channel channel;
+    private final PathPattern pattern;
+    private final String method;
+    private final KeyType keyType;
+    private final int capacity;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    public RateLimitRule(String name, RateLimitProperties.Rule rule) {
+        if (rule.pattern() == null || rule.capacity() <= 0 || rule.refillPerSecond() <= 0) {
+            throw new IllegalArgumentException("잘못된 빈도 제한 규칙입니다: " + name);
+        }
+        this.name = name;
+        this.channel = rule.channel();
+        this.pattern = PathPatternParser.defaultInstance.parse(rule.pattern());
+        this.method = (rule.method() != null) ? rule.method().toUpperCase() : null;
+        this.keyType = rule.key();
+        this.capacity = rule.capacity();
+        this.emissionIntervalNanos = (long) (1_000_000_000L / rule.refillPerSecond());
+        this.burstToleranceNanos = emissionIntervalNanos * rule.capacity();
+    }
+
+    public boolean matches(Channel channel, String method, String path) {
+        if (this.channel != channel || path == null) {
+            return false;
+        }
+        if (this.method != null && !this.method.equalsIgnoreCase(method)) {
+            return false;
+        }
+        return pattern.matches(PathContainer.parsePath(path));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public KeyType getKeyType() {
+        return keyType;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getEmissionIntervalNanos() {
+        return emissionIntervalNanos;
+    }
+
+    public long getBurstToleranceNanos() {
+        return burstToleranceNanos;
+    }
+}
@@ -0,0 +1,97 @@
+package com.back.global.ratelimit;
+
+import com.back.global.ratelimit.RateLimitProperties.Channel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 빈도 제한 진입점 (서블릿 필터 / STOMP 인터셉터 공용)
+ * - 규칙 매칭, 버킷 선택(LOCAL / REDIS), 규칙별 허용/거절 횟수 집계
+ * - Redis 장애 시에는 노드별 메모리 버킷으로 대신 제한
+ */
+@Slf4j
+@Component
+public class RateLimitService {
+
+    private final boolean enabled;
+    private final List<RateLimitRule> rules;
+    private final RateLimiter localRateLimiter;
+    private final RateLimiter redisRateLimiter;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public RateLimitService(RateLimitProperties properties, LocalRateLimiter localRateLimiter,
+                            ObjectProvider<RedisRateLimiter> redisRateLimiter) {
+        this.enabled = properties.enabled();
+        this.rules = properties.rules().entrySet().stream()
+                .map(entry -> new RateLimitRule(entry.getKey(), entry.getValue()))
+                .toList();
+        this.localRateLimiter = localRateLimiter;
+        this.redisRateLimiter = (properties.mode() == RateLimitProperties.Mode.REDIS)
+                ? redisRateLimiter.getIfAvailable()
+                : null;
+        rules.forEach(rule -> counters.put(rule.getName(), new Counter()));
+    }
+
+    // 요청(HTTP 경로 또는 STOMP 목적지)에 적용되는 규칙 목록
+    public List<RateLimitRule> findRules(Channel channel, String method, String path) {
+        if (!enabled) {
+            return List.of();
+        }
+        return rules.stream()
+                .filter(rule -> rule.matches(channel, method, path))
+                .toList();
+    }
+
+    // 허용되면 0, 거절되면 재시도까지 남은 시간(밀리초)
+    public long tryAcquire(RateLimitRule rule, String key) {
+        String bucketKey = rule.getName() + ":" + key;
+        long waitMillis = acquire(rule, bucketKey);
+
+        Counter counter = counters.get(rule.getName());
+        if (waitMillis > 0) {
+            counter.rejected.increment();
+            log.debug("요청 빈도 제한 초과 - rule: {}, key: {}, retryAfter: {}ms", rule.getName(), key, waitMillis);
+        } else {
+            counter.allowed.increment();
+        }
+        return waitMillis;
+    }
+
+    // 규칙별 허용/거절 누적 횟수
+    public Map<String, RateLimitStats> getStats() {
+        Map<String, RateLimitStats> stats = new LinkedHashMap<>();
+        for (RateLimitRule rule : rules) {
+            Counter counter = counters.get(rule.getName());
+            stats.put(rule.getName(), new RateLimitStats(counter.allowed.sum(), counter.rejected.sum()));
+        }
+        return stats;
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private long acquire(RateLimitRule rule, String bucketKey) {
+        if (redisRateLimiter != null) {
+            try {
+                return redisRateLimiter.tryAcquire(rule, bucketKey);
+            } catch (RuntimeException e) {
+                log.warn("Redis 빈도 제한 실패, 노드별 버킷으로 대체 - rule: {}", rule.getName(), e);
+            }
+        }
+        return localRateLimiter.tryAcquire(rule, bucketKey);
+    }
+
+    private static class Counter {
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+    }
+
+    public record RateLimitStats(long allowed, long rejected) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.back.global.ratelimit;
+
+// 버킷 키(규칙 이름 + IP/회원/채팅방)별 토큰 1개 소비 시도
+public interface RateLimiter {
+
+    // 허용되면 0, 거절되면 토큰이 충전될 때까지 남은 시간(밀리초)
+    long tryAcquire(RateLimitRule rule, String bucketKey);
+}
@@ -0,0 +1,57 @@
+package com.back.global.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 기반 토큰 버킷 (여러 노드가 같은 버킷을 공유)
+ * - ratelimit:{규칙}:{키} 에 TAT(밀리초)를 저장하고 Lua 스크립트로 원자적으로 갱신
+ * - 시각은 Redis 서버 TIME 을 사용해 노드 간 시계 차이의 영향을 받지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.mode", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    // KEYS[1] = 버킷 키 / ARGV = emissionInterval(ms), burstTolerance(ms)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+            local nextTat = tat + interval
+            local wait = nextTat - now - tolerance
+            if wait > 0 then
+                return math.max(1, math.ceil(wait))
+            end
+            redis.call('SET', KEYS[1], tostring(nextTat), 'PX', math.max(1, math.ceil(nextTat - now)))
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public long tryAcquire(RateLimitRule rule, String bucketKey) {
+        Long waitMillis = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + bucketKey),
+                toMillis(rule.getEmissionIntervalNanos()), toMillis(rule.getBurstToleranceNanos()));
+        return (waitMillis != null) ? waitMillis : 0L;
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private String toMillis(long nanos) {
+        return String.valueOf(nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,110 @@
+package com.back.global.ratelimit;
+
+import com.back.domain.chat.chat.dto.MessageDto;
+import com.back.global.ratelimit.RateLimitProperties.Channel;
+import com.back.global.websocket.StompAuthInterceptor;
+import com.back.global.websocket.StompPrincipal;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * STOMP SEND 빈도 제한 (StompAuthInterceptor 다음에 실행)
+ * - 회원 id / 채팅방 id / 핸드셰이크 때 보관한 클라이언트 IP 별 버킷을 사용하고, 초과한 메시지는 폐기 후 발신자에게 에러 메시지 전송
+ * - SimpMessagingTemplate 은 채널 설정과 순환 참조가 생기므로 사용 시점에 조회
+ */
+@Slf4j
+@Component
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    private final RateLimitService rateLimitService;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+
+    public StompRateLimitInterceptor(RateLimitService rateLimitService, ObjectMapper objectMapper,
+                                     ObjectProvider<SimpMessagingTemplate> messagingTemplate) {
+        this.rateLimitService = rateLimitService;
+        this.objectMapper = objectMapper;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SEND.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        List<RateLimitRule> rules = rateLimitService.findRules(Channel.STOMP, null, accessor.getDestination());
+        if (rules.isEmpty()) {
+            return message;
+        }
+
+        StompPrincipal sender = StompAuthInterceptor.getPrincipal(accessor);
+        for (RateLimitRule rule : rules) {
+            String key = resolveKey(rule, sender, accessor, message);
+            if (key == null) {
+                continue;
+            }
+            if (rateLimitService.tryAcquire(rule, key) > 0) {
+                sendErrorMessage(sender);
+                return null;
+            }
+        }
+        return message;
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private String resolveKey(RateLimitRule rule, StompPrincipal sender, StompHeaderAccessor accessor, Message<?> message) {
+        return switch (rule.getKeyType()) {
+            case MEMBER -> (sender != null) ? "member:" + sender.memberId() : "session:" + accessor.getSessionId();
+            case ROOM -> {
+                Long chatRoomId = readChatRoomId(message);
+                yield (chatRoomId != null) ? "room:" + chatRoomId : null;
+            }
+            case IP -> {
+                String clientIp = StompAuthInterceptor.getClientIp(accessor);
+                yield (clientIp != null) ? "ip:" + clientIp : "session:" + accessor.getSessionId();
+            }
+        };
+    }
+
+    private Long readChatRoomId(Message<?> message) {
+        if (!(message.getPayload() instanceof byte[] payload)) {
+            return null;
+        }
+        try {
+            JsonNode chatRoomId = objectMapper.readTree(payload).path("chatRoomId");
+            return chatRoomId.canConvertToLong() ? chatRoomId.asLong() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void sendErrorMessage(StompPrincipal sender) {
+        if (sender == null) {
+            return;
+        }
+        try {
+            MessageDto errorMsg = new MessageDto();
+            errorMsg.setSender("System");
+            errorMsg.setContent("메시지를 너무 자주 보내고 있습니다. 잠시 후 다시 시도해주세요.");
+            messagingTemplate.getObject().convertAndSendToUser(sender.email(), "/queue/error", errorMsg);
+        } catch (Exception e) {
+            log.debug("빈도 제한 에러 메시지 전송 실패 - memberId: {}", sender.memberId(), e);
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.back.global.rq;
 
 import com.back.domain.member.entity.Member;
-import com.back.domain.member.entity.Role;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.global.security.auth.AuthMember;
 import com.back.global.security.auth.MemberDetails;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -18,29 +19,53 @@ import org.springframework.stereotype.Component;
 public class Rq {
 
     private final HttpServletRequest request;
+    private final MemberRepository memberRepository;
 
-    // 현재 로그인된 사용자의 Member 객체를 반환
-    public Member getMember() {
+    // 요청 범위 내에서 한 번 조회한 Member 재사용
+    private Member loadedMember;
+
+    // 현재 로그인된 사용자의 인증 정보를 반환 (DB 조회 없음)
+    public AuthMember getAuthMember() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null || !(auth.getPrincipal() instanceof MemberDetails)) return null;
+        if (auth == null || !(auth.getPrincipal() instanceof MemberDetails memberDetails)) return null;
+
+        return memberDetails.getAuthMember();
+    }
+
+    // 현재 로그인된 사용자의 Member 엔티티를 반환 (처음 호출될 때만 DB 조회)
+    // 엔티티의 필드가 꼭 필요한 경우에만 사용
+    public Member getMember() {
+        AuthMember authMember = getAuthMember();
+        if (authMember == null) return null;
+
+        if (loadedMember == null) {
+            loadedMember = memberRepository.findById(authMember.id()).orElse(null);
+        }
+        return loadedMember;
+    }
+
+    // 현재 로그인된 사용자의 Member 참조를 반환 (연관관계 설정, 쿼리 조건 등 id만 필요한 경우 / 필드 접근 전까지 DB 조회 없음)
+    public Member getMemberReference() {
+        AuthMember authMember = getAuthMember();
+        if (authMember == null) return null;
 
-        return ((MemberDetails) auth.getPrincipal()).getMember();
+        return (loadedMember != null) ? loadedMember : memberRepository.getReferenceById(authMember.id());
     }
 
     // 현재 로그인된 사용자의 ID를 반환
     public Long getMemberId() {
-        Member member = getMember();
-        return (member != null) ? member.getId() : null;
+        AuthMember authMember = getAuthMember();
+        return (authMember != null) ? authMember.id() : null;
     }
 
     // 현재 사용자의 로그인 상태 여부를 반환
     public boolean isLogin() {
-        return getMember() != null;
+        return getAuthMember() != null;
     }
 
     // 현재 사용자의 역할(Role)이 ADMIN인지 여부를 반환
     public boolean isAdmin() {
-        Member member = getMember();
-        return member != null && member.getRole() == Role.ADMIN;
+        AuthMember authMember = getAuthMember();
+        return authMember != null && authMember.isAdmin();
     }
-}
\ No newline at end of file
+}
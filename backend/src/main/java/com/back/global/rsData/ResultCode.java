@@ -29,6 +29,12 @@ public enum ResultCode {
     MEMBER_NOT_FOUND("404-1", 404, "존재하지 않는 회원입니다."),
     POST_NOT_FOUND("404-2", 404, "존재하지 않는 특허입니다."),
 
+    // ----------------------- [409: 충돌] -----------------------
+    FILE_GC_RUNNING("409-1", 409, "고아 파일 정리가 이미 실행 중입니다."),
+
+    // ----------------------- [429: 요청 과다] -----------------------
+    TOO_MANY_REQUESTS("429-1", 429, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
     // ----------------------- [500: 서버 오류] -----------------------
     SERVER_ERROR("500", 500, "서버 내부 오류가 발생했습니다.");
 
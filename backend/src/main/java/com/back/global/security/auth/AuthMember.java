@@ -0,0 +1,44 @@
+package com.back.global.security.auth;
+
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.entity.Role;
+import com.back.domain.member.entity.Status;
+import io.jsonwebtoken.Claims;
+
+/**
+ * 인증된 회원 정보 (SecurityContext 에 보관하는 불변 주체)
+ * - 회원 엔티티 대신 요청 처리에 필요한 최소 정보만 보관
+ * - 엔티티가 꼭 필요한 경우에만 Rq.getMember() 로 지연 조회
+ */
+public record AuthMember(
+        Long id,
+        String email,
+        String name,
+        Role role,
+        Status status
+) {
+    public static AuthMember from(Member member) {
+        return new AuthMember(
+                member.getId(),
+                member.getEmail(),
+                member.getName(),
+                member.getRole(),
+                member.getStatus()
+        );
+    }
+
+    // JWT 클레임으로 생성 (회원 엔티티를 조회하지 않음)
+    public static AuthMember fromClaims(Claims claims, Status status) {
+        return new AuthMember(
+                claims.get("id", Long.class),
+                claims.getSubject(),
+                claims.get("name", String.class),
+                Role.valueOf(claims.get("role", String.class)),
+                status
+        );
+    }
+
+    public boolean isAdmin() {
+        return role == Role.ADMIN;
+    }
+}
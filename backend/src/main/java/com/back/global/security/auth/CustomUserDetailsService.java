@@ -5,13 +5,17 @@ import com.back.domain.member.entity.Status;
 import com.back.domain.member.repository.MemberRepository;
 import com.back.global.exception.ServiceException;
 import com.back.global.rsData.ResultCode;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
 
@@ -38,4 +42,18 @@ public class CustomUserDetailsService implements UserDetailsService {
         // MemberDetails 객체 생성 후 반환
         return new MemberDetails(member);
     }
-}
\ No newline at end of file
+
+    // 로그인 성공 시 저장된 해시가 현재 설정(알고리즘/강도)보다 약하면 새 해시로 교체
+    // (DaoAuthenticationProvider 가 upgradeEncoding 결과에 따라 호출)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다."));
+
+        member.updatePassword(newPassword);
+        log.debug("비밀번호 해시 재생성 - memberId: {}", member.getId());
+
+        return new MemberDetails(member);
+    }
+}
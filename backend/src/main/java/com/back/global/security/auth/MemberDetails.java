@@ -2,6 +2,7 @@ package com.back.global.security.auth;
 
 import com.back.domain.member.entity.Member;
 import com.back.domain.member.entity.Status;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,39 +12,57 @@ import java.util.List;
 
 public class MemberDetails implements UserDetails {
 
-    private final Member member;
+    private final AuthMember authMember;
+
+    // 이메일/비밀번호 로그인 검증에만 사용 (JWT 인증 시에는 null)
+    private final String password;
 
     public MemberDetails(Member member) {
-        this.member = member;
+        this.authMember = AuthMember.from(member);
+        this.password = member.getPassword();
+    }
+
+    public MemberDetails(AuthMember authMember) {
+        this.authMember = authMember;
+        this.password = null;
+    }
+
+    // JWT 클레임으로 생성 (회원 엔티티를 조회하지 않음)
+    public static MemberDetails fromClaims(Claims claims, Status status) {
+        return new MemberDetails(AuthMember.fromClaims(claims, status));
+    }
+
+    public AuthMember getAuthMember() {
+        return authMember;
     }
 
-    public Member getMember() {
-        return member;
+    public Long getId() {
+        return authMember.id();
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + member.getRole()));
+        return List.of(new SimpleGrantedAuthority("ROLE_" + authMember.role()));
     }
 
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return member.getEmail();
+        return authMember.email();
     }
 
     @Override
     public boolean isAccountNonExpired() {
-        return member.getDeletedAt() == null;
+        return !Status.DELETED.equals(authMember.status());
     }
 
     @Override
     public boolean isAccountNonLocked() {
-        return !Status.BLOCKED.equals(member.getStatus());
+        return !Status.BLOCKED.equals(authMember.status());
     }
 
     @Override
@@ -53,6 +72,6 @@ public class MemberDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return Status.ACTIVE.equals(member.getStatus());
+        return Status.ACTIVE.equals(authMember.status());
     }
-}
\ No newline at end of file
+}
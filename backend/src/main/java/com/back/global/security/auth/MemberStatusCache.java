@@ -0,0 +1,89 @@
+package com.back.global.security.auth;
+
+import com.back.domain.member.entity.Status;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.global.security.jwt.VerifiedTokenCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 상태 캐시
+ * - JWT 인증 시 회원 엔티티 전체를 조회하지 않고 상태(ACTIVE / BLOCKED / DELETED)만 확인
+ * - 상태 변경(관리자 수정, 탈퇴) 시 evict 로 즉시 무효화하고, 다른 노드의 변경은 TTL 이 지나면 반영
+ */
+@Component
+public class MemberStatusCache {
+
+    private final MemberRepository memberRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final long ttlMillis;
+    private final int maxSize;
+
+    private final Map<Long, CachedStatus> cache = new ConcurrentHashMap<>();
+
+    public MemberStatusCache(
+            MemberRepository memberRepository,
+            VerifiedTokenCache verifiedTokenCache,
+            @Value("${security.member-status-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${security.member-status-cache.max-size:10000}") int maxSize
+    ) {
+        this.memberRepository = memberRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxSize = maxSize;
+    }
+
+    // 회원 상태 조회 (존재하지 않는 회원이면 null)
+    public Status getStatus(Long memberId) {
+        long now = System.currentTimeMillis();
+        CachedStatus cached = cache.get(memberId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.status();
+        }
+
+        Status status = memberRepository.findStatusById(memberId).orElse(null);
+        if (status == null) {
+            cache.remove(memberId);
+            return null;
+        }
+
+        if (cache.size() >= maxSize) {
+            evictExpired(now);
+        }
+        cache.put(memberId, new CachedStatus(status, now + ttlMillis));
+        return status;
+    }
+
+    // 회원 상태 캐시 무효화 (트랜잭션 중이면 커밋 후 한 번 더 무효화해 이전 상태가 다시 캐시되지 않도록 함)
+    // 해당 회원의 검증된 토큰 캐시도 함께 제거
+    public void evict(Long memberId) {
+        cache.remove(memberId);
+        verifiedTokenCache.evictMember(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(memberId);
+                }
+            });
+        }
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private void evictExpired(long now) {
+        cache.values().removeIf(cached -> cached.expiresAt() <= now);
+        // 만료 항목을 정리해도 가득 차 있으면 전체 비움 (다음 요청부터 다시 채워짐)
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+    }
+
+    private record CachedStatus(Status status, long expiresAt) {
+    }
+}
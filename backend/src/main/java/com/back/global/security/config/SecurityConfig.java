@@ -1,9 +1,17 @@
 package com.back.global.security.config;
 
-import com.back.global.security.auth.CustomUserDetailsService;
+import com.back.global.ratelimit.RateLimitFilter;
+import com.back.global.ratelimit.RateLimitService;
+import com.back.global.security.auth.MemberStatusCache;
 import com.back.global.security.jwt.JwtFilter;
-import com.back.global.security.jwt.JwtTokenProvider;
+import com.back.global.security.jwt.VerifiedTokenCache;
+import com.back.global.security.password.OffloadedPasswordEncoder;
+import com.back.global.security.password.PasswordEncoderFactory;
+import com.back.global.security.password.PasswordHashingExecutor;
+import com.back.global.security.route.PublicRoutes;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,7 +22,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -31,8 +38,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MemberStatusCache memberStatusCache;
+    private final RateLimitService rateLimitService;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -41,43 +50,14 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        // 인증 없이 접근 가능한 경로들
-                        .requestMatchers("/api/auth/signup", "/api/auth/login", "/api/auth/reissue",
-                                            "/api/posts", "/api/posts/popular", "/api/posts/{postId}", "/files/**").permitAll()
-                        // 비밀번호 찾기 관련 엔드포인트 허용
-                        .requestMatchers("/api/members/verify-member", "/api/members/find-password").permitAll()
-                        .requestMatchers("/h2-console/**").permitAll()
-
-                        // Swagger 관련 경로들 - 더 구체적으로 설정
-                        .requestMatchers("/v3/api-docs/**").permitAll()
-                        .requestMatchers("/swagger-ui/**").permitAll()
-                        .requestMatchers("/swagger-ui.html").permitAll()
-                        .requestMatchers("/swagger-resources/**").permitAll()
-                        .requestMatchers("/webjars/**").permitAll()
-
-                        // WebSocket 관련 경로들
-                        .requestMatchers("/chat/**").permitAll()     // WebSocket 엔드포인트 허용
-                        .requestMatchers("/chat").permitAll()        // WebSocket 핸드셰이크 경로
-                        .requestMatchers("/topic/**").permitAll()    // STOMP 구독 경로 허용
-                        .requestMatchers("/queue/**").permitAll()    // 개별 사용자 큐 경로 허용
-                        .requestMatchers("/user/**").permitAll()     // 사용자별 메시지 경로 허용
-                        .requestMatchers("/app/**").permitAll()      // 메시지 전송 경로 허용
-                        // 채팅 REST API는 인증 필요로 변경
-                        // CORS 설정이 필요한 경우, CORS 필터를 추가해야 합니다.
-
-                        // 정적 리소스
-                        .requestMatchers("/favicon.ico").permitAll()
-                        .requestMatchers("/*.html").permitAll() // HTML 파일 접근 허용
-                        .requestMatchers("/css/**", "/js/**", "/images/**").permitAll()
-
-                        // 에러 경로 허용
-                        .requestMatchers("/error").permitAll()
-                        .requestMatchers("/").permitAll()
-
+                        // 인증 없이 접근 가능한 경로는 PublicRoutes 한 곳에서 관리 (미리 컴파일된 트라이로 한 번에 매칭)
+                        .requestMatchers(PublicRoutes.permitAllMatcher()).permitAll()
                         .anyRequest().authenticated()
                 )
                 // JWT 필터를 조건부로 적용
-                .addFilterBefore(new JwtFilter(jwtTokenProvider, userDetailsService), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtFilter(verifiedTokenCache, memberStatusCache), UsernamePasswordAuthenticationFilter.class)
+                // 로그인/비밀번호 찾기/파일 업로드 등 비용이 큰 요청의 빈도 제한 (회원 기준 제한을 위해 JWT 필터 다음)
+                .addFilterAfter(new RateLimitFilter(rateLimitService, objectMapper), JwtFilter.class)
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable)); // H2 콘솔 접근 허용
 
 
@@ -124,8 +104,14 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    // 해시 알고리즘은 설정으로 선택 (bcrypt / argon2), 해싱은 전용 실행기에서 수행
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            PasswordHashingExecutor passwordHashingExecutor,
+            @Value("${security.password.encoder:bcrypt}") String encodingId,
+            @Value("${security.password.bcrypt-strength:10}") int bcryptStrength
+    ) {
+        PasswordEncoder encoder = PasswordEncoderFactory.create(encodingId, bcryptStrength);
+        return new OffloadedPasswordEncoder(encoder, passwordHashingExecutor);
     }
 }
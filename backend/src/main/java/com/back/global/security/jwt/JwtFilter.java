@@ -1,6 +1,9 @@
 package com.back.global.security.jwt;
 
-import com.back.global.security.auth.CustomUserDetailsService;
+import com.back.domain.member.entity.Status;
+import com.back.global.security.auth.MemberDetails;
+import com.back.global.security.auth.MemberStatusCache;
+import com.back.global.security.route.PublicRoutes;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -8,33 +11,24 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Set;
 
 // JWT 필터 클래스
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MemberStatusCache memberStatusCache;
 
-    public JwtFilter(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService) {
-        this.jwtTokenProvider = jwtTokenProvider;
-        this.userDetailsService = userDetailsService;
+    public JwtFilter(VerifiedTokenCache verifiedTokenCache, MemberStatusCache memberStatusCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.memberStatusCache = memberStatusCache;
     }
 
-    // JWT 필터를 적용하지 않을 경로들
-    private static final Set<String> EXCLUDED_PATH_PREFIXES = Set.of(
-            "/auth/", "/h2-console/", "/v3/api-docs", "/swagger-ui",
-            "/swagger-resources", "/webjars/", "/ws/", "/chat/",
-            "/topic/", "/app/", "/css/", "/js/", "/images/"
-    );
-
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
@@ -45,18 +39,17 @@ public class JwtFilter extends OncePerRequestFilter {
         // 토큰이 존재하고 유효한 경우 인증 처리
         if (token != null) {
             try {
-                // 토큰이 유요한지 검증 (만료 여부, 서명 등)
-                if (jwtTokenProvider.validateToken(token)) {
-
-                    // 토큰에서 사용자 이메일 추출
-                    String email = jwtTokenProvider.getEmailFromToken(token);
+                // 캐시된 검증 결과가 있으면 재사용, 없으면 한 번만 파싱 (서명, 만료 검증 포함 / 실패 시 예외)
+                // 폐기된 토큰과 id 클레임이 없는 리프레시 토큰은 null
+                MemberDetails memberDetails = verifiedTokenCache.verify(token);
 
-                    // 이메일로 UserDetails(Spring Security 사용자 정보 객체) 조회
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                // 회원 엔티티 대신 캐시된 상태만 확인 (탈퇴/정지 회원은 인증하지 않음)
+                Status status = (memberDetails != null) ? memberStatusCache.getStatus(memberDetails.getId()) : null;
 
-                    // UserDetails 기반으로 UsernamePasswordAuthenticationToken 생성
+                if (status == Status.ACTIVE) {
+                    // MemberDetails 기반으로 UsernamePasswordAuthenticationToken 생성
                     UsernamePasswordAuthenticationToken auth =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                            new UsernamePasswordAuthenticationToken(memberDetails, null, memberDetails.getAuthorities());
 
                     // 인증 정보에 요청 세부 정보를 설정
                     auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -73,7 +66,8 @@ public class JwtFilter extends OncePerRequestFilter {
         chain.doFilter(request, response);
     }
 
-    private String resolveToken(HttpServletRequest request) {
+    // 요청에서 액세스 토큰 추출 (로그아웃 시 토큰 폐기에도 사용)
+    public static String resolveToken(HttpServletRequest request) {
         // 1. Authorization 헤더에서 토큰 확인 (앱 환경용)
         String bearer = request.getHeader("Authorization");
         if (bearer != null && bearer.startsWith("Bearer ")) {
@@ -93,21 +87,9 @@ public class JwtFilter extends OncePerRequestFilter {
         return null;
     }
 
-    // 필터가 적용 되지 않는 경로 설정 (Swagger, H2 콘솔 등)
+    // 필터가 적용 되지 않는 경로 설정 (Swagger, H2 콘솔 등 - PublicRoutes.JWT_EXCLUDED)
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        String path = request.getRequestURI();
-        for (String prefix : EXCLUDED_PATH_PREFIXES) {
-            if (path.startsWith(prefix)) {
-                return true;
-            }
-        }
-
-        // HTML 파일들과 루트 경로
-        if (path.endsWith(".html") || path.equals("/") || path.equals("/home")) {
-            return true;
-        }
-
-        return false;
+        return PublicRoutes.isJwtExcluded(request);
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,9 @@
 package com.back.global.security.jwt;
 
 import com.back.domain.member.entity.Member;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,12 +12,16 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey key;
+    // 불변 객체로 스레드 안전하므로 한 번만 생성해 재사용
+    private final JwtParser parser;
     private final long accessTokenValidity;
     private final long refreshTokenValidity;
 
@@ -25,6 +31,9 @@ public class JwtTokenProvider {
             @Value("${jwt.refresh-token-validity}") long refreshTokenValidity
     ) {
         this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
         this.accessTokenValidity = accessTokenValidity;
         this.refreshTokenValidity = refreshTokenValidity;
     }
@@ -35,6 +44,7 @@ public class JwtTokenProvider {
                 .setSubject(member.getEmail())
                 .claim("id", member.getId())
                 .claim("role", member.getRole().name())
+                .claim("name", member.getName())
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + accessTokenValidity))
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -45,34 +55,23 @@ public class JwtTokenProvider {
         Date now = new Date();
         return Jwts.builder()
                 .setSubject(member.getEmail())
+                .setId(UUID.randomUUID().toString()) // 같은 시각에 발급해도 토큰이 겹치지 않도록 고유 id 부여
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + refreshTokenValidity))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getSubject();
-        } catch (JwtException | IllegalArgumentException e) {
-            throw new RuntimeException("유효하지 않은 토큰입니다", e);
-        }
+    public Duration getRefreshTokenValidity() {
+        return Duration.ofMillis(refreshTokenValidity);
     }
 
-    public boolean validateToken(String token) {
+    // 토큰 검증 후 클레임 반환 (서명/만료 검증 실패 시 예외)
+    public Claims getClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return parser.parseClaimsJws(token).getBody();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            throw new RuntimeException("유효하지 않은 토큰입니다", e);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.back.global.security.jwt;
+
+import com.back.domain.member.entity.Status;
+import com.back.global.security.auth.MemberDetails;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 액세스 토큰 캐시
+ * - 같은 토큰이 반복해서 들어오면 서명 검증과 클레임 파싱을 건너뛰고 이미 만든 인증 주체를 반환
+ * - 키는 토큰 원문이 아닌 SHA-256 해시, 항목은 토큰 만료(exp) 시각(최대 max-ttl)까지만 유지
+ * - 로그아웃한 토큰은 만료 시각까지 폐기 목록에 남겨 다시 인증되지 않도록 함
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final boolean enabled;
+    private final int maxSize;
+    private final long maxTtlMillis;
+
+    private final Map<String, CachedToken> cache = new ConcurrentHashMap<>();
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${security.token-cache.enabled:true}") boolean enabled,
+            @Value("${security.token-cache.max-size:10000}") int maxSize,
+            @Value("${security.token-cache.max-ttl-seconds:600}") long maxTtlSeconds
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.maxTtlMillis = maxTtlSeconds * 1000;
+    }
+
+    /**
+     * 토큰을 검증하고 인증 주체 반환
+     * - 서명/만료 검증 실패 시 예외, 폐기된 토큰이나 회원 id 클레임이 없는 토큰(리프레시 토큰)은 null
+     * - 반환된 주체의 상태는 ACTIVE 로 채워지므로 호출하는 쪽에서 회원 상태를 별도로 확인해야 함
+     */
+    public MemberDetails verify(String token) {
+        if (!enabled) {
+            return toPrincipal(jwtTokenProvider.getClaims(token));
+        }
+
+        String key = TokenHashes.sha256(token);
+        long now = System.currentTimeMillis();
+
+        if (!revoked.isEmpty() && revoked.getOrDefault(key, 0L) > now) {
+            return null;
+        }
+
+        CachedToken cached = cache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.principal();
+        }
+
+        Claims claims = jwtTokenProvider.getClaims(token);
+        MemberDetails principal = toPrincipal(claims);
+        if (principal == null) {
+            return null;
+        }
+
+        if (cache.size() >= maxSize) {
+            evictExpired(now);
+        }
+        long expiresAt = Math.min(claims.getExpiration().getTime(), now + maxTtlMillis);
+        cache.put(key, new CachedToken(principal, expiresAt));
+        return principal;
+    }
+
+    // 로그아웃한 액세스 토큰 폐기 (토큰 만료 시각까지 재인증 차단)
+    public void revoke(String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+
+        long expiresAt;
+        try {
+            expiresAt = jwtTokenProvider.getClaims(token).getExpiration().getTime();
+        } catch (RuntimeException e) {
+            // 이미 만료되었거나 유효하지 않은 토큰은 폐기할 필요 없음
+            return;
+        }
+
+        String key = TokenHashes.sha256(token);
+        cache.remove(key);
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(until -> until <= now);
+        revoked.put(key, expiresAt);
+    }
+
+    // 회원 상태 변경 시 해당 회원의 캐시된 토큰 제거
+    public void evictMember(Long memberId) {
+        cache.values().removeIf(cached -> memberId.equals(cached.principal().getId()));
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private MemberDetails toPrincipal(Claims claims) {
+        if (claims.get("id") == null) {
+            return null;
+        }
+        return MemberDetails.fromClaims(claims, Status.ACTIVE);
+    }
+
+    private void evictExpired(long now) {
+        cache.values().removeIf(cached -> cached.expiresAt() <= now);
+        // 만료 항목을 정리해도 가득 차 있으면 전체 비움 (다음 요청부터 다시 채워짐)
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+    }
+
+    private record CachedToken(MemberDetails principal, long expiresAt) {
+    }
+}
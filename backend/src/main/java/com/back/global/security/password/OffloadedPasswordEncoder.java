@@ -0,0 +1,34 @@
+package com.back.global.security.password;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해싱 연산(encode / matches)을 PasswordHashingExecutor 에서 실행하는 PasswordEncoder
+ * - 로그인(DaoAuthenticationProvider), 회원가입, 비밀번호 변경 등 모든 사용처에 동일하게 적용됨
+ */
+public class OffloadedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor hashingExecutor;
+
+    public OffloadedPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor hashingExecutor) {
+        this.delegate = delegate;
+        this.hashingExecutor = hashingExecutor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hashingExecutor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hashingExecutor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시 접두사/강도 비교만 하므로 호출 스레드에서 바로 실행
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,39 @@
+package com.back.global.security.password;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 해시 알고리즘 전환이 가능한 DelegatingPasswordEncoder 생성
+ * - 새 해시는 "{id}해시" 형식으로 저장되고, 기존 접두사 없는 해시는 bcrypt 로 검증
+ * - 저장된 해시의 알고리즘/강도가 현재 설정과 다르면 upgradeEncoding 이 true 를 반환 (로그인 시 재해싱)
+ */
+public final class PasswordEncoderFactory {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+
+    private PasswordEncoderFactory() {
+    }
+
+    public static PasswordEncoder create(String encodingId, int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        if (!encoders.containsKey(encodingId)) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 인코더입니다: " + encodingId);
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encodingId, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
+    }
+}
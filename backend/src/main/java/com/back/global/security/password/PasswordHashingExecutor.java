@@ -0,0 +1,124 @@
+package com.back.global.security.password;
+
+import com.back.global.exception.ServiceException;
+import com.back.global.rsData.ResultCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱 전용 실행기
+ * - 해싱(CPU 집약 작업)은 고정 크기 스레드 풀에서만 실행되어 요청 스레드가 CPU 를 독점하지 않음
+ * - 대기열이 가득 차면 기다리지 않고 즉시 429 로 거절 (로그인 폭주 시 다른 API 보호)
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public PasswordHashingExecutor(
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.max-queue-depth:64}") int maxQueueDepth,
+            @Value("${security.password.hashing.timeout-ms:5000}") long timeoutMillis
+    ) {
+        // 0 이하이면 CPU 코어 수만큼 사용
+        int poolSize = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxQueueDepth)),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // 해싱 작업을 전용 스레드에서 실행하고 결과를 기다림
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            long rejected = rejectedCount.incrementAndGet();
+            log.warn("비밀번호 해싱 대기열 포화로 요청 거절 - queueDepth: {}, rejected: {}", getQueueDepth(), rejected);
+            throw tooManyRequests();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.incrementAndGet();
+            throw tooManyRequests();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceException(ResultCode.SERVER_ERROR.code(), "비밀번호 처리 중 요청이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // ================= 지표 조회 =================
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private ServiceException tooManyRequests() {
+        return new ServiceException(ResultCode.TOO_MANY_REQUESTS.code(), ResultCode.TOO_MANY_REQUESTS.message());
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.back.global.security.route;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * 공개 경로 정의 (SecurityConfig 와 JwtFilter 가 함께 사용)
+ * - PERMIT_ALL: 인증 없이 접근 가능한 경로
+ * - JWT_EXCLUDED: 토큰 확인 자체가 필요 없는 경로 (문서, 정적 리소스, WebSocket)
+ *   게시글 조회처럼 공개지만 로그인 여부에 따라 응답이 달라지는 경로는 JWT 필터를 거쳐야 하므로 여기에 넣지 않음
+ */
+public final class PublicRoutes {
+
+    public static final RouteMatcher PERMIT_ALL = RouteMatcher.of(
+            // 인증
+            "/api/auth/signup", "/api/auth/login", "/api/auth/reissue",
+            // 게시글 조회, 파일 다운로드
+            "/api/posts", "/api/posts/popular", "/api/posts/{postId}", "/files/**",
+            // 비밀번호 찾기
+            "/api/members/verify-member", "/api/members/find-password",
+            "/h2-console/**",
+            // Swagger
+            "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/swagger-resources/**", "/webjars/**",
+            // WebSocket (핸드셰이크 및 STOMP 경로, 인증은 STOMP CONNECT 에서 처리)
+            "/chat/**", "/topic/**", "/queue/**", "/user/**", "/app/**",
+            // 정적 리소스
+            "/favicon.ico", "/*.html", "/css/**", "/js/**", "/images/**",
+            // 에러 경로, 루트
+            "/error", "/"
+    );
+
+    public static final RouteMatcher JWT_EXCLUDED = RouteMatcher.of(
+            "/auth/**", "/h2-console/**",
+            "/v3/api-docs/**", "/swagger-ui/**", "/swagger-resources/**", "/webjars/**",
+            "/ws/**", "/chat/**", "/topic/**", "/app/**",
+            "/css/**", "/js/**", "/images/**",
+            "/*.html", "/", "/home"
+    );
+
+    private PublicRoutes() {
+    }
+
+    // SecurityConfig 의 permitAll 대상
+    public static RequestMatcher permitAllMatcher() {
+        return request -> PERMIT_ALL.matches(pathOf(request));
+    }
+
+    public static boolean isJwtExcluded(HttpServletRequest request) {
+        return JWT_EXCLUDED.matches(pathOf(request));
+    }
+
+    // 컨텍스트 경로를 제외한 요청 경로
+    public static String pathOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return (contextPath == null || contextPath.isEmpty()) ? uri : uri.substring(contextPath.length());
+    }
+}
@@ -0,0 +1,116 @@
+package com.back.global.security.route;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로 패턴 목록을 세그먼트 단위 트라이로 미리 컴파일한 매처
+ * - 요청마다 패턴을 하나씩 비교하지 않고 경로를 한 번만 따라 내려가므로 비용이 경로 길이에 비례
+ * - 지원 패턴: 고정 세그먼트, {변수} 또는 * (세그먼트 하나), *.확장자, 끝의 /** (0개 이상 세그먼트)
+ */
+public final class RouteMatcher {
+
+    private final Node root = new Node();
+
+    private RouteMatcher(String... patterns) {
+        for (String pattern : patterns) {
+            add(pattern);
+        }
+    }
+
+    public static RouteMatcher of(String... patterns) {
+        return new RouteMatcher(patterns);
+    }
+
+    public boolean matches(String path) {
+        if (path == null || !path.startsWith("/")) {
+            return false;
+        }
+        return match(root, segments(path), 0);
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private void add(String pattern) {
+        if (!pattern.startsWith("/")) {
+            throw new IllegalArgumentException("경로 패턴은 /로 시작해야 합니다: " + pattern);
+        }
+
+        String[] segments = segments(pattern);
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.equals("**")) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("** 는 패턴 끝에만 사용할 수 있습니다: " + pattern);
+                }
+                node.catchAll = true;
+                return;
+            }
+            node = node.child(segment);
+        }
+        node.terminal = true;
+    }
+
+    private boolean match(Node node, String[] segments, int index) {
+        if (node.catchAll) {
+            return true;
+        }
+        if (index == segments.length) {
+            return node.terminal;
+        }
+
+        String segment = segments[index];
+        Node literal = node.literals.get(segment);
+        if (literal != null && match(literal, segments, index + 1)) {
+            return true;
+        }
+        for (Suffix suffix : node.suffixes) {
+            if (segment.length() > suffix.extension.length()
+                    && segment.endsWith(suffix.extension)
+                    && match(suffix.node, segments, index + 1)) {
+                return true;
+            }
+        }
+        return node.wildcard != null && !segment.isEmpty() && match(node.wildcard, segments, index + 1);
+    }
+
+    // "/" → [], "/api/posts" → [api, posts], "/api/posts/" → [api, posts, ""]
+    private static String[] segments(String path) {
+        return (path.length() == 1) ? new String[0] : path.substring(1).split("/", -1);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final List<Suffix> suffixes = new ArrayList<>();
+        private Node wildcard;
+        private boolean terminal;
+        private boolean catchAll;
+
+        private Node child(String segment) {
+            if (segment.equals("*") || (segment.startsWith("{") && segment.endsWith("}"))) {
+                if (wildcard == null) {
+                    wildcard = new Node();
+                }
+                return wildcard;
+            }
+            if (segment.startsWith("*.")) {
+                String extension = segment.substring(1);
+                for (Suffix suffix : suffixes) {
+                    if (suffix.extension.equals(extension)) {
+                        return suffix.node;
+                    }
+                }
+                Suffix suffix = new Suffix(extension, new Node());
+                suffixes.add(suffix);
+                return suffix.node;
+            }
+            return literals.computeIfAbsent(segment, key -> new Node());
+        }
+    }
+
+    private record Suffix(String extension, Node node) {
+    }
+}
@@ -0,0 +1,245 @@
+package com.back.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 세션별 아웃바운드 메시지 흐름 제어
+ * - clientOutboundChannel 에 쌓인 세션별 대기 메시지 수(queue depth)를 추적
+ * - 한도를 넘는 느린 클라이언트는 정책(DROP / COALESCE / DISCONNECT)에 따라 처리
+ */
+@Slf4j
+@Component
+public class ChatOutboundFlowControl implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    public enum SlowConsumerPolicy {
+        DROP,       // 한도 초과 메시지 폐기
+        COALESCE,   // 목적지별 최신 메시지 하나로 병합
+        DISCONNECT  // 세션 강제 종료
+    }
+
+    private final int maxQueueDepth;
+    private final SlowConsumerPolicy policy;
+
+    private final Map<String, SessionState> states = new ConcurrentHashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    public ChatOutboundFlowControl(
+            @Value("${chat.websocket.max-outbound-queue:1000}") int maxQueueDepth,
+            @Value("${chat.websocket.slow-consumer-policy:DROP}") SlowConsumerPolicy policy
+    ) {
+        this.maxQueueDepth = maxQueueDepth;
+        this.policy = policy;
+    }
+
+    // ================= 채널 인터셉터 =================
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) {
+            return message;
+        }
+
+        // 연결 시 등록된 세션만 추적 (종료된 세션의 늦은 메시지로 상태가 다시 생기지 않도록 함)
+        SessionState state = states.get(sessionId);
+        if (state == null) {
+            return message;
+        }
+
+        int depth = state.depth.incrementAndGet();
+        state.peakDepth.accumulateAndGet(depth, Math::max);
+
+        if (depth <= maxQueueDepth) {
+            return message;
+        }
+
+        return switch (policy) {
+            case DROP -> {
+                state.depth.decrementAndGet();
+                state.dropped.incrementAndGet();
+                yield null;
+            }
+            case COALESCE -> coalesce(state, message);
+            case DISCONNECT -> {
+                state.depth.decrementAndGet();
+                state.dropped.incrementAndGet();
+                disconnect(sessionId, state, depth);
+                yield null;
+            }
+        };
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        // 실행기에 전달되지 못한 메시지는 대기열에서 제외
+        if (!sent) {
+            release(message);
+        }
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        SessionState state = (sessionId != null) ? states.get(sessionId) : null;
+        if (state == null || destination == null) {
+            return message;
+        }
+
+        // 병합 대기 중인 슬롯이면 가장 최신 메시지로 교체해서 전송
+        Message<?>[] toSend = {message};
+        state.coalesced.computeIfPresent(destination, (key, slot) -> {
+            if (slot.carrier != message) {
+                return slot;
+            }
+            toSend[0] = slot.latest;
+            return null;
+        });
+        return toSend[0];
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        release(message);
+    }
+
+    // ================= WebSocket 세션 추적 =================
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                states.putIfAbsent(session.getId(), new SessionState());
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                states.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    // ================= 지표 조회 =================
+
+    // 세션별 현재 아웃바운드 대기 메시지 수
+    public Map<String, Integer> getQueueDepths() {
+        return states.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().depth.get()));
+    }
+
+    public int getQueueDepth(String sessionId) {
+        SessionState state = states.get(sessionId);
+        return (state != null) ? state.depth.get() : 0;
+    }
+
+    public int getPeakQueueDepth(String sessionId) {
+        SessionState state = states.get(sessionId);
+        return (state != null) ? state.peakDepth.get() : 0;
+    }
+
+    // 세션별 폐기(또는 병합)된 메시지 수
+    public long getDroppedCount(String sessionId) {
+        SessionState state = states.get(sessionId);
+        return (state != null) ? state.dropped.get() : 0L;
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private Message<?> coalesce(SessionState state, Message<?> message) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null) {
+            state.depth.decrementAndGet();
+            state.dropped.incrementAndGet();
+            return null;
+        }
+
+        // 같은 목적지로 이미 대기 중인 슬롯이 있으면 최신 메시지만 갱신하고 새로 큐잉하지 않음
+        boolean[] merged = {false};
+        state.coalesced.compute(destination, (key, slot) -> {
+            if (slot == null) {
+                return new CoalescedSlot(message);
+            }
+            slot.latest = message;
+            merged[0] = true;
+            return slot;
+        });
+
+        if (merged[0]) {
+            state.depth.decrementAndGet();
+            state.dropped.incrementAndGet();
+            return null;
+        }
+        return message;
+    }
+
+    private void disconnect(String sessionId, SessionState state, int depth) {
+        if (!state.closing.compareAndSet(false, true)) {
+            return;
+        }
+
+        log.warn("느린 WebSocket 클라이언트 연결 종료 - sessionId: {}, queueDepth: {}", sessionId, depth);
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("WebSocket 세션 종료 실패 - sessionId: {}", sessionId, e);
+        }
+    }
+
+    private void release(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) {
+            return;
+        }
+        SessionState state = states.get(sessionId);
+        if (state != null) {
+            state.depth.updateAndGet(d -> Math.max(0, d - 1));
+        }
+    }
+
+    private static class SessionState {
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicInteger peakDepth = new AtomicInteger();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicBoolean closing = new AtomicBoolean();
+        private final Map<String, CoalescedSlot> coalesced = new ConcurrentHashMap<>();
+    }
+
+    private static class CoalescedSlot {
+        private final Message<?> carrier;
+        private volatile Message<?> latest;
+
+        private CoalescedSlot(Message<?> carrier) {
+            this.carrier = carrier;
+            this.latest = carrier;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.back.global.websocket;
+
+import com.back.domain.chat.chat.repository.RoomParticipantRepository;
+import com.back.domain.member.entity.Role;
+import com.back.global.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * STOMP CONNECT 인증 / 채팅방 구독 권한 확인
+ * - 핸드셰이크 시 accessToken 쿠키와 클라이언트 IP 를 세션 속성에 보관
+ * - CONNECT 시 Authorization 헤더(없으면 쿠키)의 JWT를 검증하고 StompPrincipal 을 세션 속성에 저장
+ * - 채팅방 목적지(/topic/chat/{id}, /queue/chat/{id}) SUBSCRIBE 는 해당 채팅방 참여자만 허용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthInterceptor implements ChannelInterceptor, HandshakeInterceptor {
+
+    public static final String PRINCIPAL_ATTRIBUTE = "stompPrincipal";
+    public static final String CLIENT_IP_ATTRIBUTE = "clientIp";
+    private static final String ACCESS_TOKEN_ATTRIBUTE = "accessToken";
+    private static final List<String> CHAT_ROOM_DESTINATIONS = List.of("/topic/chat/", "/queue/chat/");
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RoomParticipantRepository roomParticipantRepository;
+
+    // ================= 핸드셰이크 =================
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            String token = resolveCookieToken(servletRequest.getServletRequest());
+            if (token != null) {
+                attributes.put(ACCESS_TOKEN_ATTRIBUTE, token);
+            }
+            // 프록시 뒤에서는 server.forward-headers-strategy 로 바뀐 실제 클라이언트 IP (HTTP 빈도 제한과 같은 값)
+            attributes.put(CLIENT_IP_ATTRIBUTE, servletRequest.getServletRequest().getRemoteAddr());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    // ================= STOMP CONNECT / SUBSCRIBE =================
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            authenticate(accessor);
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            authorizeSubscribe(accessor);
+        }
+        return message;
+    }
+
+    // 세션에 저장된 인증 사용자 조회
+    public static StompPrincipal getPrincipal(SimpMessageHeaderAccessor accessor) {
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        Object principal = (sessionAttributes != null) ? sessionAttributes.get(PRINCIPAL_ATTRIBUTE) : null;
+        if (principal instanceof StompPrincipal stompPrincipal) {
+            return stompPrincipal;
+        }
+        return (accessor.getUser() instanceof StompPrincipal stompPrincipal) ? stompPrincipal : null;
+    }
+
+    // 핸드셰이크 시 보관한 클라이언트 IP 조회 (서블릿 요청이 아니었으면 null)
+    public static String getClientIp(SimpMessageHeaderAccessor accessor) {
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        Object clientIp = (sessionAttributes != null) ? sessionAttributes.get(CLIENT_IP_ATTRIBUTE) : null;
+        return (clientIp instanceof String ip) ? ip : null;
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private void authenticate(StompHeaderAccessor accessor) {
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        String token = resolveToken(accessor, sessionAttributes);
+        if (token == null) {
+            throw new BadCredentialsException("채팅 연결에는 로그인이 필요합니다.");
+        }
+
+        StompPrincipal principal;
+        try {
+            Claims claims = jwtTokenProvider.getClaims(token);
+            principal = new StompPrincipal(
+                    claims.get("id", Long.class),
+                    claims.getSubject(),
+                    claims.get("name", String.class),
+                    Role.valueOf(claims.get("role", String.class))
+            );
+        } catch (RuntimeException e) {
+            log.debug("STOMP CONNECT 토큰 검증 실패", e);
+            throw new BadCredentialsException("유효하지 않은 토큰입니다.");
+        }
+
+        if (sessionAttributes != null) {
+            sessionAttributes.remove(ACCESS_TOKEN_ATTRIBUTE);
+            sessionAttributes.put(PRINCIPAL_ATTRIBUTE, principal);
+        }
+        accessor.setUser(principal);
+        log.debug("WebSocket 사용자 인증: {} (ID: {})", principal.email(), principal.memberId());
+    }
+
+    // 채팅방 목적지는 참여 중인 회원만 구독 가능 (그 외 목적지는 그대로 허용)
+    private void authorizeSubscribe(StompHeaderAccessor accessor) {
+        Long chatRoomId = resolveChatRoomId(accessor.getDestination());
+        if (chatRoomId == null) {
+            return;
+        }
+
+        StompPrincipal principal = getPrincipal(accessor);
+        if (principal == null) {
+            throw new BadCredentialsException("채팅방 구독에는 로그인이 필요합니다.");
+        }
+        if (!roomParticipantRepository.existsByChatRoomIdAndMemberIdAndIsActiveTrue(chatRoomId, principal.memberId())) {
+            log.warn("채팅방 구독 거부 - 사용자 {}는 채팅방 {}의 참여자가 아닙니다", principal.memberId(), chatRoomId);
+            throw new AccessDeniedException("채팅방 참여자만 구독할 수 있습니다.");
+        }
+    }
+
+    // 채팅방 목적지면 채팅방 id, 아니면 null (id 가 숫자가 아니면 거부)
+    private Long resolveChatRoomId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        for (String prefix : CHAT_ROOM_DESTINATIONS) {
+            if (destination.startsWith(prefix)) {
+                try {
+                    return Long.valueOf(destination.substring(prefix.length()));
+                } catch (NumberFormatException e) {
+                    throw new AccessDeniedException("잘못된 채팅방 목적지입니다: " + destination);
+                }
+            }
+        }
+        return null;
+    }
+
+    private String resolveToken(StompHeaderAccessor accessor, Map<String, Object> sessionAttributes) {
+        // 1. Authorization 헤더 (앱/직접 연결)
+        String bearer = accessor.getFirstNativeHeader("Authorization");
+        if (bearer != null && bearer.startsWith("Bearer ")) {
+            return bearer.substring(7);
+        }
+
+        // 2. 핸드셰이크 시 보관한 쿠키 토큰 (웹 환경)
+        Object cookieToken = (sessionAttributes != null) ? sessionAttributes.get(ACCESS_TOKEN_ATTRIBUTE) : null;
+        return (cookieToken instanceof String token) ? token : null;
+    }
+
+    private String resolveCookieToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if ("accessToken".equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+}
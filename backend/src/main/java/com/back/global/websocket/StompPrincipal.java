@@ -0,0 +1,23 @@
+package com.back.global.websocket;
+
+import com.back.domain.member.entity.Role;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션에 보관되는 인증 사용자 정보
+ * - CONNECT 시 JWT 클레임으로 한 번만 생성되어 이후 메시지 처리에서 재사용
+ * - getName()은 사용자 목적지(/user/...) 라우팅을 위해 이메일을 반환
+ */
+public record StompPrincipal(
+        Long memberId,
+        String email,
+        String name,
+        Role role
+) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -15,6 +15,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -176,9 +177,9 @@ public class AuthControllerTest {
 
         String accessToken = loginRsData.data().get("accessToken").toString();
 
-        // 로그인 직후 refreshToken이 설정되었는지 확인
-        Member memberAfterLogin = memberRepository.findByEmail("user1@user.com").orElseThrow();
-        assertThat(memberAfterLogin.getRefreshToken()).isNotNull();
+        // 로그인 직후 refreshToken이 발급되었는지 확인
+        String refreshToken = loginRsData.data().get("refreshToken").toString();
+        assertThat(refreshToken).isNotBlank();
 
         // when - 로그아웃 요청
         MvcResult logoutResult = mockMvc.perform(post("/api/auth/logout")
@@ -194,9 +195,12 @@ public class AuthControllerTest {
         assertThat(logoutRsData.resultCode()).isEqualTo(ResultCode.SUCCESS.code());
         assertThat(logoutRsData.msg()).isEqualTo("로그아웃 성공");
 
-        // 로그아웃 후 refreshToken 제거되었는지 확인
-        Member member = memberRepository.findByEmail("user1@user.com").orElseThrow();
-        assertThat(member.getRefreshToken()).isNull();
+        // 로그아웃 후 refreshToken이 폐기되어 재발급할 수 없는지 확인
+        mockMvc.perform(post("/api/auth/reissue")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TokenReissueRequest(refreshToken))))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.resultCode").value("401-3"));
     }
 
     @Test
@@ -336,6 +340,61 @@ public class AuthControllerTest {
                 .andExpect(jsonPath("$.data.refreshToken").exists());
     }
 
+    @Test
+    @DisplayName("AccessToken 재발급 실패 - 이미 교체된 RefreshToken 재사용 시 기기 세션 폐기")
+    void reissueAccessToken_fail_reusedToken() throws Exception {
+        // given - 로그인 후 1차 재발급 (firstRefreshToken → secondRefreshToken 교체)
+        String firstRefreshToken = loginAndGetRefreshToken("user1@user.com", "user1234!");
+
+        MvcResult reissueResult = reissue(firstRefreshToken)
+                .andExpect(status().isOk())
+                .andReturn();
+        String secondRefreshToken = objectMapper.readTree(reissueResult.getResponse().getContentAsString())
+                .get("data").get("refreshToken").asText();
+
+        // when & then - 이미 교체된 firstRefreshToken 재사용 → 재사용 감지
+        reissue(firstRefreshToken)
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.resultCode").value("401-3"))
+                .andExpect(jsonPath("$.msg").value("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."));
+
+        // 같은 기기 세션의 최신 토큰도 함께 폐기됨
+        reissue(secondRefreshToken)
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.resultCode").value("401-3"));
+    }
+
+    @Test
+    @DisplayName("여러 기기 동시 로그인 - 한 기기 로그아웃 시 다른 기기 세션은 유지")
+    void multiDevice_logout_keeps_other_sessions() throws Exception {
+        // given - 두 기기에서 각각 로그인
+        MemberLoginRequest loginRequest = new MemberLoginRequest("user1@user.com", "user1234!");
+        MvcResult firstDevice = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        String firstAccessToken = objectMapper.readTree(firstDevice.getResponse().getContentAsString())
+                .get("data").get("accessToken").asText();
+        String firstRefreshToken = objectMapper.readTree(firstDevice.getResponse().getContentAsString())
+                .get("data").get("refreshToken").asText();
+
+        String secondRefreshToken = loginAndGetRefreshToken("user1@user.com", "user1234!");
+
+        // when - 첫 번째 기기만 로그아웃
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + firstAccessToken)
+                        .cookie(new Cookie("refreshToken", firstRefreshToken)))
+                .andExpect(status().isOk());
+
+        // then - 첫 번째 기기 토큰은 폐기, 두 번째 기기 토큰은 재발급 가능
+        reissue(firstRefreshToken)
+                .andExpect(status().isUnauthorized());
+        reissue(secondRefreshToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.refreshToken").exists());
+    }
+
     @Test
     @DisplayName("탈퇴한 회원 로그인 시도 → 실패")
     void login_deleted_user_should_fail() throws Exception {
@@ -360,4 +419,21 @@ public class AuthControllerTest {
                 .andExpect(jsonPath("$.resultCode").value("403-1"))
                 .andExpect(jsonPath("$.msg").value("이메일 또는 비밀번호가 잘못되었습니다."));
     }
+
+    private String loginAndGetRefreshToken(String email, String password) throws Exception {
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MemberLoginRequest(email, password))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return objectMapper.readTree(loginResult.getResponse().getContentAsString())
+                .get("data").get("refreshToken").asText();
+    }
+
+    private ResultActions reissue(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/reissue")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TokenReissueRequest(refreshToken))));
+    }
 }
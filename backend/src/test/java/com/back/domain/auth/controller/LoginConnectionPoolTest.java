@@ -0,0 +1,116 @@
+package com.back.domain.auth.controller;
+
+import com.back.domain.member.repository.MemberRepository;
+import com.back.global.security.password.PasswordHashingExecutor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 Tomcat(OSIV 적용 경로)에서 로그인 요청이 해싱 대기열에서 기다리는 동안 DB 커넥션을 잡지 않는지 확인
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "security.password.hashing.threads=1",
+        "security.password.hashing.max-queue-depth=64",
+        "security.password.hashing.timeout-ms=30000"
+})
+@ActiveProfiles("test")
+@DisplayName("로그인 커넥션 점유 테스트")
+class LoginConnectionPoolTest {
+
+    private static final int LOGINS = 8;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PasswordHashingExecutor hashingExecutor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("해싱 실행기가 포화돼도 대기 중인 로그인은 커넥션을 잡지 않음")
+    void queued_logins_do_not_hold_connections() throws Exception {
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 해싱 스레드(1개)를 붙잡아 이후 로그인은 모두 대기열에서 기다리게 함
+        CompletableFuture<String> blocker = CompletableFuture.supplyAsync(() -> hashingExecutor.execute(() -> {
+            started.countDown();
+            await(release);
+            return "blocker";
+        }));
+
+        List<CompletableFuture<HttpResponse<String>>> logins = new ArrayList<>();
+        try {
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < LOGINS; i++) {
+                logins.add(login("user1@user.com", "user1234!"));
+            }
+            waitUntilQueued(LOGINS);
+
+            // 커넥션 풀 크기보다 많은 로그인이 대기 중이어도 커넥션은 비어 있고 다른 조회가 가능
+            assertThat(pool.getActiveConnections()).isZero();
+            assertThat(memberRepository.count()).isPositive();
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(blocker.get(10, TimeUnit.SECONDS)).isEqualTo("blocker");
+        for (CompletableFuture<HttpResponse<String>> login : logins) {
+            assertThat(login.get(30, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+        }
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private CompletableFuture<HttpResponse<String>> login(String email, String password) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void waitUntilQueued(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (hashingExecutor.getQueueDepth() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(hashingExecutor.getQueueDepth()).isEqualTo(expected);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
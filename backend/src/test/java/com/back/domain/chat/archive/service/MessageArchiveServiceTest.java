@@ -0,0 +1,211 @@
+package com.back.domain.chat.archive.service;
+
+import com.back.domain.chat.archive.dto.ArchivedMessage;
+import com.back.domain.chat.archive.entity.MessageArchive;
+import com.back.domain.chat.archive.repository.MessageArchiveRepository;
+import com.back.domain.chat.chat.dto.MessageDto;
+import com.back.domain.chat.chat.entity.ChatRoom;
+import com.back.domain.chat.chat.entity.Message;
+import com.back.domain.chat.chat.entity.RoomParticipant;
+import com.back.domain.chat.chat.repository.ChatRoomRepository;
+import com.back.domain.chat.chat.repository.MessageRepository;
+import com.back.domain.chat.chat.repository.RoomParticipantRepository;
+import com.back.domain.chat.chat.service.ChatService;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.post.entity.Post;
+import com.back.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = "chat.archive.segment-size=10")
+@ActiveProfiles("test")
+@DisplayName("MessageArchiveService 통합 테스트")
+class MessageArchiveServiceTest {
+
+    private static final int MESSAGE_COUNT = 25;
+
+    @Autowired
+    private MessageArchiveService messageArchiveService;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private MessageArchiveRepository messageArchiveRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private RoomParticipantRepository roomParticipantRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoSpyBean
+    private MessageArchiveCodec messageArchiveCodec;
+
+    private Member member;
+    private Post post;
+    private ChatRoom chatRoom;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email("archive-" + UUID.randomUUID() + "@user.com")
+                .password("password")
+                .name("아카이브")
+                .build());
+        post = postRepository.save(Post.builder()
+                .member(member)
+                .title("archive")
+                .description("archive")
+                .category(Post.Category.PRODUCT)
+                .price(1000)
+                .status(Post.Status.SALE)
+                .build());
+        chatRoom = chatRoomRepository.save(new ChatRoom(post, member));
+        roomParticipantRepository.save(new RoomParticipant(chatRoom, member));
+        saveMessages(0, MESSAGE_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            messageRepository.deleteByChatRoomIdInBulk(chatRoom.getId());
+            messageArchiveService.deleteArchives(chatRoom.getId());
+            roomParticipantRepository.deleteByChatRoomIdInBulk(chatRoom.getId());
+            chatRoomRepository.deleteByIdInBulk(chatRoom.getId());
+        });
+        postRepository.deleteById(post.getId());
+        memberRepository.deleteById(member.getId());
+    }
+
+    @Test
+    @DisplayName("세그먼트 단위로 옮긴 뒤 아카이브에서 원래 순서대로 다시 읽음")
+    void archive_and_read_back() {
+        int archived = messageArchiveService.archiveRoom(chatRoom.getId(), LocalDateTime.now().plusMinutes(1));
+
+        assertThat(archived).isEqualTo(MESSAGE_COUNT);
+        assertThat(messageRepository.findByChatRoomId(chatRoom.getId())).isEmpty();
+        assertThat(messageArchiveRepository.findByChatRoomIdOrderByFirstMessageIdAsc(chatRoom.getId()))
+                .extracting(MessageArchive::getMessageCount)
+                .containsExactly(10, 10, 5);
+        assertThat(messageArchiveService.findArchivedMessages(chatRoom.getId(), null, MESSAGE_COUNT))
+                .extracting(ArchivedMessage::content)
+                .containsExactlyElementsOf(contents(0, MESSAGE_COUNT));
+        assertThat(messageArchiveService.findLatestArchivedMessage(chatRoom.getId()))
+                .map(ArchivedMessage::content)
+                .contains("message-24");
+    }
+
+    @Test
+    @DisplayName("채팅 기록 조회는 아카이브된 메시지 뒤에 남은 메시지를 이어서 반환")
+    void history_merges_archive_and_live_messages() {
+        messageArchiveService.archiveRoom(chatRoom.getId(), LocalDateTime.now().plusMinutes(1));
+        saveMessages(MESSAGE_COUNT, MESSAGE_COUNT + 2);
+
+        List<MessageDto> history = chatService.getChatRoomMessages(chatRoom.getId(), member::getEmail, null, null);
+
+        assertThat(history)
+                .extracting(MessageDto::getContent)
+                .containsExactlyElementsOf(contents(0, MESSAGE_COUNT + 2));
+        assertThat(history).allSatisfy(message -> assertThat(message.getSenderId()).isEqualTo(member.getId()));
+    }
+
+    @Test
+    @DisplayName("채팅 기록은 요청한 구간만 페이지로 반환하고, 겹치는 세그먼트만 풀어 봄")
+    void history_pages_decode_only_overlapping_segments() {
+        messageArchiveService.archiveRoom(chatRoom.getId(), LocalDateTime.now().plusMinutes(1));
+        saveMessages(MESSAGE_COUNT, MESSAGE_COUNT + 2);
+        clearInvocations(messageArchiveCodec);
+
+        // 최근 5건 = 마지막 세그먼트의 3건 + 남아 있는 2건
+        List<MessageDto> latest = chatService.getChatRoomMessages(chatRoom.getId(), member::getEmail, null, 5);
+        assertThat(latest)
+                .extracting(MessageDto::getContent)
+                .containsExactlyElementsOf(contents(MESSAGE_COUNT - 3, MESSAGE_COUNT + 2));
+        verify(messageArchiveCodec, times(1)).decode(any());
+
+        // 이전 5건 = 마지막 세그먼트의 나머지 2건 + 두 번째 세그먼트의 3건 (첫 세그먼트는 읽지 않음)
+        clearInvocations(messageArchiveCodec);
+        List<MessageDto> previous = chatService.getChatRoomMessages(chatRoom.getId(), member::getEmail, latest.get(0).getId(), 5);
+        assertThat(previous)
+                .extracting(MessageDto::getContent)
+                .containsExactlyElementsOf(contents(MESSAGE_COUNT - 8, MESSAGE_COUNT - 3));
+        verify(messageArchiveCodec, times(2)).decode(any());
+
+        // 가장 오래된 메시지 이전은 비어 있음
+        List<MessageDto> first = chatService.getChatRoomMessages(chatRoom.getId(), member::getEmail, null, 100);
+        assertThat(first).hasSize(MESSAGE_COUNT + 2);
+        assertThat(chatService.getChatRoomMessages(chatRoom.getId(), member::getEmail, first.get(0).getId(), 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중간 세그먼트가 실패해도 앞서 커밋한 세그먼트는 유지되고, 다시 실행하면 나머지만 이어서 아카이브")
+    void commit_per_segment() {
+        doCallRealMethod()
+                .doThrow(new IllegalStateException("채팅 아카이브 압축 실패"))
+                .when(messageArchiveCodec).encode(any());
+
+        assertThatThrownBy(() -> messageArchiveService.archiveRoom(chatRoom.getId(), LocalDateTime.now().plusMinutes(1)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(messageArchiveRepository.findByChatRoomIdOrderByFirstMessageIdAsc(chatRoom.getId())).hasSize(1);
+        assertThat(messageRepository.findByChatRoomId(chatRoom.getId())).hasSize(MESSAGE_COUNT - 10);
+
+        reset(messageArchiveCodec);
+        assertThat(messageArchiveService.archiveRoom(chatRoom.getId(), LocalDateTime.now().plusMinutes(1)))
+                .isEqualTo(MESSAGE_COUNT - 10);
+        assertThat(messageArchiveService.findArchivedMessages(chatRoom.getId(), null, MESSAGE_COUNT))
+                .extracting(ArchivedMessage::content)
+                .containsExactlyElementsOf(contents(0, MESSAGE_COUNT));
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private void saveMessages(int from, int to) {
+        List<Message> messages = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            Message message = new Message(member, "message-" + i);
+            message.setChatRoom(chatRoom);
+            messages.add(message);
+        }
+        messageRepository.saveAll(messages);
+    }
+
+    private List<String> contents(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "message-" + i).toList();
+    }
+}
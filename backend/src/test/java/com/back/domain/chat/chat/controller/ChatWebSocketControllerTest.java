@@ -0,0 +1,93 @@
+package com.back.domain.chat.chat.controller;
+
+import com.back.domain.chat.chat.dto.MessageDto;
+import com.back.domain.chat.chat.service.ChatService;
+import com.back.domain.chat.redis.service.RedisMessageService;
+import com.back.domain.member.entity.Role;
+import com.back.global.websocket.StompAuthInterceptor;
+import com.back.global.websocket.StompPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ChatWebSocketController 단위 테스트")
+class ChatWebSocketControllerTest {
+
+    private final ChatService chatService = mock(ChatService.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final RedisMessageService redisMessageService = mock(RedisMessageService.class);
+    private final ChatWebSocketController controller = new ChatWebSocketController(chatService, messagingTemplate, redisMessageService);
+
+    @Test
+    @DisplayName("SEND - 참여자가 아니면 저장/발행하지 않고 발신자에게만 에러 전송")
+    void send_by_non_participant() {
+        given(chatService.isParticipant(7L, 2L)).willReturn(false);
+
+        controller.sendMessage(message(7L, 1L, "user1@user.com"), headers(new StompPrincipal(2L, "user2@user.com", "유저2", Role.USER)));
+
+        // payload 의 발신자 대신 CONNECT 때 인증된 사용자로 검증
+        verify(chatService).isParticipant(7L, 2L);
+        verify(chatService, never()).saveMessage(any());
+        verify(redisMessageService, never()).publishMessage(any());
+        verify(messagingTemplate).convertAndSendToUser(eq("user2@user.com"), eq("/queue/error"),
+                argThat(payload -> ((MessageDto) payload).getContent().equals("채팅방 참여자만 메시지를 보낼 수 있습니다.")));
+    }
+
+    @Test
+    @DisplayName("SEND - 인증되지 않은 세션의 메시지는 무시")
+    void send_without_principal() {
+        controller.sendMessage(message(7L, 1L, "user1@user.com"), headers(null));
+
+        verify(chatService, never()).isParticipant(any(), any());
+        verify(chatService, never()).saveMessage(any());
+        verify(redisMessageService, never()).publishMessage(any());
+    }
+
+    @Test
+    @DisplayName("SEND - 참여자면 인증된 사용자를 발신자로 저장 후 발행")
+    void send_by_participant() {
+        given(chatService.isParticipant(7L, 2L)).willReturn(true);
+        MessageDto chatMessage = message(7L, 1L, "user1@user.com");
+
+        controller.sendMessage(chatMessage, headers(new StompPrincipal(2L, "user2@user.com", "유저2", Role.USER)));
+
+        assertThat(chatMessage.getSenderId()).isEqualTo(2L);
+        assertThat(chatMessage.getSenderEmail()).isEqualTo("user2@user.com");
+        verify(chatService).saveMessage(chatMessage);
+        verify(redisMessageService).publishMessage(chatMessage);
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private MessageDto message(Long chatRoomId, Long senderId, String senderEmail) {
+        MessageDto chatMessage = new MessageDto();
+        chatMessage.setChatRoomId(chatRoomId);
+        chatMessage.setSenderId(senderId);
+        chatMessage.setSenderEmail(senderEmail);
+        chatMessage.setContent("안녕하세요");
+        return chatMessage;
+    }
+
+    private SimpMessageHeaderAccessor headers(StompPrincipal principal) {
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        if (principal != null) {
+            sessionAttributes.put(StompAuthInterceptor.PRINCIPAL_ATTRIBUTE, principal);
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionAttributes(sessionAttributes);
+        return accessor;
+    }
+}
@@ -0,0 +1,115 @@
+package com.back.domain.chat.chat.repository;
+
+import com.back.domain.chat.chat.entity.ChatRoom;
+import com.back.domain.chat.chat.entity.Message;
+import com.back.domain.chat.chat.entity.RoomParticipant;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.post.entity.Post;
+import com.back.domain.post.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅방 삭제 실행 시간 비교 (JPA cascade vs 집합 단위 일괄 삭제)
+ * - 실행 환경에 따라 시간이 달라지므로 기본 테스트에서 제외하고 결과만 로그로 남김
+ *
+ * 실행: ./gradlew slowTest --tests "*ChatRoomBulkDeleteBenchmarkTest"
+ */
+@Slf4j
+@Tag("slow")
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("채팅방 삭제 벤치마크")
+class ChatRoomBulkDeleteBenchmarkTest {
+
+    private static final int MESSAGE_COUNT = 10_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private RoomParticipantRepository roomParticipantRepository;
+
+    @Test
+    @DisplayName("메시지 1만 건 채팅방 삭제 - cascade 와 일괄 삭제 실행 시간")
+    void bulk_delete_vs_cascade() {
+        Member member = memberRepository.save(Member.builder()
+                .email("bulk@user.com")
+                .password("password")
+                .name("일괄삭제")
+                .build());
+
+        // 1. JPA cascade 삭제
+        Long cascadeRoomId = createRoomWithMessages(member, "cascade");
+        long cascadeStart = System.nanoTime();
+        chatRoomRepository.delete(chatRoomRepository.findById(cascadeRoomId).orElseThrow());
+        entityManager.flush();
+        long cascadeMillis = (System.nanoTime() - cascadeStart) / 1_000_000;
+        entityManager.clear();
+
+        // 2. 집합 단위 일괄 삭제
+        Long bulkRoomId = createRoomWithMessages(member, "bulk");
+        long bulkStart = System.nanoTime();
+        messageRepository.deleteByChatRoomIdInBulk(bulkRoomId);
+        roomParticipantRepository.deleteByChatRoomIdInBulk(bulkRoomId);
+        chatRoomRepository.deleteByIdInBulk(bulkRoomId);
+        long bulkMillis = (System.nanoTime() - bulkStart) / 1_000_000;
+
+        log.info("메시지 {}건 채팅방 삭제 - cascade: {}ms, bulk: {}ms", MESSAGE_COUNT, cascadeMillis, bulkMillis);
+
+        assertThat(messageRepository.findByChatRoomId(bulkRoomId)).isEmpty();
+        assertThat(messageRepository.findByChatRoomId(cascadeRoomId)).isEmpty();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private Long createRoomWithMessages(Member member, String title) {
+        Post post = postRepository.save(Post.builder()
+                .member(member)
+                .title(title)
+                .description(title)
+                .category(Post.Category.PRODUCT)
+                .price(1000)
+                .status(Post.Status.SALE)
+                .build());
+
+        ChatRoom chatRoom = chatRoomRepository.save(new ChatRoom(post, member));
+        roomParticipantRepository.save(new RoomParticipant(chatRoom, member));
+
+        List<Message> messages = new ArrayList<>(MESSAGE_COUNT);
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            Message message = new Message(member, "message-" + i);
+            message.setChatRoom(chatRoom);
+            messages.add(message);
+        }
+        messageRepository.saveAll(messages);
+
+        entityManager.flush();
+        entityManager.clear();
+        return chatRoom.getId();
+    }
+}
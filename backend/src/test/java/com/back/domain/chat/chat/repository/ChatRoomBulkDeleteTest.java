@@ -0,0 +1,135 @@
+package com.back.domain.chat.chat.repository;
+
+import com.back.domain.chat.chat.entity.ChatRoom;
+import com.back.domain.chat.chat.entity.Message;
+import com.back.domain.chat.chat.entity.RoomParticipant;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.post.entity.Post;
+import com.back.domain.post.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실행 시간 비교는 ChatRoomBulkDeleteBenchmarkTest (@Tag("slow"))
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("채팅방 일괄 삭제")
+class ChatRoomBulkDeleteTest {
+
+    private static final int MESSAGE_COUNT = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private RoomParticipantRepository roomParticipantRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email("bulk@user.com")
+                .password("password")
+                .name("일괄삭제")
+                .build());
+    }
+
+    @Test
+    @DisplayName("일괄 삭제는 엔티티를 읽지 않고 테이블마다 DELETE 한 번으로 모든 하위 데이터를 제거")
+    void bulk_delete_without_loading_entities() {
+        Long roomId = createRoomWithMessages("bulk");
+        Statistics statistics = statistics();
+
+        int deletedMessages = messageRepository.deleteByChatRoomIdInBulk(roomId);
+        int deletedParticipants = roomParticipantRepository.deleteByChatRoomIdInBulk(roomId);
+        int deletedRooms = chatRoomRepository.deleteByIdInBulk(roomId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+
+        assertThat(deletedMessages).isEqualTo(MESSAGE_COUNT);
+        assertThat(deletedParticipants).isEqualTo(1);
+        assertThat(deletedRooms).isEqualTo(1);
+        assertThat(messageRepository.findByChatRoomId(roomId)).isEmpty();
+        assertThat(roomParticipantRepository.findAll()).noneMatch(participant -> participant.getChatRoom().getId().equals(roomId));
+        assertThat(chatRoomRepository.existsById(roomId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("cascade 삭제는 메시지마다 엔티티를 읽고 DELETE 를 실행 (일괄 삭제와 같은 결과)")
+    void cascade_delete_loads_every_message() {
+        Long roomId = createRoomWithMessages("cascade");
+        Statistics statistics = statistics();
+
+        chatRoomRepository.delete(chatRoomRepository.findById(roomId).orElseThrow());
+        entityManager.flush();
+
+        assertThat(statistics.getEntityLoadCount()).isGreaterThanOrEqualTo(MESSAGE_COUNT);
+        assertThat(statistics.getEntityDeleteCount()).isGreaterThanOrEqualTo(MESSAGE_COUNT + 2);
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(3);
+
+        entityManager.clear();
+        assertThat(messageRepository.findByChatRoomId(roomId)).isEmpty();
+        assertThat(chatRoomRepository.existsById(roomId)).isFalse();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private Long createRoomWithMessages(String title) {
+        Post post = postRepository.save(Post.builder()
+                .member(member)
+                .title(title)
+                .description(title)
+                .category(Post.Category.PRODUCT)
+                .price(1000)
+                .status(Post.Status.SALE)
+                .build());
+
+        ChatRoom chatRoom = chatRoomRepository.save(new ChatRoom(post, member));
+        roomParticipantRepository.save(new RoomParticipant(chatRoom, member));
+
+        List<Message> messages = new ArrayList<>(MESSAGE_COUNT);
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            Message message = new Message(member, "message-" + i);
+            message.setChatRoom(chatRoom);
+            messages.add(message);
+        }
+        messageRepository.saveAll(messages);
+
+        entityManager.flush();
+        entityManager.clear();
+        return chatRoom.getId();
+    }
+}
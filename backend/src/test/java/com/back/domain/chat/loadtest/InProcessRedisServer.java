@@ -0,0 +1,273 @@
+package com.back.domain.chat.loadtest;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 테스트용 인프로세스 Redis 호환 서버 (RESP2)
+ * - 채팅 경로에서 사용하는 PUBLISH / SUBSCRIBE / UNSUBSCRIBE 와 연결 핸드셰이크 명령만 지원
+ * - 외부 바이너리나 네트워크 없이 여러 애플리케이션 컨텍스트가 같은 pub/sub 채널을 공유하도록 함
+ */
+final class InProcessRedisServer implements AutoCloseable {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "in-process-redis");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, Set<Connection>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = true;
+
+    private InProcessRedisServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+        executor.execute(this::acceptLoop);
+    }
+
+    static InProcessRedisServer start() throws IOException {
+        return new InProcessRedisServer();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+        connections.forEach(Connection::close);
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                Connection connection = new Connection(socket);
+                connections.add(connection);
+                executor.execute(connection::serve);
+            } catch (IOException e) {
+                if (running) {
+                    throw new IllegalStateException("인프로세스 Redis 연결 수락 실패", e);
+                }
+            }
+        }
+    }
+
+    private int publish(String channel, byte[] payload) {
+        Set<Connection> targets = subscribers.getOrDefault(channel, Set.of());
+        for (Connection target : targets) {
+            target.pushMessage(channel, payload);
+        }
+        return targets.size();
+    }
+
+    private final class Connection {
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+        private final Set<String> channels = ConcurrentHashMap.newKeySet();
+
+        private Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = new BufferedInputStream(socket.getInputStream());
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        private void serve() {
+            try {
+                List<byte[]> command;
+                while ((command = readCommand()) != null) {
+                    if (!command.isEmpty()) {
+                        handle(command);
+                    }
+                }
+            } catch (IOException ignored) {
+                // 클라이언트 연결 종료
+            } finally {
+                close();
+            }
+        }
+
+        private void handle(List<byte[]> command) throws IOException {
+            String name = text(command.get(0)).toUpperCase(Locale.ROOT);
+            switch (name) {
+                case "PING" -> {
+                    if (channels.isEmpty()) {
+                        writeRaw("+PONG\r\n");
+                    } else {
+                        writeArray(bulk("pong"), bulk(""));
+                    }
+                }
+                case "SUBSCRIBE" -> {
+                    for (int i = 1; i < command.size(); i++) {
+                        String channel = text(command.get(i));
+                        channels.add(channel);
+                        subscribers.computeIfAbsent(channel, key -> ConcurrentHashMap.newKeySet()).add(this);
+                        writeArray(bulk("subscribe"), bulk(channel), integer(channels.size()));
+                    }
+                }
+                case "UNSUBSCRIBE" -> {
+                    List<String> targets = new ArrayList<>();
+                    for (int i = 1; i < command.size(); i++) {
+                        targets.add(text(command.get(i)));
+                    }
+                    if (targets.isEmpty()) {
+                        targets.addAll(channels);
+                    }
+                    if (targets.isEmpty()) {
+                        writeArray(bulk("unsubscribe"), "$-1\r\n".getBytes(StandardCharsets.US_ASCII), integer(0));
+                    }
+                    for (String channel : targets) {
+                        unsubscribe(channel);
+                        writeArray(bulk("unsubscribe"), bulk(channel), integer(channels.size()));
+                    }
+                }
+                case "PUBLISH" -> {
+                    int receivers = publish(text(command.get(1)), command.get(2));
+                    writeRaw(":" + receivers + "\r\n");
+                }
+                case "QUIT" -> {
+                    writeRaw("+OK\r\n");
+                    close();
+                }
+                // RESP3 협상은 거절해 클라이언트가 RESP2로 동작하도록 함
+                case "HELLO" -> writeRaw("-ERR unknown command 'HELLO'\r\n");
+                case "CLIENT", "SELECT", "AUTH", "READONLY" -> writeRaw("+OK\r\n");
+                case "COMMAND" -> writeRaw("*0\r\n");
+                default -> writeRaw("-ERR unknown command '" + name + "'\r\n");
+            }
+        }
+
+        private void unsubscribe(String channel) {
+            channels.remove(channel);
+            Set<Connection> set = subscribers.get(channel);
+            if (set != null) {
+                set.remove(this);
+            }
+        }
+
+        private void pushMessage(String channel, byte[] payload) {
+            try {
+                writeArray(bulk("message"), bulk(channel), bulk(payload));
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        private void close() {
+            new ArrayList<>(channels).forEach(this::unsubscribe);
+            connections.remove(this);
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        // ================= RESP 읽기 =================
+
+        private List<byte[]> readCommand() throws IOException {
+            int first = in.read();
+            if (first == -1) {
+                return null;
+            }
+            if (first != '*') {
+                // 인라인 명령 (예: PING\r\n)
+                String line = (char) first + readLine();
+                List<byte[]> parts = new ArrayList<>();
+                for (String part : line.trim().split("\\s+")) {
+                    if (!part.isEmpty()) {
+                        parts.add(part.getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+                return parts;
+            }
+
+            int count = Integer.parseInt(readLine());
+            List<byte[]> args = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                if (in.read() != '$') {
+                    throw new IOException("RESP bulk string 이 아닙니다.");
+                }
+                int length = Integer.parseInt(readLine());
+                byte[] data = in.readNBytes(length);
+                if (data.length != length) {
+                    throw new EOFException();
+                }
+                in.readNBytes(2); // CRLF
+                args.add(data);
+            }
+            return args;
+        }
+
+        private String readLine() throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == '\r') {
+                    in.read(); // '\n'
+                    return line.toString(StandardCharsets.UTF_8);
+                }
+                line.write(b);
+            }
+            throw new EOFException();
+        }
+
+        // ================= RESP 쓰기 =================
+
+        private synchronized void writeRaw(String value) throws IOException {
+            out.write(value.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+
+        private synchronized void writeArray(byte[]... elements) throws IOException {
+            out.write(("*" + elements.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            for (byte[] element : elements) {
+                out.write(element);
+            }
+            out.flush();
+        }
+    }
+
+    private static byte[] bulk(String value) {
+        return bulk(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] bulk(byte[] value) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(value.length + 16);
+        buffer.writeBytes(("$" + value.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        buffer.writeBytes(value);
+        buffer.writeBytes(CRLF);
+        return buffer.toByteArray();
+    }
+
+    private static byte[] integer(int value) {
+        return (":" + value + "\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String text(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
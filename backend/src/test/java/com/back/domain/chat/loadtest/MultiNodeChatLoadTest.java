@@ -0,0 +1,346 @@
+package com.back.domain.chat.loadtest;
+
+import com.back.BackApplication;
+import com.back.domain.chat.chat.entity.ChatRoom;
+import com.back.domain.chat.chat.entity.RoomParticipant;
+import com.back.domain.chat.chat.repository.ChatRoomRepository;
+import com.back.domain.chat.chat.repository.RoomParticipantRepository;
+import com.back.domain.files.files.service.FileStorageService;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.post.entity.Post;
+import com.back.domain.post.repository.PostRepository;
+import com.back.global.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 멀티 노드 채팅 부하 테스트
+ * - 한 JVM 안에서 애플리케이션 컨텍스트 여러 개를 띄우고 인프로세스 Redis 로 pub/sub 을 공유
+ * - STOMP 클라이언트를 노드에 나눠 연결한 뒤 /app/sendMessage 로 일정한 속도의 메시지를 전송
+ * - 노드 간 전달 지연 히스토그램과 메시지 유실률을 출력
+ *
+ * 실행: ./gradlew slowTest -Dloadtest.clients=2000 -Dloadtest.rate=500
+ */
+@Tag("slow")
+@DisplayName("멀티 노드 채팅 부하 테스트")
+class MultiNodeChatLoadTest {
+
+    private static final int NODES = Integer.getInteger("loadtest.nodes", 2);
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 2000);
+    private static final int ROOMS = Integer.getInteger("loadtest.rooms", 100);
+    private static final int RATE = Integer.getInteger("loadtest.rate", 500);           // 초당 전송 메시지 수
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.seconds", 10);
+    private static final double MAX_LOSS_RATIO = Double.parseDouble(System.getProperty("loadtest.max-loss", "0.001"));
+
+    private static final String MARKER = "lt|";
+
+    @Test
+    @DisplayName("노드 간 메시지 전달 지연과 유실률 측정")
+    void crossNodeDeliveryLatencyAndLoss() throws Exception {
+        try (InProcessRedisServer redis = InProcessRedisServer.start()) {
+            List<ConfigurableApplicationContext> nodes = startNodes(redis.getPort());
+            try {
+                run(nodes);
+            } finally {
+                nodes.forEach(ConfigurableApplicationContext::close);
+            }
+        }
+    }
+
+    private void run(List<ConfigurableApplicationContext> nodes) throws Exception {
+        List<RoomFixture> rooms = seedRooms(nodes.get(0));
+
+        LatencyHistogram crossNode = new LatencyHistogram();
+        LatencyHistogram sameNode = new LatencyHistogram();
+        LongAdder received = new LongAdder();
+        LongAdder expected = new LongAdder();
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        // 1. 클라이언트 연결 및 구독 (노드, 채팅방, 발신자를 순환 배정)
+        int[] subscribersPerRoom = new int[rooms.size()];
+        List<LoadClient> clients = new ArrayList<>(CLIENTS);
+        List<CompletableFuture<StompSession>> connecting = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            int nodeIndex = i % nodes.size();
+            int roomIndex = i % rooms.size();
+            RoomFixture room = rooms.get(roomIndex);
+            boolean seller = (i / rooms.size()) % 2 == 0;
+
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + (seller ? room.sellerToken : room.buyerToken));
+            String url = "ws://localhost:" + port(nodes.get(nodeIndex)) + "/chat/websocket";
+
+            connecting.add(stompClient.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+            }));
+            clients.add(new LoadClient(nodeIndex, roomIndex, seller ? room.sellerEmail : room.buyerEmail));
+            subscribersPerRoom[roomIndex]++;
+        }
+
+        for (int i = 0; i < CLIENTS; i++) {
+            LoadClient client = clients.get(i);
+            client.session = connecting.get(i).get(60, TimeUnit.SECONDS);
+            client.session.subscribe("/topic/chat/" + rooms.get(client.roomIndex).chatRoomId,
+                    new LatencyRecorder(client.nodeIndex, crossNode, sameNode, received));
+        }
+        // 구독이 브로커에 등록될 때까지 대기
+        Thread.sleep(1000);
+
+        // 2. 고정 속도로 메시지 전송
+        AtomicInteger sequence = new AtomicInteger();
+        int totalMessages = RATE * DURATION_SECONDS;
+        ScheduledExecutorService sender = Executors.newSingleThreadScheduledExecutor();
+        CompletableFuture<Void> finished = new CompletableFuture<>();
+        sender.scheduleAtFixedRate(() -> {
+            int seq = sequence.getAndIncrement();
+            if (seq >= totalMessages) {
+                finished.complete(null);
+                return;
+            }
+            LoadClient client = clients.get(seq % clients.size());
+            RoomFixture room = rooms.get(client.roomIndex);
+            expected.add(subscribersPerRoom[client.roomIndex]);
+            client.session.send("/app/sendMessage", Map.of(
+                    "chatRoomId", room.chatRoomId,
+                    "senderEmail", client.email,
+                    "content", MARKER + client.nodeIndex + "|" + seq + "|" + System.nanoTime()
+            ));
+        }, 0, TimeUnit.SECONDS.toNanos(1) / RATE, TimeUnit.NANOSECONDS);
+
+        finished.get(DURATION_SECONDS * 3L + 30, TimeUnit.SECONDS);
+        sender.shutdownNow();
+
+        // 3. 전달 완료 대기 (최대 10초)
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (received.sum() < expected.sum() && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        long lost = Math.max(0, expected.sum() - received.sum());
+        double lossRatio = expected.sum() == 0 ? 0 : (double) lost / expected.sum();
+
+        System.out.printf("%n=== 멀티 노드 채팅 부하 테스트 결과 ===%n");
+        System.out.printf("nodes=%d clients=%d rooms=%d rate=%d/s duration=%ds%n",
+                nodes.size(), CLIENTS, rooms.size(), RATE, DURATION_SECONDS);
+        System.out.printf("sent=%d expected=%d received=%d lost=%d (%.4f%%)%n",
+                totalMessages, expected.sum(), received.sum(), lost, lossRatio * 100);
+        crossNode.print("cross-node");
+        sameNode.print("same-node");
+
+        clients.forEach(client -> client.session.disconnect());
+        stompClient.stop();
+
+        assertThat(crossNode.count()).isPositive();
+        assertThat(lossRatio).isLessThanOrEqualTo(MAX_LOSS_RATIO);
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private List<ConfigurableApplicationContext> startNodes(int redisPort) {
+        List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            nodes.add(new SpringApplicationBuilder(BackApplication.class, LoadTestBeans.class).run(
+                    "--spring.profiles.active=loadtest",
+                    "--server.port=0",
+                    // 모든 노드가 같은 인메모리 DB 를 공유하고, 스키마는 첫 노드만 생성
+                    "--spring.datasource.url=jdbc:h2:mem:chat_loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.jpa.hibernate.ddl-auto=" + (i == 0 ? "create" : "none"),
+                    "--spring.jpa.properties.hibernate.show_sql=false",
+                    "--spring.jpa.properties.hibernate.format_sql=false",
+                    "--spring.data.redis.host=localhost",
+                    "--spring.data.redis.port=" + redisPort,
+                    "--chat.archive.enabled=false",
+                    "--rate-limit.enabled=false",
+                    "--spring.output.ansi.enabled=never",
+                    "--logging.level.root=WARN",
+                    "--logging.level.com.back=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN",
+                    "--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+                    "--logging.level.org.hibernate.orm.jdbc.extract=WARN",
+                    "--logging.level.org.springframework.transaction.interceptor=WARN",
+                    "--logging.level.org.springframework.security=WARN",
+                    "--logging.level.io.jsonwebtoken=WARN"
+            ));
+        }
+        return nodes;
+    }
+
+    // 채팅방마다 판매자/구매자 두 명을 참여자로 등록하고 각자의 액세스 토큰을 발급
+    private List<RoomFixture> seedRooms(ConfigurableApplicationContext node) {
+        MemberRepository memberRepository = node.getBean(MemberRepository.class);
+        PostRepository postRepository = node.getBean(PostRepository.class);
+        ChatRoomRepository chatRoomRepository = node.getBean(ChatRoomRepository.class);
+        RoomParticipantRepository participantRepository = node.getBean(RoomParticipantRepository.class);
+        JwtTokenProvider jwtTokenProvider = node.getBean(JwtTokenProvider.class);
+
+        List<RoomFixture> rooms = new ArrayList<>(ROOMS);
+        for (int i = 0; i < ROOMS; i++) {
+            Member seller = memberRepository.save(Member.builder()
+                    .email("seller" + i + "@loadtest.com").password("loadtest").name("판매자" + i).build());
+            Member buyer = memberRepository.save(Member.builder()
+                    .email("buyer" + i + "@loadtest.com").password("loadtest").name("구매자" + i).build());
+
+            Post post = postRepository.save(Post.builder()
+                    .member(seller)
+                    .title("부하 테스트 게시글 " + i)
+                    .description("부하 테스트")
+                    .category(Post.Category.ETC)
+                    .price(1000)
+                    .status(Post.Status.SALE)
+                    .build());
+
+            ChatRoom chatRoom = chatRoomRepository.save(new ChatRoom(post, buyer));
+            participantRepository.save(new RoomParticipant(chatRoom, seller));
+            participantRepository.save(new RoomParticipant(chatRoom, buyer));
+
+            rooms.add(new RoomFixture(chatRoom.getId(),
+                    seller.getEmail(), jwtTokenProvider.generateAccessToken(seller),
+                    buyer.getEmail(), jwtTokenProvider.generateAccessToken(buyer)));
+        }
+        return rooms;
+    }
+
+    private static int port(ConfigurableApplicationContext node) {
+        return ((WebServerApplicationContext) node).getWebServer().getPort();
+    }
+
+    private record RoomFixture(Long chatRoomId, String sellerEmail, String sellerToken,
+                               String buyerEmail, String buyerToken) {
+    }
+
+    private static class LoadClient {
+        private final int nodeIndex;
+        private final int roomIndex;
+        private final String email;
+        private StompSession session;
+
+        private LoadClient(int nodeIndex, int roomIndex, String email) {
+            this.nodeIndex = nodeIndex;
+            this.roomIndex = roomIndex;
+            this.email = email;
+        }
+    }
+
+    // 수신한 메시지 본문에 담긴 전송 시각으로 지연을 계산
+    private record LatencyRecorder(int nodeIndex, LatencyHistogram crossNode, LatencyHistogram sameNode,
+                                   LongAdder received) implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long now = System.nanoTime();
+            Object content = ((Map<?, ?>) payload).get("content");
+            if (!(content instanceof String text) || !text.startsWith(MARKER)) {
+                return;
+            }
+            String[] parts = text.substring(MARKER.length()).split("\\|");
+            int senderNode = Integer.parseInt(parts[0]);
+            long latencyMicros = (now - Long.parseLong(parts[2])) / 1_000;
+
+            (senderNode == nodeIndex ? sameNode : crossNode).record(latencyMicros);
+            received.increment();
+        }
+    }
+
+    // 고정 구간(마이크로초) 지연 히스토그램
+    private static class LatencyHistogram {
+        private static final long[] BOUNDS = {
+                250, 500, 1_000, 2_000, 5_000, 10_000, 20_000, 50_000,
+                100_000, 200_000, 500_000, 1_000_000, 2_000_000, Long.MAX_VALUE
+        };
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS.length);
+        private final LongAdder count = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        private void record(long micros) {
+            int index = 0;
+            while (micros > BOUNDS[index]) {
+                index++;
+            }
+            buckets.incrementAndGet(index);
+            count.increment();
+            max.accumulateAndGet(micros, Math::max);
+        }
+
+        private long count() {
+            return count.sum();
+        }
+
+        // 구간 상한 기준 백분위 (마이크로초)
+        private long percentile(double p) {
+            long target = (long) Math.ceil(count.sum() * p);
+            long cumulative = 0;
+            for (int i = 0; i < BOUNDS.length; i++) {
+                cumulative += buckets.get(i);
+                if (cumulative >= target) {
+                    return Math.min(BOUNDS[i], max.get());
+                }
+            }
+            return max.get();
+        }
+
+        private void print(String label) {
+            System.out.printf("[%s] count=%d p50<=%.2fms p90<=%.2fms p99<=%.2fms max=%.2fms%n",
+                    label, count(), percentile(0.50) / 1000.0, percentile(0.90) / 1000.0,
+                    percentile(0.99) / 1000.0, max.get() / 1000.0);
+            long total = Math.max(1, count());
+            for (int i = 0; i < BOUNDS.length; i++) {
+                long bucket = buckets.get(i);
+                if (bucket == 0) {
+                    continue;
+                }
+                String bound = BOUNDS[i] == Long.MAX_VALUE ? "inf" : String.format("%.2fms", BOUNDS[i] / 1000.0);
+                System.out.printf("  <= %-9s %8d  %s%n", bound, bucket, "#".repeat((int) (bucket * 50 / total)));
+            }
+        }
+    }
+
+    // loadtest 프로필에는 파일 저장소 구현이 없으므로 빈 구현(mock)을 등록
+    @TestConfiguration
+    static class LoadTestBeans {
+        @Bean
+        FileStorageService fileStorageService() {
+            return Mockito.mock(FileStorageService.class);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.back.domain.files.files.controller;
+
+import com.back.domain.files.files.service.FileChecksums;
+import com.back.domain.files.files.service.FileStorageService;
+import com.back.domain.files.files.service.LocalStoredFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("FileDownloadController 통합 테스트")
+public class FileDownloadControllerTest {
+
+    private static final String FILE_URL = "/files/post_1/3f2b8c1e-9a4d-4e8f-b6a1-2c7d5e9f0a1b.pdf";
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    @TempDir
+    Path tempDir;
+
+    private String etag;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path path = tempDir.resolve("3f2b8c1e-9a4d-4e8f-b6a1-2c7d5e9f0a1b.pdf");
+        Files.writeString(path, CONTENT, StandardCharsets.UTF_8);
+        String checksum = FileChecksums.sha256Hex(path);
+        etag = "\"" + checksum + "\"";
+
+        given(fileStorageService.loadStoredFile(FILE_URL)).willReturn(new LocalStoredFile(
+                path, Files.size(path), Files.getLastModifiedTime(path).toInstant(), checksum));
+    }
+
+    @Test
+    @DisplayName("전체 다운로드 - ETag, 캐시, Range 지원 헤더 포함")
+    void download_full() throws Exception {
+        mockMvc.perform(get(FILE_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/pdf"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length()))
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 일치하면 304")
+    void download_not_modified() throws Exception {
+        mockMvc.perform(get(FILE_URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Range 요청은 206 과 요청 구간만 전송")
+    void download_range() throws Exception {
+        mockMvc.perform(get(FILE_URL).header(HttpHeaders.RANGE, "bytes=5-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/20"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 5))
+                .andExpect(content().string("56789"));
+
+        mockMvc.perform(get(FILE_URL).header(HttpHeaders.RANGE, "bytes=-4"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("ghij"));
+    }
+
+    @Test
+    @DisplayName("If-Range 가 다르면 Range 를 무시하고 전체 전송")
+    void download_if_range_mismatch() throws Exception {
+        mockMvc.perform(get(FILE_URL)
+                        .header(HttpHeaders.RANGE, "bytes=5-9")
+                        .header(HttpHeaders.IF_RANGE, "\"outdated\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    @DisplayName("파일 크기를 넘는 Range 는 416")
+    void download_range_not_satisfiable() throws Exception {
+        mockMvc.perform(get(FILE_URL).header(HttpHeaders.RANGE, "bytes=100-200"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"));
+    }
+}
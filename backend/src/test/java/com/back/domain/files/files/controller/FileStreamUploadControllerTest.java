@@ -0,0 +1,209 @@
+package com.back.domain.files.files.controller;
+
+import com.back.domain.files.files.entity.Files;
+import com.back.domain.files.files.repository.FileBlobRepository;
+import com.back.domain.files.files.repository.FilesRepository;
+import com.back.domain.files.files.service.FileStorageService;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.post.entity.Post;
+import com.back.domain.post.repository.PostRepository;
+import com.back.global.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+// 실제 Tomcat 에서 스트리밍 업로드 경로의 본문이 컨테이너에서 미리 파싱되지 않고 컨트롤러까지 전달되는지 확인
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "file.upload.max-size=64",
+        "file.upload.stream.max-request-size=4096",
+        "file.upload.stream.max-parts=3"
+})
+@ActiveProfiles("test")
+@DisplayName("스트리밍 업로드 통합 테스트")
+class FileStreamUploadControllerTest {
+
+    private static final String BOUNDARY = "----stream-upload-test";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private FilesRepository filesRepository;
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    // 저장된 순서대로 기록한 내용 주소 URL
+    private final List<String> storedUrls = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    void tearDown() {
+        filesRepository.deleteAll();
+        fileBlobRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("파트를 읽는 즉시 저장하고 요청 순서대로 등록 (다른 필드는 건너뜀)")
+    void upload_streams_parts() throws Exception {
+        givenStoreBlob();
+        Post post = postOf("user1@user.com");
+
+        HttpResponse<String> response = upload(post, List.of(
+                field("description", "무시되는 필드"),
+                file("도면.txt", "first part"),
+                file("명세서.txt", "second part")
+        ));
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(filesRepository.findByPostIdOrderBySortOrderAsc(post.getId()))
+                .extracting(Files::getFileName)
+                .containsExactly("도면.txt", "명세서.txt");
+        assertThat(storedUrls).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("파일 하나가 크기 제한을 넘으면 앞서 저장한 파일의 참조를 해제하고 아무것도 등록하지 않음")
+    void oversized_part_releases_stored_blobs() throws Exception {
+        givenStoreBlob();
+        Post post = postOf("user1@user.com");
+
+        HttpResponse<String> response = upload(post, List.of(
+                file("도면.txt", "first part"),
+                file("큰파일.txt", "x".repeat(65))
+        ));
+
+        assertThat(response.statusCode()).isNotEqualTo(200);
+        assertReleased(post);
+    }
+
+    @Test
+    @DisplayName("파트 수 제한을 넘으면 앞서 저장한 파일의 참조를 해제하고 아무것도 등록하지 않음")
+    void too_many_parts_releases_stored_blobs() throws Exception {
+        givenStoreBlob();
+        Post post = postOf("user1@user.com");
+
+        HttpResponse<String> response = upload(post, List.of(
+                file("1.txt", "part one"),
+                file("2.txt", "part two"),
+                file("3.txt", "part three"),
+                file("4.txt", "part four")
+        ));
+
+        assertThat(response.statusCode()).isNotEqualTo(200);
+        assertThat(storedUrls).hasSize(3);
+        assertReleased(post);
+    }
+
+    @Test
+    @DisplayName("요청 크기 제한을 넘으면 본문을 읽기 전에 거절")
+    void oversized_request_rejected_before_reading() throws Exception {
+        Post post = postOf("user1@user.com");
+        List<byte[]> parts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            parts.add(file(i + ".txt", "y".repeat(60)));
+        }
+        parts.add(field("padding", "z".repeat(4096)));
+
+        HttpResponse<String> response = upload(post, parts);
+
+        assertThat(response.statusCode()).isNotEqualTo(200);
+        verify(fileStorageService, never()).storeBlob(any(), anyString(), anyString(), anyString());
+        assertThat(filesRepository.findByPostIdOrderBySortOrderAsc(post.getId())).isEmpty();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private void givenStoreBlob() {
+        given(fileStorageService.storeBlob(any(), anyString(), anyString(), anyString())).willAnswer(invocation -> {
+            String fileUrl = "/files/blobs/" + invocation.<String>getArgument(1) + ".txt";
+            storedUrls.add(fileUrl);
+            return fileUrl;
+        });
+    }
+
+    // 등록된 파일이 없고, 저장했던 내용 주소 파일은 참조가 해제되어 삭제됨
+    private void assertReleased(Post post) {
+        assertThat(storedUrls).isNotEmpty();
+        assertThat(filesRepository.findByPostIdOrderBySortOrderAsc(post.getId())).isEmpty();
+        assertThat(fileBlobRepository.findAll()).isEmpty();
+        for (String fileUrl : List.copyOf(storedUrls)) {
+            verify(fileStorageService, timeout(5000)).deletePhysicalFiles(argThat(urls -> urls.contains(fileUrl)));
+        }
+    }
+
+    private Post postOf(String email) {
+        Long memberId = memberRepository.findByEmail(email).orElseThrow().getId();
+        return postRepository.findAll().stream()
+                .filter(post -> post.getMember().getId().equals(memberId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private HttpResponse<String> upload(Post post, List<byte[]> parts) throws Exception {
+        Member owner = memberRepository.findById(post.getMember().getId()).orElseThrow();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            body.write(part);
+        }
+        body.write(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/posts/" + post.getId() + "/files/stream"))
+                .header("Authorization", "Bearer " + jwtTokenProvider.generateAccessToken(owner))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private byte[] file(String fileName, String content) {
+        return ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: text/plain\r\n\r\n"
+                + content + "\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] field(String name, String value) {
+        return ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+}
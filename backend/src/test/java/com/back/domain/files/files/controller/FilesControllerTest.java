@@ -1,6 +1,8 @@
 package com.back.domain.files.files.controller;
 
+import com.back.domain.files.files.dto.FileUploadJobResponseDto;
 import com.back.domain.files.files.dto.FileUploadResponseDto;
+import com.back.domain.files.files.entity.FileUploadJobStatus;
 import com.back.domain.files.files.service.FileStorageService;
 import com.back.domain.files.files.service.FilesService;
 import com.back.global.rsData.RsData;
@@ -17,7 +19,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -48,11 +52,11 @@ public class FilesControllerTest {
         MockMultipartFile file1 = new MockMultipartFile(
                 "files", "test1.png", "image/png", "fake-image-content".getBytes());
 
-        // uploadFiles는 이제 즉시 문자열 응답을 반환
-        RsData<String> rsData = new RsData<>(
+        // uploadFiles는 업로드 작업을 접수하고 즉시 작업 정보를 반환
+        RsData<FileUploadJobResponseDto> rsData = new RsData<>(
                 "200",
-                "파일 업로드가 시작되었습니다. 완료 시 별도의 알림은 전송되지 않습니다.",
-                "Upload initiated"
+                "파일 업로드가 접수되었습니다. 업로드 작업 조회로 진행 상태를 확인할 수 있습니다.",
+                uploadJob(FileUploadJobStatus.PENDING, 1, 0)
         );
 
         given(filesService.uploadFiles(eq(5L), any(MultipartFile[].class))).willReturn(rsData);
@@ -62,8 +66,10 @@ public class FilesControllerTest {
                         .file(file1))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.resultCode").value("200"))
-                .andExpect(jsonPath("$.msg").value("파일 업로드가 시작되었습니다. 완료 시 별도의 알림은 전송되지 않습니다."))
-                .andExpect(jsonPath("$.data").value("Upload initiated"));
+                .andExpect(jsonPath("$.msg").value("파일 업로드가 접수되었습니다. 업로드 작업 조회로 진행 상태를 확인할 수 있습니다."))
+                .andExpect(jsonPath("$.data.jobId").value(10))
+                .andExpect(jsonPath("$.data.status").value("PENDING"))
+                .andExpect(jsonPath("$.data.totalCount").value(1));
     }
 
     @Test
@@ -71,10 +77,10 @@ public class FilesControllerTest {
     @WithMockUser(username = "test-user", roles = "USER")
     void t2() throws Exception {
         // Given
-        RsData<String> rsData = new RsData<>(
+        RsData<FileUploadJobResponseDto> rsData = new RsData<>(
                 "200",
-                "파일 업로드가 시작되었습니다. 완료 시 별도의 알림은 전송되지 않습니다.",
-                "Upload initiated"
+                "파일 업로드가 접수되었습니다. 업로드 작업 조회로 진행 상태를 확인할 수 있습니다.",
+                uploadJob(FileUploadJobStatus.STORED, 0, 0)
         );
 
         given(filesService.uploadFiles(eq(5L), any(MultipartFile[].class))).willReturn(rsData);
@@ -84,10 +90,30 @@ public class FilesControllerTest {
                         .file(new MockMultipartFile("files", new byte[0]))) // 빈 파일
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.resultCode").value("200"))
-                .andExpect(jsonPath("$.msg").value("파일 업로드가 시작되었습니다. 완료 시 별도의 알림은 전송되지 않습니다."))
-                .andExpect(jsonPath("$.data").value("Upload initiated"));
+                .andExpect(jsonPath("$.data.status").value("STORED"))
+                .andExpect(jsonPath("$.data.totalCount").value(0));
     }
 
+    @Test
+    @DisplayName("업로드 작업 상태 조회 성공")
+    @WithMockUser(username = "test-user", roles = "USER")
+    void t2_1() throws Exception {
+        // Given
+        RsData<FileUploadJobResponseDto> rsData = new RsData<>(
+                "200",
+                "업로드 작업 조회 성공",
+                uploadJob(FileUploadJobStatus.STORED, 2, 2)
+        );
+
+        given(filesService.getUploadJob(5L, 10L)).willReturn(rsData);
+
+        // When & Then
+        mockMvc.perform(get("/api/posts/5/files/upload-jobs/10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200"))
+                .andExpect(jsonPath("$.data.status").value("STORED"))
+                .andExpect(jsonPath("$.data.storedCount").value(2));
+    }
 
     @Test
     @DisplayName("파일 조회 성공 - 파일 있음")
@@ -146,6 +172,26 @@ public class FilesControllerTest {
                 .andExpect(jsonPath("$.data").isEmpty());
     }
 
+    @Test
+    @DisplayName("여러 게시글 파일 일괄 조회 성공 - 게시글 ID별 목록")
+    @WithMockUser(username = "test-user", roles = "USER")
+    void t4_1() throws Exception {
+        Map<Long, List<FileUploadResponseDto>> filesByPost = new LinkedHashMap<>();
+        filesByPost.put(5L, List.of(
+                new FileUploadResponseDto(1L, 5L, "test1.png", "image/png", 20L, "/files/test1.png", 1, LocalDateTime.now())
+        ));
+        filesByPost.put(6L, List.of());
+
+        given(filesService.getFilesByPostIds(List.of(5L, 6L)))
+                .willReturn(new RsData<>("200", "파일 목록 조회 성공", filesByPost));
+
+        mockMvc.perform(get("/api/posts/files/batch").param("postIds", "5", "6"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200"))
+                .andExpect(jsonPath("$.data['5'][0].fileName").value("test1.png"))
+                .andExpect(jsonPath("$.data['6']").isEmpty());
+    }
+
     @Test
     @DisplayName("파일 삭제 성공")
     @WithMockUser(username = "test-user", roles = "USER")
@@ -168,4 +214,8 @@ public class FilesControllerTest {
                 .andExpect(jsonPath("$.msg").value("파일 삭제 성공"));
     }
 
+    private FileUploadJobResponseDto uploadJob(FileUploadJobStatus status, int totalCount, int storedCount) {
+        LocalDateTime now = LocalDateTime.now();
+        return new FileUploadJobResponseDto(10L, 5L, status, totalCount, storedCount, 0, null, now, now);
+    }
 }
@@ -0,0 +1,68 @@
+package com.back.domain.files.files.controller;
+
+import com.back.domain.files.files.service.LocalFileStorageService;
+import com.back.domain.files.files.service.LocalUrlSigner;
+import com.back.global.globalExceptionHandler.GlobalExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("LocalSignedUploadController 단위 테스트")
+class LocalSignedUploadControllerTest {
+
+    private static final String PATH = "/files/post_1/3f/2b/3f2b8c1e-9a4d-4e8f-b6a1-2c7d5e9f0a1b.png";
+
+    private final LocalFileStorageService localFileStorageService = mock(LocalFileStorageService.class);
+    private final LocalUrlSigner urlSigner = new LocalUrlSigner("01234567890123456789012345678901");
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new LocalSignedUploadController(localFileStorageService, urlSigner))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    @Test
+    @DisplayName("서명한 경로/Content-Type 으로 올리면 저장")
+    void upload_with_valid_signature() throws Exception {
+        String uploadUrl = urlSigner.sign("PUT", PATH, Instant.now().plusSeconds(600), "image/png");
+
+        mockMvc.perform(put(URI.create(uploadUrl)).contentType("image/png").content(new byte[]{1, 2, 3}))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200"));
+
+        verify(localFileStorageService).storeSignedUpload(eq(PATH), any(InputStream.class));
+    }
+
+    @Test
+    @DisplayName("Content-Type 이 다르거나 만료/서명 누락이면 403 이고 저장하지 않음")
+    void reject_invalid_signature() throws Exception {
+        String uploadUrl = urlSigner.sign("PUT", PATH, Instant.now().plusSeconds(600), "image/png");
+        String expiredUrl = urlSigner.sign("PUT", PATH, Instant.now().minusSeconds(1), "image/png");
+        String otherPathUrl = uploadUrl.replace("post_1", "post_2");
+
+        mockMvc.perform(put(URI.create(uploadUrl)).contentType("text/html").content(new byte[]{1}))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put(URI.create(expiredUrl)).contentType("image/png").content(new byte[]{1}))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put(URI.create(otherPathUrl)).contentType("image/png").content(new byte[]{1}))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put(URI.create(PATH)).contentType("image/png").content(new byte[]{1}))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.resultCode").value("403"));
+
+        verify(localFileStorageService, never()).storeSignedUpload(anyString(), any());
+    }
+}
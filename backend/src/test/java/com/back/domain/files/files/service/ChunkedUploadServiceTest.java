@@ -0,0 +1,249 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.dto.ChunkedUploadCompleteRequestDto;
+import com.back.domain.files.files.dto.ChunkedUploadInitRequestDto;
+import com.back.domain.files.files.dto.ChunkedUploadResponseDto;
+import com.back.domain.files.files.entity.ChunkedUpload;
+import com.back.domain.files.files.entity.Files;
+import com.back.domain.files.files.repository.ChunkedUploadRepository;
+import com.back.domain.files.files.repository.FileBlobRepository;
+import com.back.domain.files.files.repository.FilesRepository;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.post.entity.Post;
+import com.back.domain.post.repository.PostRepository;
+import com.back.global.exception.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@SpringBootTest(properties = {
+        "file.upload.chunked.chunk-size=4",
+        "file.upload.chunked.max-active-per-member=2"
+})
+@ActiveProfiles("test")
+@DisplayName("ChunkedUploadService 통합 테스트")
+class ChunkedUploadServiceTest {
+
+    private static final byte[] CONTENT = "chunked upload!".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @Autowired
+    private ChunkedUploadRepository chunkedUploadRepository;
+
+    @Autowired
+    private ChunkedUploadStaging staging;
+
+    @Autowired
+    private FilesRepository filesRepository;
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    @MockitoSpyBean
+    private FileBlobService fileBlobService;
+
+    @AfterEach
+    void tearDown() {
+        chunkedUploadRepository.findAll().forEach(upload -> staging.discard(upload.getUploadId()));
+        chunkedUploadRepository.deleteAll();
+        filesRepository.deleteAll();
+        fileBlobRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("조각을 순서와 관계없이 보내도 완료 시 원래 순서로 합쳐 등록")
+    @WithUserDetails("user1@user.com")
+    void init_chunks_out_of_order_complete() throws Exception {
+        AtomicReference<String> assembled = new AtomicReference<>();
+        given(fileStorageService.storeBlob(any(), anyString(), anyString(), anyString())).willAnswer(invocation -> {
+            assembled.set(java.nio.file.Files.readString(invocation.<Path>getArgument(0)));
+            return "/files/blobs/" + invocation.<String>getArgument(1) + ".txt";
+        });
+        Post post = postsOf("user1@user.com").get(0);
+
+        ChunkedUploadResponseDto started = init(post);
+        assertThat(started.totalChunks()).isEqualTo(4);
+        for (int index : new int[]{2, 0, 3, 1}) {
+            sendChunk(post, started.uploadId(), index);
+        }
+        assertThat(chunkedUploadService.getStatus(post.getId(), started.uploadId()).data().receivedChunks())
+                .containsExactly(0, 1, 2, 3);
+
+        chunkedUploadService.complete(post.getId(), started.uploadId(), new ChunkedUploadCompleteRequestDto(sha256(CONTENT)));
+
+        assertThat(assembled.get()).isEqualTo(new String(CONTENT, StandardCharsets.UTF_8));
+        assertThat(filesRepository.findByPostIdOrderBySortOrderAsc(post.getId()))
+                .singleElement()
+                .satisfies(file -> {
+                    assertThat(file.getFileName()).isEqualTo("명세서.txt");
+                    assertThat(file.getFileSize()).isEqualTo(CONTENT.length);
+                });
+        assertThat(chunkedUploadRepository.findByUploadId(started.uploadId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 먼저 업로드 세션을 선점하면 등록하지 않고 저장한 파일 참조 해제")
+    @WithUserDetails("user1@user.com")
+    void complete_fails_when_session_claimed_elsewhere() {
+        given(fileStorageService.storeBlob(any(), anyString(), anyString(), anyString()))
+                .willAnswer(invocation -> "/files/blobs/" + invocation.<String>getArgument(1) + ".txt");
+        Post post = postsOf("user1@user.com").get(0);
+        ChunkedUploadResponseDto started = init(post);
+        for (int index = 0; index < started.totalChunks(); index++) {
+            sendChunk(post, started.uploadId(), index);
+        }
+
+        // 파일을 저장한 직후 다른 서버의 완료 요청이 세션을 먼저 삭제한 상황
+        willAnswer(invocation -> {
+            Object blob = invocation.callRealMethod();
+            chunkedUploadRepository.findByUploadId(started.uploadId()).ifPresent(chunkedUploadRepository::delete);
+            return blob;
+        }).given(fileBlobService).store(any(Path.class), anyString(), anyString(), anyString(), anyLong(), anyLong());
+
+        assertThatThrownBy(() -> chunkedUploadService.complete(post.getId(), started.uploadId(), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이미 완료되었거나 만료된 업로드입니다");
+
+        assertThat(filesRepository.findByPostIdOrderBySortOrderAsc(post.getId())).extracting(Files::getFileName)
+                .doesNotContain("명세서.txt");
+        String sha256 = sha256(CONTENT);
+        assertThat(fileBlobRepository.findAll()).noneMatch(blob -> blob.getSha256().equals(sha256));
+
+        staging.discard(started.uploadId());
+    }
+
+    @Test
+    @DisplayName("빠진 조각이 있으면 완료 거절")
+    @WithUserDetails("user1@user.com")
+    void complete_rejects_missing_chunks() {
+        Post post = postsOf("user1@user.com").get(0);
+        ChunkedUploadResponseDto started = init(post);
+        sendChunk(post, started.uploadId(), 0);
+        sendChunk(post, started.uploadId(), 3);
+
+        assertThatThrownBy(() -> chunkedUploadService.complete(post.getId(), started.uploadId(), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[1, 2]");
+        assertThat(filesRepository.findByPostIdOrderBySortOrderAsc(post.getId())).extracting(Files::getFileName)
+                .doesNotContain("명세서.txt");
+    }
+
+    @Test
+    @DisplayName("다른 게시글 경로로 접근하면 거절")
+    @WithUserDetails("user1@user.com")
+    void reject_wrong_post() {
+        List<Post> posts = postsOf("user1@user.com");
+        Post post = posts.get(0);
+        Post otherPost = posts.get(1);
+        ChunkedUploadResponseDto started = init(post);
+
+        assertThatThrownBy(() -> sendChunk(otherPost, started.uploadId(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> chunkedUploadService.complete(otherPost.getId(), started.uploadId(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다른 회원이 시작한 업로드에는 조각 전송/완료/취소 거절")
+    @WithUserDetails("user1@user.com")
+    void reject_wrong_member() {
+        Post post = postsOf("user1@user.com").get(0);
+        Long otherMemberId = memberRepository.findByEmail("user2@user.com").orElseThrow().getId();
+        ChunkedUpload othersUpload = chunkedUploadRepository.save(ChunkedUpload.builder()
+                .uploadId(UUID.randomUUID().toString())
+                .postId(post.getId())
+                .memberId(otherMemberId)
+                .fileName("명세서.txt")
+                .contentType("text/plain")
+                .fileSize(CONTENT.length)
+                .chunkSize(4)
+                .build());
+
+        assertThatThrownBy(() -> sendChunk(post, othersUpload.getUploadId(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> chunkedUploadService.complete(post.getId(), othersUpload.getUploadId(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> chunkedUploadService.cancel(post.getId(), othersUpload.getUploadId()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(chunkedUploadRepository.findByUploadId(othersUpload.getUploadId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("회원당 진행 중인 업로드가 한도에 이르면 새 업로드 거절, 취소하면 다시 시작 가능")
+    @WithUserDetails("user1@user.com")
+    void limit_active_uploads_per_member() {
+        Post post = postsOf("user1@user.com").get(0);
+        ChunkedUploadResponseDto first = init(post);
+        init(post);
+
+        assertThatThrownBy(() -> init(post))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("진행 중인 분할 업로드가 너무 많습니다");
+
+        chunkedUploadService.cancel(post.getId(), first.uploadId());
+        assertThat(init(post).uploadId()).isNotBlank();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private List<Post> postsOf(String email) {
+        Long memberId = memberRepository.findByEmail(email).orElseThrow().getId();
+        return postRepository.findAll().stream()
+                .filter(post -> post.getMember().getId().equals(memberId))
+                .toList();
+    }
+
+    private ChunkedUploadResponseDto init(Post post) {
+        return chunkedUploadService.init(post.getId(),
+                new ChunkedUploadInitRequestDto("명세서.txt", "text/plain", CONTENT.length)).data();
+    }
+
+    private void sendChunk(Post post, String uploadId, int index) {
+        byte[] chunk = Arrays.copyOfRange(CONTENT, index * 4, Math.min(CONTENT.length, (index + 1) * 4));
+        chunkedUploadService.uploadChunk(post.getId(), uploadId, index, (long) index * 4, sha256(chunk),
+                new ByteArrayInputStream(chunk));
+    }
+
+    private String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
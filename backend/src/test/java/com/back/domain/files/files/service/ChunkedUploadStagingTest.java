@@ -0,0 +1,83 @@
+package com.back.domain.files.files.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ChunkedUploadStaging 단위 테스트")
+class ChunkedUploadStagingTest {
+
+    private static final String UPLOAD_ID = "3f2b8c1e-9a4d-4e8f-b6a1-2c7d5e9f0a1b";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("순서와 관계없이 받은 조각을 순서대로 합치고 전체 SHA-256 계산")
+    void write_and_assemble() throws Exception {
+        ChunkedUploadStaging staging = new ChunkedUploadStaging(tempDir.toString());
+        byte[] content = new byte[2500];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 31);
+        }
+        byte[][] chunks = {
+                Arrays.copyOfRange(content, 0, 1000),
+                Arrays.copyOfRange(content, 1000, 2000),
+                Arrays.copyOfRange(content, 2000, 2500)
+        };
+
+        write(staging, 2, chunks[2]);
+        write(staging, 0, chunks[0]);
+        assertThat(staging.receivedChunks(UPLOAD_ID)).containsExactly(0, 2);
+        write(staging, 1, chunks[1]);
+        write(staging, 1, chunks[1]); // 같은 조각 재전송
+
+        ChunkedUploadStaging.AssembledFile assembled = staging.assemble(UPLOAD_ID, 3);
+
+        assertThat(assembled.size()).isEqualTo(2500);
+        assertThat(assembled.sha256()).isEqualTo(sha256(content));
+        assertThat(Files.readAllBytes(assembled.path())).isEqualTo(content);
+
+        staging.discard(UPLOAD_ID);
+        assertThat(staging.receivedChunks(UPLOAD_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("크기나 체크섬이 맞지 않는 조각은 저장하지 않음")
+    void reject_invalid_chunk() throws Exception {
+        ChunkedUploadStaging staging = new ChunkedUploadStaging(tempDir.toString());
+        byte[] chunk = "chunk-content".getBytes();
+
+        assertThatThrownBy(() -> staging.writeChunk(UPLOAD_ID, 0, chunk.length, sha256("other".getBytes()), new ByteArrayInputStream(chunk)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("체크섬");
+        assertThatThrownBy(() -> staging.writeChunk(UPLOAD_ID, 0, chunk.length - 1, sha256(chunk), new ByteArrayInputStream(chunk)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("크기");
+
+        assertThat(staging.receivedChunks(UPLOAD_ID)).isEmpty();
+        try (var files = Files.list(tempDir.resolve(UPLOAD_ID))) {
+            assertThat(files).isEmpty(); // 임시 파일도 남지 않음
+        }
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private void write(ChunkedUploadStaging staging, int index, byte[] chunk) throws Exception {
+        staging.writeChunk(UPLOAD_ID, index, chunk.length, sha256(chunk), new ByteArrayInputStream(chunk));
+    }
+
+    private String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
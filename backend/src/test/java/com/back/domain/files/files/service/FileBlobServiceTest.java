@@ -0,0 +1,242 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.entity.FileVariant;
+import com.back.domain.files.files.repository.FileBlobRepository;
+import com.back.domain.files.files.repository.FilesRepository;
+import com.back.domain.files.files.repository.PendingFileDeletionRepository;
+import com.back.domain.post.entity.Post;
+import com.back.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = "file.delete.retry-backoff-ms=60000")
+@ActiveProfiles("test")
+@DisplayName("FileBlobService 통합 테스트")
+class FileBlobServiceTest {
+
+    private static final String SHA256 = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String BLOB_URL = "/files/blobs/9f/" + SHA256 + ".pdf";
+    private static final String VARIANT_URL = "/files/blobs/9f/" + SHA256 + "_w480.jpg";
+
+    @Autowired
+    private FileBlobService fileBlobService;
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Autowired
+    private PendingFileDeletionRepository pendingFileDeletionRepository;
+
+    @Autowired
+    private FileDeletionService fileDeletionService;
+
+    @Autowired
+    private FilesRepository filesRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        filesRepository.deleteAll();
+        fileBlobRepository.deleteAll();
+        pendingFileDeletionRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 내용은 한 번만 저장하고, 마지막 참조가 해제될 때만 물리 파일 삭제")
+    void store_dedup_and_release() throws Exception {
+        Path source = tempDir.resolve("upload.part");
+        Files.writeString(source, "test");
+        given(fileStorageService.storeBlob(any(), eq(SHA256), eq(".pdf"), eq("application/pdf"))).willReturn(BLOB_URL);
+
+        FileBlobService.BlobReference first = fileBlobService.store(source, SHA256, "patent.pdf", "application/pdf", 4);
+        FileBlobService.BlobReference second = fileBlobService.store(source, SHA256, "copy.PDF", "application/pdf", 4);
+
+        assertThat(first.reused()).isFalse();
+        assertThat(second.reused()).isTrue();
+        assertThat(second.fileUrl()).isEqualTo(BLOB_URL);
+        verify(fileStorageService, times(1)).storeBlob(any(), eq(SHA256), eq(".pdf"), eq("application/pdf"));
+        assertThat(fileBlobRepository.findAll()).singleElement()
+                .satisfies(blob -> assertThat(blob.getRefCount()).isEqualTo(2));
+
+        fileBlobService.release(BLOB_URL, List.of());
+        verify(fileStorageService, never()).deletePhysicalFiles(any());
+
+        // 물리 파일은 커밋 이후 백그라운드에서 삭제
+        fileBlobService.release(BLOB_URL, List.of());
+        verify(fileStorageService, timeout(2000).times(1)).deletePhysicalFiles(List.of(BLOB_URL));
+        assertThat(fileBlobRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 저장된 해시로는 업로드 없이 참조만 추가, 모르는 해시는 empty")
+    void retain_existing() throws Exception {
+        Path source = tempDir.resolve("upload.part");
+        Files.writeString(source, "test");
+        given(fileStorageService.storeBlob(any(), eq(SHA256), eq(".pdf"), eq("application/pdf"))).willReturn(BLOB_URL);
+        fileBlobService.store(source, SHA256, "patent.pdf", "application/pdf", 4);
+
+        assertThat(fileBlobService.retainExisting(SHA256)).hasValueSatisfying(blob -> {
+            assertThat(blob.fileUrl()).isEqualTo(BLOB_URL);
+            assertThat(blob.size()).isEqualTo(4);
+        });
+        assertThat(fileBlobService.retainExisting("0".repeat(64))).isEmpty();
+        assertThat(fileBlobRepository.findAll()).singleElement()
+                .satisfies(blob -> assertThat(blob.getRefCount()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("사본이 없는 이미지는 empty 로 사본을 다시 만들게 하고, 이미지가 아니면 빈 사본 목록을 그대로 사용")
+    void find_variants_regenerates_missing_image_variants() {
+        Post post = postRepository.findAll().get(0);
+        String legacyImageUrl = "/files/blobs/ab/" + "a".repeat(64) + ".png";
+        String imageUrl = "/files/blobs/cd/" + "c".repeat(64) + ".png";
+        filesRepository.save(attachment(post, legacyImageUrl, "image/png", List.of()));
+        filesRepository.save(attachment(post, BLOB_URL, "application/pdf", List.of()));
+        filesRepository.save(attachment(post, imageUrl, "image/png",
+                List.of(new FileVariant(480, 320, VARIANT_URL, "image/jpeg", 100))));
+
+        assertThat(fileBlobService.findVariants(legacyImageUrl)).isEmpty();
+        assertThat(fileBlobService.findVariants(BLOB_URL)).hasValueSatisfying(variants -> assertThat(variants).isEmpty());
+        assertThat(fileBlobService.findVariants(imageUrl)).hasValueSatisfying(variants ->
+                assertThat(variants).extracting(FileVariant::getFileUrl).containsExactly(VARIANT_URL));
+        assertThat(fileBlobService.findVariants("/files/blobs/ef/unknown.png")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("내용 주소 저장 이전 파일은 참조 정보가 없으므로 바로 삭제 예약")
+    void release_legacy_file() {
+        String legacyUrl = "/files/post_1/3f2b8c1e-9a4d-4e8f-b6a1-2c7d5e9f0a1b.pdf";
+
+        fileBlobService.release(legacyUrl, List.of());
+
+        verify(fileStorageService, timeout(2000).times(1)).deletePhysicalFiles(List.of(legacyUrl));
+    }
+
+    @Test
+    @DisplayName("삭제 대기 중인 내용이 다시 업로드되면 삭제 예약을 취소하고 파일을 유지")
+    void reupload_cancels_pending_deletion() throws Exception {
+        Path source = writeSource();
+        given(fileStorageService.storeBlob(any(), eq(SHA256), eq(".pdf"), eq("application/pdf"))).willReturn(BLOB_URL);
+        // 첫 삭제 시도는 실패 → 재시도 대기 (재시도 간격 60초)
+        given(fileStorageService.deletePhysicalFiles(any())).willReturn(List.of(BLOB_URL, VARIANT_URL));
+
+        fileBlobService.store(source, SHA256, "patent.pdf", "application/pdf", 4);
+        fileBlobService.release(BLOB_URL, List.of(new FileVariant(480, 240, VARIANT_URL, "image/jpeg", 10)));
+        verify(fileStorageService, timeout(2000).times(1)).deletePhysicalFiles(List.of(BLOB_URL, VARIANT_URL));
+        awaitPendingRetry();
+
+        FileBlobService.BlobReference reuploaded = fileBlobService.store(source, SHA256, "again.pdf", "application/pdf", 4);
+        fileDeletionService.pollPending();
+
+        assertThat(reuploaded.fileUrl()).isEqualTo(BLOB_URL);
+        assertThat(pendingFileDeletionRepository.findAll()).isEmpty();
+        verify(fileStorageService, after(300).times(1)).deletePhysicalFiles(any());
+        assertThat(fileBlobRepository.findAll()).singleElement()
+                .satisfies(blob -> assertThat(blob.getRefCount()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("삭제 중인 내용이 다시 업로드되면 삭제가 끝난 뒤 파일을 다시 저장")
+    void reupload_waits_for_inflight_deletion() throws Exception {
+        Path source = writeSource();
+        given(fileStorageService.storeBlob(any(), eq(SHA256), eq(".pdf"), eq("application/pdf"))).willReturn(BLOB_URL);
+        CountDownLatch deleting = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        given(fileStorageService.deletePhysicalFiles(any())).willAnswer(invocation -> {
+            deleting.countDown();
+            proceed.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        fileBlobService.store(source, SHA256, "patent.pdf", "application/pdf", 4);
+        fileBlobService.release(BLOB_URL, List.of());
+        assertThat(deleting.await(2, TimeUnit.SECONDS)).isTrue();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<FileBlobService.BlobReference> reupload = executor.submit(
+                    () -> fileBlobService.store(source, SHA256, "again.pdf", "application/pdf", 4));
+            Thread.sleep(200);
+            assertThat(reupload).isNotDone(); // 삭제가 끝날 때까지 예약 취소가 대기
+
+            proceed.countDown();
+            assertThat(reupload.get(5, TimeUnit.SECONDS).fileUrl()).isEqualTo(BLOB_URL);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        InOrder order = inOrder(fileStorageService);
+        order.verify(fileStorageService).storeBlob(any(), eq(SHA256), eq(".pdf"), eq("application/pdf"));
+        order.verify(fileStorageService).deletePhysicalFiles(List.of(BLOB_URL));
+        order.verify(fileStorageService).storeBlob(any(), eq(SHA256), eq(".pdf"), eq("application/pdf"));
+        assertThat(fileBlobRepository.findAll()).singleElement()
+                .satisfies(blob -> assertThat(blob.getRefCount()).isEqualTo(1));
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private com.back.domain.files.files.entity.Files attachment(Post post, String fileUrl, String fileType, List<FileVariant> variants) {
+        return com.back.domain.files.files.entity.Files.builder()
+                .post(post)
+                .fileName("attachment")
+                .fileType(fileType)
+                .fileSize(100)
+                .fileUrl(fileUrl)
+                .sortOrder(0)
+                .variants(new ArrayList<>(variants))
+                .build();
+    }
+
+    private Path writeSource() throws Exception {
+        Path source = tempDir.resolve("upload.part");
+        Files.writeString(source, "test");
+        return source;
+    }
+
+    private void awaitPendingRetry() throws InterruptedException {
+        for (int i = 0; i < 40; i++) {
+            if (pendingFileDeletionRepository.findAll().stream().allMatch(pending -> pending.getAttempts() == 1)
+                    && pendingFileDeletionRepository.count() == 2) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("삭제 재시도가 예약되지 않았습니다.");
+    }
+}
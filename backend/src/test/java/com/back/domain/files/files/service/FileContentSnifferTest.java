@@ -0,0 +1,52 @@
+package com.back.domain.files.files.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FileContentSniffer 단위 테스트")
+class FileContentSnifferTest {
+
+    @Test
+    @DisplayName("선언된 Content-Type 과 관계없이 매직 바이트로 형식 판별")
+    void detect_by_magic_bytes() {
+        assertThat(detect(bytes(0xFF, 0xD8, 0xFF, 0xE0), "application/octet-stream")).isEqualTo("image/jpeg");
+        assertThat(detect(bytes(0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A), "image/jpeg")).isEqualTo("image/png");
+        assertThat(detect("GIF89a...".getBytes(StandardCharsets.US_ASCII), null)).isEqualTo("image/gif");
+        assertThat(detect("RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII), null)).isEqualTo("image/webp");
+        assertThat(detect("%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII), "text/plain")).isEqualTo("application/pdf");
+    }
+
+    @Test
+    @DisplayName("텍스트로 선언된 바이너리가 아닌 내용만 일반 텍스트로 허용")
+    void detect_text() {
+        assertThat(detect("특허 명세서\r\n1. 청구항".getBytes(StandardCharsets.UTF_8), "text/plain")).isEqualTo("text/plain");
+        assertThat(detect("<script>alert(1)</script>".getBytes(StandardCharsets.UTF_8), "text/html")).isEqualTo("text/plain");
+        assertThat(detect(bytes('M', 'Z', 0x90, 0x00, 0x03), "text/plain")).isNull();
+    }
+
+    @Test
+    @DisplayName("이미지로 선언해도 매직 바이트가 없으면 거절 (SVG 포함)")
+    void reject_unknown() {
+        assertThat(detect("fake-image-content".getBytes(StandardCharsets.US_ASCII), "image/png")).isNull();
+        assertThat(detect("<svg xmlns=\"http://www.w3.org/2000/svg\"/>".getBytes(StandardCharsets.UTF_8), "image/svg+xml")).isNull();
+        assertThat(detect(new byte[0], "text/plain")).isEqualTo("text/plain");
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private String detect(byte[] content, String declaredType) {
+        return FileContentSniffer.detect(content, content.length, declaredType);
+    }
+
+    private byte[] bytes(int... values) {
+        byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.repository.PendingFileDeletionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "file.delete.retry-backoff-ms=1",
+        "file.delete.poll-interval-ms=100"
+})
+@ActiveProfiles("test")
+@DisplayName("FileDeletionService 통합 테스트")
+class FileDeletionServiceTest {
+
+    private static final String FILE_URL = "/files/post_1/3f2b8c1e-9a4d-4e8f-b6a1-2c7d5e9f0a1b.pdf";
+    private static final String VARIANT_URL = "/files/post_1/3f2b8c1e-9a4d-4e8f-b6a1-2c7d5e9f0a1b_w480.jpg";
+
+    @Autowired
+    private FileDeletionService fileDeletionService;
+
+    @Autowired
+    private PendingFileDeletionRepository pendingFileDeletionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    @AfterEach
+    void tearDown() {
+        pendingFileDeletionRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("커밋된 삭제 예약을 한 번에 삭제하고, 실패한 파일만 재시도")
+    void delete_after_commit_with_retry() {
+        given(fileStorageService.deletePhysicalFiles(any())).willReturn(List.of(VARIANT_URL), List.of());
+
+        transactionTemplate.executeWithoutResult(status -> fileDeletionService.enqueue(List.of(FILE_URL, VARIANT_URL)));
+
+        verify(fileStorageService, timeout(2000)).deletePhysicalFiles(List.of(FILE_URL, VARIANT_URL));
+        verify(fileStorageService, timeout(2000)).deletePhysicalFiles(List.of(VARIANT_URL));
+        awaitEmptyOutbox();
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 삭제 예약도 사라지고 파일은 삭제하지 않음")
+    void rollback_keeps_files() {
+        transactionTemplate.executeWithoutResult(status -> {
+            fileDeletionService.enqueue(List.of(FILE_URL));
+            status.setRollbackOnly();
+        });
+
+        verify(fileStorageService, after(300).never()).deletePhysicalFiles(any());
+        assertThat(pendingFileDeletionRepository.count()).isZero();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private void awaitEmptyOutbox() {
+        for (int i = 0; i < 40; i++) {
+            if (pendingFileDeletionRepository.count() == 0) {
+                return;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+        throw new AssertionError("삭제 예약이 처리되지 않았습니다.");
+    }
+}
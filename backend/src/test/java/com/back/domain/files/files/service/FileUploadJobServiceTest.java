@@ -0,0 +1,221 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.entity.FileUploadJob;
+import com.back.domain.files.files.entity.FileUploadJobStatus;
+import com.back.domain.files.files.entity.Files;
+import com.back.domain.files.files.repository.FileBlobRepository;
+import com.back.domain.files.files.repository.FileUploadJobRepository;
+import com.back.domain.files.files.repository.FilesRepository;
+import com.back.domain.post.entity.Post;
+import com.back.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "file.upload.job.threads=4",
+        "file.upload.job.max-concurrency-per-job=2",
+        "file.upload.job.retry-backoff-ms=1"
+})
+@ActiveProfiles("test")
+@DisplayName("FileUploadJobService 통합 테스트")
+class FileUploadJobServiceTest {
+
+    @Autowired
+    private FileUploadJobService fileUploadJobService;
+
+    @Autowired
+    private FileUploadJobRepository fileUploadJobRepository;
+
+    @Autowired
+    private FilesRepository filesRepository;
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private FileUploadStaging staging;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    @AfterEach
+    void tearDown() {
+        filesRepository.deleteAll();
+        fileBlobRepository.deleteAll();
+        fileUploadJobRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("작업당 동시 저장 수를 지키면서 병렬 저장하고, 완료 순서와 관계없이 요청 순서대로 등록")
+    void upload_in_parallel() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        given(fileStorageService.storeBlob(any(), anyString(), anyString(), anyString())).willAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                // 앞 파일일수록 늦게 끝나도록 해 완료 순서를 뒤섞음
+                String content = java.nio.file.Files.readString(invocation.getArgument(0));
+                Thread.sleep(content.endsWith("0") ? 150 : 30);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return "/files/blobs/" + invocation.<String>getArgument(1) + ".txt";
+        });
+        Post post = postRepository.findAll().get(0);
+
+        FileUploadJob job = fileUploadJobService.submit(post, textFiles(6));
+
+        FileUploadJob finished = awaitFinished(job.getId());
+        assertThat(finished.getStatus()).isEqualTo(FileUploadJobStatus.STORED);
+        assertThat(finished.getStoredCount()).isEqualTo(6);
+        assertThat(maxInFlight.get()).isEqualTo(2);
+        assertThat(filesRepository.findByPostIdOrderBySortOrderAsc(post.getId()))
+                .extracting(Files::getFileName)
+                .containsExactly("note0.txt", "note1.txt", "note2.txt", "note3.txt", "note4.txt", "note5.txt");
+    }
+
+    @Test
+    @DisplayName("일부 파일 저장이 실패하면 저장된 파일만 등록하고 실패 사유를 모아서 기록")
+    void upload_partial_failure() throws Exception {
+        given(fileStorageService.storeBlob(any(), anyString(), anyString(), anyString())).willAnswer(invocation -> {
+            String content = java.nio.file.Files.readString(invocation.getArgument(0));
+            if (content.endsWith("1")) {
+                throw new RuntimeException("스토리지 오류");
+            }
+            return "/files/blobs/" + invocation.<String>getArgument(1) + ".txt";
+        });
+        Post post = postRepository.findAll().get(0);
+
+        FileUploadJob job = fileUploadJobService.submit(post, textFiles(3));
+
+        FileUploadJob finished = awaitFinished(job.getId());
+        assertThat(finished.getStatus()).isEqualTo(FileUploadJobStatus.FAILED);
+        assertThat(finished.getStoredCount()).isEqualTo(2);
+        assertThat(finished.getFailedCount()).isEqualTo(1);
+        assertThat(finished.getErrorMessage())
+                .startsWith("파일 3개 중 1개 저장 실패")
+                .contains("2. note1.txt: 스토리지 오류");
+        assertThat(filesRepository.findByPostIdOrderBySortOrderAsc(post.getId()))
+                .extracting(Files::getFileName)
+                .containsExactly("note0.txt", "note2.txt");
+    }
+
+    @Test
+    @DisplayName("생존 시각이 오래된 작업이라도 이 서버에서 처리 중이면 실패 처리하지 않고 스테이징 파일도 유지")
+    void expire_skips_active_jobs() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        given(fileStorageService.storeBlob(any(), anyString(), anyString(), anyString())).willAnswer(invocation -> {
+            started.countDown();
+            proceed.await(5, TimeUnit.SECONDS);
+            // 정리 이후에도 스테이징 파일을 읽을 수 있어야 함
+            java.nio.file.Files.readString(invocation.<Path>getArgument(0));
+            return "/files/blobs/" + invocation.<String>getArgument(1) + ".txt";
+        });
+        Post post = postRepository.findAll().get(0);
+
+        FileUploadJob active = fileUploadJobService.submit(post, textFiles(1));
+        FileUploadJob crashed = fileUploadJobRepository.save(FileUploadJob.builder().postId(post.getId()).totalCount(1).build());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        // 두 작업 모두 생존 시각이 하루 전에 멈춘 상태로 만듦
+        transactionTemplate.executeWithoutResult(status -> fileUploadJobRepository.updateHeartbeat(
+                List.of(active.getId(), crashed.getId()), FileUploadJobStatus.PENDING, LocalDateTime.now().minusDays(1)));
+
+        fileUploadJobService.expireStaleJobs();
+        staging.discardOlderThan(Duration.ZERO);
+
+        assertThat(fileUploadJobRepository.findById(active.getId()).orElseThrow().getStatus()).isEqualTo(FileUploadJobStatus.PENDING);
+        assertThat(fileUploadJobRepository.findById(active.getId()).orElseThrow().getHeartbeatAt())
+                .isAfter(LocalDateTime.now().minusMinutes(1));
+        assertThat(fileUploadJobRepository.findById(crashed.getId()).orElseThrow().getStatus()).isEqualTo(FileUploadJobStatus.FAILED);
+
+        proceed.countDown();
+        FileUploadJob finished = awaitFinished(active.getId());
+        assertThat(finished.getStatus()).isEqualTo(FileUploadJobStatus.STORED);
+        assertThat(filesRepository.findByPostIdOrderBySortOrderAsc(post.getId()))
+                .extracting(Files::getFileName)
+                .containsExactly("note0.txt");
+    }
+
+    @Test
+    @DisplayName("처리 중 실패 처리된 작업은 늦게 끝나도 FAILED 를 유지하고 저장한 파일의 참조를 해제")
+    void complete_keeps_failed_status() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        AtomicReference<String> storedUrl = new AtomicReference<>();
+        given(fileStorageService.storeBlob(any(), anyString(), anyString(), anyString())).willAnswer(invocation -> {
+            started.countDown();
+            proceed.await(5, TimeUnit.SECONDS);
+            storedUrl.set("/files/blobs/" + invocation.<String>getArgument(1) + ".txt");
+            return storedUrl.get();
+        });
+        Post post = postRepository.findAll().get(0);
+
+        FileUploadJob job = fileUploadJobService.submit(post, textFiles(1));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        // 다른 서버가 중단된 작업으로 판단해 실패 처리한 상황
+        transactionTemplate.executeWithoutResult(status -> fileUploadJobRepository.findById(job.getId()).orElseThrow()
+                .markFailed(0, 1, "업로드 처리가 중단되었습니다. 다시 업로드해 주세요."));
+        proceed.countDown();
+
+        verify(fileStorageService, timeout(5000)).deletePhysicalFiles(argThat(urls -> urls.contains(storedUrl.get())));
+        FileUploadJob finished = fileUploadJobRepository.findById(job.getId()).orElseThrow();
+        assertThat(finished.getStatus()).isEqualTo(FileUploadJobStatus.FAILED);
+        assertThat(finished.getErrorMessage()).isEqualTo("업로드 처리가 중단되었습니다. 다시 업로드해 주세요.");
+        assertThat(filesRepository.findByPostIdOrderBySortOrderAsc(post.getId())).isEmpty();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private MultipartFile[] textFiles(int count) {
+        MultipartFile[] files = new MultipartFile[count];
+        for (int i = 0; i < count; i++) {
+            files[i] = new MockMultipartFile("files", "note" + i + ".txt", "text/plain",
+                    ("uploaded note " + i).getBytes(StandardCharsets.UTF_8));
+        }
+        return files;
+    }
+
+    private FileUploadJob awaitFinished(Long jobId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            FileUploadJob job = fileUploadJobRepository.findById(jobId).orElseThrow();
+            if (job.getStatus() != FileUploadJobStatus.PENDING) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("업로드 작업이 끝나지 않았습니다: " + jobId);
+    }
+}
@@ -0,0 +1,189 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.dto.FileUploadResponseDto;
+import com.back.domain.files.files.dto.SignedUploadCompleteRequestDto;
+import com.back.domain.files.files.dto.SignedUploadCompleteRequestDto.UploadedFile;
+import com.back.domain.files.files.entity.Files;
+import com.back.domain.files.files.repository.FilesRepository;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.post.entity.Post;
+import com.back.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = "file.upload.max-size=100")
+@ActiveProfiles("test")
+@DisplayName("FilesService 서명 URL 업로드 완료 통합 테스트")
+class FilesServiceSignedUploadTest {
+
+    private static final byte[] PNG_HEAD = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D};
+    private static final String OBJECT_NAME = "3f/2b/3f2b8c1e-9a4d-4e8f-b6a1-2c7d5e9f0a1b.png";
+
+    @Autowired
+    private FilesService filesService;
+
+    @Autowired
+    private FilesRepository filesRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    @AfterEach
+    void tearDown() {
+        filesRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("스토리지에 기록된 크기/형식으로 등록 (클라이언트가 보낸 값은 사용하지 않음)")
+    @WithUserDetails("user1@user.com")
+    void complete_uses_stored_metadata() {
+        Post post = postOf("user1@user.com");
+        String fileUrl = "/files/post_" + post.getId() + "/" + OBJECT_NAME;
+        StoredFile storedFile = storedFile(42, "image/png", PNG_HEAD);
+        given(fileStorageService.loadStoredFile(fileUrl)).willReturn(storedFile);
+
+        List<FileUploadResponseDto> result = filesService.completeSignedUploads(post.getId(), request(fileUrl)).data();
+
+        assertThat(result).hasSize(1);
+        Files saved = filesRepository.findAll().get(0);
+        assertThat(saved.getFileUrl()).isEqualTo(fileUrl);
+        assertThat(saved.getFileSize()).isEqualTo(42);
+        assertThat(saved.getFileType()).isEqualTo("image/png");
+    }
+
+    @Test
+    @DisplayName("다른 게시글 폴더나 형식이 다른 객체 이름은 거절")
+    @WithUserDetails("user1@user.com")
+    void complete_rejects_foreign_url() {
+        Post post = postOf("user1@user.com");
+        String otherPostUrl = "/files/post_" + (post.getId() + 1000) + "/" + OBJECT_NAME;
+        String profileUrl = "/files/post_" + post.getId() + "/../profile/1/avatar.png";
+
+        assertThatThrownBy(() -> filesService.completeSignedUploads(post.getId(), request(otherPostUrl)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> filesService.completeSignedUploads(post.getId(), request(profileUrl)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(fileStorageService, never()).loadStoredFile(anyString());
+        assertThat(filesRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘은 객체는 삭제하고 거절, 아직 올라가지 않은 객체도 거절")
+    @WithUserDetails("user1@user.com")
+    void complete_rejects_oversized_or_missing() {
+        Post post = postOf("user1@user.com");
+        String oversizedUrl = "/files/post_" + post.getId() + "/" + OBJECT_NAME;
+        String missingUrl = "/files/post_" + post.getId() + "/4a5b6c7d-1e2f-4a3b-8c9d-0e1f2a3b4c5d.pdf";
+        StoredFile oversized = storedFile(101, "image/png", PNG_HEAD);
+        given(fileStorageService.loadStoredFile(oversizedUrl)).willReturn(oversized);
+        given(fileStorageService.loadStoredFile(missingUrl)).willThrow(new RuntimeException("없음"));
+
+        assertThatThrownBy(() -> filesService.completeSignedUploads(post.getId(), request(oversizedUrl)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(fileStorageService, timeout(5000)).deletePhysicalFiles(argThat(urls -> urls.contains(oversizedUrl)));
+        assertThatThrownBy(() -> filesService.completeSignedUploads(post.getId(), request(missingUrl)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(filesRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("내용이 허용 형식이 아니거나 응답될 형식과 다르면 삭제하고 거절")
+    @WithUserDetails("user1@user.com")
+    void complete_rejects_disallowed_content() {
+        Post post = postOf("user1@user.com");
+        String htmlUrl = "/files/post_" + post.getId() + "/4a5b6c7d-1e2f-4a3b-8c9d-0e1f2a3b4c5d.html";
+        String fakePngUrl = "/files/post_" + post.getId() + "/" + OBJECT_NAME;
+        byte[] html = "<html><script>alert(1)</script></html>".getBytes(StandardCharsets.UTF_8);
+        // 텍스트 내용이지만 text/html 로 응답될 객체, 이미지로 선언했지만 내용은 HTML 인 객체
+        StoredFile htmlFile = storedFile(html.length, "text/html", html);
+        StoredFile fakePng = storedFile(html.length, "image/png", html);
+        given(fileStorageService.loadStoredFile(htmlUrl)).willReturn(htmlFile);
+        given(fileStorageService.loadStoredFile(fakePngUrl)).willReturn(fakePng);
+
+        assertThatThrownBy(() -> filesService.completeSignedUploads(post.getId(), request(htmlUrl)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("허용되지 않는 파일 형식");
+        assertThatThrownBy(() -> filesService.completeSignedUploads(post.getId(), request(fakePngUrl)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("허용되지 않는 파일 형식");
+
+        verify(fileStorageService, timeout(5000)).deletePhysicalFiles(argThat(urls -> urls.contains(htmlUrl)));
+        verify(fileStorageService, timeout(5000)).deletePhysicalFiles(argThat(urls -> urls.contains(fakePngUrl)));
+        assertThat(filesRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시글 작성자가 아니면 거절")
+    @WithUserDetails("user2@user.com")
+    void complete_rejects_non_owner() {
+        Post post = postOf("user1@user.com");
+        String fileUrl = "/files/post_" + post.getId() + "/" + OBJECT_NAME;
+
+        assertThatThrownBy(() -> filesService.completeSignedUploads(post.getId(), request(fileUrl)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(fileStorageService, never()).loadStoredFile(anyString());
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private Post postOf(String email) {
+        Long memberId = memberRepository.findByEmail(email).orElseThrow().getId();
+        return postRepository.findAll().stream()
+                .filter(post -> post.getMember().getId().equals(memberId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private SignedUploadCompleteRequestDto request(String fileUrl) {
+        return new SignedUploadCompleteRequestDto(List.of(new UploadedFile(fileUrl, "도면.png")));
+    }
+
+    private StoredFile storedFile(long size, String contentType, byte[] head) {
+        StoredFile storedFile = mock(StoredFile.class);
+        given(storedFile.size()).willReturn(size);
+        given(storedFile.contentType()).willReturn(contentType);
+        given(storedFile.fileName()).willReturn("stored.png");
+        try {
+            // 요청한 구간만큼 앞부분 전송
+            willAnswer(invocation -> {
+                long count = invocation.getArgument(1);
+                OutputStream out = invocation.getArgument(2);
+                out.write(head, 0, (int) Math.min(count, head.length));
+                return null;
+            }).given(storedFile).transferTo(anyLong(), anyLong(), any(OutputStream.class));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return storedFile;
+    }
+}
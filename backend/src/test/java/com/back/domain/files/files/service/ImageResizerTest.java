@@ -0,0 +1,97 @@
+package com.back.domain.files.files.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ImageResizer 단위 테스트")
+class ImageResizerTest {
+
+    private static final List<Integer> WIDTHS = List.of(240, 480, 960);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("원본보다 작은 너비마다 비율을 유지한 JPEG 사본을 너비 오름차순으로 생성")
+    void resize() throws Exception {
+        Path source = writeImage("source.png", 1000, 500, BufferedImage.TYPE_INT_ARGB);
+
+        List<ImageResizer.ResizedImage> result = ImageResizer.resize(source, WIDTHS, 10_000_000, 0.8f);
+
+        assertThat(result).extracting(ImageResizer.ResizedImage::width).containsExactly(240, 480, 960);
+        assertThat(result).extracting(ImageResizer.ResizedImage::height).containsExactly(120, 240, 480);
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(result.get(0).content()));
+        assertThat(decoded.getWidth()).isEqualTo(240);
+        assertThat(decoded.getHeight()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 너비는 만들지 않음")
+    void resize_small_source() throws Exception {
+        Path source = writeImage("small.jpg", 300, 300, BufferedImage.TYPE_INT_RGB);
+
+        List<ImageResizer.ResizedImage> result = ImageResizer.resize(source, WIDTHS, 10_000_000, 0.8f);
+
+        assertThat(result).extracting(ImageResizer.ResizedImage::width).containsExactly(240);
+    }
+
+    @Test
+    @DisplayName("이미지가 아니면 빈 목록")
+    void resize_not_image() throws Exception {
+        Path source = tempDir.resolve("note.png");
+        Files.writeString(source, "not an image");
+
+        assertThat(ImageResizer.resize(source, WIDTHS, 10_000_000, 0.8f)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("픽셀 수 제한을 넘으면 디코딩하지 않고 예외")
+    void resize_too_many_pixels() throws Exception {
+        Path source = writeImage("large.png", 1000, 1000, BufferedImage.TYPE_INT_RGB);
+
+        assertThatThrownBy(() -> ImageResizer.resize(source, WIDTHS, 500_000, 0.8f))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("가운데를 정사각형으로 잘라 크기 오름차순으로 생성하고, 원본보다 큰 크기는 원본 크기로 맞춤")
+    void crop_square() throws Exception {
+        Path source = writeImage("wide.png", 900, 300, BufferedImage.TYPE_INT_ARGB);
+
+        List<ImageResizer.ResizedImage> result = ImageResizer.cropSquare(source, List.of(512, 128), 10_000_000, 0.8f);
+
+        assertThat(result).extracting(ImageResizer.ResizedImage::width).containsExactly(128, 300);
+        assertThat(result).extracting(ImageResizer.ResizedImage::height).containsExactly(128, 300);
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(result.get(1).content()));
+        assertThat(decoded.getWidth()).isEqualTo(300);
+        assertThat(decoded.getHeight()).isEqualTo(300);
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private Path writeImage(String fileName, int width, int height, int type) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int x = 0; x < width; x += 10) {
+            for (int y = 0; y < height; y += 10) {
+                image.setRGB(x, y, 0xFF000000 | (x * 255 / width) << 16 | (y * 255 / height) << 8);
+            }
+        }
+        Path path = tempDir.resolve(fileName);
+        ImageIO.write(image, fileName.endsWith(".png") ? "png" : "jpg", path.toFile());
+        return path;
+    }
+}
@@ -0,0 +1,71 @@
+package com.back.domain.files.files.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalFileChannelCache 단위 테스트")
+class LocalFileChannelCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("같은 파일은 열린 채널을 재사용하고, 밀려난 채널은 반납된 뒤에 닫음")
+    void reuse_and_evict_after_release() throws Exception {
+        LocalFileChannelCache cache = new LocalFileChannelCache(1, 0);
+        Path first = write("first.txt", "first");
+        Path second = write("second.txt", "second");
+
+        FileChannel reused;
+        try (LocalFileChannelCache.Lease lease = cache.acquire(first, 5)) {
+            reused = lease.channel();
+        }
+        LocalFileChannelCache.Lease inUse = cache.acquire(first, 5);
+        assertThat(inUse.channel()).isSameAs(reused);
+
+        // 최대 1개 → first 가 밀려나지만 사용 중이라 열린 채로 유지
+        cache.acquire(second, 6).close();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(reused.isOpen()).isTrue();
+
+        inUse.close();
+        assertThat(reused.isOpen()).isFalse();
+        cache.closeAll();
+    }
+
+    @Test
+    @DisplayName("작은 파일은 메모리 매핑한 구간을 전송하고, 크기가 바뀐 파일은 다시 엶")
+    void mapped_transfer_and_reopen() throws Exception {
+        LocalFileChannelCache cache = new LocalFileChannelCache(8, 1024);
+        Path path = write("note.txt", "hello world");
+        LocalStoredFile file = new LocalStoredFile(path, 11, null, null, cache);
+
+        assertThat(read(file, 6, 5)).isEqualTo("world");
+
+        Files.writeString(path, "hello again, world", StandardCharsets.UTF_8);
+        LocalStoredFile replaced = new LocalStoredFile(path, 18, null, null, cache);
+        assertThat(read(replaced, 0, 18)).isEqualTo("hello again, world");
+        cache.closeAll();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private Path write(String name, String content) throws Exception {
+        return Files.writeString(tempDir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    private String read(LocalStoredFile file, long position, long count) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        file.transferTo(position, count, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,166 @@
+package com.back.domain.files.files.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.UrlResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 파일 읽기 처리량 비교
+ * - 기존: 요청마다 UrlResource 로 InputStream 을 열어 복사 / 요청마다 FileChannel 을 열어 transferTo
+ * - 변경: 열린 FileChannel LRU 재사용 + 작은 파일 메모리 매핑
+ * - 파일 구성은 썸네일/프로필 크기의 작은 파일 위주에 큰 첨부파일을 일부 섞은 자주 읽는 파일 집합 가정
+ * - 모든 파일이 페이지 캐시에 올라간 상태에서 측정 (디스크 속도가 아닌 열기/복사 비용 비교)
+ *
+ * 실행: ./gradlew slowTest --tests "*LocalFileReadBenchmarkTest"
+ */
+@Slf4j
+@Tag("slow")
+@DisplayName("로컬 파일 읽기 벤치마크")
+class LocalFileReadBenchmarkTest {
+
+    private static final int SMALL_FILES = 200;
+    private static final int SMALL_FILE_SIZE = 16 * 1024;
+    private static final int LARGE_FILES = 4;
+    private static final int LARGE_FILE_SIZE = 4 * 1024 * 1024;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int ROUNDS = 100;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("자주 읽는 파일 집합 기준 요청 처리량")
+    void legacy_vs_cached_channels() throws Exception {
+        List<Path> files = createFiles();
+        long expectedBytes = (long) SMALL_FILES * SMALL_FILE_SIZE + (long) LARGE_FILES * LARGE_FILE_SIZE;
+
+        LocalFileChannelCache cache = new LocalFileChannelCache(SMALL_FILES + LARGE_FILES, 1024 * 1024);
+        List<LocalStoredFile> uncached = files.stream().map(path -> storedFile(path, null)).toList();
+        List<LocalStoredFile> cached = files.stream().map(path -> storedFile(path, cache)).toList();
+
+        // 세 방식이 같은 바이트 수를 전송하는지 먼저 확인
+        assertThat(readRound(files, this::urlResource)).isEqualTo(expectedBytes);
+        assertThat(readRound(files, index -> transfer(uncached, index))).isEqualTo(expectedBytes);
+        assertThat(readRound(files, index -> transfer(cached, index))).isEqualTo(expectedBytes);
+
+        Result legacy = measure(files, this::urlResource);
+        Result perRequestChannel = measure(files, index -> transfer(uncached, index));
+        Result cachedChannel = measure(files, index -> transfer(cached, index));
+        cache.closeAll();
+
+        log.info("기존 UrlResource 스트림 복사:     {}", legacy);
+        log.info("요청마다 FileChannel.transferTo: {}", perRequestChannel);
+        log.info("채널 LRU + 작은 파일 mmap:       {}", cachedChannel);
+        log.info("기존 대비 처리량: {}배", String.format("%.1f", legacy.nanosPerRequest() / cachedChannel.nanosPerRequest()));
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private List<Path> createFiles() throws IOException {
+        Random random = new Random(42);
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < SMALL_FILES + LARGE_FILES; i++) {
+            byte[] content = new byte[i < SMALL_FILES ? SMALL_FILE_SIZE : LARGE_FILE_SIZE];
+            random.nextBytes(content);
+            files.add(Files.write(tempDir.resolve("file-" + i + ".bin"), content));
+        }
+        return files;
+    }
+
+    private LocalStoredFile storedFile(Path path, LocalFileChannelCache cache) {
+        try {
+            return new LocalStoredFile(path, Files.size(path), null, null, cache);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Result measure(List<Path> files, Reader reader) throws IOException {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            readRound(files, reader);
+        }
+
+        long bytes = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            bytes += readRound(files, reader);
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Result((long) ROUNDS * files.size(), bytes, elapsed);
+    }
+
+    private long readRound(List<Path> files, Reader reader) throws IOException {
+        long bytes = 0;
+        for (int index = 0; index < files.size(); index++) {
+            bytes += reader.read(index);
+        }
+        return bytes;
+    }
+
+    private long urlResource(int index) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        try (InputStream in = new UrlResource(pathAt(index).toUri()).getInputStream()) {
+            in.transferTo(out);
+        }
+        return out.count;
+    }
+
+    private long transfer(List<LocalStoredFile> storedFiles, int index) throws IOException {
+        LocalStoredFile file = storedFiles.get(index);
+        CountingOutputStream out = new CountingOutputStream();
+        file.transferTo(0, file.size(), out);
+        return out.count;
+    }
+
+    private Path pathAt(int index) {
+        return tempDir.resolve("file-" + index + ".bin");
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+        long read(int index) throws IOException;
+    }
+
+    private record Result(long requests, long bytes, long elapsedNanos) {
+
+        double nanosPerRequest() {
+            return (double) elapsedNanos / requests;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1e9;
+            return String.format("%.0f req/s, %.0f MB/s, %.1f us/request",
+                    requests / seconds, bytes / seconds / (1024 * 1024), nanosPerRequest() / 1000);
+        }
+    }
+
+    // 응답 스트림 대신 전송 바이트 수만 셈
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.back.domain.files.files.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LocalFileStorageService 경로 검사 단위 테스트")
+class LocalFileStorageServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private LocalFileStorageService storageService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storageService = new LocalFileStorageService(
+                new LocalUrlSigner("local-storage-test-secret-0123456789"), 2, "none", 8, 1024);
+        ReflectionTestUtils.setField(storageService, "uploadDir", tempDir.resolve("uploads").toString());
+        Files.createDirectories(tempDir.resolve("uploads"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        storageService.destroy();
+    }
+
+    @Test
+    @DisplayName("저장소 밖을 가리키는 URL 은 삭제/조회하지 않고 거절")
+    void reject_paths_outside_upload_dir() throws Exception {
+        Path outside = Files.writeString(tempDir.resolve("secret.txt"), "secret");
+
+        assertThatThrownBy(() -> storageService.deletePhysicalFile("/files/../secret.txt"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("잘못된 파일 경로입니다");
+        assertThatThrownBy(() -> storageService.loadFileAsResource("/files/../secret.txt"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("잘못된 파일 경로입니다");
+        assertThat(outside).exists();
+    }
+
+    @Test
+    @DisplayName("저장소 안의 파일은 삭제")
+    void delete_file_inside_upload_dir() throws Exception {
+        Path inside = Files.writeString(tempDir.resolve("uploads").resolve("note.txt"), "note");
+
+        storageService.deletePhysicalFile("/files/note.txt");
+
+        assertThat(inside).doesNotExist();
+    }
+}
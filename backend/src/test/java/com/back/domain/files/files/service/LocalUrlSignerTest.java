@@ -0,0 +1,83 @@
+package com.back.domain.files.files.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LocalUrlSigner 단위 테스트")
+class LocalUrlSignerTest {
+
+    private static final String SECRET = "01234567890123456789012345678901";
+    private static final String PATH = "/files/post_1/3f2b8c1e-9a4d-4e8f-b6a1-2c7d5e9f0a1b.png";
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final LocalUrlSigner signer = new LocalUrlSigner(SECRET, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("서명한 메서드/경로/Content-Type 이 같으면 검증 성공")
+    void sign_and_verify() {
+        UriComponents url = parse(signer.sign("PUT", PATH, NOW.plusSeconds(600), "image/png"));
+
+        assertThat(url.getPath()).isEqualTo(PATH);
+        assertThat(signer.verify("PUT", PATH, expires(url), "image/png", signature(url))).isTrue();
+    }
+
+    @Test
+    @DisplayName("메서드, 경로, Content-Type 중 하나라도 다르면 검증 실패")
+    void verify_tampered() {
+        UriComponents url = parse(signer.sign("PUT", PATH, NOW.plusSeconds(600), "image/png"));
+
+        assertThat(signer.verify("GET", PATH, expires(url), "image/png", signature(url))).isFalse();
+        assertThat(signer.verify("PUT", "/files/post_2/other.png", expires(url), "image/png", signature(url))).isFalse();
+        assertThat(signer.verify("PUT", PATH, expires(url), "text/html", signature(url))).isFalse();
+        assertThat(signer.verify("PUT", PATH, String.valueOf(NOW.plusSeconds(6000).getEpochSecond()), "image/png", signature(url))).isFalse();
+        assertThat(signer.verify("PUT", PATH, expires(url), "image/png", null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지나면 검증 실패")
+    void verify_expired() {
+        UriComponents url = parse(signer.sign("GET", PATH, NOW.minusSeconds(1), null));
+
+        assertThat(signer.verify("GET", PATH, expires(url), null, signature(url))).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 비밀키로 서명한 URL 은 검증 실패")
+    void verify_other_secret() {
+        LocalUrlSigner other = new LocalUrlSigner("another-secret-another-secret-123", Clock.fixed(NOW, ZoneOffset.UTC));
+        UriComponents url = parse(other.sign("GET", PATH, NOW.plusSeconds(600), null));
+
+        assertThat(signer.verify("GET", PATH, expires(url), null, signature(url))).isFalse();
+    }
+
+    @Test
+    @DisplayName("32바이트보다 짧은 비밀키는 거절")
+    void reject_short_secret() {
+        assertThatThrownBy(() -> new LocalUrlSigner("short-secret", Clock.fixed(NOW, ZoneOffset.UTC)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private UriComponents parse(String url) {
+        return UriComponentsBuilder.fromUriString(url).build(true);
+    }
+
+    private String expires(UriComponents url) {
+        return url.getQueryParams().getFirst(LocalUrlSigner.EXPIRES_PARAM);
+    }
+
+    private String signature(UriComponents url) {
+        // base64url 은 URL 인코딩이 필요 없는 문자만 사용
+        return url.getQueryParams().getFirst(LocalUrlSigner.SIGNATURE_PARAM);
+    }
+}
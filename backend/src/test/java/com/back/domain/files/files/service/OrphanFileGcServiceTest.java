@@ -0,0 +1,133 @@
+package com.back.domain.files.files.service;
+
+import com.back.domain.files.files.dto.OrphanFileGcReportDto;
+import com.back.domain.files.files.entity.FileBlob;
+import com.back.domain.files.files.entity.Files;
+import com.back.domain.files.files.repository.FileBlobRepository;
+import com.back.domain.files.files.repository.FilesRepository;
+import com.back.domain.post.entity.Post;
+import com.back.domain.post.repository.PostRepository;
+import com.back.global.exception.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "file.gc.enabled=false",
+        "file.gc.grace-hours=0",
+        "file.gc.batch-size=2"
+})
+@ActiveProfiles("test")
+@DisplayName("OrphanFileGcService 통합 테스트")
+class OrphanFileGcServiceTest {
+
+    private static final String SHA256 = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String ATTACHED_URL = "/files/post/attached.pdf";
+    private static final String ORPHAN_URL = "/files/post/orphan.pdf";
+    private static final String RECENT_URL = "/files/post/recent.pdf";
+    private static final String BLOB_URL = "/files/blobs/9f/" + SHA256 + ".pdf";
+
+    @Autowired
+    private OrphanFileGcService orphanFileGcService;
+
+    @Autowired
+    private FilesRepository filesRepository;
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private FileGcLock fileGcLock;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    @AfterEach
+    void tearDown() {
+        filesRepository.deleteAll();
+        fileBlobRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("참조 수가 남은 내용 주소 파일 행을 정리하고, 참조되지 않는 오래된 파일만 삭제")
+    void collect_orphans() {
+        Post post = postRepository.findAll().get(0);
+        filesRepository.save(Files.builder()
+                .post(post)
+                .fileName("attached.pdf")
+                .fileType("application/pdf")
+                .fileSize(10)
+                .fileUrl(ATTACHED_URL)
+                .sortOrder(1)
+                .build());
+        // 첨부파일이 cascade 로 삭제되어 참조 수만 남은 행
+        FileBlob blob = FileBlob.builder().sha256(SHA256).fileUrl(BLOB_URL).fileType("application/pdf").fileSize(40).build();
+        blob.retain();
+        fileBlobRepository.save(blob);
+
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        List<StoredObject> objects = List.of(
+                new StoredObject(ATTACHED_URL, 10, old),
+                new StoredObject(BLOB_URL, 40, old),
+                new StoredObject(ORPHAN_URL, 30, old),
+                new StoredObject(RECENT_URL, 20, Instant.now().plus(Duration.ofHours(1)))
+        );
+        willAnswer(invocation -> {
+            Consumer<StoredObject> visitor = invocation.getArgument(0);
+            objects.forEach(visitor);
+            return null;
+        }).given(fileStorageService).forEachStoredObject(any());
+
+        OrphanFileGcReportDto report = orphanFileGcService.collect();
+
+        assertThat(report.reconciledBlobs()).isEqualTo(1);
+        assertThat(report.scanned()).isEqualTo(4);
+        assertThat(report.skippedRecent()).isEqualTo(1);
+        assertThat(report.orphans()).isEqualTo(2);
+        assertThat(report.deleted()).isEqualTo(2);
+        assertThat(report.failed()).isZero();
+        assertThat(report.reclaimedBytes()).isEqualTo(70);
+        assertThat(fileBlobRepository.findAll()).isEmpty();
+        verify(fileStorageService).deletePhysicalFile(BLOB_URL);
+        verify(fileStorageService).deletePhysicalFile(ORPHAN_URL);
+        verify(fileStorageService, never()).deletePhysicalFile(ATTACHED_URL);
+        verify(fileStorageService, never()).deletePhysicalFile(RECENT_URL);
+        assertThat(orphanFileGcService.getLastReport()).contains(report);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 실행 잠금을 가지고 있으면 저장소 목록을 확인하지 않고 409-1")
+    void collect_skips_when_locked_elsewhere() {
+        String token = fileGcLock.tryAcquire(Duration.ofMinutes(1)).orElseThrow();
+        try {
+            assertThatThrownBy(() -> orphanFileGcService.collect())
+                    .isInstanceOf(ServiceException.class)
+                    .extracting("resultCode").isEqualTo("409-1");
+            verify(fileStorageService, never()).forEachStoredObject(any());
+        } finally {
+            fileGcLock.release(token);
+        }
+
+        // 잠금이 풀리면 다시 실행 가능
+        assertThat(orphanFileGcService.collect().scanned()).isZero();
+    }
+}
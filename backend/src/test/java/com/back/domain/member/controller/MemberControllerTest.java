@@ -1,6 +1,8 @@
 package com.back.domain.member.controller;
 
 import com.back.domain.auth.dto.request.MemberLoginRequest;
+import com.back.domain.files.files.entity.PendingFileDeletion;
+import com.back.domain.files.files.repository.PendingFileDeletionRepository;
 import com.back.domain.files.files.service.FileStorageService;
 import com.back.domain.member.dto.request.MemberUpdateRequest;
 import com.back.domain.member.entity.Member;
@@ -12,10 +14,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
@@ -24,9 +28,21 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -53,6 +69,9 @@ public class MemberControllerTest {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private PendingFileDeletionRepository pendingFileDeletionRepository;
+
     @MockitoBean
     private FileStorageService fileStorageService;
 
@@ -262,4 +281,74 @@ public class MemberControllerTest {
                 .andExpect(jsonPath("$.resultCode").value("404-1"))
                 .andExpect(jsonPath("$.msg").value("해당 사용자가 존재하지 않습니다."));
     }
+
+    @Test
+    @DisplayName("프로필 이미지 업로드 성공 - 정사각형 두 크기를 내용 해시 이름으로 저장하고 이전 이미지는 삭제 예약")
+    @WithUserDetails(value = "user1@user.com")
+    void uploadProfileImage_success() throws Exception {
+        // given
+        Member member = memberRepository.findByEmail("user1@user.com").orElseThrow();
+        member.updateProfileUrl("/files/profile/" + member.getId() + "/old.jpg");
+        memberRepository.save(member);
+
+        given(fileStorageService.storeImmutable(anyString(), anyString(), anyString(), any()))
+                .willAnswer(invocation -> "/files/" + invocation.getArgument(0) + "/" + invocation.getArgument(1));
+
+        BufferedImage image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        MockMultipartFile file = new MockMultipartFile("file", "avatar.png", "image/png", png.toByteArray());
+
+        // when
+        mockMvc.perform(multipart("/api/members/" + member.getId() + "/profile-image").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.msg").value("프로필 이미지 업로드 성공"));
+
+        // then (트랜잭션 밖에서 한 번만 저장, 취소한 삭제 예약이 없으므로 다시 저장하지 않음)
+        ArgumentCaptor<String> fileNames = ArgumentCaptor.forClass(String.class);
+        verify(fileStorageService, times(2)).storeImmutable(eq("profile/" + member.getId()), fileNames.capture(), eq("image/jpeg"), any());
+        assertTrue(fileNames.getAllValues().get(0).matches("[0-9a-f]{64}_s128\\.jpg"));
+        assertTrue(fileNames.getAllValues().get(1).matches("[0-9a-f]{64}_s512\\.jpg"));
+
+        Member updated = memberRepository.findById(member.getId()).orElseThrow();
+        assertEquals("/files/profile/" + member.getId() + "/" + fileNames.getAllValues().get(1), updated.getProfileUrl());
+        assertEquals("/files/profile/" + member.getId() + "/" + fileNames.getAllValues().get(0), updated.getProfileThumbnailUrl());
+        assertEquals(List.of("/files/profile/" + member.getId() + "/old.jpg"),
+                pendingFileDeletionRepository.findAll().stream().map(PendingFileDeletion::getFileUrl).toList());
+    }
+
+    @Test
+    @DisplayName("이전에 쓰던 프로필 이미지로 되돌리면 해당 이미지의 삭제 예약 취소")
+    @WithUserDetails(value = "user1@user.com")
+    void uploadProfileImage_switchBack_cancelsPendingDeletion() throws Exception {
+        // given: A → B 로 바꿔서 A 의 두 파일이 삭제 대기 중인 상태
+        Member member = memberRepository.findByEmail("user1@user.com").orElseThrow();
+        member.updateProfileUrl("/files/profile/" + member.getId() + "/b.jpg");
+        memberRepository.save(member);
+
+        BufferedImage image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(png.toByteArray()));
+        String imageA = "/files/profile/" + member.getId() + "/" + sha256 + "_s512.jpg";
+        String thumbnailA = "/files/profile/" + member.getId() + "/" + sha256 + "_s128.jpg";
+        pendingFileDeletionRepository.save(new PendingFileDeletion(imageA));
+        pendingFileDeletionRepository.save(new PendingFileDeletion(thumbnailA));
+
+        given(fileStorageService.storeImmutable(anyString(), anyString(), anyString(), any()))
+                .willAnswer(invocation -> "/files/" + invocation.getArgument(0) + "/" + invocation.getArgument(1));
+        MockMultipartFile file = new MockMultipartFile("file", "avatar.png", "image/png", png.toByteArray());
+
+        // when: 다시 A 업로드
+        mockMvc.perform(multipart("/api/members/" + member.getId() + "/profile-image").file(file))
+                .andExpect(status().isOk());
+
+        // then: A 는 삭제 대기에서 빠지고 B 만 삭제 대기, 취소한 A 의 두 파일은 다시 저장
+        verify(fileStorageService, times(4)).storeImmutable(eq("profile/" + member.getId()), anyString(), eq("image/jpeg"), any());
+        Member updated = memberRepository.findById(member.getId()).orElseThrow();
+        assertEquals(imageA, updated.getProfileUrl());
+        assertEquals(thumbnailA, updated.getProfileThumbnailUrl());
+        assertEquals(List.of("/files/profile/" + member.getId() + "/b.jpg"),
+                pendingFileDeletionRepository.findAll().stream().map(PendingFileDeletion::getFileUrl).toList());
+    }
 }
@@ -0,0 +1,104 @@
+package com.back.global.ratelimit;
+
+import com.back.global.ratelimit.RateLimitProperties.Channel;
+import com.back.global.ratelimit.RateLimitProperties.KeyType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalRateLimiter 단위 테스트")
+class LocalRateLimiterTest {
+
+    // 최대 5회 연속, 초당 1개 충전
+    private final RateLimitRule rule = new RateLimitRule("login",
+            new RateLimitProperties.Rule(Channel.HTTP, "/api/auth/login", "POST", KeyType.IP, 5, 1.0));
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+
+    @Test
+    @DisplayName("버킷 크기만큼 연속 허용 후 거절하고, 충전 시간이 지나면 다시 허용")
+    void burst_then_refill() {
+        LocalRateLimiter limiter = new LocalRateLimiter(1_000, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(rule, "login:ip:1")).isZero();
+        }
+        long waitMillis = limiter.tryAcquire(rule, "login:ip:1");
+        assertThat(waitMillis).isEqualTo(1_000);
+
+        // 다른 키는 별도 버킷
+        assertThat(limiter.tryAcquire(rule, "login:ip:2")).isZero();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(waitMillis));
+        assertThat(limiter.tryAcquire(rule, "login:ip:1")).isZero();
+        assertThat(limiter.tryAcquire(rule, "login:ip:1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 요청해도 버킷 크기만큼만 허용")
+    void concurrent_requests_never_exceed_capacity() throws Exception {
+        LocalRateLimiter limiter = new LocalRateLimiter(1_000, clock::get);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 1_000; j++) {
+                    if (limiter.tryAcquire(rule, "login:ip:1") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(allowed.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("버킷 수가 한도에 도달하면 가득 충전된 버킷부터 제거")
+    void evicts_idle_buckets_when_full() {
+        LocalRateLimiter limiter = new LocalRateLimiter(3, clock::get);
+
+        limiter.tryAcquire(rule, "login:ip:1");
+        limiter.tryAcquire(rule, "login:ip:2");
+        limiter.tryAcquire(rule, "login:ip:3");
+        assertThat(limiter.getBucketCount()).isEqualTo(3);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        limiter.tryAcquire(rule, "login:ip:4");
+
+        assertThat(limiter.getBucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("규칙은 채널, 메서드, 경로 패턴이 모두 맞을 때만 적용")
+    void rule_matches_channel_method_and_pattern() {
+        RateLimitRule upload = new RateLimitRule("file-upload",
+                new RateLimitProperties.Rule(Channel.HTTP, "/api/posts/{postId}/files", "POST", KeyType.MEMBER, 10, 0.5));
+
+        assertThat(upload.matches(Channel.HTTP, "POST", "/api/posts/12/files")).isTrue();
+        assertThat(upload.matches(Channel.HTTP, "GET", "/api/posts/12/files")).isFalse();
+        assertThat(upload.matches(Channel.STOMP, "POST", "/api/posts/12/files")).isFalse();
+        assertThat(upload.matches(Channel.HTTP, "POST", "/api/posts/12/files/3")).isFalse();
+    }
+}
@@ -0,0 +1,52 @@
+package com.back.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 Tomcat 에서 forward-headers-strategy: native (운영 설정) 로 X-Forwarded-For 의 클라이언트 IP 별 제한 확인
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.forward-headers-strategy=native",
+        "rate-limit.enabled=true",
+        "rate-limit.rules.login.capacity=1",
+        "rate-limit.rules.login.refill-per-second=0.001"
+})
+@ActiveProfiles("test")
+@DisplayName("RateLimitFilter 통합 테스트")
+class RateLimitFilterTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("내부 프록시가 넘긴 X-Forwarded-For 의 클라이언트 IP 별로 버킷을 나눔")
+    void limit_by_forwarded_client_ip() throws Exception {
+        assertThat(login("203.0.113.10")).isNotEqualTo(429);
+        assertThat(login("203.0.113.10")).isEqualTo(429);
+
+        // 같은 프록시(127.0.0.1)를 거쳐도 다른 클라이언트는 별도 버킷
+        assertThat(login("203.0.113.20")).isNotEqualTo(429);
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private int login(String clientIp) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", clientIp)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"nobody@user.com\",\"password\":\"wrong\"}"))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
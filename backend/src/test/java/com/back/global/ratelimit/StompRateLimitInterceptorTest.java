@@ -0,0 +1,75 @@
+package com.back.global.ratelimit;
+
+import com.back.global.ratelimit.RateLimitProperties.Channel;
+import com.back.global.ratelimit.RateLimitProperties.KeyType;
+import com.back.global.websocket.StompAuthInterceptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("StompRateLimitInterceptor 단위 테스트")
+class StompRateLimitInterceptorTest {
+
+    private final RateLimitRule ipRule = new RateLimitRule("chat-ip",
+            new RateLimitProperties.Rule(Channel.STOMP, "/app/sendMessage", null, KeyType.IP, 20, 5));
+
+    private final RateLimitService rateLimitService = mock(RateLimitService.class);
+
+    @SuppressWarnings("unchecked")
+    private final StompRateLimitInterceptor interceptor = new StompRateLimitInterceptor(
+            rateLimitService, new ObjectMapper(), mock(ObjectProvider.class));
+
+    @Test
+    @DisplayName("IP 규칙은 핸드셰이크 때 보관한 클라이언트 IP 로 제한")
+    void ip_rule_uses_handshake_client_ip() {
+        given(rateLimitService.findRules(eq(Channel.STOMP), any(), eq("/app/sendMessage"))).willReturn(List.of(ipRule));
+        given(rateLimitService.tryAcquire(eq(ipRule), any())).willReturn(0L);
+
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put(StompAuthInterceptor.CLIENT_IP_ATTRIBUTE, "203.0.113.10");
+        Message<?> result = interceptor.preSend(sendMessage("session-1", sessionAttributes), null);
+
+        assertThat(result).isNotNull();
+        verify(rateLimitService).tryAcquire(ipRule, "ip:203.0.113.10");
+    }
+
+    @Test
+    @DisplayName("IP 규칙에 걸리면 메시지를 폐기")
+    void ip_rule_rejects_over_limit() {
+        given(rateLimitService.findRules(eq(Channel.STOMP), any(), eq("/app/sendMessage"))).willReturn(List.of(ipRule));
+        given(rateLimitService.tryAcquire(ipRule, "ip:203.0.113.10")).willReturn(1_000L);
+
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put(StompAuthInterceptor.CLIENT_IP_ATTRIBUTE, "203.0.113.10");
+
+        assertThat(interceptor.preSend(sendMessage("session-2", sessionAttributes), null)).isNull();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private Message<byte[]> sendMessage(String sessionId, Map<String, Object> sessionAttributes) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination("/app/sendMessage");
+        accessor.setSessionId(sessionId);
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage("{\"chatRoomId\":1}".getBytes(), accessor.getMessageHeaders());
+    }
+}
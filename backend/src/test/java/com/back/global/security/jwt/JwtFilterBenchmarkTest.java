@@ -0,0 +1,92 @@
+package com.back.global.security.jwt;
+
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.entity.Status;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.global.security.auth.MemberStatusCache;
+import jakarta.servlet.FilterChain;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JwtFilter 처리 시간 비교 (검증된 토큰 캐시 사용 / 미사용)
+ * - 같은 액세스 토큰으로 반복 요청하는 브라우저 세션을 가정
+ *
+ * 실행: ./gradlew slowTest --tests "*JwtFilterBenchmarkTest"
+ */
+@Slf4j
+@Tag("slow")
+@DisplayName("JwtFilter 검증된 토큰 캐시 벤치마크")
+class JwtFilterBenchmarkTest {
+
+    private static final String SECRET = "01234567890123456789012345678901";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    @Test
+    @DisplayName("같은 토큰 반복 요청 - 캐시 사용 시 서명 검증과 파싱을 건너뜀")
+    void filter_with_and_without_token_cache() throws Exception {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 1_800_000, 604_800_000);
+
+        Member member = Member.builder()
+                .email("bench@user.com")
+                .password("password")
+                .name("벤치마크")
+                .build();
+        ReflectionTestUtils.setField(member, "id", 1L);
+        String token = jwtTokenProvider.generateAccessToken(member);
+
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        when(memberRepository.findStatusById(1L)).thenReturn(Optional.of(Status.ACTIVE));
+
+        double uncachedNanos = measure(createFilter(jwtTokenProvider, memberRepository, false), token);
+        double cachedNanos = measure(createFilter(jwtTokenProvider, memberRepository, true), token);
+
+        log.info("JwtFilter 캐시 미사용: {} ns/op", String.format("%.0f", uncachedNanos));
+        log.info("JwtFilter 캐시 사용:   {} ns/op", String.format("%.0f", cachedNanos));
+        log.info("속도 향상: {}배", String.format("%.1f", uncachedNanos / cachedNanos));
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private JwtFilter createFilter(JwtTokenProvider jwtTokenProvider, MemberRepository memberRepository, boolean cacheEnabled) {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, cacheEnabled, 10_000, 600);
+        MemberStatusCache memberStatusCache = new MemberStatusCache(memberRepository, verifiedTokenCache, 60, 10_000);
+        return new JwtFilter(verifiedTokenCache, memberStatusCache);
+    }
+
+    private double measure(JwtFilter filter, String token) throws Exception {
+        run(filter, token, WARMUP);
+
+        long start = System.nanoTime();
+        run(filter, token, ITERATIONS);
+        return (double) (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private void run(JwtFilter filter, String token, int iterations) throws Exception {
+        for (int i = 0; i < iterations; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/me");
+            request.addHeader("Authorization", "Bearer " + token);
+
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
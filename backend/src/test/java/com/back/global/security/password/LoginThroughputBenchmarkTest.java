@@ -0,0 +1,134 @@
+package com.back.global.security.password;
+
+import com.back.global.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인(비밀번호 검증) 처리량 벤치마크
+ * - 요청 스레드(Tomcat 기본 200개 가정)가 동시에 로그인할 때 코어당 초당 로그인 수와 429 거절 수를 측정
+ * - 인코더(bcrypt / argon2)별로 해싱 실행기 사용 / 미사용을 비교
+ *
+ * 실행: ./gradlew slowTest --tests "*LoginThroughputBenchmarkTest" -Dloadtest.login.seconds=10
+ */
+@Slf4j
+@Tag("slow")
+@DisplayName("로그인 처리량 벤치마크")
+class LoginThroughputBenchmarkTest {
+
+    private static final String PASSWORD = "user1234!";
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+    private static final int REQUEST_THREADS = Integer.getInteger("loadtest.login.threads", 200);
+    private static final int SECONDS = Integer.getInteger("loadtest.login.seconds", 5);
+    private static final int BCRYPT_STRENGTH = Integer.getInteger("loadtest.login.bcrypt-strength", 10);
+
+    @Test
+    @DisplayName("인코더별 코어당 로그인 처리량")
+    void login_throughput_per_core() throws Exception {
+        log.info("코어 수: {}, 요청 스레드: {}, 측정 시간: {}초", CORES, REQUEST_THREADS, SECONDS);
+
+        for (String encodingId : List.of(PasswordEncoderFactory.BCRYPT, PasswordEncoderFactory.ARGON2)) {
+            PasswordEncoder encoder = PasswordEncoderFactory.create(encodingId, BCRYPT_STRENGTH);
+            report(encodingId + " (요청 스레드에서 해싱)", run(encoder, null));
+
+            PasswordHashingExecutor hashingExecutor = new PasswordHashingExecutor(0, 64, 5_000);
+            try {
+                report(encodingId + " (해싱 실행기 " + hashingExecutor.getPoolSize() + "스레드)",
+                        run(new OffloadedPasswordEncoder(encoder, hashingExecutor), hashingExecutor));
+            } finally {
+                hashingExecutor.destroy();
+            }
+        }
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private Result run(PasswordEncoder encoder, PasswordHashingExecutor hashingExecutor) throws Exception {
+        UserDetails user = User.withUsername("bench@user.com")
+                .password(encoder.encode(PASSWORD))
+                .roles("USER")
+                .build();
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(encoder);
+        provider.setUserDetailsService(username -> user);
+
+        // 워밍업
+        for (int i = 0; i < CORES; i++) {
+            provider.authenticate(new UsernamePasswordAuthenticationToken(user.getUsername(), PASSWORD));
+        }
+
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong totalNanos = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUEST_THREADS; i++) {
+            futures.add(requestThreads.submit(() -> {
+                start.await();
+                while (System.nanoTime() < deadline) {
+                    long begin = System.nanoTime();
+                    try {
+                        provider.authenticate(new UsernamePasswordAuthenticationToken(user.getUsername(), PASSWORD));
+                        succeeded.incrementAndGet();
+                        totalNanos.addAndGet(System.nanoTime() - begin);
+                    } catch (ServiceException e) {
+                        rejected.incrementAndGet();
+                        // 거절된 클라이언트의 재시도 간격
+                        Thread.sleep(10);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+        requestThreads.shutdown();
+
+        assertThat(succeeded.get()).isPositive();
+        if (hashingExecutor != null) {
+            assertThat(hashingExecutor.getRejectedCount()).isEqualTo(rejected.get());
+        }
+        return new Result(succeeded.get(), rejected.get(), elapsedNanos, totalNanos.get());
+    }
+
+    private void report(String label, Result result) {
+        double seconds = result.elapsedNanos() / 1_000_000_000.0;
+        double throughput = result.succeeded() / seconds;
+        double avgLatencyMillis = result.totalNanos() / 1_000_000.0 / Math.max(1, result.succeeded());
+
+        log.info("{}: {} logins/s, 코어당 {} logins/s, 평균 지연 {} ms, 429 거절 {}건",
+                label,
+                String.format("%.1f", throughput),
+                String.format("%.1f", throughput / CORES),
+                String.format("%.1f", avgLatencyMillis),
+                result.rejected());
+    }
+
+    private record Result(long succeeded, long rejected, long elapsedNanos, long totalNanos) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.back.global.security.password;
+
+import com.back.global.exception.ServiceException;
+import com.back.global.rsData.ResultCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("비밀번호 해싱 실행기 / 인코더 단위 테스트")
+class PasswordHashingExecutorTest {
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 429 로 거절")
+    void saturated_queue_rejects_immediately() throws Exception {
+        PasswordHashingExecutor hashingExecutor = new PasswordHashingExecutor(1, 1, 5_000);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            // 1번 작업은 실행 중, 2번 작업은 대기열에 있는 상태를 만듦
+            callers.submit(() -> hashingExecutor.execute(() -> {
+                started.countDown();
+                await(release);
+                return "first";
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            callers.submit(() -> hashingExecutor.execute(() -> "second"));
+            waitUntilQueued(hashingExecutor);
+
+            assertThatThrownBy(() -> hashingExecutor.execute(() -> "third"))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting(e -> ((ServiceException) e).getResultCode())
+                    .isEqualTo(ResultCode.TOO_MANY_REQUESTS.code());
+            assertThat(hashingExecutor.getRejectedCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            hashingExecutor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("해싱 작업에서 발생한 예외는 그대로 전달")
+    void task_exception_is_rethrown() {
+        PasswordHashingExecutor hashingExecutor = new PasswordHashingExecutor(1, 1, 5_000);
+        try {
+            assertThatThrownBy(() -> hashingExecutor.execute(() -> {
+                throw new IllegalArgumentException("boom");
+            })).isInstanceOf(IllegalArgumentException.class).hasMessage("boom");
+        } finally {
+            hashingExecutor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("접두사 없는 기존 bcrypt 해시도 검증되고, 로그인 시 재해싱 대상")
+    void legacy_bcrypt_hash_matches_and_needs_upgrade() {
+        PasswordEncoder encoder = PasswordEncoderFactory.create(PasswordEncoderFactory.BCRYPT, 4);
+        String legacyHash = new BCryptPasswordEncoder(4).encode("user1234!");
+
+        assertThat(encoder.matches("user1234!", legacyHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacyHash)).isTrue();
+
+        String upgraded = encoder.encode("user1234!");
+        assertThat(upgraded).startsWith("{bcrypt}");
+        assertThat(encoder.upgradeEncoding(upgraded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("인코더를 argon2 로 바꾸면 bcrypt 해시는 재해싱 대상")
+    void switching_to_argon2_upgrades_bcrypt_hashes() {
+        PasswordEncoder bcrypt = PasswordEncoderFactory.create(PasswordEncoderFactory.BCRYPT, 4);
+        PasswordEncoder argon2 = PasswordEncoderFactory.create(PasswordEncoderFactory.ARGON2, 4);
+        String bcryptHash = bcrypt.encode("user1234!");
+
+        assertThat(argon2.matches("user1234!", bcryptHash)).isTrue();
+        assertThat(argon2.upgradeEncoding(bcryptHash)).isTrue();
+
+        String argon2Hash = argon2.encode("user1234!");
+        assertThat(argon2Hash).startsWith("{argon2}");
+        assertThat(argon2.matches("user1234!", argon2Hash)).isTrue();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitUntilQueued(PasswordHashingExecutor hashingExecutor) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (hashingExecutor.getQueueDepth() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(hashingExecutor.getQueueDepth()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,130 @@
+package com.back.global.security.route;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공개 경로 판별 비용 비교
+ * - 기존: JwtFilter 접두사 Set 순회 + SecurityConfig requestMatchers 체인(패턴 순차 비교)
+ * - 변경: PublicRoutes 트라이 (JWT_EXCLUDED + PERMIT_ALL)
+ * - 요청 구성은 API 위주 + 정적 리소스/문서/WebSocket 일부를 섞은 실제 트래픽 가정
+ *
+ * 실행: ./gradlew slowTest --tests "*PublicRoutesBenchmarkTest"
+ */
+@Slf4j
+@Tag("slow")
+@DisplayName("공개 경로 매칭 벤치마크")
+class PublicRoutesBenchmarkTest {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 2_000_000;
+
+    private static final List<String> ROUTE_MIX = List.of(
+            "/api/posts", "/api/posts/42", "/api/posts/popular", "/api/posts/42/files", "/api/posts/me",
+            "/api/auth/login", "/api/auth/reissue", "/api/auth/me", "/api/members/me", "/api/likes/42",
+            "/api/chat/rooms", "/api/chat/rooms/7/messages", "/api/trades", "/api/admin/members",
+            "/files/2025/01/abc.png", "/files/2025/01/def.pdf", "/chat/info", "/chat/123/abcd/websocket",
+            "/swagger-ui/index.html", "/v3/api-docs/swagger-config", "/favicon.ico", "/index.html", "/"
+    );
+
+    // 변경 전 JwtFilter 의 제외 접두사
+    private static final Set<String> LEGACY_EXCLUDED_PREFIXES = Set.of(
+            "/auth/", "/h2-console/", "/v3/api-docs", "/swagger-ui",
+            "/swagger-resources", "/webjars/", "/ws/", "/chat/",
+            "/topic/", "/app/", "/css/", "/js/", "/images/"
+    );
+
+    // 변경 전 SecurityConfig 의 requestMatchers 체인 (선언 순서대로 비교)
+    private static final List<PathPattern> LEGACY_PERMIT_ALL = Stream.of(
+            "/api/auth/signup", "/api/auth/login", "/api/auth/reissue",
+            "/api/posts", "/api/posts/popular", "/api/posts/{postId}", "/files/**",
+            "/api/members/verify-member", "/api/members/find-password", "/h2-console/**",
+            "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/swagger-resources/**", "/webjars/**",
+            "/chat/**", "/chat", "/topic/**", "/queue/**", "/user/**", "/app/**",
+            "/favicon.ico", "/*.html", "/css/**", "/js/**", "/images/**", "/error", "/"
+    ).map(PathPatternParser.defaultInstance::parse).toList();
+
+    @Test
+    @DisplayName("실제 경로 구성 기준 요청당 판별 시간")
+    void legacy_chain_vs_trie() {
+        // 두 방식의 permitAll 판정이 같은지 먼저 확인
+        for (String path : ROUTE_MIX) {
+            assertThat(PublicRoutes.PERMIT_ALL.matches(path)).as(path).isEqualTo(legacyPermitAll(path));
+        }
+
+        double legacyNanos = measure(this::legacy);
+        double trieNanos = measure(this::trie);
+
+        log.info("기존 접두사 순회 + 매처 체인: {} ns/request", String.format("%.1f", legacyNanos));
+        log.info("PublicRoutes 트라이:         {} ns/request", String.format("%.1f", trieNanos));
+        log.info("속도 향상: {}배", String.format("%.1f", legacyNanos / trieNanos));
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private double measure(PathCheck check) {
+        int sink = run(check, WARMUP);
+
+        long start = System.nanoTime();
+        sink += run(check, ITERATIONS);
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(sink).isPositive();
+        return (double) elapsed / ITERATIONS;
+    }
+
+    private int run(PathCheck check, int iterations) {
+        int publicCount = 0;
+        int size = ROUTE_MIX.size();
+        for (int i = 0; i < iterations; i++) {
+            if (check.isPublic(ROUTE_MIX.get(i % size))) {
+                publicCount++;
+            }
+        }
+        return publicCount;
+    }
+
+    private boolean legacy(String path) {
+        boolean jwtExcluded = false;
+        for (String prefix : LEGACY_EXCLUDED_PREFIXES) {
+            if (path.startsWith(prefix)) {
+                jwtExcluded = true;
+                break;
+            }
+        }
+        if (!jwtExcluded && (path.endsWith(".html") || path.equals("/") || path.equals("/home"))) {
+            jwtExcluded = true;
+        }
+        return legacyPermitAll(path) || jwtExcluded;
+    }
+
+    private boolean legacyPermitAll(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : LEGACY_PERMIT_ALL) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean trie(String path) {
+        return PublicRoutes.JWT_EXCLUDED.matches(path) | PublicRoutes.PERMIT_ALL.matches(path);
+    }
+
+    @FunctionalInterface
+    private interface PathCheck {
+        boolean isPublic(String path);
+    }
+}
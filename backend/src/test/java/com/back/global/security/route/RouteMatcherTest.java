@@ -0,0 +1,66 @@
+package com.back.global.security.route;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RouteMatcher / PublicRoutes 단위 테스트")
+class RouteMatcherTest {
+
+    @Test
+    @DisplayName("고정 세그먼트, 변수, 확장자, /** 패턴 매칭")
+    void pattern_kinds() {
+        RouteMatcher matcher = RouteMatcher.of("/", "/api/posts", "/api/posts/{postId}", "/*.html", "/files/**");
+
+        assertThat(matcher.matches("/")).isTrue();
+        assertThat(matcher.matches("/api/posts")).isTrue();
+        assertThat(matcher.matches("/api/posts/12")).isTrue();
+        assertThat(matcher.matches("/index.html")).isTrue();
+        assertThat(matcher.matches("/files")).isTrue();
+        assertThat(matcher.matches("/files/2024/01/a.png")).isTrue();
+
+        assertThat(matcher.matches("/api")).isFalse();
+        assertThat(matcher.matches("/api/posts/")).isFalse();
+        assertThat(matcher.matches("/api/posts/12/files")).isFalse();
+        assertThat(matcher.matches("/.html")).isFalse();
+        assertThat(matcher.matches("/docs/index.html")).isFalse();
+        assertThat(matcher.matches("api/posts")).isFalse();
+    }
+
+    @Test
+    @DisplayName("고정 세그먼트가 막혀도 변수 분기로 다시 탐색")
+    void backtracks_from_literal_to_variable() {
+        RouteMatcher matcher = RouteMatcher.of("/api/posts/popular", "/api/posts/{postId}/files");
+
+        assertThat(matcher.matches("/api/posts/popular/files")).isTrue();
+        assertThat(matcher.matches("/api/posts/popular")).isTrue();
+        assertThat(matcher.matches("/api/posts/3")).isFalse();
+    }
+
+    @Test
+    @DisplayName("** 는 패턴 끝에만 허용")
+    void rejects_inner_double_wildcard() {
+        assertThatThrownBy(() -> RouteMatcher.of("/api/**/files"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("공개 경로와 인증 필요 경로 구분")
+    void public_routes() {
+        assertThat(PublicRoutes.PERMIT_ALL.matches("/api/auth/login")).isTrue();
+        assertThat(PublicRoutes.PERMIT_ALL.matches("/api/posts/5")).isTrue();
+        assertThat(PublicRoutes.PERMIT_ALL.matches("/swagger-ui/index.html")).isTrue();
+        assertThat(PublicRoutes.PERMIT_ALL.matches("/chat")).isTrue();
+
+        assertThat(PublicRoutes.PERMIT_ALL.matches("/api/auth/logout")).isFalse();
+        assertThat(PublicRoutes.PERMIT_ALL.matches("/api/posts/5/files")).isFalse();
+        assertThat(PublicRoutes.PERMIT_ALL.matches("/api/admin/members")).isFalse();
+
+        // 공개 게시글 조회도 로그인 여부 확인을 위해 JWT 필터는 거침
+        assertThat(PublicRoutes.JWT_EXCLUDED.matches("/api/posts/5")).isFalse();
+        assertThat(PublicRoutes.JWT_EXCLUDED.matches("/v3/api-docs")).isTrue();
+        assertThat(PublicRoutes.JWT_EXCLUDED.matches("/app/sendMessage")).isTrue();
+    }
+}
@@ -0,0 +1,155 @@
+package com.back.global.websocket;
+
+import com.back.global.websocket.ChatOutboundFlowControl.SlowConsumerPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ChatOutboundFlowControl 단위 테스트")
+class ChatOutboundFlowControlTest {
+
+    private static final String SESSION_ID = "stalled-session";
+    private static final int MAX_QUEUE = 100;
+    private static final int FLOOD = 10_000;
+
+    @Test
+    @DisplayName("멈춘 클라이언트 - DROP 정책은 대기열을 한도 이내로 유지")
+    void drop_policy_bounds_queue() throws Exception {
+        ChatOutboundFlowControl flowControl = new ChatOutboundFlowControl(MAX_QUEUE, SlowConsumerPolicy.DROP);
+        connect(flowControl);
+
+        // 클라이언트가 멈춰 있어 afterMessageHandled 가 한 번도 호출되지 않는 상황
+        List<Message<?>> queued = new ArrayList<>();
+        for (int i = 0; i < FLOOD; i++) {
+            Message<?> result = flowControl.preSend(chatMessage("/topic/chat/1", i), null);
+            if (result != null) {
+                queued.add(result);
+            }
+        }
+
+        // 한도까지 먼저 들어온 메시지만 큐잉되고 나머지는 폐기됨
+        assertThat(queued).extracting(Message::getPayload)
+                .containsExactlyElementsOf(IntStream.range(0, MAX_QUEUE).mapToObj(i -> "message-" + i).toList());
+        assertThat(flowControl.getQueueDepth(SESSION_ID)).isEqualTo(MAX_QUEUE);
+        assertThat(flowControl.getPeakQueueDepth(SESSION_ID)).isLessThanOrEqualTo(MAX_QUEUE + 1);
+        assertThat(flowControl.getDroppedCount(SESSION_ID)).isEqualTo(FLOOD - MAX_QUEUE);
+
+        // 하나가 처리되면 한 자리만 비어 다음 메시지 하나만 다시 큐잉됨
+        flowControl.afterMessageHandled(queued.get(0), null, null, null);
+        assertThat(flowControl.preSend(chatMessage("/topic/chat/1", FLOOD), null)).isNotNull();
+        assertThat(flowControl.preSend(chatMessage("/topic/chat/1", FLOOD + 1), null)).isNull();
+        assertThat(flowControl.getQueueDepth(SESSION_ID)).isEqualTo(MAX_QUEUE);
+    }
+
+    @Test
+    @DisplayName("멈춘 클라이언트 - COALESCE 정책은 목적지별 최신 메시지 하나만 추가 보관")
+    void coalesce_policy_keeps_latest_per_destination() throws Exception {
+        ChatOutboundFlowControl flowControl = new ChatOutboundFlowControl(MAX_QUEUE, SlowConsumerPolicy.COALESCE);
+        connect(flowControl);
+
+        List<Message<?>> queued = new ArrayList<>();
+        Message<?> last = null;
+        for (int i = 0; i < FLOOD; i++) {
+            last = chatMessage("/topic/chat/1", i);
+            Message<?> result = flowControl.preSend(last, null);
+            if (result != null) {
+                queued.add(result);
+            }
+        }
+
+        // 한도 + 목적지 1개 분량의 병합 슬롯만 큐에 남음
+        assertThat(queued).hasSize(MAX_QUEUE + 1);
+        assertThat(queued.get(MAX_QUEUE).getPayload()).isEqualTo("message-" + MAX_QUEUE);
+        assertThat(flowControl.getQueueDepth(SESSION_ID)).isEqualTo(MAX_QUEUE + 1);
+        assertThat(flowControl.getDroppedCount(SESSION_ID)).isEqualTo(FLOOD - MAX_QUEUE - 1);
+
+        // 병합 슬롯이 처리될 때는 가장 최신 메시지가 전송됨
+        Message<?> carrier = queued.get(queued.size() - 1);
+        assertThat(flowControl.beforeHandle(carrier, null, null)).isSameAs(last);
+    }
+
+    @Test
+    @DisplayName("멈춘 클라이언트 - DISCONNECT 정책은 세션을 한 번만 종료")
+    void disconnect_policy_closes_session_once() throws Exception {
+        ChatOutboundFlowControl flowControl = new ChatOutboundFlowControl(MAX_QUEUE, SlowConsumerPolicy.DISCONNECT);
+
+        WebSocketSession session = connect(flowControl);
+
+        int accepted = 0;
+        for (int i = 0; i < FLOOD; i++) {
+            if (flowControl.preSend(chatMessage("/topic/chat/1", i), null) != null) {
+                accepted++;
+            }
+        }
+
+        assertThat(accepted).isEqualTo(MAX_QUEUE);
+        assertThat(flowControl.getQueueDepth(SESSION_ID)).isEqualTo(MAX_QUEUE);
+        verify(session, times(1)).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    @Test
+    @DisplayName("메시지가 처리되면 대기열 깊이가 줄어듦")
+    void handled_messages_release_queue() throws Exception {
+        ChatOutboundFlowControl flowControl = new ChatOutboundFlowControl(MAX_QUEUE, SlowConsumerPolicy.DROP);
+        connect(flowControl);
+
+        for (int i = 0; i < FLOOD; i++) {
+            Message<?> message = flowControl.preSend(chatMessage("/topic/chat/1", i), null);
+            assertThat(message).isNotNull();
+            flowControl.afterMessageHandled(message, null, null, null);
+        }
+
+        assertThat(flowControl.getQueueDepth(SESSION_ID)).isZero();
+        assertThat(flowControl.getDroppedCount(SESSION_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("등록되지 않았거나 종료된 세션의 메시지는 상태를 만들지 않고 그대로 통과")
+    void untracked_session_does_not_create_state() throws Exception {
+        ChatOutboundFlowControl flowControl = new ChatOutboundFlowControl(MAX_QUEUE, SlowConsumerPolicy.DROP);
+
+        Message<?> message = chatMessage("/topic/chat/1", 0);
+        assertThat(flowControl.preSend(message, null)).isSameAs(message);
+        assertThat(flowControl.getQueueDepths()).isEmpty();
+
+        // 연결 종료 후 늦게 도착한 메시지도 상태를 다시 만들지 않음
+        WebSocketSession session = connect(flowControl);
+        flowControl.preSend(chatMessage("/topic/chat/1", 1), null);
+        flowControl.decorate(mock(WebSocketHandler.class)).afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        for (int i = 0; i < FLOOD; i++) {
+            flowControl.preSend(chatMessage("/topic/chat/1", i), null);
+        }
+        assertThat(flowControl.getQueueDepths()).isEmpty();
+        assertThat(flowControl.getDroppedCount(SESSION_ID)).isZero();
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private WebSocketSession connect(ChatOutboundFlowControl flowControl) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(SESSION_ID);
+        flowControl.decorate(mock(WebSocketHandler.class)).afterConnectionEstablished(session);
+        return session;
+    }
+
+    private Message<String> chatMessage(String destination, int seq) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage("message-" + seq, accessor.getMessageHeaders());
+    }
+}
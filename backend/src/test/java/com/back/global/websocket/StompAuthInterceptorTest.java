@@ -0,0 +1,124 @@
+package com.back.global.websocket;
+
+import com.back.domain.chat.chat.repository.RoomParticipantRepository;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.entity.Role;
+import com.back.global.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("StompAuthInterceptor 단위 테스트")
+class StompAuthInterceptorTest {
+
+    private static final String SECRET = "01234567890123456789012345678901";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 1_800_000, 604_800_000);
+    private final RoomParticipantRepository roomParticipantRepository = mock(RoomParticipantRepository.class);
+    private final StompAuthInterceptor interceptor = new StompAuthInterceptor(jwtTokenProvider, roomParticipantRepository);
+
+    @Test
+    @DisplayName("CONNECT - 토큰이 없으면 거부")
+    void connect_without_token() {
+        Message<byte[]> connect = message(StompCommand.CONNECT, null, new HashMap<>());
+
+        assertThatThrownBy(() -> interceptor.preSend(connect, null))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    @DisplayName("CONNECT - 서명이 다른 토큰은 거부하고 세션에 사용자를 남기지 않음")
+    void connect_with_invalid_token() {
+        String forged = new JwtTokenProvider("98765432109876543210987654321098", 1_800_000, 604_800_000)
+                .generateAccessToken(member(1L, "user1@user.com"));
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        Message<byte[]> connect = message(StompCommand.CONNECT, null, sessionAttributes);
+        StompHeaderAccessor.getAccessor(connect, StompHeaderAccessor.class).setNativeHeader("Authorization", "Bearer " + forged);
+
+        assertThatThrownBy(() -> interceptor.preSend(connect, null))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(sessionAttributes).doesNotContainKey(StompAuthInterceptor.PRINCIPAL_ATTRIBUTE);
+    }
+
+    @Test
+    @DisplayName("CONNECT - 핸드셰이크 때 보관한 쿠키 토큰으로 인증하고 사용자 정보를 세션에 저장")
+    void connect_with_cookie_token() {
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put("accessToken", jwtTokenProvider.generateAccessToken(member(1L, "user1@user.com")));
+
+        interceptor.preSend(message(StompCommand.CONNECT, null, sessionAttributes), null);
+
+        assertThat(sessionAttributes.get(StompAuthInterceptor.PRINCIPAL_ATTRIBUTE))
+                .isEqualTo(new StompPrincipal(1L, "user1@user.com", "유저1", Role.USER));
+        assertThat(sessionAttributes).doesNotContainKey("accessToken");
+    }
+
+    @Test
+    @DisplayName("SUBSCRIBE - 참여하지 않은 채팅방은 구독 거부")
+    void subscribe_to_room_not_joined() {
+        given(roomParticipantRepository.existsByChatRoomIdAndMemberIdAndIsActiveTrue(7L, 1L)).willReturn(false);
+
+        assertThatThrownBy(() -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/topic/chat/7", authenticated(1L)), null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("SUBSCRIBE - 참여 중인 채팅방과 채팅방이 아닌 목적지는 허용")
+    void subscribe_to_joined_room() {
+        given(roomParticipantRepository.existsByChatRoomIdAndMemberIdAndIsActiveTrue(7L, 1L)).willReturn(true);
+
+        assertThat(interceptor.preSend(message(StompCommand.SUBSCRIBE, "/topic/chat/7", authenticated(1L)), null)).isNotNull();
+        assertThat(interceptor.preSend(message(StompCommand.SUBSCRIBE, "/user/queue/error", authenticated(1L)), null)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("SUBSCRIBE - 인증되지 않은 세션은 채팅방 구독 거부")
+    void subscribe_without_principal() {
+        assertThatThrownBy(() -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/topic/chat/7", new HashMap<>()), null))
+                .isInstanceOf(BadCredentialsException.class);
+        verifyNoInteractions(roomParticipantRepository);
+    }
+
+    // ==============헬퍼 메서드 영역 ==============
+
+    private Member member(Long id, String email) {
+        Member member = Member.builder()
+                .email(email)
+                .password("password")
+                .name("유저1")
+                .build();
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+
+    private Map<String, Object> authenticated(Long memberId) {
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put(StompAuthInterceptor.PRINCIPAL_ATTRIBUTE,
+                new StompPrincipal(memberId, "user1@user.com", "유저1", Role.USER));
+        return sessionAttributes;
+    }
+
+    private Message<byte[]> message(StompCommand command, String destination, Map<String, Object> sessionAttributes) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setSessionId("session-1");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}